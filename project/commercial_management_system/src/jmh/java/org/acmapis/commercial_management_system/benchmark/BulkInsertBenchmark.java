@@ -0,0 +1,135 @@
+package org.acmapis.commercial_management_system.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.acmapis.commercial_management_system.CommercialManagementSystemApplication;
+import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.model.dto.SaleProductModel;
+import org.acmapis.commercial_management_system.service.CategoryService;
+import org.acmapis.commercial_management_system.service.SaleProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bulk-create service methods in rows per second against an embedded H2 database
+ * in PostgreSQL mode. {@code jdbcBatchSize=1} sends one insert per round trip, as every insert did
+ * while the keys were identity columns; {@code jdbcBatchSize=50} is the configured batching.
+ * On PostgreSQL the gap is wider, since each round trip crosses the network and the driver
+ * rewrites a batch into multi-row inserts ({@code reWriteBatchedInserts}).
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkInsertBenchmark {
+
+    /**
+     * Number of rows of each bulk request.
+     */
+    private static final int BULK_ROWS = 500;
+
+    /**
+     * Value of {@code hibernate.jdbc.batch_size}.
+     */
+    @Param({"1", "50"})
+    public int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+
+    private SaleProductService saleProductService;
+
+    private CategoryService categoryService;
+
+    private JdbcTemplate jdbcTemplate;
+
+    private List<SaleProductModel> saleProducts;
+
+    private int categoryRequests;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommercialManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bulk_benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        CatalogFixtures fixtures = new CatalogFixtures(100, false);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        context.getBean(TransactionTemplate.class)
+                .executeWithoutResult(status -> fixtures.persistAll(entityManager::persist));
+
+        saleProducts = new ArrayList<>(BULK_ROWS);
+        for (int i = 0; i < BULK_ROWS; i++) {
+            saleProducts.add(SaleProductModel.builder()
+                    .quantity(1L + i % 5)
+                    .sale(SaleModel.builder().saleId(fixtures.sales().get(i % fixtures.sales().size()).getSaleId()).build())
+                    .product(ProductModel.builder()
+                            .productId(fixtures.products().get(i % fixtures.products().size()).getProductId()).build())
+                    .build());
+        }
+        saleProductService = context.getBean(SaleProductService.class);
+        categoryService = context.getBean(CategoryService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    /**
+     * Removes the rows written by the previous iteration, so the table size stays bounded.
+     */
+    @Setup(Level.Iteration)
+    public void clearInsertedRows() {
+        jdbcTemplate.update("DELETE FROM sale_product");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_ROWS)
+    public List<SaleProductModel> saveSaleProducts() {
+        return saleProductService.saveSaleProducts(saleProducts);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_ROWS)
+    public List<CategoryModel> saveCategories() {
+        int request = categoryRequests++;
+        List<CategoryModel> categories = new ArrayList<>(BULK_ROWS);
+        for (int i = 0; i < BULK_ROWS; i++) {
+            categories.add(new CategoryModel(null, "Bulk " + request + "-" + i));
+        }
+        return categoryService.saveCategories(categories);
+    }
+}
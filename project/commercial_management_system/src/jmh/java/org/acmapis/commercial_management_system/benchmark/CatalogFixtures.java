@@ -0,0 +1,162 @@
+package org.acmapis.commercial_management_system.benchmark;
+
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Deterministic in-memory entity graph shared by the benchmarks.
+ * Builds the same number of users, products, store-product rows and sales, each with its nested
+ * associations populated as the GRAPH fetch plan would load them: products carry three categories,
+ * users a role and a city with its department, and sales their user.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public final class CatalogFixtures {
+
+    private static final int DEPARTMENTS = 4;
+
+    private static final int CITIES_PER_DEPARTMENT = 4;
+
+    private static final int STORES = 8;
+
+    private static final int CATEGORIES = 12;
+
+    private static final int CATEGORIES_PER_PRODUCT = 3;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final List<DepartmentEntity> departments = new ArrayList<>();
+
+    private final List<CityEntity> cities = new ArrayList<>();
+
+    private final List<UserRoleEntity> roles = new ArrayList<>();
+
+    private final List<StoreEntity> stores = new ArrayList<>();
+
+    private final List<CategoryEntity> categories = new ArrayList<>();
+
+    private final List<UserEntity> users = new ArrayList<>();
+
+    private final List<ProductEntity> products = new ArrayList<>();
+
+    private final List<StoreProductEntity> storeProducts = new ArrayList<>();
+
+    private final List<SaleEntity> sales = new ArrayList<>();
+
+    /**
+     * Builds the entity graph.
+     *
+     * @param rows      the number of users, products, store-product rows and sales
+     * @param assignIds whether identifiers are assigned, false when the entities are to be persisted
+     */
+    public CatalogFixtures(int rows, boolean assignIds) {
+        Random random = new Random(42);
+        long sequence = 0;
+        for (int d = 0; d < DEPARTMENTS; d++) {
+            DepartmentEntity department = new DepartmentEntity(assignIds ? ++sequence : null, "Department " + d);
+            departments.add(department);
+            for (int c = 0; c < CITIES_PER_DEPARTMENT; c++) {
+                cities.add(new CityEntity(assignIds ? ++sequence : null, "City " + d + "-" + c, department));
+            }
+        }
+        for (UserRole role : UserRole.values()) {
+            roles.add(new UserRoleEntity(assignIds ? ++sequence : null, role));
+        }
+        for (int s = 0; s < STORES; s++) {
+            stores.add(new StoreEntity(assignIds ? uuid(random) : null, "Store " + s, cities.get(s % cities.size())));
+        }
+        for (int c = 0; c < CATEGORIES; c++) {
+            categories.add(new CategoryEntity(assignIds ? ++sequence : null, "Category " + c));
+        }
+        for (int i = 0; i < rows; i++) {
+            users.add(UserEntity.builder()
+                    .userId(assignIds ? uuid(random) : null)
+                    .firstName("First" + i).lastName("Last" + i).username("user" + i)
+                    .email("user" + i + "@example.com").password("secret").phone("3000000" + i)
+                    .createdAt(EPOCH.plusMinutes(i))
+                    .role(roles.get(i % roles.size())).city(cities.get(i % cities.size()))
+                    .build());
+
+            List<CategoryEntity> productCategories = new ArrayList<>(CATEGORIES_PER_PRODUCT);
+            for (int c = 0; c < CATEGORIES_PER_PRODUCT; c++) {
+                productCategories.add(categories.get((i + c) % categories.size()));
+            }
+            ProductEntity product = ProductEntity.builder()
+                    .productId(assignIds ? uuid(random) : null)
+                    .productName("Product " + i).productDescription("Description of product " + i)
+                    .price(1.0 + random.nextInt(100_000) / 100.0)
+                    .createdAt(EPOCH.plusMinutes(i)).updatedAt(EPOCH.plusMinutes(i))
+                    .categories(productCategories)
+                    .build();
+            products.add(product);
+            storeProducts.add(new StoreProductEntity(assignIds ? ++sequence : null, (long) random.nextInt(500),
+                    "Aisle " + (i % 40), stores.get(i % stores.size()), product, assignIds ? 0L : null));
+        }
+        for (int i = 0; i < rows; i++) {
+            sales.add(SaleEntity.builder()
+                    .saleId(assignIds ? uuid(random) : null)
+                    .saleDate(EPOCH.plusMinutes(random.nextInt(525_600)))
+                    .totalAmount((long) random.nextInt(1_000_000))
+                    .user(users.get(random.nextInt(users.size())))
+                    .build());
+        }
+    }
+
+    /**
+     * Passes every entity to the given consumer, parents before children, so they can be persisted.
+     *
+     * @param persister the consumer persisting each entity
+     */
+    public void persistAll(Consumer<Object> persister) {
+        departments.forEach(persister);
+        cities.forEach(persister);
+        roles.forEach(persister);
+        stores.forEach(persister);
+        categories.forEach(persister);
+        users.forEach(persister);
+        products.forEach(persister);
+        storeProducts.forEach(persister);
+        sales.forEach(persister);
+    }
+
+    public List<StoreEntity> stores() {
+        return stores;
+    }
+
+    public List<UserEntity> users() {
+        return users;
+    }
+
+    public List<ProductEntity> products() {
+        return products;
+    }
+
+    public List<StoreProductEntity> storeProducts() {
+        return storeProducts;
+    }
+
+    public List<SaleEntity> sales() {
+        return sales;
+    }
+
+    private static UUID uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
@@ -0,0 +1,77 @@
+package org.acmapis.commercial_management_system.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.utils.mapper.ProductMapper;
+import org.acmapis.commercial_management_system.utils.mapper.SaleMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Jackson serialization of model lists into response bodies, using an
+ * {@link ObjectMapper} built with the same defaults Spring Boot applies to the web layer.
+ * One operation serializes {@code rows} models.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    /**
+     * Number of models serialized per operation.
+     */
+    @Param({"100", "1000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+
+    private List<SaleModel> sales;
+
+    private List<ProductModel> products;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        CatalogFixtures fixtures = new CatalogFixtures(rows, true);
+        try (AnnotationConfigApplicationContext mappers = MapperContext.create()) {
+            sales = mappers.getBean(SaleMapper.class).toModelList(fixtures.sales());
+            products = mappers.getBean(ProductMapper.class).toModelList(fixtures.products());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeSales() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(sales);
+    }
+
+    @Benchmark
+    public byte[] serializeProducts() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(products);
+    }
+}
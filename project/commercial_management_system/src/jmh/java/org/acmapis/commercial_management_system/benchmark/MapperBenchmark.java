@@ -0,0 +1,96 @@
+package org.acmapis.commercial_management_system.benchmark;
+
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.model.dto.UserModel;
+import org.acmapis.commercial_management_system.utils.mapper.ProductMapper;
+import org.acmapis.commercial_management_system.utils.mapper.SaleMapper;
+import org.acmapis.commercial_management_system.utils.mapper.StoreProductMapper;
+import org.acmapis.commercial_management_system.utils.mapper.UserMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the entity-to-model conversion of the MapStruct mappers on fully loaded entity graphs,
+ * the CPU path every list endpoint runs after its query returns. One operation maps {@code rows} entities.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    /**
+     * Number of entities mapped per operation.
+     */
+    @Param({"100", "1000"})
+    public int rows;
+
+    private AnnotationConfigApplicationContext mappers;
+
+    private SaleMapper saleMapper;
+
+    private UserMapper userMapper;
+
+    private ProductMapper productMapper;
+
+    private StoreProductMapper storeProductMapper;
+
+    private CatalogFixtures fixtures;
+
+    @Setup
+    public void setUp() {
+        mappers = MapperContext.create();
+        saleMapper = mappers.getBean(SaleMapper.class);
+        userMapper = mappers.getBean(UserMapper.class);
+        productMapper = mappers.getBean(ProductMapper.class);
+        storeProductMapper = mappers.getBean(StoreProductMapper.class);
+        fixtures = new CatalogFixtures(rows, true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        mappers.close();
+    }
+
+    @Benchmark
+    public List<SaleModel> saleToModelList() {
+        return saleMapper.toModelList(fixtures.sales());
+    }
+
+    @Benchmark
+    public List<UserModel> userToModelList() {
+        return userMapper.toModelList(fixtures.users());
+    }
+
+    @Benchmark
+    public List<ProductModel> productWithCategoriesToModelList() {
+        return productMapper.toModelList(fixtures.products());
+    }
+
+    @Benchmark
+    public List<StoreProductModel> storeProductWithStoreAndProductToModelList() {
+        return storeProductMapper.toModelList(fixtures.storeProducts());
+    }
+}
@@ -0,0 +1,26 @@
+package org.acmapis.commercial_management_system.benchmark;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Creates a minimal Spring context holding only the MapStruct mapper implementations,
+ * which are Spring components wired to the mappers they use.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+final class MapperContext {
+
+    private static final String MAPPER_PACKAGE = "org.acmapis.commercial_management_system.utils.mapper";
+
+    private MapperContext() {
+    }
+
+    static AnnotationConfigApplicationContext create() {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.scan(MAPPER_PACKAGE);
+        context.refresh();
+        return context;
+    }
+}
@@ -0,0 +1,134 @@
+package org.acmapis.commercial_management_system.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.acmapis.commercial_management_system.CommercialManagementSystemApplication;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.model.dto.UserModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.service.ProductService;
+import org.acmapis.commercial_management_system.service.StoreService;
+import org.acmapis.commercial_management_system.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the entity and mapper path ({@link FetchPlan#GRAPH}) with the projection path
+ * ({@link FetchPlan#PROJECTION}) of the read endpoints that have projection queries, against an
+ * embedded H2 database in PostgreSQL mode. Run with {@code -prof gc}: the bytes allocated per
+ * operation ({@code gc.alloc.rate.norm}) are the allocation per request of each path, without the
+ * web layer. The products by store are read with {@link ProductService#loadProductsByStoreId(UUID)}
+ * under {@code GRAPH}, since the listing cache would otherwise serve them.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectionBenchmark {
+
+    /**
+     * Number of users, products, store-product rows and sales stored in the database.
+     */
+    @Param({"1000"})
+    public int rows;
+
+    /**
+     * The fetch plan compared: {@code GRAPH} or {@code PROJECTION}.
+     */
+    @Param({"GRAPH", "PROJECTION"})
+    public FetchPlan fetchPlan;
+
+    private ConfigurableApplicationContext context;
+
+    private ProductService productService;
+
+    private StoreService storeService;
+
+    private UserService userService;
+
+    private UUID storeId;
+
+    private Long cityId;
+
+    private String cityName;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommercialManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:projection_benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        CatalogFixtures fixtures = new CatalogFixtures(rows, false);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        transactionTemplate.executeWithoutResult(status -> fixtures.persistAll(entityManager::persist));
+        storeId = fixtures.stores().get(0).getStoreId();
+        CityEntity city = fixtures.users().get(0).getCity();
+        cityId = city.getCityId();
+        cityName = city.getCityName();
+
+        productService = context.getBean(ProductService.class);
+        storeService = context.getBean(StoreService.class);
+        userService = context.getBean(UserService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductModel> getProductsByPriceRange() {
+        return productService.getProductsByPriceRange(100.0, 200.0, fetchPlan);
+    }
+
+    @Benchmark
+    public List<ProductModel> getProductsByStoreId() {
+        return fetchPlan == FetchPlan.GRAPH
+                ? productService.loadProductsByStoreId(storeId)
+                : productService.getProductsByStoreId(storeId, fetchPlan);
+    }
+
+    @Benchmark
+    public List<StoreProductModel> getStoreProductsByStoreId() {
+        return storeService.getStoreProductsByStoreId(storeId, fetchPlan);
+    }
+
+    @Benchmark
+    public List<UserModel> getUsersByCityId() {
+        return userService.getUsersByCityId(cityId, fetchPlan);
+    }
+
+    @Benchmark
+    public List<UserModel> getUsersByCityName() {
+        return userService.getUsersByCityName(cityName, fetchPlan);
+    }
+}
@@ -0,0 +1,134 @@
+package org.acmapis.commercial_management_system.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.acmapis.commercial_management_system.CommercialManagementSystemApplication;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.model.dto.UserModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.service.ProductService;
+import org.acmapis.commercial_management_system.service.SaleService;
+import org.acmapis.commercial_management_system.service.StoreProductService;
+import org.acmapis.commercial_management_system.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the service methods behind the main list endpoints against an embedded H2 database
+ * in PostgreSQL mode: query execution, entity hydration and mapping, without the web layer.
+ * The absolute numbers are not comparable with PostgreSQL; the benchmark tracks the relative
+ * cost of the CPU path and its allocation rate across releases.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ServiceBenchmark {
+
+    /**
+     * Number of users, products, store-product rows and sales stored in the database.
+     */
+    @Param({"1000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private SaleService saleService;
+
+    private UserService userService;
+
+    private ProductService productService;
+
+    private StoreProductService storeProductService;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    private UUID storeId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CommercialManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN")
+                .run();
+        CatalogFixtures fixtures = new CatalogFixtures(rows, false);
+        EntityManager entityManager = context.getBean(EntityManager.class);
+        TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+        transactionTemplate.executeWithoutResult(status -> fixtures.persistAll(entityManager::persist));
+        readOnlyTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTransaction.setReadOnly(true);
+        storeId = fixtures.stores().get(0).getStoreId();
+
+        saleService = context.getBean(SaleService.class);
+        userService = context.getBean(UserService.class);
+        productService = context.getBean(ProductService.class);
+        storeProductService = context.getBean(StoreProductService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<SaleModel> getAllSales() {
+        return saleService.getAllSales(FetchPlan.GRAPH);
+    }
+
+    @Benchmark
+    public List<UserModel> getAllUsers() {
+        return userService.getAllUsers(FetchPlan.GRAPH);
+    }
+
+    @Benchmark
+    public List<ProductModel> getAllProducts() {
+        return productService.getAllProducts(FetchPlan.GRAPH);
+    }
+
+    /**
+     * Runs in a read-only transaction, standing in for the session that open-in-view keeps open
+     * during a web request, since the store-product mapping initializes lazy categories.
+     */
+    @Benchmark
+    public List<StoreProductModel> getAllStoreProducts() {
+        return readOnlyTransaction.execute(status -> storeProductService.getAllStoreProducts());
+    }
+
+    @Benchmark
+    public List<ProductModel> loadProductsByStoreId() {
+        return productService.loadProductsByStoreId(storeId);
+    }
+
+    @Benchmark
+    public List<ProductModel> getProductsByStoreIdCached() {
+        return productService.getProductsByStoreId(storeId, FetchPlan.GRAPH);
+    }
+}
@@ -0,0 +1,133 @@
+package org.acmapis.commercial_management_system.benchmark;
+
+import org.acmapis.commercial_management_system.utils.id.TimeOrderedUuids;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to insert a table of rows keyed by random (version 4) or time-ordered
+ * (version 7) UUIDs, and reports the size of the primary key index afterwards.
+ * <p>
+ * Each run fills a fresh table shaped like {@code sale} through JDBC batches and one commit per batch.
+ * Random keys land on random index pages, which are split half-full and evicted from the buffer cache
+ * once the index outgrows it; time-ordered keys are appended to the rightmost page. The effect only
+ * shows once the index is larger than memory, so the default embedded H2 run is a smoke test; the
+ * real comparison runs against PostgreSQL with tens of millions of rows:
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="UuidKeyInsertBenchmark -p rows=20000000
+ *     -p url=jdbc:postgresql://localhost:5432/commercial_db?reWriteBatchedInserts=true"
+ * </pre>
+ * On PostgreSQL the index size comes from {@code pg_relation_size} and is printed after each run.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UuidKeyInsertBenchmark {
+
+    /**
+     * How the primary keys are generated.
+     */
+    public enum KeyType {
+        RANDOM,
+        TIME_ORDERED
+    }
+
+    private static final String TABLE = "uuid_key_benchmark";
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    public KeyType keyType;
+
+    @Param({"200000"})
+    public int rows;
+
+    @Param({"jdbc:h2:mem:uuid_keys;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE"})
+    public String url;
+
+    @Param({"commercial_admin"})
+    public String user;
+
+    @Param({"commercial_password"})
+    public String password;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = url.startsWith("jdbc:h2:")
+                ? DriverManager.getConnection(url)
+                : DriverManager.getConnection(url, user, password);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id UUID PRIMARY KEY, sale_date TIMESTAMP NOT NULL, "
+                    + "total_amount BIGINT NOT NULL, user_id_fk UUID NOT NULL)");
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            if (connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+                try (ResultSet size = statement.executeQuery(
+                        "SELECT pg_relation_size('" + TABLE + "_pkey'), pg_relation_size('" + TABLE + "')")) {
+                    size.next();
+                    System.out.printf("%n%s keys, %d rows: primary key index %,d bytes, table %,d bytes%n",
+                            keyType, rows, size.getLong(1), size.getLong(2));
+                }
+            }
+            statement.execute("DROP TABLE " + TABLE);
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int insertRows() throws SQLException {
+        UUID userId = UUID.randomUUID();
+        Timestamp saleDate = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (id, sale_date, total_amount, user_id_fk) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setObject(1, keyType == KeyType.RANDOM ? UUID.randomUUID() : TimeOrderedUuids.next());
+                insert.setTimestamp(2, saleDate);
+                insert.setLong(3, i);
+                insert.setObject(4, userId);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i + 1 == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,256 @@
+package org.acmapis.commercial_management_system.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.acmapis.commercial_management_system.CommercialManagementSystemApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop load test of the REST API.
+ * <p>
+ * A fixed number of virtual-thread workers repeatedly pick a scenario at random (seeded per worker)
+ * and send its request, waiting for the full response before the next one. After a warm-up period,
+ * the latency of every request is recorded per scenario, and the run ends with a table of
+ * throughput, error count and latency percentiles, also written as CSV.
+ * <p>
+ * Without {@code --base-url} the application is started in-process on an embedded H2 database and
+ * loaded with a synthetic data set ({@code --datagen.*} arguments are passed through to it); with
+ * {@code --base-url} an already running instance is tested, typically on PostgreSQL loaded with
+ * {@code datagen.enabled=true}.
+ * <p>
+ * Options: {@code --base-url}, {@code --duration} and {@code --warmup} (seconds, default 60 and 10),
+ * {@code --concurrency} (default 32), {@code --seed} (default 42), {@code --include-unbounded}
+ * (also run scenarios whose cost grows with a table) and {@code --report} (default
+ * {@code target/loadtest-report.csv}).
+ * <p>
+ * With {@code --compare-threads} the embedded application is started twice, first with platform
+ * request threads and then with {@code spring.threads.virtual.enabled=true}, and the overall
+ * throughput and latency of both runs are printed side by side; each run writes its own report
+ * ({@code -platform.csv}, {@code -virtual.csv}). Use a concurrency above the 200 Tomcat threads,
+ * e.g. {@code --concurrency=400}, to see the difference.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public final class LoadTestRunner {
+
+    private static final String[] EMBEDDED_DEFAULTS = {
+            "spring.datasource.url=jdbc:h2:mem:loadtest;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+            "spring.r2dbc.url=r2dbc:h2:mem:///loadtest?options=MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+            "server.port=0",
+            "spring.main.banner-mode=off",
+            "logging.level.root=WARN",
+            "logging.level.org.acmapis.commercial_management_system.utils.datagen=INFO",
+            "datagen.enabled=true",
+            "datagen.users=2000",
+            "datagen.stores=20",
+            "datagen.products=2000",
+            "datagen.products-per-store=500",
+            "datagen.sales=50000"
+    };
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    /**
+     * Latency and error counts of one scenario.
+     */
+    private record ScenarioStats(ConcurrentHistogram latencies, LongAdder errors) {
+        ScenarioStats() {
+            this(new ConcurrentHistogram(MAX_LATENCY_MICROS, 3), new LongAdder());
+        }
+    }
+
+    /**
+     * Totals of one measured period over every scenario.
+     */
+    private record RunSummary(long requests, double throughput, long errors, double p50Millis, double p99Millis) {
+    }
+
+    private LoadTestRunner() {
+    }
+
+    /**
+     * Runs the load test.
+     *
+     * @param args the options described in the class documentation
+     * @throws Exception if the application cannot be started or the sample data cannot be read
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        List<String> applicationArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--datagen.") || arg.startsWith("--spring.") || arg.startsWith("--api.")) {
+                applicationArgs.add(arg);
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator > 0 ? separator : arg.length()),
+                    separator > 0 ? arg.substring(separator + 1) : "true");
+        }
+        String report = options.getOrDefault("report", "target/loadtest-report.csv");
+
+        if (!Boolean.parseBoolean(options.getOrDefault("compare-threads", "false"))) {
+            test(options, applicationArgs, Path.of(report));
+            return;
+        }
+        if (options.containsKey("base-url")) {
+            throw new IllegalArgumentException("--compare-threads starts the application itself; remove --base-url");
+        }
+        Map<String, RunSummary> summaries = new LinkedHashMap<>();
+        for (String mode : new String[]{"platform", "virtual"}) {
+            List<String> modeArgs = new ArrayList<>(applicationArgs);
+            modeArgs.add("--spring.threads.virtual.enabled=" + mode.equals("virtual"));
+            System.out.printf("%n=== %s threads ===%n", mode);
+            Path modeReport = Path.of(report.replaceFirst("(\\.csv)?$", "-" + mode + "$1"));
+            summaries.put(mode, test(options, modeArgs, modeReport));
+        }
+        System.out.printf("%n%-10s %9s %8s %7s %9s %9s%n", "threads", "requests", "req/s", "errors", "p50 ms", "p99 ms");
+        summaries.forEach((mode, summary) -> System.out.printf("%-10s %9d %8.1f %7d %9.2f %9.2f%n", mode,
+                summary.requests(), summary.throughput(), summary.errors(), summary.p50Millis(), summary.p99Millis()));
+    }
+
+    /**
+     * Runs the warm-up and the measured period against one application instance.
+     *
+     * @param options         the load test options
+     * @param applicationArgs the arguments passed to the embedded application
+     * @param reportFile      the CSV report to write
+     * @return the totals of the measured period over every scenario
+     * @throws Exception if the application cannot be started or the sample data cannot be read
+     */
+    private static RunSummary test(Map<String, String> options, List<String> applicationArgs, Path reportFile)
+            throws Exception {
+        ConfigurableApplicationContext context = null;
+        String baseUrl = options.get("base-url");
+        if (baseUrl == null) {
+            context = new SpringApplicationBuilder(CommercialManagementSystemApplication.class)
+                    .properties(EMBEDDED_DEFAULTS)
+                    .run(applicationArgs.toArray(String[]::new));
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            List<LoadTestScenario> scenarios = new ArrayList<>();
+            boolean includeUnbounded = Boolean.parseBoolean(options.getOrDefault("include-unbounded", "false"));
+            for (LoadTestScenario scenario : LoadTestScenarios.create(baseUrl, SampleData.discover(client, baseUrl))) {
+                if (includeUnbounded || !scenario.unbounded()) {
+                    scenarios.add(scenario);
+                }
+            }
+
+            int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "32"));
+            long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+            Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10")));
+            Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "60")));
+
+            System.out.printf("Load test of %s: %d scenarios, %d workers, %ds warm-up, %ds measured%n",
+                    baseUrl, scenarios.size(), concurrency, warmup.toSeconds(), duration.toSeconds());
+            run(client, scenarios, concurrency, seed, warmup, null);
+            Map<String, ScenarioStats> stats = new HashMap<>();
+            for (LoadTestScenario scenario : scenarios) {
+                stats.put(scenario.name(), new ScenarioStats());
+            }
+            run(client, scenarios, concurrency, seed + concurrency, duration, stats);
+
+            return report(scenarios, stats, duration, reportFile);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static void run(HttpClient client, List<LoadTestScenario> scenarios, int concurrency, long seed,
+                            Duration duration, Map<String, ScenarioStats> stats) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                SplittableRandom random = new SplittableRandom(seed + w);
+                workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        LoadTestScenario scenario = scenarios.get(random.nextInt(scenarios.size()));
+                        long start = System.nanoTime();
+                        boolean failed;
+                        try {
+                            int status = client.send(scenario.request().apply(random),
+                                    HttpResponse.BodyHandlers.discarding()).statusCode();
+                            failed = status >= 400;
+                        } catch (IOException | RuntimeException e) {
+                            failed = true;
+                        }
+                        if (stats != null) {
+                            ScenarioStats scenarioStats = stats.get(scenario.name());
+                            scenarioStats.latencies().recordValue(Math.min(MAX_LATENCY_MICROS,
+                                    TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start)));
+                            if (failed) {
+                                scenarioStats.errors().increment();
+                            }
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+    }
+
+    private static RunSummary report(List<LoadTestScenario> scenarios, Map<String, ScenarioStats> stats,
+                                     Duration duration, Path reportFile) throws IOException {
+        Histogram total = new Histogram(MAX_LATENCY_MICROS, 3);
+        long totalErrors = 0;
+        String header = String.format("%-52s %9s %8s %7s %9s %9s %9s %9s %9s",
+                "scenario", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        System.out.println(header);
+        if (reportFile.getParent() != null) {
+            Files.createDirectories(reportFile.getParent());
+        }
+        try (PrintWriter csv = new PrintWriter(Files.newBufferedWriter(reportFile))) {
+            csv.println("scenario,requests,requests_per_second,errors,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+            for (LoadTestScenario scenario : scenarios) {
+                ScenarioStats scenarioStats = stats.get(scenario.name());
+                Histogram latencies = scenarioStats.latencies();
+                total.add(latencies);
+                totalErrors += scenarioStats.errors().sum();
+                long requests = latencies.getTotalCount();
+                double throughput = requests / (double) duration.toSeconds();
+                double[] values = new double[PERCENTILES.length + 1];
+                for (int i = 0; i < PERCENTILES.length; i++) {
+                    values[i] = latencies.getValueAtPercentile(PERCENTILES[i]) / 1000.0;
+                }
+                values[PERCENTILES.length] = latencies.getMaxValue() / 1000.0;
+                System.out.printf("%-52s %9d %8.1f %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", scenario.name(), requests,
+                        throughput, scenarioStats.errors().sum(), values[0], values[1], values[2], values[3], values[4]);
+                csv.printf(java.util.Locale.ROOT, "%s,%d,%.2f,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n", scenario.name(), requests,
+                        throughput, scenarioStats.errors().sum(), values[0], values[1], values[2], values[3], values[4]);
+            }
+        }
+        System.out.println("Report written to " + reportFile.toAbsolutePath());
+        return new RunSummary(total.getTotalCount(), total.getTotalCount() / (double) duration.toSeconds(),
+                totalErrors, total.getValueAtPercentile(50) / 1000.0, total.getValueAtPercentile(99) / 1000.0);
+    }
+}
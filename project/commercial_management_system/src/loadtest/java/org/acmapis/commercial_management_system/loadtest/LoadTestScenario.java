@@ -0,0 +1,19 @@
+package org.acmapis.commercial_management_system.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+
+/**
+ * One endpoint exercised by the load test.
+ *
+ * @param name      the HTTP method and route template, used as the report key
+ * @param unbounded whether the work or the response grows with the size of a table; such
+ *                  scenarios only run with {@code --include-unbounded}
+ * @param request   builds a request with randomly chosen parameters
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+record LoadTestScenario(String name, boolean unbounded, Function<SplittableRandom, HttpRequest> request) {
+}
@@ -0,0 +1,252 @@
+package org.acmapis.commercial_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.acmapis.commercial_management_system.loadtest.SampleData.pick;
+
+/**
+ * The scenario set: every read endpoint under {@code /api/v1} and {@code /api/v2}, plus checkout and
+ * stock reservation as the write paths. Endpoints that update or delete catalog rows are left out so that a run
+ * does not change the data set seen by the next run.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+final class LoadTestScenarios {
+
+    private final String baseUrl;
+
+    private final SampleData data;
+
+    private final List<LoadTestScenario> scenarios = new ArrayList<>();
+
+    private final HttpClient setupClient = HttpClient.newHttpClient();
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LoadTestScenarios(String baseUrl, SampleData data) {
+        this.baseUrl = baseUrl;
+        this.data = data;
+    }
+
+    /**
+     * Builds the scenario set.
+     *
+     * @param baseUrl the base URL of the application
+     * @param data    the identifiers and names used as parameters
+     * @return the scenarios, in a fixed order
+     */
+    static List<LoadTestScenario> create(String baseUrl, SampleData data) {
+        LoadTestScenarios builder = new LoadTestScenarios(baseUrl, data);
+        builder.referenceData();
+        builder.products();
+        builder.stores();
+        builder.users();
+        builder.sales();
+        builder.reactiveReads();
+        return builder.scenarios;
+    }
+
+    private void referenceData() {
+        get("/api/v1/categories", false, random -> "/api/v1/categories");
+        get("/api/v1/categories/page", false, random -> "/api/v1/categories/page");
+        get("/api/v1/categories/{id}", false, random -> "/api/v1/categories/" + pick(random, data.categoryIds));
+        get("/api/v1/categories/search/by-name", false, random ->
+                "/api/v1/categories/search/by-name?categoryName=" + encode(pick(random, data.categoryNames)));
+        get("/api/v1/cities", false, random -> "/api/v1/cities");
+        get("/api/v1/cities/page", false, random -> "/api/v1/cities/page");
+        get("/api/v1/cities/{id}", false, random -> "/api/v1/cities/" + pick(random, data.cityIds));
+        get("/api/v1/departments", false, random -> "/api/v1/departments");
+        get("/api/v1/departments/page", false, random -> "/api/v1/departments/page");
+        get("/api/v1/departments/{id}", false, random -> "/api/v1/departments/" + pick(random, data.departmentIds));
+        get("/api/v1/user-roles", false, random -> "/api/v1/user-roles");
+        get("/api/v1/user-roles/page", false, random -> "/api/v1/user-roles/page");
+        get("/api/v1/user-roles/{id}", false, random -> "/api/v1/user-roles/" + pick(random, data.userRoleIds));
+    }
+
+    private void products() {
+        get("/api/v1/products", true, random -> "/api/v1/products");
+        get("/api/v1/products/page", false, random -> "/api/v1/products/page");
+        get("/api/v1/products/{id}", false, random -> "/api/v1/products/" + pick(random, data.productIds));
+        get("/api/v1/products/search/by-price-range", false, random -> {
+            int min = 100 + random.nextInt(500_000);
+            return "/api/v1/products/search/by-price-range?minPrice=" + min + "&maxPrice=" + (min + 1000);
+        });
+        get("/api/v1/products/search/sorted-by-price-asc", true, random -> "/api/v1/products/search/sorted-by-price-asc");
+        get("/api/v1/products/search/sorted-by-price-desc", true, random -> "/api/v1/products/search/sorted-by-price-desc");
+        get("/api/v1/products/search/recent", false, random ->
+                "/api/v1/products/search/recent?date=" + LocalDateTime.now().minusDays(1).withNano(0));
+        get("/api/v1/products/analytics/best-sellers", true, random -> "/api/v1/products/analytics/best-sellers");
+        get("/api/v1/products/analytics/top-best-sellers", false, random ->
+                "/api/v1/products/analytics/top-best-sellers?limit=10&window=LAST_DAY");
+        get("/api/v1/products/search/by-store-id", false, random ->
+                "/api/v1/products/search/by-store-id?storeId=" + pick(random, data.storeIds));
+        get("/api/v1/products/search/by-store-name", false, random ->
+                "/api/v1/products/search/by-store-name?storeName=" + encode(pick(random, data.storeNames)));
+        get("/api/v1/products/search", false, random ->
+                "/api/v1/products/search?q=" + encode("product " + random.nextInt(1000)));
+        get("/api/v1/products/search/autocomplete", false, random -> {
+            // Synthetic product names share the seed prefix of the category names ("syn42-")
+            String category = pick(random, data.categoryNames);
+            String prefix = category.substring(0, category.indexOf('-') + 1) + "Product " + random.nextInt(100);
+            return "/api/v1/products/search/autocomplete?prefix=" + encode(prefix);
+        });
+    }
+
+    private void stores() {
+        get("/api/v1/stores", false, random -> "/api/v1/stores");
+        get("/api/v1/stores/page", false, random -> "/api/v1/stores/page");
+        get("/api/v1/stores/{id}", false, random -> "/api/v1/stores/" + pick(random, data.storeIds));
+        get("/api/v1/stores/{id}/inventory", false, random ->
+                "/api/v1/stores/" + pick(random, data.storeIds) + "/inventory?inStockOnly=true&sort=PRICE");
+        get("/api/v1/stores/search/by-city-id", false, random ->
+                "/api/v1/stores/search/by-city-id?cityId=" + pick(random, data.cityIds));
+        get("/api/v1/stores/search/by-city-name", false, random ->
+                "/api/v1/stores/search/by-city-name?cityName=" + encode(pick(random, data.cityNames)));
+        get("/api/v1/store-products", true, random -> "/api/v1/store-products");
+        get("/api/v1/store-products/page", false, random -> "/api/v1/store-products/page");
+        get("/api/v1/store-products/{id}", false, random ->
+                "/api/v1/store-products/" + pick(random, data.storeProductIds));
+        post("/api/v1/store-products/reservations", false, random -> {
+            String[] stocked = pick(random, data.stockedProducts);
+            return new String[]{"/api/v1/store-products/reservations",
+                    "{\"storeId\":\"" + stocked[0] + "\",\"productId\":\"" + stocked[1] + "\",\"quantity\":1}"};
+        });
+        post("/api/v1/store-products/reservations/{id}/release", false, random -> new String[]{
+                "/api/v1/store-products/reservations/" + reserve(pick(random, data.stockedProducts)) + "/release", ""});
+    }
+
+    private void users() {
+        get("/api/v1/users", true, random -> "/api/v1/users");
+        get("/api/v1/users/page", false, random -> "/api/v1/users/page");
+        get("/api/v1/users/{id}", false, random -> "/api/v1/users/" + pick(random, data.userIds));
+        get("/api/v1/users/search/by-lastname", false, random ->
+                "/api/v1/users/search/by-lastname?lastName=" + encode(pick(random, data.lastNames)));
+        get("/api/v1/users/search/by-city", true, random ->
+                "/api/v1/users/search/by-city?cityId=" + pick(random, data.cityIds));
+        get("/api/v1/users/search/by-city-name", true, random ->
+                "/api/v1/users/search/by-city-name?cityName=" + encode(pick(random, data.cityNames)));
+        get("/api/v1/users/search/by-department", true, random ->
+                "/api/v1/users/search/by-department?departmentName=" + encode(pick(random, data.departmentNames)));
+        get("/api/v1/users/search/by-firstname-pattern", false, random ->
+                "/api/v1/users/search/by-firstname-pattern?pattern=" + encode(pick(random, data.firstNames)));
+    }
+
+    private void sales() {
+        LocalDate today = LocalDate.now();
+        get("/api/v1/sales", true, random -> "/api/v1/sales");
+        get("/api/v1/sales/page", false, random -> "/api/v1/sales/page");
+        get("/api/v1/sales/export", true, random -> "/api/v1/sales/export");
+        get("/api/v1/sales/{id}", false, random -> "/api/v1/sales/" + pick(random, data.saleIds));
+        get("/api/v1/sales/search/by-user-id", false, random ->
+                "/api/v1/sales/search/by-user-id?userId=" + pick(random, data.userIds));
+        get("/api/v1/sales/search/by-user-firstname", false, random ->
+                "/api/v1/sales/search/by-user-firstname?firstName=" + encode(pick(random, data.firstNames)));
+        get("/api/v1/sales/search/by-min-total-amount", false, random ->
+                "/api/v1/sales/search/by-min-total-amount?amount=" + (9_000_000 + random.nextInt(1_000_000)));
+        get("/api/v1/sales/analytics/total-by-date", false, random ->
+                "/api/v1/sales/analytics/total-by-date?date=" + today.minusDays(random.nextInt(30)));
+        get("/api/v1/sales/analytics/daily", false, random ->
+                "/api/v1/sales/analytics/daily?from=" + today.minusDays(30) + "&to=" + today);
+        get("/api/v1/sales/analytics/by-city", false, random ->
+                "/api/v1/sales/analytics/by-city?from=" + today.minusDays(30) + "&to=" + today);
+        get("/api/v1/sales/analytics/by-department", false, random ->
+                "/api/v1/sales/analytics/by-department?from=" + today.minusDays(30) + "&to=" + today);
+        get("/api/v1/sales/analytics/by-department/{departmentId}/cities", false, random ->
+                "/api/v1/sales/analytics/by-department/" + pick(random, data.departmentIds)
+                        + "/cities?from=" + today.minusDays(30) + "&to=" + today);
+        get("/api/v1/sales/analytics/by-city/{cityId}/daily", false, random ->
+                "/api/v1/sales/analytics/by-city/" + pick(random, data.cityIds)
+                        + "/daily?from=" + today.minusDays(30) + "&to=" + today);
+        post("/api/v1/sales/checkout", false, random -> {
+            String[] stocked = pick(random, data.stockedProducts);
+            return new String[]{"/api/v1/sales/checkout",
+                    "{\"storeId\":\"" + stocked[0] + "\",\"userId\":\"" + pick(random, data.userIds)
+                            + "\",\"lines\":[{\"productId\":\"" + stocked[1] + "\",\"quantity\":1}]}"};
+        });
+        post("/api/v1/sales/analytics/daily/rebuild", true, random ->
+                new String[]{"/api/v1/sales/analytics/daily/rebuild", ""});
+        get("/api/v1/sale-products", true, random -> "/api/v1/sale-products");
+        get("/api/v1/sale-products/page", false, random -> "/api/v1/sale-products/page");
+        get("/api/v1/sale-products/{id}", false, random ->
+                "/api/v1/sale-products/" + pick(random, data.saleProductIds));
+    }
+
+    private void reactiveReads() {
+        LocalDate today = LocalDate.now();
+        get("/api/v2/products/search/by-price-range", false, random -> {
+            int min = 100 + random.nextInt(500_000);
+            return "/api/v2/products/search/by-price-range?minPrice=" + min + "&maxPrice=" + (min + 1000);
+        });
+        get("/api/v2/products/search/by-store-id", false, random ->
+                "/api/v2/products/search/by-store-id?storeId=" + pick(random, data.storeIds));
+        get("/api/v2/sales/search/by-user-id", false, random ->
+                "/api/v2/sales/search/by-user-id?userId=" + pick(random, data.userIds));
+        get("/api/v2/sales/analytics/daily", false, random ->
+                "/api/v2/sales/analytics/daily?from=" + today.minusDays(30) + "&to=" + today);
+        get("/api/v2/sales/analytics/by-city", false, random ->
+                "/api/v2/sales/analytics/by-city?from=" + today.minusDays(30) + "&to=" + today);
+    }
+
+    private void get(String route, boolean unbounded, Function<SplittableRandom, String> path) {
+        scenarios.add(new LoadTestScenario("GET " + route, unbounded, random ->
+                HttpRequest.newBuilder(URI.create(baseUrl + path.apply(random))).GET().build()));
+    }
+
+    /**
+     * Adds a POST scenario whose builder returns the path and the JSON body.
+     */
+    private void post(String route, boolean unbounded, Function<SplittableRandom, String[]> pathAndBody) {
+        scenarios.add(new LoadTestScenario("POST " + route, unbounded, random -> {
+            String[] request = pathAndBody.apply(random);
+            return HttpRequest.newBuilder(URI.create(baseUrl + request[0]))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(request[1]))
+                    .build();
+        }));
+    }
+
+    /**
+     * Reserves one unit outside the measurement, so that the release scenario has a reservation to release.
+     * Returns a random ID, released with 404, if the stock is exhausted.
+     */
+    private String reserve(String[] stocked) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/store-products/reservations"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"storeId\":\"" + stocked[0] + "\",\"productId\":\"" + stocked[1] + "\",\"quantity\":1}"))
+                .build();
+        try {
+            HttpResponse<String> response = setupClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 201
+                    ? objectMapper.readTree(response.body()).path("reservationId").asText()
+                    : UUID.randomUUID().toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
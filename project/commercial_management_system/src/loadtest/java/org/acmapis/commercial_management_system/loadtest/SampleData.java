@@ -0,0 +1,144 @@
+package org.acmapis.commercial_management_system.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Identifiers and names discovered from the first pages of the API, used as request parameters.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+final class SampleData {
+
+    private static final int SAMPLE_SIZE = 500;
+
+    final List<String> categoryIds = new ArrayList<>();
+
+    final List<String> categoryNames = new ArrayList<>();
+
+    final List<String> cityIds = new ArrayList<>();
+
+    final List<String> cityNames = new ArrayList<>();
+
+    final List<String> departmentIds = new ArrayList<>();
+
+    final List<String> departmentNames = new ArrayList<>();
+
+    final List<String> userRoleIds = new ArrayList<>();
+
+    final List<String> storeIds = new ArrayList<>();
+
+    final List<String> storeNames = new ArrayList<>();
+
+    final List<String> productIds = new ArrayList<>();
+
+    final List<String> userIds = new ArrayList<>();
+
+    final List<String> lastNames = new ArrayList<>();
+
+    final List<String> firstNames = new ArrayList<>();
+
+    final List<String> saleIds = new ArrayList<>();
+
+    final List<String> saleProductIds = new ArrayList<>();
+
+    final List<String> storeProductIds = new ArrayList<>();
+
+    /**
+     * Stocked (store ID, product ID) pairs, used for checkouts and reservations.
+     */
+    final List<String[]> stockedProducts = new ArrayList<>();
+
+    /**
+     * Reads one page of each resource.
+     *
+     * @param client  the HTTP client
+     * @param baseUrl the base URL of the application
+     * @return the discovered sample data
+     * @throws IOException          if a request fails
+     * @throws InterruptedException if interrupted while waiting for a response
+     */
+    static SampleData discover(HttpClient client, String baseUrl) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SampleData data = new SampleData();
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/categories/page")) {
+            data.categoryIds.add(item.path("categoryId").asText());
+            data.categoryNames.add(item.path("categoryName").asText());
+        }
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/cities/page")) {
+            data.cityIds.add(item.path("cityId").asText());
+            data.cityNames.add(item.path("cityName").asText());
+        }
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/departments/page")) {
+            data.departmentIds.add(item.path("departmentId").asText());
+            data.departmentNames.add(item.path("departmentName").asText());
+        }
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/user-roles/page")) {
+            data.userRoleIds.add(item.path("userRoleId").asText());
+        }
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/stores/page")) {
+            data.storeIds.add(item.path("storeId").asText());
+            data.storeNames.add(item.path("storeName").asText());
+        }
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/products/page")) {
+            data.productIds.add(item.path("productId").asText());
+        }
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/users/page")) {
+            data.userIds.add(item.path("userId").asText());
+            data.lastNames.add(item.path("lastName").asText());
+            data.firstNames.add(item.path("firstName").asText());
+        }
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/sales/page")) {
+            data.saleIds.add(item.path("saleId").asText());
+        }
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/sale-products/page")) {
+            data.saleProductIds.add(item.path("saleProductId").asText());
+        }
+        for (JsonNode item : page(client, objectMapper, baseUrl, "/api/v1/store-products/page")) {
+            data.storeProductIds.add(item.path("id").asText());
+            data.stockedProducts.add(new String[]{
+                    item.path("store").path("storeId").asText(), item.path("product").path("productId").asText()});
+        }
+        return data;
+    }
+
+    /**
+     * Picks a random element.
+     *
+     * @param random the source of randomness
+     * @param values the candidates
+     * @param <T>    the element type
+     * @return a random element
+     * @throws IllegalStateException if there are no candidates
+     */
+    static <T> T pick(SplittableRandom random, List<T> values) {
+        if (values.isEmpty()) {
+            throw new IllegalStateException("No sample data available for this scenario");
+        }
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static List<JsonNode> page(HttpClient client, ObjectMapper objectMapper, String baseUrl, String path)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path + "?size=" + SAMPLE_SIZE)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " returned " + response.statusCode());
+        }
+        List<JsonNode> items = new ArrayList<>();
+        objectMapper.readTree(response.body()).path("items").forEach(items::add);
+        return items;
+    }
+}
@@ -2,8 +2,11 @@ package org.acmapis.commercial_management_system;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 
-@SpringBootApplication
+// The R2DBC read side never writes; a second, reactive transaction manager would make the
+// JPA one ambiguous for @Transactional
+@SpringBootApplication(exclude = R2dbcTransactionManagerAutoConfiguration.class)
 public class CommercialManagementSystemApplication {
 
     public static void main(String[] args) {
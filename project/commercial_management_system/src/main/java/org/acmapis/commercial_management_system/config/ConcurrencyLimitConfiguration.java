@@ -0,0 +1,60 @@
+package org.acmapis.commercial_management_system.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.acmapis.commercial_management_system.utils.concurrency.ConnectionPoolConcurrencyLimitFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Configuration of the connection-pool-aware concurrency limit of the API.
+ * <p>
+ * Enabled by {@code api.concurrency.limit-enabled}, which defaults to the virtual-thread mode
+ * ({@code spring.threads.virtual.enabled}): with platform threads the Tomcat pool already bounds
+ * the requests in flight, with virtual threads nothing does. The limit defaults to the Hikari
+ * {@code maximum-pool-size} (see {@link ConnectionPoolConcurrencyLimitFilter}). Only {@code /api/v1}
+ * is limited: the {@code /api/v2} read endpoints use the R2DBC pool, not Hikari. The streaming sales
+ * export is additionally capped by {@code api.concurrency.max-streaming}, so long downloads cannot
+ * take every permit.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Configuration
+@ConditionalOnProperty(name = "api.concurrency.limit-enabled", havingValue = "true")
+public class ConcurrencyLimitConfiguration {
+
+    /**
+     * Request paths whose responses are streamed for as long as the client reads.
+     */
+    private static final Set<String> STREAMING_PATHS = Set.of("/api/v1/sales/export");
+
+    /**
+     * Registers the limiter in front of every request under {@code /api/v1}.
+     *
+     * @param maxInFlight    the maximum number of API requests served at the same time
+     * @param maxStreaming   the maximum number of streaming exports served at the same time
+     * @param acquireTimeout the maximum time a request waits for a permit
+     * @param meterRegistry  the registry receiving the limiter meters
+     * @return the registration of the limiter filter
+     */
+    @Bean
+    public FilterRegistrationBean<ConnectionPoolConcurrencyLimitFilter> connectionPoolConcurrencyLimitFilter(
+            @Value("${api.concurrency.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}") int maxInFlight,
+            @Value("${api.concurrency.max-streaming:2}") int maxStreaming,
+            @Value("${api.concurrency.acquire-timeout:10s}") Duration acquireTimeout,
+            MeterRegistry meterRegistry) {
+        ConnectionPoolConcurrencyLimitFilter filter = new ConnectionPoolConcurrencyLimitFilter(maxInFlight,
+                Math.min(maxStreaming, maxInFlight), STREAMING_PATHS, acquireTimeout, meterRegistry);
+        FilterRegistrationBean<ConnectionPoolConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/v1/*");
+        return registration;
+    }
+}
@@ -0,0 +1,50 @@
+package org.acmapis.commercial_management_system.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the JDBC data source used by JPA, Flyway and the JDBC templates.
+ * <p>
+ * Spring Boot skips its own data source as soon as an R2DBC connection factory exists, so it is
+ * declared here from the same {@code spring.datasource.*} and {@code spring.datasource.hikari.*}
+ * properties. The R2DBC connection factory of the {@code /api/v2} read side is configured
+ * separately through {@code spring.r2dbc.*} and has its own pool. The database vendor is resolved
+ * once from the JDBC URL, for the repositories whose statements differ between PostgreSQL and H2.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfiguration {
+
+    /**
+     * Creates the Hikari connection pool.
+     *
+     * @param properties the {@code spring.datasource.*} properties
+     * @return the pooled data source
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Resolves the driver of the data source from its JDBC URL, without opening a connection.
+     *
+     * @param properties the {@code spring.datasource.*} properties
+     * @return the driver, {@link DatabaseDriver#UNKNOWN} if the URL is not recognized
+     */
+    @Bean
+    public DatabaseDriver databaseDriver(DataSourceProperties properties) {
+        return DatabaseDriver.fromJdbcUrl(properties.determineUrl());
+    }
+}
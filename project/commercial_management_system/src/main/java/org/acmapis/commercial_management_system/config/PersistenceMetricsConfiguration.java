@@ -0,0 +1,95 @@
+package org.acmapis.commercial_management_system.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.acmapis.commercial_management_system.utils.metrics.EntityLoadMetricsIntegrator;
+import org.acmapis.commercial_management_system.utils.metrics.PersistenceMetricsInterceptor;
+import org.acmapis.commercial_management_system.utils.metrics.PersistenceMetricsSessionListener;
+import org.acmapis.commercial_management_system.utils.metrics.RepositoryMetricsInterceptor;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configuration wiring the per-request and per-repository-method persistence metrics.
+ * <p>
+ * Hibernate is configured with a session listener and a post-load listener that count statements,
+ * entities and cache lookups and time JDBC work and connection acquisition. Every request under
+ * {@code /api} publishes those totals tagged by route, and every repository method publishes the
+ * statements and entities it caused. All meters are exposed through the Actuator
+ * {@code metrics} and {@code prometheus} endpoints, next to the Hikari pool meters
+ * ({@code hikaricp.connections.acquire}, {@code hikaricp.connections.pending}) and the
+ * Hibernate session factory statistics published by Spring Boot.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Configuration
+public class PersistenceMetricsConfiguration implements WebMvcConfigurer {
+
+    /**
+     * Registry receiving the request meters.
+     */
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new PersistenceMetricsConfiguration with the required dependencies.
+     *
+     * @param meterRegistry the registry receiving the request meters
+     */
+    @Autowired
+    public PersistenceMetricsConfiguration(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new PersistenceMetricsInterceptor(meterRegistry)).addPathPatterns("/api/**");
+    }
+
+    /**
+     * Registers the session listener and the entity load integrator with Hibernate.
+     *
+     * @return the customizer adding the metrics listeners to the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer persistenceMetricsHibernateCustomizer() {
+        return properties -> {
+            properties.put("hibernate.session.events.auto", PersistenceMetricsSessionListener.class.getName());
+            properties.put("hibernate.integrator_provider",
+                    (IntegratorProvider) () -> List.of(new EntityLoadMetricsIntegrator()));
+        };
+    }
+
+    /**
+     * Adds {@link RepositoryMetricsInterceptor} to the proxy of every Spring Data repository.
+     * Declared static so the post-processor is created before the repository factory beans.
+     *
+     * @param meterRegistry lazily resolved registry receiving the repository meters
+     * @return the bean post-processor customizing the repository factories
+     */
+    @Bean
+    public static BeanPostProcessor repositoryMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    new RepositoryMetricsInterceptor(meterRegistry.getObject(),
+                                            repositoryInformation.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
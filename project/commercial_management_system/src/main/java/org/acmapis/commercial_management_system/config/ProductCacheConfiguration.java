@@ -0,0 +1,117 @@
+package org.acmapis.commercial_management_system.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.acmapis.commercial_management_system.service.ProductService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.support.NullValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Configuration of the in-process Caffeine caches placed in front of the {@link ProductService} reads.
+ * <p>
+ * Each cache is bounded in size and entries expire a fixed time after they were written. Entries
+ * older than the refresh interval are reloaded in the background on their next read, so popular
+ * entries keep being served from memory while picking up changes made outside this application.
+ * Writes through {@link ProductService} and {@code StoreProductService} evict the affected entries
+ * when their transaction commits (see {@code ProductCacheInvalidator}).
+ * <p>
+ * The caches record statistics, which Spring Boot publishes as the {@code cache.gets} (tagged
+ * {@code result=hit|miss}), {@code cache.puts}, {@code cache.evictions} and {@code cache.size}
+ * meters of the Actuator {@code metrics} and {@code prometheus} endpoints.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Configuration
+@EnableCaching
+public class ProductCacheConfiguration {
+
+    /**
+     * Cache of products keyed by product ID.
+     */
+    public static final String PRODUCT_CACHE = "products";
+
+    /**
+     * Cache of the products available in a store, keyed by store ID.
+     */
+    public static final String PRODUCTS_BY_STORE_CACHE = "products-by-store";
+
+    /**
+     * Cache of the products of a category, keyed by category ID.
+     */
+    public static final String PRODUCTS_BY_CATEGORY_CACHE = "products-by-category";
+
+    /**
+     * Maximum number of entries held by each cache.
+     */
+    private final long maximumSize;
+
+    /**
+     * Time after which an entry is discarded.
+     */
+    private final Duration expireAfterWrite;
+
+    /**
+     * Time after which an entry is reloaded in the background on its next read.
+     */
+    private final Duration refreshAfterWrite;
+
+    /**
+     * Constructs a new ProductCacheConfiguration with the cache bounds.
+     *
+     * @param maximumSize       the maximum number of entries held by each cache
+     * @param expireAfterWrite  the time after which an entry is discarded
+     * @param refreshAfterWrite the time after which an entry is reloaded on its next read
+     */
+    public ProductCacheConfiguration(@Value("${products.cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${products.cache.expire-after-write:1h}") Duration expireAfterWrite,
+                                     @Value("${products.cache.refresh-after-write:5m}") Duration refreshAfterWrite) {
+        this.maximumSize = maximumSize;
+        this.expireAfterWrite = expireAfterWrite;
+        this.refreshAfterWrite = refreshAfterWrite;
+    }
+
+    /**
+     * Creates the cache manager holding the product caches.
+     * The loaders call the uncached {@code load} methods of {@link ProductService}, which read the
+     * products with their categories in one statement; missing products are cached as null values.
+     *
+     * @param productService lazily resolved service loading the cached values
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(ObjectProvider<ProductService> productService) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(PRODUCT_CACHE, newCache((UUID productId) -> productService.getObject()
+                .loadProductById(productId)
+                .<Object>map(product -> product)
+                .orElse(NullValue.INSTANCE)));
+        cacheManager.registerCustomCache(PRODUCTS_BY_STORE_CACHE, newCache((UUID storeId) ->
+                productService.getObject().loadProductsByStoreId(storeId)));
+        cacheManager.registerCustomCache(PRODUCTS_BY_CATEGORY_CACHE, newCache((Long categoryId) ->
+                productService.getObject().loadProductsByCategoryId(categoryId)));
+        return cacheManager;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K> com.github.benmanes.caffeine.cache.Cache<Object, Object> newCache(CacheLoader<K, Object> loader) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .refreshAfterWrite(refreshAfterWrite)
+                .recordStats()
+                .build((CacheLoader<Object, Object>) loader);
+    }
+}
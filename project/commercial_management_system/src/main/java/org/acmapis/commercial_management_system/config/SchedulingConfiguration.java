@@ -0,0 +1,16 @@
+package org.acmapis.commercial_management_system.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the {@code @Scheduled} maintenance jobs, such as {@code SalePartitionMaintenance}.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
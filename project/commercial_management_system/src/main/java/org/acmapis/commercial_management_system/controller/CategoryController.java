@@ -1,11 +1,16 @@
 package org.acmapis.commercial_management_system.controller;
 
 import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
+import org.acmapis.commercial_management_system.service.CatalogVersions;
 import org.acmapis.commercial_management_system.service.CategoryService;
+import org.acmapis.commercial_management_system.utils.http.ConditionalRequests;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,30 +30,61 @@ public class CategoryController {
 
     private final CategoryService categoryService;
 
+    private final CatalogVersions catalogVersions;
+
     @Autowired
-    public CategoryController(CategoryService categoryService) {
+    public CategoryController(CategoryService categoryService, CatalogVersions catalogVersions) {
         this.categoryService = categoryService;
+        this.catalogVersions = catalogVersions;
     }
 
     /**
      * Get all categories in the system.
      *
+     * @param request The current request, answered with 304 Not Modified if its validators are current
      * @return List of all categories
      */
     @GetMapping
-    public ResponseEntity<List<CategoryModel>> getAllCategories() {
+    public ResponseEntity<List<CategoryModel>> getAllCategories(WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
         List<CategoryModel> categories = categoryService.getAllCategories();
         return ResponseEntity.ok(categories);
     }
 
+    /**
+     * Get one page of categories using keyset pagination.
+     *
+     * @param cursor  Continuation token returned by the previous page (omit for the first page)
+     * @param size    Requested page size (default 50, max 500)
+     * @param request The current request, answered with 304 Not Modified if its validators are current
+     * @return Page of categories with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<CategoryModel>> getCategoriesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        CursorPageModel<CategoryModel> page = categoryService.getCategoriesPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get a specific category by ID.
      *
-     * @param id The category ID
+     * @param id      The category ID
+     * @param request The current request, answered with 304 Not Modified if its validators are current
      * @return Category if found, 404 if not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CategoryModel> getCategoryById(@PathVariable Long id) {
+    public ResponseEntity<CategoryModel> getCategoryById(@PathVariable Long id, WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
         Optional<CategoryModel> category = categoryService.getCategoryById(id);
         return category.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -66,6 +102,19 @@ public class CategoryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedCategory);
     }
 
+    /**
+     * Create several categories in one request.
+     * The rows are inserted in a single transaction using JDBC batches (at most 1000 rows).
+     *
+     * @param categories Category data to create
+     * @return Created categories with 201 status, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<CategoryModel>> createCategories(@RequestBody List<CategoryModel> categories) {
+        List<CategoryModel> savedCategories = categoryService.saveCategories(categories);
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedCategories);
+    }
+
     /**
      * Update an existing category.
      *
@@ -98,12 +147,24 @@ public class CategoryController {
      * Find category by exact name match.
      *
      * @param categoryName The exact category name to search for
+     * @param request      The current request, answered with 304 Not Modified if its validators are current
      * @return Category if found, 404 if not found
      */
     @GetMapping("/search/by-name")
-    public ResponseEntity<CategoryModel> findByCategoryName(@RequestParam String categoryName) {
+    public ResponseEntity<CategoryModel> findByCategoryName(@RequestParam String categoryName, WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
         Optional<CategoryModel> category = categoryService.getCategoriesByName(categoryName);
         return category.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * Checks a conditional request against the version of the categories.
+     */
+    private boolean isNotModified(WebRequest request) {
+        return ConditionalRequests.checkNotModified(request,
+                catalogVersions.current(CatalogResource.CATEGORIES));
+    }
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package org.acmapis.commercial_management_system.controller;
 
 import org.acmapis.commercial_management_system.model.dto.CityModel;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
+import org.acmapis.commercial_management_system.service.CatalogVersions;
 import org.acmapis.commercial_management_system.service.CityService;
+import org.acmapis.commercial_management_system.utils.http.ConditionalRequests;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,30 +30,61 @@ public class CityController {
 
     private final CityService cityService;
 
+    private final CatalogVersions catalogVersions;
+
     @Autowired
-    public CityController(CityService cityService) {
+    public CityController(CityService cityService, CatalogVersions catalogVersions) {
         this.cityService = cityService;
+        this.catalogVersions = catalogVersions;
     }
 
     /**
      * Get all cities in the system.
      *
+     * @param request The current request, answered with 304 Not Modified if its validators are current
      * @return List of all cities
      */
     @GetMapping
-    public ResponseEntity<List<CityModel>> getAllCities() {
+    public ResponseEntity<List<CityModel>> getAllCities(WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
         List<CityModel> cities = cityService.getAllCities();
         return ResponseEntity.ok(cities);
     }
 
+    /**
+     * Get one page of cities using keyset pagination.
+     *
+     * @param cursor  Continuation token returned by the previous page (omit for the first page)
+     * @param size    Requested page size (default 50, max 500)
+     * @param request The current request, answered with 304 Not Modified if its validators are current
+     * @return Page of cities with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<CityModel>> getCitiesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        CursorPageModel<CityModel> page = cityService.getCitiesPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get a specific city by ID.
      *
-     * @param id The city ID
+     * @param id      The city ID
+     * @param request The current request, answered with 304 Not Modified if its validators are current
      * @return City if found, 404 if not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<CityModel> getCityById(@PathVariable Long id) {
+    public ResponseEntity<CityModel> getCityById(@PathVariable Long id, WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
         Optional<CityModel> city = cityService.getCityById(id);
         return city.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -91,4 +127,12 @@ public class CityController {
         cityService.deleteCityById(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Checks a conditional request against the version of the cities and the departments.
+     */
+    private boolean isNotModified(WebRequest request) {
+        return ConditionalRequests.checkNotModified(request,
+                catalogVersions.current(CatalogResource.CITIES, CatalogResource.DEPARTMENTS));
+    }
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package org.acmapis.commercial_management_system.controller;
 
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.DepartmentModel;
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
+import org.acmapis.commercial_management_system.service.CatalogVersions;
 import org.acmapis.commercial_management_system.service.DepartmentService;
+import org.acmapis.commercial_management_system.utils.http.ConditionalRequests;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -25,30 +30,61 @@ public class DepartmentController {
 
     private final DepartmentService departmentService;
 
+    private final CatalogVersions catalogVersions;
+
     @Autowired
-    public DepartmentController(DepartmentService departmentService) {
+    public DepartmentController(DepartmentService departmentService, CatalogVersions catalogVersions) {
         this.departmentService = departmentService;
+        this.catalogVersions = catalogVersions;
     }
 
     /**
      * Get all departments in the system.
      *
+     * @param request The current request, answered with 304 Not Modified if its validators are current
      * @return List of all departments
      */
     @GetMapping
-    public ResponseEntity<List<DepartmentModel>> getAllDepartments() {
+    public ResponseEntity<List<DepartmentModel>> getAllDepartments(WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
         List<DepartmentModel> departments = departmentService.getAllDepartments();
         return ResponseEntity.ok(departments);
     }
 
+    /**
+     * Get one page of departments using keyset pagination.
+     *
+     * @param cursor  Continuation token returned by the previous page (omit for the first page)
+     * @param size    Requested page size (default 50, max 500)
+     * @param request The current request, answered with 304 Not Modified if its validators are current
+     * @return Page of departments with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<DepartmentModel>> getDepartmentsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        CursorPageModel<DepartmentModel> page = departmentService.getDepartmentsPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get a specific department by ID.
      *
-     * @param id The department ID
+     * @param id      The department ID
+     * @param request The current request, answered with 304 Not Modified if its validators are current
      * @return Department if found, 404 if not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<DepartmentModel> getDepartmentById(@PathVariable Long id) {
+    public ResponseEntity<DepartmentModel> getDepartmentById(@PathVariable Long id, WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
         Optional<DepartmentModel> department = departmentService.getDepartmentById(id);
         return department.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -91,4 +127,12 @@ public class DepartmentController {
         departmentService.deleteDepartmentById(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Checks a conditional request against the version of the departments.
+     */
+    private boolean isNotModified(WebRequest request) {
+        return ConditionalRequests.checkNotModified(request,
+                catalogVersions.current(CatalogResource.DEPARTMENTS));
+    }
 }
\ No newline at end of file
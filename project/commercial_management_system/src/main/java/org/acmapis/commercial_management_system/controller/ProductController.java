@@ -1,12 +1,24 @@
 package org.acmapis.commercial_management_system.controller;
 
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.dto.ProductImportReportModel;
 import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.ProductSuggestionModel;
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.model.enums.SalesWindow;
+import org.acmapis.commercial_management_system.service.CatalogVersions;
+import org.acmapis.commercial_management_system.service.ProductImportService;
 import org.acmapis.commercial_management_system.service.ProductService;
+import org.acmapis.commercial_management_system.utils.http.ConditionalRequests;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -27,30 +39,71 @@ public class ProductController {
 
     private final ProductService productService;
 
+    private final ProductImportService productImportService;
+
+    private final CatalogVersions catalogVersions;
+
     @Autowired
-    public ProductController(ProductService productService) {
+    public ProductController(ProductService productService,
+                             ProductImportService productImportService,
+                             CatalogVersions catalogVersions) {
         this.productService = productService;
+        this.productImportService = productImportService;
+        this.catalogVersions = catalogVersions;
     }
 
     /**
      * Get all products in the system.
      *
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
+     * @param request   The current request, answered with 304 Not Modified if its validators are current
      * @return List of all products
      */
     @GetMapping
-    public ResponseEntity<List<ProductModel>> getAllProducts() {
-        List<ProductModel> products = productService.getAllProducts();
+    public ResponseEntity<List<ProductModel>> getAllProducts(
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan,
+            WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        List<ProductModel> products = productService.getAllProducts(fetchPlan);
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Get one page of products using keyset pagination.
+     *
+     * @param cursor    Continuation token returned by the previous page (omit for the first page)
+     * @param size      Requested page size (default 50, max 500)
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
+     * @param request   The current request, answered with 304 Not Modified if its validators are current
+     * @return Page of products with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<ProductModel>> getProductsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan,
+            WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        CursorPageModel<ProductModel> page = productService.getProductsPage(cursor, size, fetchPlan);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get a specific product by ID.
      *
-     * @param id The product ID
+     * @param id      The product ID
+     * @param request The current request, answered with 304 Not Modified if its validators are current
      * @return Product if found, 404 if not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ProductModel> getProductById(@PathVariable UUID id) {
+    public ResponseEntity<ProductModel> getProductById(@PathVariable UUID id, WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
         Optional<ProductModel> product = productService.getProductById(id);
         return product.map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
@@ -94,55 +147,112 @@ public class ProductController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Create or update products in bulk from a JSON array of products.
+     * Products with a productId are upserted, products without one are created; the body is read
+     * as a stream and written in batches, one transaction per batch (at most 100000 rows).
+     *
+     * @param body JSON array of products, with the categories given by ID or name
+     * @return Import report with the counts and the rejected or superseded rows
+     */
+    @PutMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProductImportReportModel> importProductsJson(InputStream body) {
+        ProductImportReportModel report = productImportService.importJson(body);
+        return ResponseEntity.ok(report);
+    }
+
+    /**
+     * Create or update products in bulk from CSV rows.
+     * The header names the columns productId, productName, productDescription, price and categories,
+     * the latter holding category names separated by '|'.
+     *
+     * @param body CSV rows with a header
+     * @return Import report with the counts and the rejected or superseded rows
+     */
+    @PutMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<ProductImportReportModel> importProductsCsv(InputStream body) {
+        ProductImportReportModel report = productImportService.importCsv(body);
+        return ResponseEntity.ok(report);
+    }
+
     // === Product Query Endpoints ===
 
     /**
      * Get products within a specific price range.
      *
-     * @param minPrice Minimum price (inclusive)
-     * @param maxPrice Maximum price (inclusive)
+     * @param minPrice  Minimum price (inclusive)
+     * @param maxPrice  Maximum price (inclusive)
+     * @param fetchPlan Association loading strategy: GRAPH (default), DEFAULT or PROJECTION
+     * @param request   The current request, answered with 304 Not Modified if its validators are current
      * @return List of products within the price range
      */
     @GetMapping("/search/by-price-range")
     public ResponseEntity<List<ProductModel>> getProductsByPriceRange(
             @RequestParam Double minPrice,
-            @RequestParam Double maxPrice) {
-        List<ProductModel> products = productService.getProductsByPriceRange(minPrice, maxPrice);
+            @RequestParam Double maxPrice,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan,
+            WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        List<ProductModel> products = productService.getProductsByPriceRange(minPrice, maxPrice, fetchPlan);
         return ResponseEntity.ok(products);
     }
 
     /**
      * Get products ordered by price in ascending order.
      *
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
+     * @param request   The current request, answered with 304 Not Modified if its validators are current
      * @return List of products sorted by price (low to high)
      */
     @GetMapping("/search/sorted-by-price-asc")
-    public ResponseEntity<List<ProductModel>> getProductsOrderByPriceAsc() {
-        List<ProductModel> products = productService.getProductsOrderByPriceAsc();
+    public ResponseEntity<List<ProductModel>> getProductsOrderByPriceAsc(
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan,
+            WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        List<ProductModel> products = productService.getProductsOrderByPriceAsc(fetchPlan);
         return ResponseEntity.ok(products);
     }
 
     /**
      * Get products ordered by price in descending order.
      *
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
+     * @param request   The current request, answered with 304 Not Modified if its validators are current
      * @return List of products sorted by price (high to low)
      */
     @GetMapping("/search/sorted-by-price-desc")
-    public ResponseEntity<List<ProductModel>> getProductsOrderByPriceDesc() {
-        List<ProductModel> products = productService.getProductsOrderByPriceDesc();
+    public ResponseEntity<List<ProductModel>> getProductsOrderByPriceDesc(
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan,
+            WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
+        List<ProductModel> products = productService.getProductsOrderByPriceDesc(fetchPlan);
         return ResponseEntity.ok(products);
     }
 
     /**
      * Get products created after a specific date.
      *
-     * @param date The date threshold (ISO format: 2024-11-20T10:30:00)
+     * @param date      The date threshold (ISO format: 2024-11-20T10:30:00)
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
+     * @param request   The current request, answered with 304 Not Modified if its validators are current
      * @return List of products created after the specified date
      */
     @GetMapping("/search/recent")
-    public ResponseEntity<List<ProductModel>> getProductsCreatedAfter(@RequestParam String date) {
+    public ResponseEntity<List<ProductModel>> getProductsCreatedAfter(
+            @RequestParam String date,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan,
+            WebRequest request) {
+        if (isNotModified(request)) {
+            return null;
+        }
         LocalDateTime dateTime = LocalDateTime.parse(date);
-        List<ProductModel> products = productService.getProductsCreatedAfter(dateTime);
+        List<ProductModel> products = productService.getProductsCreatedAfter(dateTime, fetchPlan);
         return ResponseEntity.ok(products);
     }
 
@@ -151,35 +261,47 @@ public class ProductController {
     /**
      * Get all products ordered by total sales quantity (bestsellers first).
      *
+     * @param window    Sales window to rank: ALL (default), LAST_HOUR, LAST_DAY or LAST_WEEK
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of products ordered by sales performance
      */
     @GetMapping("/analytics/best-sellers")
-    public ResponseEntity<List<ProductModel>> getBestSellingProducts() {
-        List<ProductModel> products = productService.getBestSellingProducts();
+    public ResponseEntity<List<ProductModel>> getBestSellingProducts(
+            @RequestParam(defaultValue = "ALL") SalesWindow window,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<ProductModel> products = productService.getBestSellingProducts(window, fetchPlan);
         return ResponseEntity.ok(products);
     }
 
     /**
      * Get top N best-selling products.
      *
-     * @param limit Maximum number of products to return
+     * @param limit     Maximum number of products to return
+     * @param window    Sales window to rank: ALL (default), LAST_HOUR, LAST_DAY or LAST_WEEK
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of top best-selling products
      */
     @GetMapping("/analytics/top-best-sellers")
-    public ResponseEntity<List<ProductModel>> getTopBestSellingProducts(@RequestParam int limit) {
-        List<ProductModel> products = productService.getTopBestSellingProducts(limit);
+    public ResponseEntity<List<ProductModel>> getTopBestSellingProducts(
+            @RequestParam int limit,
+            @RequestParam(defaultValue = "ALL") SalesWindow window,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<ProductModel> products = productService.getTopBestSellingProducts(limit, window, fetchPlan);
         return ResponseEntity.ok(products);
     }
 
     /**
      * Get all products in a specific store by store ID.
      *
-     * @param storeId The store ID
+     * @param storeId   The store ID
+     * @param fetchPlan Association loading strategy: GRAPH (default), DEFAULT or PROJECTION
      * @return List of products available in the store
      */
     @GetMapping("/search/by-store-id")
-    public ResponseEntity<List<ProductModel>> getProductsByStoreId(@RequestParam UUID storeId) {
-        List<ProductModel> products = productService.getProductsByStoreId(storeId);
+    public ResponseEntity<List<ProductModel>> getProductsByStoreId(
+            @RequestParam UUID storeId,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<ProductModel> products = productService.getProductsByStoreId(storeId, fetchPlan);
         return ResponseEntity.ok(products);
     }
 
@@ -187,11 +309,67 @@ public class ProductController {
      * Get all products available in a specific store by store name.
      *
      * @param storeName The store name
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of products available in the store
      */
     @GetMapping("/search/by-store-name")
-    public ResponseEntity<List<ProductModel>> getProductsByStoreName(@RequestParam String storeName) {
-        List<ProductModel> products = productService.getProductsByStoreName(storeName);
+    public ResponseEntity<List<ProductModel>> getProductsByStoreName(
+            @RequestParam String storeName,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<ProductModel> products = productService.getProductsByStoreName(storeName, fetchPlan);
         return ResponseEntity.ok(products);
     }
+
+    // === Product Search Endpoints ===
+
+    /**
+     * Search products by name, category names and description, most relevant first, using keyset pagination.
+     * Name matches rank above category matches, which rank above description matches; on PostgreSQL the
+     * terms accept the web search syntax ("quoted phrase", -excluded, or) and tolerate typos in the name.
+     *
+     * @param q          Search terms
+     * @param minPrice   Minimum price (inclusive, optional)
+     * @param maxPrice   Maximum price (inclusive, optional)
+     * @param categoryId Category the products must belong to (optional)
+     * @param storeId    Store that must have the products in stock (optional)
+     * @param cursor     Continuation token returned by the previous page (omit for the first page)
+     * @param size       Requested page size (default 50, max 500)
+     * @return Page of matching products with the token for the next page, 400 if the terms are blank
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorPageModel<ProductModel>> searchProducts(
+            @RequestParam String q,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) UUID storeId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageModel<ProductModel> page = productService.searchProducts(q, minPrice, maxPrice, categoryId,
+                storeId, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Suggest product names for the text typed so far.
+     *
+     * @param prefix Text typed so far
+     * @param limit  Maximum number of suggestions (default 10, max 50)
+     * @return Product names starting with the prefix first, then names with a word starting with it
+     */
+    @GetMapping("/search/autocomplete")
+    public ResponseEntity<List<ProductSuggestionModel>> suggestProducts(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Integer limit) {
+        List<ProductSuggestionModel> suggestions = productService.suggestProducts(prefix, limit);
+        return ResponseEntity.ok(suggestions);
+    }
+
+    /**
+     * Checks a conditional request against the version of the products and the categories.
+     */
+    private boolean isNotModified(WebRequest request) {
+        return ConditionalRequests.checkNotModified(request,
+                catalogVersions.current(CatalogResource.PRODUCTS, CatalogResource.CATEGORIES));
+    }
 }
\ No newline at end of file
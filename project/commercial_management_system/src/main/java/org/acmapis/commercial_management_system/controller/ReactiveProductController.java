@@ -0,0 +1,58 @@
+package org.acmapis.commercial_management_system.controller;
+
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.service.ReactiveProductService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Reactive read-only REST Controller for products.
+ * Responses are streamed as newline-delimited JSON: each row is written as soon as R2DBC emits
+ * it, and the next row is requested only once the previous one was written to the client.
+ *
+ * @author Commercial Management System Team
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@RestController
+@RequestMapping(value = "/api/v2/products", produces = MediaType.APPLICATION_NDJSON_VALUE)
+@CrossOrigin(origins = "*")
+public class ReactiveProductController {
+
+    private final ReactiveProductService reactiveProductService;
+
+    @Autowired
+    public ReactiveProductController(ReactiveProductService reactiveProductService) {
+        this.reactiveProductService = reactiveProductService;
+    }
+
+    /**
+     * Stream the products within a specific price range, ordered by price.
+     *
+     * @param minPrice Minimum price (inclusive)
+     * @param maxPrice Maximum price (inclusive)
+     * @return Stream of products, without categories
+     */
+    @GetMapping("/search/by-price-range")
+    public Flux<ProductModel> getProductsByPriceRange(
+            @RequestParam Double minPrice,
+            @RequestParam Double maxPrice) {
+        return reactiveProductService.getProductsByPriceRange(minPrice, maxPrice);
+    }
+
+    /**
+     * Stream the inventory of a store: stock and address of each product, ordered by product name.
+     *
+     * @param storeId The store ID
+     * @return Stream of store products with their product
+     */
+    @GetMapping("/search/by-store-id")
+    public Flux<StoreProductModel> getStoreInventory(@RequestParam UUID storeId) {
+        return reactiveProductService.getStoreInventory(storeId);
+    }
+}
@@ -0,0 +1,80 @@
+package org.acmapis.commercial_management_system.controller;
+
+import org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel;
+import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.service.ReactiveSaleService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Reactive read-only REST Controller for user sale history and sales analytics.
+ * Responses are streamed as newline-delimited JSON (see {@link ReactiveProductController}).
+ *
+ * @author Commercial Management System Team
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@RestController
+@RequestMapping(value = "/api/v2/sales", produces = MediaType.APPLICATION_NDJSON_VALUE)
+@CrossOrigin(origins = "*")
+public class ReactiveSaleController {
+
+    private final ReactiveSaleService reactiveSaleService;
+
+    @Autowired
+    public ReactiveSaleController(ReactiveSaleService reactiveSaleService) {
+        this.reactiveSaleService = reactiveSaleService;
+    }
+
+    /**
+     * Stream the sales of a user in date order.
+     * A missing {@code from} means no lower bound and a missing {@code to} means today.
+     *
+     * @param userId The user ID to search for
+     * @param from   Optional first date of the range, inclusive (format: YYYY-MM-DD)
+     * @param to     Optional last date of the range, inclusive (format: YYYY-MM-DD)
+     * @return Stream of the user's sales, without the user
+     */
+    @GetMapping("/search/by-user-id")
+    public Flux<SaleModel> findByUserUserId(
+            @RequestParam UUID userId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to) {
+        return reactiveSaleService.getSalesByUserId(userId, from, to);
+    }
+
+    /**
+     * Stream the sales count and total amount of each day in a date range.
+     *
+     * @param from   The first date of the range, inclusive (format: YYYY-MM-DD)
+     * @param to     The last date of the range, inclusive (format: YYYY-MM-DD)
+     * @param cityId Optional city to restrict the totals to
+     * @return Stream of daily totals in ascending date order, omitting days without sales
+     */
+    @GetMapping("/analytics/daily")
+    public Flux<SaleDailyTotalModel> getDailyTotals(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(required = false) Long cityId) {
+        return reactiveSaleService.getDailySalesTotals(from, to, cityId);
+    }
+
+    /**
+     * Stream the sales count and total amount of each city over a date range.
+     *
+     * @param from The first date of the range, inclusive (format: YYYY-MM-DD)
+     * @param to   The last date of the range, inclusive (format: YYYY-MM-DD)
+     * @return Stream of city totals ordered by total amount descending
+     */
+    @GetMapping("/analytics/by-city")
+    public Flux<SaleDailyTotalModel> getCityTotals(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        return reactiveSaleService.getCitySalesTotals(from, to);
+    }
+}
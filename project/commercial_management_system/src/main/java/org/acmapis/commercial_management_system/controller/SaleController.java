@@ -1,12 +1,22 @@
 package org.acmapis.commercial_management_system.controller;
 
+import org.acmapis.commercial_management_system.model.dto.CheckoutModel;
+import org.acmapis.commercial_management_system.model.dto.CheckoutReceiptModel;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel;
 import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.model.dto.SaleRegionTotalModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.service.CheckoutService;
 import org.acmapis.commercial_management_system.service.SaleService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -27,22 +37,59 @@ public class SaleController {
 
     private final SaleService saleService;
 
+    private final CheckoutService checkoutService;
+
     @Autowired
-    public SaleController(SaleService saleService) {
+    public SaleController(SaleService saleService, CheckoutService checkoutService) {
         this.saleService = saleService;
+        this.checkoutService = checkoutService;
     }
 
     /**
      * Get all sales in the system.
      *
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of all sales
      */
     @GetMapping
-    public ResponseEntity<List<SaleModel>> getAllSales() {
-        List<SaleModel> sales = saleService.getAllSales();
+    public ResponseEntity<List<SaleModel>> getAllSales(
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<SaleModel> sales = saleService.getAllSales(fetchPlan);
         return ResponseEntity.ok(sales);
     }
 
+    /**
+     * Get one page of sales ordered by sale date using keyset pagination.
+     *
+     * @param cursor    Continuation token returned by the previous page (omit for the first page)
+     * @param size      Requested page size (default 50, max 500)
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
+     * @return Page of sales with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<SaleModel>> getSalesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        CursorPageModel<SaleModel> page = saleService.getSalesPage(cursor, size, fetchPlan);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Export all sales as newline-delimited JSON.
+     * The response is streamed while sales are read, so it starts immediately and
+     * uses constant memory regardless of the number of sales.
+     *
+     * @return Streaming body writing one sale per line
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportSales() {
+        StreamingResponseBody body = saleService::exportSales;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Get a specific sale by ID.
      *
@@ -68,6 +115,20 @@ public class SaleController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedSale);
     }
 
+    /**
+     * Check out a cart: records the sale, its product lines and the stock decrements atomically.
+     *
+     * @param checkout Cart with the store, the user and the product lines
+     * @return Receipt with the created sale and its lines with 201 status,
+     * 400 for an invalid cart, 404 for an unknown store or user or a product the store does not carry,
+     * or 409 when stock is insufficient
+     */
+    @PostMapping("/checkout")
+    public ResponseEntity<CheckoutReceiptModel> checkout(@RequestBody CheckoutModel checkout) {
+        CheckoutReceiptModel receipt = checkoutService.checkout(checkout);
+        return ResponseEntity.status(HttpStatus.CREATED).body(receipt);
+    }
+
     /**
      * Update an existing sale.
      *
@@ -99,12 +160,24 @@ public class SaleController {
     /**
      * Find sales by user ID.
      *
-     * @param userId The user ID to search for
+     * With {@code from} or {@code to}, only the sales of that date range are returned; a missing
+     * {@code from} means no lower bound and a missing {@code to} means today.
+     *
+     * @param userId    The user ID to search for
+     * @param from      Optional first date of the range, inclusive (format: YYYY-MM-DD)
+     * @param to        Optional last date of the range, inclusive (format: YYYY-MM-DD)
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of sales made by the specified user
      */
     @GetMapping("/search/by-user-id")
-    public ResponseEntity<List<SaleModel>> findByUserUserId(@RequestParam UUID userId) {
-        List<SaleModel> sales = saleService.getSalesByUserId(userId);
+    public ResponseEntity<List<SaleModel>> findByUserUserId(
+            @RequestParam UUID userId,
+            @RequestParam(required = false) LocalDate from,
+            @RequestParam(required = false) LocalDate to,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<SaleModel> sales = from == null && to == null
+                ? saleService.getSalesByUserId(userId, fetchPlan)
+                : saleService.getSalesByUserId(userId, from, to, fetchPlan);
         return ResponseEntity.ok(sales);
     }
 
@@ -112,23 +185,29 @@ public class SaleController {
      * Find sales by user's first name.
      *
      * @param firstName The user's first name to search for
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of sales made by users with the specified first name
      */
     @GetMapping("/search/by-user-firstname")
-    public ResponseEntity<List<SaleModel>> findByUserFirstName(@RequestParam String firstName) {
-        List<SaleModel> sales = saleService.getSalesByUserFirstName(firstName);
+    public ResponseEntity<List<SaleModel>> findByUserFirstName(
+            @RequestParam String firstName,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<SaleModel> sales = saleService.getSalesByUserFirstName(firstName, fetchPlan);
         return ResponseEntity.ok(sales);
     }
 
     /**
      * Find sales with total amount greater than the specified value.
      *
-     * @param amount The minimum total amount
+     * @param amount    The minimum total amount
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of sales with total amount greater than the specified value
      */
     @GetMapping("/search/by-min-total-amount")
-    public ResponseEntity<List<SaleModel>> findByTotalAmountAfter(@RequestParam Long amount) {
-        List<SaleModel> sales = saleService.getSalesWithAmountGreaterThan(amount);
+    public ResponseEntity<List<SaleModel>> findByTotalAmountAfter(
+            @RequestParam Long amount,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<SaleModel> sales = saleService.getSalesWithAmountGreaterThan(amount, fetchPlan);
         return ResponseEntity.ok(sales);
     }
 
@@ -136,14 +215,103 @@ public class SaleController {
 
     /**
      * Get total sales amount for a specific date.
+     * A date-time is also accepted for backward compatibility; only its date part is used.
      *
      * @param date The date to calculate totals for (format: YYYY-MM-DD)
      * @return Total amount of sales for the specified date
      */
     @GetMapping("/analytics/total-by-date")
     public ResponseEntity<Double> getTotalAmountBySaleDate(@RequestParam String date) {
-        LocalDateTime saleDate = LocalDateTime.parse(date);
-        Long totalAmount = saleService.getTotalSalesAmountByDate(saleDate);
+        LocalDate saleDay = date.length() > 10 ? LocalDateTime.parse(date).toLocalDate() : LocalDate.parse(date);
+        Long totalAmount = saleService.getTotalSalesAmountByDate(saleDay);
         return ResponseEntity.ok(totalAmount != null ? totalAmount : 0.0);
     }
+
+    /**
+     * Get the sales count and total amount of each day in a date range.
+     *
+     * @param from   The first date of the range, inclusive (format: YYYY-MM-DD)
+     * @param to     The last date of the range, inclusive (format: YYYY-MM-DD)
+     * @param cityId Optional city to restrict the totals to
+     * @return List of daily totals in ascending date order, omitting days without sales
+     */
+    @GetMapping("/analytics/daily")
+    public ResponseEntity<List<SaleDailyTotalModel>> getDailyTotals(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to,
+            @RequestParam(required = false) Long cityId) {
+        return ResponseEntity.ok(saleService.getDailySalesTotals(from, to, cityId));
+    }
+
+    /**
+     * Get the sales count and total amount of each city over a date range.
+     *
+     * @param from The first date of the range, inclusive (format: YYYY-MM-DD)
+     * @param to   The last date of the range, inclusive (format: YYYY-MM-DD)
+     * @return List of city totals ordered by total amount descending
+     */
+    @GetMapping("/analytics/by-city")
+    public ResponseEntity<List<SaleDailyTotalModel>> getCityTotals(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        return ResponseEntity.ok(saleService.getCitySalesTotals(from, to));
+    }
+
+    /**
+     * Get the sales count, total amount and units of each department over a date range.
+     * First level of the department, city and day drill-down.
+     *
+     * @param from The first date of the range, inclusive (format: YYYY-MM-DD)
+     * @param to   The last date of the range, inclusive (format: YYYY-MM-DD)
+     * @return List of department totals ordered by total amount descending
+     */
+    @GetMapping("/analytics/by-department")
+    public ResponseEntity<List<SaleRegionTotalModel>> getDepartmentTotals(
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        return ResponseEntity.ok(saleService.getDepartmentSalesTotals(from, to));
+    }
+
+    /**
+     * Get the sales count, total amount and units of each city of a department over a date range.
+     *
+     * @param departmentId The department to drill into
+     * @param from         The first date of the range, inclusive (format: YYYY-MM-DD)
+     * @param to           The last date of the range, inclusive (format: YYYY-MM-DD)
+     * @return List of city totals ordered by total amount descending
+     */
+    @GetMapping("/analytics/by-department/{departmentId}/cities")
+    public ResponseEntity<List<SaleRegionTotalModel>> getDepartmentCityTotals(
+            @PathVariable Long departmentId,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        return ResponseEntity.ok(saleService.getDepartmentCitySalesTotals(departmentId, from, to));
+    }
+
+    /**
+     * Get the sales count, total amount and units of each day of a city over a date range.
+     *
+     * @param cityId The city to drill into
+     * @param from   The first date of the range, inclusive (format: YYYY-MM-DD)
+     * @param to     The last date of the range, inclusive (format: YYYY-MM-DD)
+     * @return List of daily totals in ascending date order, omitting days without sales
+     */
+    @GetMapping("/analytics/by-city/{cityId}/daily")
+    public ResponseEntity<List<SaleRegionTotalModel>> getCityDailyTotals(
+            @PathVariable Long cityId,
+            @RequestParam LocalDate from,
+            @RequestParam LocalDate to) {
+        return ResponseEntity.ok(saleService.getCityDailySalesTotals(cityId, from, to));
+    }
+
+    /**
+     * Rebuild the daily sales rollup from the sale table.
+     * Needed only after sales were written without going through the API; sales may be written meanwhile.
+     *
+     * @return Number of rollup rows written
+     */
+    @PostMapping("/analytics/daily/rebuild")
+    public ResponseEntity<Integer> rebuildDailyRollup() {
+        return ResponseEntity.ok(saleService.rebuildDailySalesRollup());
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package org.acmapis.commercial_management_system.controller;
 
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.SaleProductModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
 import org.acmapis.commercial_management_system.service.SaleProductService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -35,14 +37,33 @@ public class SaleProductController {
     /**
      * Get all sale-product relationships in the system.
      *
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of all sale-product relationships
      */
     @GetMapping
-    public ResponseEntity<List<SaleProductModel>> getAllSaleProducts() {
-        List<SaleProductModel> saleProducts = saleProductService.getAllSaleProducts();
+    public ResponseEntity<List<SaleProductModel>> getAllSaleProducts(
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<SaleProductModel> saleProducts = saleProductService.getAllSaleProducts(fetchPlan);
         return ResponseEntity.ok(saleProducts);
     }
 
+    /**
+     * Get one page of sale-product relationships using keyset pagination.
+     *
+     * @param cursor    Continuation token returned by the previous page (omit for the first page)
+     * @param size      Requested page size (default 50, max 500)
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
+     * @return Page of sale-product relationships with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<SaleProductModel>> getSaleProductsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        CursorPageModel<SaleProductModel> page = saleProductService.getSaleProductsPage(cursor, size, fetchPlan);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get a specific sale-product relationship by ID.
      *
@@ -68,6 +89,19 @@ public class SaleProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedSaleProduct);
     }
 
+    /**
+     * Create several sale-product relationships in one request.
+     * The rows are inserted in a single transaction using JDBC batches (at most 1000 rows).
+     *
+     * @param saleProducts SaleProduct data to create
+     * @return Created sale-product relationships with 201 status, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<SaleProductModel>> createSaleProducts(@RequestBody List<SaleProductModel> saleProducts) {
+        List<SaleProductModel> savedSaleProducts = saleProductService.saveSaleProducts(saleProducts);
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedSaleProducts);
+    }
+
     /**
      * Update an existing sale-product relationship.
      *
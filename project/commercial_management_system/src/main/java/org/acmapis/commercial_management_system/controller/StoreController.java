@@ -1,8 +1,13 @@
 package org.acmapis.commercial_management_system.controller;
 
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.dto.StoreInventoryItemModel;
 import org.acmapis.commercial_management_system.model.dto.StoreModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.model.enums.InventorySort;
 import org.acmapis.commercial_management_system.service.StoreService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -34,14 +39,33 @@ public class StoreController {
     /**
      * Get all stores in the system.
      *
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of all stores
      */
     @GetMapping
-    public ResponseEntity<List<StoreModel>> getAllStores() {
-        List<StoreModel> stores = storeService.getAllStores();
+    public ResponseEntity<List<StoreModel>> getAllStores(
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<StoreModel> stores = storeService.getAllStores(fetchPlan);
         return ResponseEntity.ok(stores);
     }
 
+    /**
+     * Get one page of stores using keyset pagination.
+     *
+     * @param cursor    Continuation token returned by the previous page (omit for the first page)
+     * @param size      Requested page size (default 50, max 500)
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
+     * @return Page of stores with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<StoreModel>> getStoresPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        CursorPageModel<StoreModel> page = storeService.getStoresPage(cursor, size, fetchPlan);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get a specific store by ID.
      *
@@ -98,24 +122,60 @@ public class StoreController {
     /**
      * Find stores by city ID.
      *
-     * @param cityId The city ID to search for
+     * @param cityId    The city ID to search for
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of stores in the specified city
      */
     @GetMapping("/search/by-city-id")
-    public ResponseEntity<List<StoreModel>> findByCityId(@RequestParam Long cityId) {
-        List<StoreModel> stores = storeService.getStoresByCityId(cityId);
+    public ResponseEntity<List<StoreModel>> findByCityId(
+            @RequestParam Long cityId,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<StoreModel> stores = storeService.getStoresByCityId(cityId, fetchPlan);
         return ResponseEntity.ok(stores);
     }
 
     /**
      * Find stores by city name.
      *
-     * @param cityName The city name to search for
+     * @param cityName  The city name to search for
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of stores in the specified city
      */
     @GetMapping("/search/by-city-name")
-    public ResponseEntity<List<StoreModel>> findByCityName(@RequestParam String cityName) {
-        List<StoreModel> stores = storeService.getStoresByCityName(cityName);
+    public ResponseEntity<List<StoreModel>> findByCityName(
+            @RequestParam String cityName,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<StoreModel> stores = storeService.getStoresByCityName(cityName, fetchPlan);
         return ResponseEntity.ok(stores);
     }
-}
\ No newline at end of file
+
+    /**
+     * Get one page of the products available at a store, read from the store inventory.
+     *
+     * @param id          The store ID
+     * @param minPrice    Minimum price, inclusive (optional)
+     * @param maxPrice    Maximum price, inclusive (optional)
+     * @param categoryId  Category the products must belong to (optional)
+     * @param inStockOnly Whether only products with stock are listed (default false)
+     * @param sort        Order of the listing: NAME (default), PRICE or STOCK
+     * @param direction   Direction of the order: ASC (default) or DESC
+     * @param cursor      Continuation token returned by the previous page (omit for the first page)
+     * @param size        Requested page size (default 50, max 500)
+     * @return Page of inventory items with the token for the next page
+     */
+    @GetMapping("/{id}/inventory")
+    public ResponseEntity<CursorPageModel<StoreInventoryItemModel>> getStoreInventory(
+            @PathVariable UUID id,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "false") boolean inStockOnly,
+            @RequestParam(defaultValue = "NAME") InventorySort sort,
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageModel<StoreInventoryItemModel> page = storeService.getStoreInventory(id, minPrice, maxPrice,
+                categoryId, inStockOnly, sort, direction, cursor, size);
+        return ResponseEntity.ok(page);
+    }
+}
@@ -1,6 +1,9 @@
 package org.acmapis.commercial_management_system.controller;
 
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.dto.StockReservationModel;
 import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.service.StockReservationService;
 import org.acmapis.commercial_management_system.service.StoreProductService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -9,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * REST Controller for StoreProduct management operations.
@@ -27,9 +31,13 @@ public class StoreProductController {
 
     private final StoreProductService storeProductService;
 
+    private final StockReservationService stockReservationService;
+
     @Autowired
-    public StoreProductController(StoreProductService storeProductService) {
+    public StoreProductController(StoreProductService storeProductService,
+                                  StockReservationService stockReservationService) {
         this.storeProductService = storeProductService;
+        this.stockReservationService = stockReservationService;
     }
 
     /**
@@ -43,6 +51,21 @@ public class StoreProductController {
         return ResponseEntity.ok(storeProducts);
     }
 
+    /**
+     * Get one page of store-product relationships using keyset pagination.
+     *
+     * @param cursor Continuation token returned by the previous page (omit for the first page)
+     * @param size   Requested page size (default 50, max 500)
+     * @return Page of store-product relationships with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<StoreProductModel>> getStoreProductsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageModel<StoreProductModel> page = storeProductService.getStoreProductsPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get a specific store-product relationship by ID.
      *
@@ -68,12 +91,50 @@ public class StoreProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(savedStoreProduct);
     }
 
+    /**
+     * Create several store-product relationships in one request.
+     * The rows are inserted in a single transaction using JDBC batches (at most 1000 rows).
+     *
+     * @param storeProducts StoreProduct data to create
+     * @return Created store-product relationships with 201 status, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<StoreProductModel>> createStoreProducts(@RequestBody List<StoreProductModel> storeProducts) {
+        List<StoreProductModel> savedStoreProducts = storeProductService.saveStoreProducts(storeProducts);
+        return ResponseEntity.status(HttpStatus.CREATED).body(savedStoreProducts);
+    }
+
+    /**
+     * Reserve stock of a product in a store.
+     *
+     * @param reservation Store, product and quantity to reserve
+     * @return Recorded reservation with its ID and 201 status, 409 Conflict if the stock is insufficient
+     */
+    @PostMapping("/reservations")
+    public ResponseEntity<StockReservationModel> reserveStock(@RequestBody StockReservationModel reservation) {
+        StockReservationModel recordedReservation = stockReservationService.reserve(reservation);
+        return ResponseEntity.status(HttpStatus.CREATED).body(recordedReservation);
+    }
+
+    /**
+     * Release a reservation, giving its stock back to the store.
+     * Releasing an already released reservation gives nothing back.
+     *
+     * @param reservationId The reservation ID returned when the stock was reserved
+     * @return Released reservation, 404 if it does not exist
+     */
+    @PostMapping("/reservations/{reservationId}/release")
+    public ResponseEntity<StockReservationModel> releaseStock(@PathVariable UUID reservationId) {
+        return ResponseEntity.ok(stockReservationService.release(reservationId));
+    }
+
     /**
      * Update an existing store-product relationship.
+     * Send the version read from the relationship to reject the update if it changed meanwhile.
      *
      * @param id           The store-product relationship ID to update
      * @param storeProduct Updated store-product data
-     * @return Updated store-product relationship
+     * @return Updated store-product relationship, 409 if it was modified concurrently
      */
     @PutMapping("/{id}")
     public ResponseEntity<StoreProductModel> updateStoreProduct(@PathVariable Long id, @RequestBody StoreProductModel storeProduct) {
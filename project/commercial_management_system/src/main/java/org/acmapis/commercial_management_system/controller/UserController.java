@@ -1,6 +1,8 @@
 package org.acmapis.commercial_management_system.controller;
 
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.UserModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
 import org.acmapis.commercial_management_system.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -34,14 +36,33 @@ public class UserController {
     /**
      * Get all users in the system.
      *
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of all users
      */
     @GetMapping
-    public ResponseEntity<List<UserModel>> getAllUsers() {
-        List<UserModel> users = userService.getAllUsers();
+    public ResponseEntity<List<UserModel>> getAllUsers(
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<UserModel> users = userService.getAllUsers(fetchPlan);
         return ResponseEntity.ok(users);
     }
 
+    /**
+     * Get one page of users using keyset pagination.
+     *
+     * @param cursor    Continuation token returned by the previous page (omit for the first page)
+     * @param size      Requested page size (default 50, max 500)
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
+     * @return Page of users with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<UserModel>> getUsersPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        CursorPageModel<UserModel> page = userService.getUsersPage(cursor, size, fetchPlan);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get a specific user by ID.
      *
@@ -98,36 +119,45 @@ public class UserController {
     /**
      * Search users by last name (case-insensitive).
      *
-     * @param lastName The last name to search for
+     * @param lastName  The last name to search for
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of users with matching last name
      */
     @GetMapping("/search/by-lastname")
-    public ResponseEntity<List<UserModel>> getUsersByLastName(@RequestParam String lastName) {
-        List<UserModel> users = userService.getUsersByLastName(lastName);
+    public ResponseEntity<List<UserModel>> getUsersByLastName(
+            @RequestParam String lastName,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<UserModel> users = userService.getUsersByLastName(lastName, fetchPlan);
         return ResponseEntity.ok(users);
     }
 
     /**
      * Get users by city ID.
      *
-     * @param cityId The city ID
+     * @param cityId    The city ID
+     * @param fetchPlan Association loading strategy: GRAPH (default), DEFAULT or PROJECTION
      * @return List of users in the specified city
      */
     @GetMapping("/search/by-city")
-    public ResponseEntity<List<UserModel>> getUsersByCityId(@RequestParam Long cityId) {
-        List<UserModel> users = userService.getUsersByCityId(cityId);
+    public ResponseEntity<List<UserModel>> getUsersByCityId(
+            @RequestParam Long cityId,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<UserModel> users = userService.getUsersByCityId(cityId, fetchPlan);
         return ResponseEntity.ok(users);
     }
 
     /**
      * Get users by city name.
      *
-     * @param cityName The city name
+     * @param cityName  The city name
+     * @param fetchPlan Association loading strategy: GRAPH (default), DEFAULT or PROJECTION
      * @return List of users in the specified city
      */
     @GetMapping("/search/by-city-name")
-    public ResponseEntity<List<UserModel>> getUsersByCityName(@RequestParam String cityName) {
-        List<UserModel> users = userService.getUsersByCityName(cityName);
+    public ResponseEntity<List<UserModel>> getUsersByCityName(
+            @RequestParam String cityName,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<UserModel> users = userService.getUsersByCityName(cityName, fetchPlan);
         return ResponseEntity.ok(users);
     }
 
@@ -135,23 +165,29 @@ public class UserController {
      * Get users by department name.
      *
      * @param departmentName The department name
+     * @param fetchPlan      Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of users in cities within the specified department
      */
     @GetMapping("/search/by-department")
-    public ResponseEntity<List<UserModel>> getUsersByDepartmentName(@RequestParam String departmentName) {
-        List<UserModel> users = userService.getUsersByDepartmentName(departmentName);
+    public ResponseEntity<List<UserModel>> getUsersByDepartmentName(
+            @RequestParam String departmentName,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<UserModel> users = userService.getUsersByDepartmentName(departmentName, fetchPlan);
         return ResponseEntity.ok(users);
     }
 
     /**
      * Search users by first name pattern (supports SQL LIKE wildcards).
      *
-     * @param pattern The first name pattern (e.g., "jo%", "%an%")
+     * @param pattern   The first name pattern (e.g., "jo%", "%an%")
+     * @param fetchPlan Association loading strategy: GRAPH (default) or DEFAULT
      * @return List of users matching the pattern
      */
     @GetMapping("/search/by-firstname-pattern")
-    public ResponseEntity<List<UserModel>> getUsersByFirstNamePattern(@RequestParam String pattern) {
-        List<UserModel> users = userService.getUsersByFirstNamePattern(pattern);
+    public ResponseEntity<List<UserModel>> getUsersByFirstNamePattern(
+            @RequestParam String pattern,
+            @RequestParam(defaultValue = "GRAPH") FetchPlan fetchPlan) {
+        List<UserModel> users = userService.getUsersByFirstNamePattern(pattern, fetchPlan);
         return ResponseEntity.ok(users);
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.acmapis.commercial_management_system.controller;
 
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.UserRoleModel;
 import org.acmapis.commercial_management_system.service.UserRoleService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +42,21 @@ public class UserRoleController {
         return ResponseEntity.ok(userRoles);
     }
 
+    /**
+     * Get one page of user roles using keyset pagination.
+     *
+     * @param cursor Continuation token returned by the previous page (omit for the first page)
+     * @param size   Requested page size (default 50, max 500)
+     * @return Page of user roles with the token for the next page
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageModel<UserRoleModel>> getUserRolesPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageModel<UserRoleModel> page = userRoleService.getUserRolesPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Get a specific user role by ID.
      *
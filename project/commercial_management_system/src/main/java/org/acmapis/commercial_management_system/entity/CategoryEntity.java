@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Entity representing a product category in the commercial management system.
@@ -15,6 +18,8 @@ import lombok.Setter;
  * @since 2025-11-19
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "category")
 @Getter
 @Setter
@@ -23,10 +28,12 @@ import lombok.Setter;
 public class CategoryEntity {
     /**
      * Unique identifier for the category.
-     * Auto-generated using database identity strategy.
+     * Allocated in blocks from the category_seq sequence, see {@link SequenceAllocation}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "category_seq")
+    @SequenceGenerator(name = "category_seq", sequenceName = "category_seq", allocationSize = SequenceAllocation.ALLOCATION_SIZE)
+    @ColumnDefault("nextval('category_seq')")
     @Column(name = "category_id")
     private Long categoryId;
 
@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Entity representing a city in the commercial management system.
@@ -16,6 +19,8 @@ import lombok.Setter;
  * @since 2025-11-19
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "city")
 @Getter
 @Setter
@@ -24,10 +29,12 @@ import lombok.Setter;
 public class CityEntity {
     /**
      * Unique identifier for the city.
-     * Auto-generated using database identity strategy.
+     * Allocated in blocks from the city_seq sequence, see {@link SequenceAllocation}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "city_seq")
+    @SequenceGenerator(name = "city_seq", sequenceName = "city_seq", allocationSize = SequenceAllocation.ALLOCATION_SIZE)
+    @ColumnDefault("nextval('city_seq')")
     @Column(name = "city_id")
     private Long cityId;
 
@@ -42,7 +49,7 @@ public class CityEntity {
      * Department to which this city belongs.
      * Represents a many-to-one relationship with the department entity.
      */
-    @ManyToOne
+    @ManyToOne(optional = false)
     @JoinColumn(name = "department_id_fk", nullable = false)
     private DepartmentEntity department;
 }
@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Entity representing a department (state/province) in the commercial management system.
@@ -15,6 +18,8 @@ import lombok.Setter;
  * @since 2025-11-19
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "department")
 @Getter
 @Setter
@@ -23,10 +28,12 @@ import lombok.Setter;
 public class DepartmentEntity {
     /**
      * Unique identifier for the department.
-     * Auto-generated using database identity strategy.
+     * Allocated in blocks from the department_seq sequence, see {@link SequenceAllocation}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "department_seq")
+    @SequenceGenerator(name = "department_seq", sequenceName = "department_seq", allocationSize = SequenceAllocation.ALLOCATION_SIZE)
+    @ColumnDefault("nextval('department_seq')")
     @Column(name = "department_id")
     private Long departmentId;
 
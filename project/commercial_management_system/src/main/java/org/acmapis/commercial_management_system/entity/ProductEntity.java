@@ -2,6 +2,7 @@ package org.acmapis.commercial_management_system.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.acmapis.commercial_management_system.utils.id.TimeOrderedUuid;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -13,6 +14,7 @@ import java.util.UUID;
  * Entity representing a product in the commercial management system.
  * Products are the main items for sale and can be associated with multiple categories,
  * stored in different stores, and included in sales transactions.
+ * The {@code ProductEntity.categories} graph loads the categories with the product.
  *
  * @author Commercial Management System
  * @version 1.0
@@ -20,6 +22,10 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "product")
+@NamedEntityGraph(
+        name = "ProductEntity.categories",
+        attributeNodes = @NamedAttributeNode("categories")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -28,10 +34,10 @@ import java.util.UUID;
 public class ProductEntity {
     /**
      * Unique identifier for the product.
-     * Auto-generated using UUID strategy for global uniqueness.
+     * Generated as a time-ordered UUID, so new rows are appended to the primary key index.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "product_id")
     private UUID productId;
 
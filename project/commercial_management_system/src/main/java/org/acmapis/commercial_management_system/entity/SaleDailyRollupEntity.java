@@ -0,0 +1,75 @@
+package org.acmapis.commercial_management_system.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Entity representing the pre-aggregated sales of one day in one city.
+ * Rows are maintained incrementally by the service layer on every sale and sale line insert, update
+ * and delete, so daily analytics read one row per day and city instead of scanning the sale table.
+ * Each row also carries the department of its city, so totals by department need no join.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Entity
+@Table(name = "sale_daily_rollup", uniqueConstraints = @UniqueConstraint(
+        name = "uk_sale_daily_rollup_day_city", columnNames = {"sale_day", "city_id_fk"}))
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SaleDailyRollupEntity {
+    /**
+     * Unique identifier for the rollup row.
+     * Auto-generated using database identity strategy.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "sale_daily_rollup_id")
+    private Long id;
+
+    /**
+     * Calendar day of the aggregated sales.
+     */
+    @Column(name = "sale_day", nullable = false)
+    private LocalDate saleDay;
+
+    /**
+     * City of the users who made the aggregated sales.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "city_id_fk", nullable = false)
+    private CityEntity city;
+
+    /**
+     * Department of the city, copied so totals by department read the rollup alone.
+     */
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "department_id_fk", nullable = false)
+    private DepartmentEntity department;
+
+    /**
+     * Number of sales made on the day in the city.
+     */
+    @Column(name = "sale_count", nullable = false)
+    private Long saleCount;
+
+    /**
+     * Sum of the total amounts of the sales made on the day in the city.
+     */
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    /**
+     * Sum of the quantities of the lines of the sales made on the day in the city.
+     */
+    @Column(name = "units", nullable = false)
+    private Long units;
+}
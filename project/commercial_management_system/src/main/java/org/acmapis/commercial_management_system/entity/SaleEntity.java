@@ -2,6 +2,7 @@ package org.acmapis.commercial_management_system.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.acmapis.commercial_management_system.utils.id.TimeOrderedUuid;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -10,6 +11,7 @@ import java.util.UUID;
 /**
  * Entity representing a sale transaction in the commercial management system.
  * Sales capture transaction details including date, total amount, and the associated user.
+ * The {@code SaleEntity.detail} graph loads the user with its role, city and department.
  *
  * @author Commercial Management System
  * @version 1.0
@@ -17,6 +19,17 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "sale")
+@NamedEntityGraph(
+        name = "SaleEntity.detail",
+        attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user"),
+        subgraphs = {
+                @NamedSubgraph(name = "user", attributeNodes = {
+                        @NamedAttributeNode("role"),
+                        @NamedAttributeNode(value = "city", subgraph = "city")
+                }),
+                @NamedSubgraph(name = "city", attributeNodes = @NamedAttributeNode("department"))
+        }
+)
 @Getter
 @Setter
 @Builder
@@ -25,10 +38,10 @@ import java.util.UUID;
 public class SaleEntity {
     /**
      * Unique identifier for the sale.
-     * Auto-generated using UUID strategy for global uniqueness.
+     * Generated as a time-ordered UUID, so new rows are appended to the primary key index.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "sale_id")
     private UUID saleId;
 
@@ -51,7 +64,7 @@ public class SaleEntity {
      * User who made the purchase.
      * Represents a many-to-one relationship with the user entity.
      */
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(cascade = CascadeType.PERSIST, optional = false)
     @JoinColumn(name = "user_id_fk", nullable = false)
     private UserEntity user;
 }
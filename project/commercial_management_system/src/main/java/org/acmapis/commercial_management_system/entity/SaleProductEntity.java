@@ -5,11 +5,17 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.acmapis.commercial_management_system.utils.partition.SaleDateOfSale;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
 
 /**
  * Entity representing the junction table between sales and products.
  * This entity manages the many-to-many relationship between sales and products,
  * including quantity and price information for each product in a sale.
+ * The {@code SaleProductEntity.detail} graph loads the sale with its user hierarchy and the product;
+ * product categories are loaded separately to keep paginated queries free of collection joins.
  *
  * @author Commercial Management System
  * @version 1.0
@@ -17,6 +23,21 @@ import lombok.Setter;
  */
 @Entity
 @Table(name = "sale_product")
+@NamedEntityGraph(
+        name = "SaleProductEntity.detail",
+        attributeNodes = {
+                @NamedAttributeNode(value = "sale", subgraph = "sale"),
+                @NamedAttributeNode("product")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "sale", attributeNodes = @NamedAttributeNode(value = "user", subgraph = "user")),
+                @NamedSubgraph(name = "user", attributeNodes = {
+                        @NamedAttributeNode("role"),
+                        @NamedAttributeNode(value = "city", subgraph = "city")
+                }),
+                @NamedSubgraph(name = "city", attributeNodes = @NamedAttributeNode("department"))
+        }
+)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -24,10 +45,12 @@ import lombok.Setter;
 public class SaleProductEntity {
     /**
      * Unique identifier for the sale-product relationship.
-     * Auto-generated using database identity strategy.
+     * Allocated in blocks from the sale_product_seq sequence, see {@link SequenceAllocation}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sale_product_seq")
+    @SequenceGenerator(name = "sale_product_seq", sequenceName = "sale_product_seq", allocationSize = SequenceAllocation.ALLOCATION_SIZE)
+    @ColumnDefault("nextval('sale_product_seq')")
     @Column(name = "sale_product_id")
     private Long saleProductId;
 
@@ -42,7 +65,7 @@ public class SaleProductEntity {
      * Sale transaction that includes this product.
      * Represents the many-to-one relationship with the sale entity.
      */
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(cascade = CascadeType.PERSIST, optional = false)
     @JoinColumn(name = "sale_id_fk", nullable = false)
     private SaleEntity sale;
 
@@ -50,8 +73,16 @@ public class SaleProductEntity {
      * Product that was sold in this transaction.
      * Represents the many-to-one relationship with the product entity.
      */
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(cascade = CascadeType.PERSIST, optional = false)
     @JoinColumn(name = "product_id_fk", nullable = false)
     private ProductEntity product;
 
+    /**
+     * Date of the sale, copied from the sale on every write.
+     * Partition key of the table on PostgreSQL, so a sale and its lines share the same month.
+     */
+    @SaleDateOfSale
+    @Column(name = "sale_date", nullable = false)
+    private LocalDateTime saleDate;
+
 }
@@ -0,0 +1,28 @@
+package org.acmapis.commercial_management_system.entity;
+
+/**
+ * Identifier allocation shared by the entities with numeric keys.
+ * <p>
+ * Identity columns force Hibernate to execute every insert on its own to read back the key,
+ * which disables JDBC batching. These entities draw their keys from a database sequence instead:
+ * with the {@code pooled-lo} optimizer one {@code nextval} call reserves a block of
+ * {@link #ALLOCATION_SIZE} identifiers, so inserts of many rows are grouped into batches.
+ * Each key column also defaults to {@code nextval} of its sequence, so SQL inserts that omit the
+ * key (such as the demo data migration) keep working; they consume a whole block per row and never
+ * collide with the blocks held by the application. The sequences are created by the Flyway
+ * baseline migration with this same increment.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+final class SequenceAllocation {
+
+    /**
+     * Number of identifiers reserved per sequence call; also the increment of every sequence.
+     */
+    static final int ALLOCATION_SIZE = 50;
+
+    private SequenceAllocation() {
+    }
+}
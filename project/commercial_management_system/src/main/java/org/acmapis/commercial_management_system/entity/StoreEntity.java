@@ -5,12 +5,14 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.acmapis.commercial_management_system.utils.id.TimeOrderedUuid;
 
 import java.util.UUID;
 
 /**
  * Entity representing a physical or virtual store in the commercial management system.
  * Stores are locations where products are sold and are associated with specific cities.
+ * The {@code StoreEntity.detail} graph loads the city with its department.
  *
  * @author Commercial Management System
  * @version 1.0
@@ -18,6 +20,11 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "store")
+@NamedEntityGraph(
+        name = "StoreEntity.detail",
+        attributeNodes = @NamedAttributeNode(value = "city", subgraph = "city"),
+        subgraphs = @NamedSubgraph(name = "city", attributeNodes = @NamedAttributeNode("department"))
+)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -25,10 +32,10 @@ import java.util.UUID;
 public class StoreEntity {
     /**
      * Unique identifier for the store.
-     * Auto-generated using UUID strategy for global uniqueness.
+     * Generated as a time-ordered UUID, so new rows are appended to the primary key index.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "store_id")
     private UUID storeId;
 
@@ -43,7 +50,7 @@ public class StoreEntity {
      * City where the store is located.
      * Represents a many-to-one relationship with the city entity.
      */
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(cascade = CascadeType.PERSIST, optional = false)
     @JoinColumn(name = "city_id_fk", nullable = false)
     private CityEntity city;
 }
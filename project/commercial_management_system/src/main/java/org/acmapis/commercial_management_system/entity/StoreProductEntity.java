@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Entity representing the inventory relationship between stores and products.
@@ -15,7 +16,8 @@ import lombok.Setter;
  * @since 2025-11-19
  */
 @Entity
-@Table(name = "store_product")
+@Table(name = "store_product", uniqueConstraints = @UniqueConstraint(
+        name = "uk_store_product_store_product", columnNames = {"store_id_fk", "product_id_fk"}))
 @Getter
 @Setter
 @AllArgsConstructor
@@ -23,10 +25,12 @@ import lombok.Setter;
 public class StoreProductEntity {
     /**
      * Unique identifier for the store-product relationship.
-     * Auto-generated using database identity strategy.
+     * Allocated in blocks from the store_product_seq sequence, see {@link SequenceAllocation}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_product_seq")
+    @SequenceGenerator(name = "store_product_seq", sequenceName = "store_product_seq", allocationSize = SequenceAllocation.ALLOCATION_SIZE)
+    @ColumnDefault("nextval('store_product_seq')")
     @Column(name = "store_product_id")
     private Long id;
 
@@ -48,7 +52,7 @@ public class StoreProductEntity {
      * Store where the product is located.
      * Represents a many-to-one relationship with the store entity.
      */
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(cascade = CascadeType.PERSIST, optional = false)
     @JoinColumn(name = "store_id_fk", nullable = false)
     private StoreEntity store;
 
@@ -56,7 +60,17 @@ public class StoreProductEntity {
      * Product that is stored in this store.
      * Represents a many-to-one relationship with the product entity.
      */
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(cascade = CascadeType.PERSIST, optional = false)
     @JoinColumn(name = "product_id_fk", nullable = false)
     private ProductEntity product;
+
+    /**
+     * Version of the inventory row used for optimistic concurrency control.
+     * Incremented by Hibernate on entity updates and by the atomic stock statements,
+     * so an update based on a stale read is rejected instead of overwriting the stock.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
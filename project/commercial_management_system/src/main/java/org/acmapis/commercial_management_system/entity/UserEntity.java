@@ -2,6 +2,7 @@ package org.acmapis.commercial_management_system.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.acmapis.commercial_management_system.utils.id.TimeOrderedUuid;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
@@ -11,6 +12,7 @@ import java.util.UUID;
  * Entity representing a user in the commercial management system.
  * Users are customers or employees who can make purchases and interact with the system.
  * Each user belongs to a specific city and has an assigned role.
+ * The {@code UserEntity.detail} graph loads the role and the city with its department.
  *
  * @author Commercial Management System
  * @version 1.0
@@ -18,6 +20,14 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "users")
+@NamedEntityGraph(
+        name = "UserEntity.detail",
+        attributeNodes = {
+                @NamedAttributeNode("role"),
+                @NamedAttributeNode(value = "city", subgraph = "city")
+        },
+        subgraphs = @NamedSubgraph(name = "city", attributeNodes = @NamedAttributeNode("department"))
+)
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
@@ -26,10 +36,10 @@ import java.util.UUID;
 public class UserEntity {
     /**
      * Unique identifier for the user.
-     * Auto-generated using UUID strategy for global uniqueness.
+     * Generated as a time-ordered UUID, so new rows are appended to the primary key index.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     @Column(name = "user_id")
     private UUID userId;
 
@@ -87,7 +97,7 @@ public class UserEntity {
      * Role assigned to this user defining their permissions in the system.
      * Represents a many-to-one relationship with the user role entity.
      */
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(cascade = CascadeType.PERSIST, optional = false)
     @JoinColumn(name = "role_id_fk", nullable = false)
     private UserRoleEntity role;
 
@@ -95,7 +105,7 @@ public class UserEntity {
      * City where the user is located.
      * Represents a many-to-one relationship with the city entity.
      */
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(cascade = CascadeType.PERSIST, optional = false)
     @JoinColumn(name = "city_id_fk", nullable = false)
     private CityEntity city;
 }
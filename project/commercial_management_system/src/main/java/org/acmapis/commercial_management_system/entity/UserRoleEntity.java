@@ -7,6 +7,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Entity representing user roles in the commercial management system.
@@ -21,14 +24,18 @@ import org.acmapis.commercial_management_system.model.enums.UserRole;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "user_role")
 public class UserRoleEntity {
     /**
      * Unique identifier for the user role.
-     * Auto-generated using database identity strategy.
+     * Allocated in blocks from the user_role_seq sequence, see {@link SequenceAllocation}.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_role_seq")
+    @SequenceGenerator(name = "user_role_seq", sequenceName = "user_role_seq", allocationSize = SequenceAllocation.ALLOCATION_SIZE)
+    @ColumnDefault("nextval('user_role_seq')")
     @Column(name = "user_role_id")
     private Long userRoleId;
 
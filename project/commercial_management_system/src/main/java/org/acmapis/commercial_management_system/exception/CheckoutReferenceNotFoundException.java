@@ -0,0 +1,20 @@
+package org.acmapis.commercial_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a checkout refers to a store or user that does not exist,
+ * or to a product the store does not carry.
+ * Mapped to a 404 Not Found response.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class CheckoutReferenceNotFoundException extends RuntimeException {
+    public CheckoutReferenceNotFoundException(String message) {
+        super(message);
+    }
+}
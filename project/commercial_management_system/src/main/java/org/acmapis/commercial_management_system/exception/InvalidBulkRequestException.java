@@ -0,0 +1,19 @@
+package org.acmapis.commercial_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a bulk-create request is empty, too large or contains incomplete rows.
+ * Mapped to a 400 Bad Request response.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidBulkRequestException extends RuntimeException {
+    public InvalidBulkRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package org.acmapis.commercial_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a checkout request is incomplete or inconsistent.
+ * Mapped to a 400 Bad Request response.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCheckoutException extends RuntimeException {
+    public InvalidCheckoutException(String message) {
+        super(message);
+    }
+}
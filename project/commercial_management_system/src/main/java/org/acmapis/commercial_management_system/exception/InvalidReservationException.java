@@ -0,0 +1,19 @@
+package org.acmapis.commercial_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a stock reservation request is incomplete or its quantity is not positive.
+ * Mapped to a 400 Bad Request response.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidReservationException extends RuntimeException {
+    public InvalidReservationException(String message) {
+        super(message);
+    }
+}
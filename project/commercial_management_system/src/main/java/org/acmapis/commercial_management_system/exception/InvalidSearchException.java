@@ -0,0 +1,19 @@
+package org.acmapis.commercial_management_system.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when the terms of a product search or autocomplete request are blank or too long.
+ * Mapped to a 400 Bad Request response.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSearchException extends RuntimeException {
+    public InvalidSearchException(String message) {
+        super(message);
+    }
+}
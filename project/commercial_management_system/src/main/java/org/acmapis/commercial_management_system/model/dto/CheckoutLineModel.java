@@ -0,0 +1,43 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Model class representing one product line of a checkout.
+ * Clients send the product and quantity; the unit price and sale-product ID are filled in the receipt.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CheckoutLineModel implements Serializable {
+    /**
+     * Product being purchased.
+     */
+    private UUID productId;
+
+    /**
+     * Quantity of the product being purchased. Must be positive.
+     */
+    private Long quantity;
+
+    /**
+     * Unit price charged for the product. Populated in the checkout receipt.
+     */
+    private Double unitPrice;
+
+    /**
+     * Identifier of the recorded sale-product line. Populated in the checkout receipt.
+     */
+    private Long saleProductId;
+}
@@ -0,0 +1,39 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Model class representing a shopping cart submitted for checkout.
+ * A checkout records the sale, its product lines and the stock decrements in a single transaction.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CheckoutModel implements Serializable {
+    /**
+     * Store where the purchase takes place and whose stock is decremented.
+     */
+    private UUID storeId;
+
+    /**
+     * User who makes the purchase.
+     */
+    private UUID userId;
+
+    /**
+     * Product lines of the cart.
+     */
+    private List<CheckoutLineModel> lines;
+}
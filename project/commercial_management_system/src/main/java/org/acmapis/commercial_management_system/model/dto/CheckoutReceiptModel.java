@@ -0,0 +1,32 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Model class representing the result of a successful checkout.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class CheckoutReceiptModel implements Serializable {
+    /**
+     * Sale recorded for the checkout, including the computed total amount.
+     */
+    private SaleModel sale;
+
+    /**
+     * Product lines recorded for the sale.
+     */
+    private List<CheckoutLineModel> lines;
+}
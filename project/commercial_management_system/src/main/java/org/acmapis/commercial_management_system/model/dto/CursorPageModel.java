@@ -0,0 +1,42 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Model class representing one page of a keyset-paginated collection.
+ * The continuation token is opaque to clients and must be sent back unchanged to fetch the next page.
+ *
+ * @param <T> the type of the items contained in the page
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageModel<T> implements Serializable {
+    /**
+     * Items of the current page, in stable key order.
+     */
+    private List<T> items;
+
+    /**
+     * Opaque continuation token for the next page, or null when this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Number of items contained in this page.
+     */
+    private int size;
+
+    /**
+     * Whether more items are available after this page.
+     */
+    private boolean hasNext;
+}
@@ -0,0 +1,52 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Model class representing the result of a product catalog import.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductImportReportModel implements Serializable {
+    /**
+     * Number of products created.
+     */
+    private long created;
+
+    /**
+     * Number of products updated.
+     */
+    private long updated;
+
+    /**
+     * Number of rows equal to the stored product.
+     */
+    private long unchanged;
+
+    /**
+     * Number of rows superseded by a later row with the same product ID.
+     */
+    private long superseded;
+
+    /**
+     * Number of rows rejected.
+     */
+    private long rejected;
+
+    /**
+     * Rejected and superseded rows, in request order; the other rows are only counted.
+     */
+    private List<ProductImportRowModel> rows;
+}
@@ -0,0 +1,43 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.acmapis.commercial_management_system.model.enums.ProductImportStatus;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Model class representing the outcome of one row of a product catalog import.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductImportRowModel implements Serializable {
+    /**
+     * Position of the row in the request, starting at 1 (the CSV header is not counted).
+     */
+    private int row;
+
+    /**
+     * Identifier of the product written by the row, or given by a rejected row.
+     */
+    private UUID productId;
+
+    /**
+     * Outcome of the row.
+     */
+    private ProductImportStatus status;
+
+    /**
+     * Reason a row was rejected, null otherwise.
+     */
+    private String message;
+}
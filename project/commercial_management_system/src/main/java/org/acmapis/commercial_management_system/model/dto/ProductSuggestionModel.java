@@ -0,0 +1,30 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Model class representing a product name proposed by the search autocomplete.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductSuggestionModel implements Serializable {
+    /**
+     * Unique identifier of the suggested product.
+     */
+    private UUID productId;
+
+    /**
+     * Name of the suggested product.
+     */
+    private String productName;
+}
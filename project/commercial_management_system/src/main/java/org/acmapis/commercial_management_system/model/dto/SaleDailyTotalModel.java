@@ -0,0 +1,42 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Model class representing the aggregated sales of one day, optionally restricted to one city.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SaleDailyTotalModel implements Serializable {
+    /**
+     * Calendar day of the aggregated sales.
+     */
+    private LocalDate saleDate;
+
+    /**
+     * City of the aggregated sales, or null when the totals cover every city.
+     */
+    private Long cityId;
+
+    /**
+     * Number of sales made on the day.
+     */
+    private Long saleCount;
+
+    /**
+     * Sum of the total amounts of the sales made on the day.
+     */
+    private Long totalAmount;
+}
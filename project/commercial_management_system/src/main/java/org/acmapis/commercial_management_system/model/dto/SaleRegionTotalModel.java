@@ -0,0 +1,53 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Model class representing the aggregated sales of one level of the department, city and day
+ * drill-down. Fields below the level of the totals are null.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class SaleRegionTotalModel implements Serializable {
+    /**
+     * Department of the aggregated sales.
+     */
+    private Long departmentId;
+
+    /**
+     * City of the aggregated sales, or null when the totals cover the whole department.
+     */
+    private Long cityId;
+
+    /**
+     * Calendar day of the aggregated sales, or null when the totals cover the whole range.
+     */
+    private LocalDate saleDate;
+
+    /**
+     * Number of sales.
+     */
+    private Long saleCount;
+
+    /**
+     * Sum of the total amounts of the sales.
+     */
+    private Long totalAmount;
+
+    /**
+     * Sum of the quantities of the lines of the sales.
+     */
+    private Long units;
+}
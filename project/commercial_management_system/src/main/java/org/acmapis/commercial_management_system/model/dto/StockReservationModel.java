@@ -0,0 +1,48 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.acmapis.commercial_management_system.model.enums.StockReservationStatus;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Model class representing a stock reservation of a product in a store.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StockReservationModel implements Serializable {
+    /**
+     * Unique identifier of the reservation, assigned when it is made and used to release it.
+     */
+    private UUID reservationId;
+
+    /**
+     * Store holding the stock.
+     */
+    private UUID storeId;
+
+    /**
+     * Product whose stock is reserved.
+     */
+    private UUID productId;
+
+    /**
+     * Quantity reserved. Must be positive.
+     */
+    private Long quantity;
+
+    /**
+     * Whether the reservation still holds its stock, assigned by the service.
+     */
+    private StockReservationStatus status;
+}
@@ -0,0 +1,68 @@
+package org.acmapis.commercial_management_system.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Model class representing a product available at a store, as listed by the store inventory.
+ * Combines the stock row of the store with the product data it refers to, read from the
+ * denormalized {@code store_inventory} table.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StoreInventoryItemModel implements Serializable {
+    /**
+     * Unique identifier of the store-product relationship.
+     */
+    private Long id;
+
+    /**
+     * Current stock quantity of the product in the store.
+     */
+    private Long stock;
+
+    /**
+     * Physical address or location within the store where the product is stored.
+     */
+    private String address;
+
+    /**
+     * Version of the store-product relationship, accepted by its update endpoint.
+     */
+    private Long version;
+
+    /**
+     * Unique identifier of the product.
+     */
+    private UUID productId;
+
+    /**
+     * Name of the product.
+     */
+    private String productName;
+
+    /**
+     * Description of the product.
+     */
+    private String productDescription;
+
+    /**
+     * Price of the product.
+     */
+    private Double price;
+
+    /**
+     * Categories of the product.
+     */
+    private List<CategoryModel> categories;
+}
@@ -44,4 +44,10 @@ public class StoreProductModel implements Serializable {
      * Product that is stored in this store.
      */
     private ProductModel product;
+
+    /**
+     * Version of the inventory row, used for optimistic concurrency control.
+     * Updates carrying a version other than the current one are rejected.
+     */
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package org.acmapis.commercial_management_system.model.enums;
+
+/**
+ * Enumeration of the catalog and reference data collections whose read endpoints answer
+ * conditional requests. Each collection has a version stamp that changes whenever it is written.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public enum CatalogResource {
+    /**
+     * Products and their category assignments.
+     */
+    PRODUCTS,
+
+    /**
+     * Categories; their names are also part of every product representation.
+     */
+    CATEGORIES,
+
+    /**
+     * Cities.
+     */
+    CITIES,
+
+    /**
+     * Departments; their names are also part of every city representation.
+     */
+    DEPARTMENTS
+}
@@ -0,0 +1,30 @@
+package org.acmapis.commercial_management_system.model.enums;
+
+/**
+ * Enumeration defining how list queries load the associations serialized with each entity.
+ * Selected per endpoint through the {@code fetchPlan} request parameter.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public enum FetchPlan {
+    /**
+     * Loads the associations with the query itself, using the entity graph or fetch joins of the
+     * repository method, so a list costs a constant number of SQL statements.
+     */
+    GRAPH,
+
+    /**
+     * Uses the fetch types declared on the entity mappings, issuing additional selects per row
+     * for associations that are not already in the persistence context.
+     */
+    DEFAULT,
+
+    /**
+     * Selects only the columns of the response straight into records and builds the models from
+     * them, without instantiating or tracking entities; collections take one additional statement.
+     * Endpoints without projection queries load as {@link #GRAPH}.
+     */
+    PROJECTION
+}
@@ -0,0 +1,27 @@
+package org.acmapis.commercial_management_system.model.enums;
+
+/**
+ * Enumeration defining the orders in which the inventory of a store can be listed.
+ * Selected per request through the {@code sort} request parameter; ties are broken by the
+ * store-product ID, which completes the keyset of the inventory pages.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public enum InventorySort {
+    /**
+     * By product name.
+     */
+    NAME,
+
+    /**
+     * By product price.
+     */
+    PRICE,
+
+    /**
+     * By units in stock at the store.
+     */
+    STOCK
+}
@@ -0,0 +1,35 @@
+package org.acmapis.commercial_management_system.model.enums;
+
+/**
+ * Enumeration defining the outcome of each row of a product catalog import.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public enum ProductImportStatus {
+    /**
+     * The row created a new product.
+     */
+    CREATED,
+
+    /**
+     * The row updated the product with its ID.
+     */
+    UPDATED,
+
+    /**
+     * The row matches the stored product and its categories, and nothing was written.
+     */
+    UNCHANGED,
+
+    /**
+     * The row was ignored because a later row of the same chunk carries the same product ID.
+     */
+    SUPERSEDED,
+
+    /**
+     * The row is invalid or references an unknown category, and was not written.
+     */
+    REJECTED
+}
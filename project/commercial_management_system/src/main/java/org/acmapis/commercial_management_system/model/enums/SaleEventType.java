@@ -0,0 +1,31 @@
+package org.acmapis.commercial_management_system.model.enums;
+
+/**
+ * Enumeration defining the kinds of sale events written to the outbox.
+ * Reversing events carry negated counts, amounts and units, so consumers add every event alike.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public enum SaleEventType {
+    /**
+     * A sale was recorded, or its new state after an update.
+     */
+    SALE_RECORDED,
+
+    /**
+     * A sale was deleted, or its previous state before an update.
+     */
+    SALE_REVERSED,
+
+    /**
+     * Lines were added to a recorded sale, or their new state after an update.
+     */
+    LINES_RECORDED,
+
+    /**
+     * Lines were deleted from a recorded sale, or their previous state before an update.
+     */
+    LINES_REVERSED
+}
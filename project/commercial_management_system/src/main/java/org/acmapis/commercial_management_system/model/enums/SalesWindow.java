@@ -0,0 +1,62 @@
+package org.acmapis.commercial_management_system.model.enums;
+
+import java.time.Duration;
+
+/**
+ * Enumeration defining the time windows over which sales rankings are computed.
+ * Selected per endpoint through the {@code window} request parameter.
+ * Windowed rankings count sales in buckets, so a window may include up to one bucket
+ * of sales older than its nominal length.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public enum SalesWindow {
+    /**
+     * Every sale ever recorded.
+     */
+    ALL(null, null),
+
+    /**
+     * Sales of the last hour, counted in one-minute buckets.
+     */
+    LAST_HOUR(Duration.ofHours(1), Duration.ofMinutes(1)),
+
+    /**
+     * Sales of the last day, counted in fifteen-minute buckets.
+     */
+    LAST_DAY(Duration.ofDays(1), Duration.ofMinutes(15)),
+
+    /**
+     * Sales of the last week, counted in one-hour buckets.
+     */
+    LAST_WEEK(Duration.ofDays(7), Duration.ofHours(1));
+
+    private final Duration length;
+
+    private final Duration bucket;
+
+    SalesWindow(Duration length, Duration bucket) {
+        this.length = length;
+        this.bucket = bucket;
+    }
+
+    /**
+     * Returns the length of the window.
+     *
+     * @return the window length, or null for {@link #ALL}
+     */
+    public Duration getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the granularity at which sales expire from the window.
+     *
+     * @return the bucket length, or null for {@link #ALL}
+     */
+    public Duration getBucket() {
+        return bucket;
+    }
+}
@@ -0,0 +1,20 @@
+package org.acmapis.commercial_management_system.model.enums;
+
+/**
+ * Enumeration of the states of a stock reservation.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public enum StockReservationStatus {
+    /**
+     * The stock is held by the reservation.
+     */
+    RESERVED,
+
+    /**
+     * The stock was given back to the store; a reservation is released at most once.
+     */
+    RELEASED
+}
@@ -0,0 +1,77 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * JDBC access to the version rows of the catalog collections.
+ * Runs on the connection of the current JPA transaction, so a version is advanced together with the
+ * write it stands for.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Repository
+public class CatalogVersionRepository {
+
+    private static final String FIND_VERSIONS_SQL = "SELECT resource, version, last_modified FROM catalog_version";
+
+    // Last-Modified has a resolution of one second, so two changes within a second must differ
+    private static final String ADVANCE_VERSION_SQL =
+            "UPDATE catalog_version SET version = version + 1, last_modified = GREATEST(last_modified + 1000, ?) " +
+            "WHERE resource = ?";
+
+    /**
+     * Version of a collection and time of its latest change.
+     *
+     * @param version      number of changes of the collection
+     * @param lastModified time of the latest change, in milliseconds, truncated to seconds
+     */
+    public record Version(long version, long lastModified) {
+    }
+
+    /**
+     * JDBC template used to run the version statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new CatalogVersionRepository with the required dependencies.
+     *
+     * @param jdbcTemplate the JDBC template bound to the application data source
+     */
+    @Autowired
+    public CatalogVersionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Reads the versions of every catalog collection with one statement.
+     *
+     * @return Map of the versions keyed by collection
+     */
+    public Map<CatalogResource, Version> findAll() {
+        Map<CatalogResource, Version> versions = new EnumMap<>(CatalogResource.class);
+        jdbcTemplate.query(FIND_VERSIONS_SQL, rs -> {
+            versions.put(CatalogResource.valueOf(rs.getString(1)), new Version(rs.getLong(2), rs.getLong(3)));
+        });
+        return versions;
+    }
+
+    /**
+     * Advances the version of a collection. The row stays locked until the current transaction ends,
+     * so concurrent writes of the same collection are stamped in commit order.
+     *
+     * @param resource The written collection
+     * @param now      The time of the change, in milliseconds, truncated to seconds
+     */
+    public void advance(CatalogResource resource, long now) {
+        jdbcTemplate.update(ADVANCE_VERSION_SQL, now, resource.name());
+    }
+}
@@ -1,8 +1,13 @@
 package org.acmapis.commercial_management_system.repository;
 
+import jakarta.persistence.QueryHint;
 import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,11 +20,38 @@ import java.util.Optional;
  */
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
 
+    /**
+     * Query cache region holding the results of {@link #findByCategoryName(String)}.
+     */
+    String CATEGORY_BY_NAME_REGION = "category-by-name";
+
     /**
      * Finds categories by their name.
+     * Results are kept in the query cache and invalidated whenever the category table changes.
      *
      * @param categoryName The name of the category to search for
      * @return List of CategoryEntity objects matching the specified name
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CATEGORY_BY_NAME_REGION)
+    })
     Optional<CategoryEntity> findByCategoryName(String categoryName);
+
+    /**
+     * Retrieves the first page of categories in ascending identifier order.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of CategoryEntity objects sorted by identifier
+     */
+    List<CategoryEntity> findByOrderByCategoryIdAsc(Limit limit);
+
+    /**
+     * Retrieves the categories whose identifier follows the given keyset position.
+     *
+     * @param categoryId The identifier of the last row of the previous page
+     * @param limit      The maximum number of rows to return
+     * @return List of CategoryEntity objects sorted by identifier
+     */
+    List<CategoryEntity> findByCategoryIdGreaterThanOrderByCategoryIdAsc(Long categoryId, Limit limit);
 }
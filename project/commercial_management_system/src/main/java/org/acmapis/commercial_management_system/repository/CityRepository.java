@@ -1,9 +1,12 @@
 package org.acmapis.commercial_management_system.repository;
 
 import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for managing CityEntity data access operations.
  * Provides standard CRUD operations for city-related database interactions.
@@ -15,4 +18,20 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface CityRepository extends JpaRepository<CityEntity, Long> {
 
+    /**
+     * Retrieves the first page of cities in ascending identifier order.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of CityEntity objects sorted by identifier
+     */
+    List<CityEntity> findByOrderByCityIdAsc(Limit limit);
+
+    /**
+     * Retrieves the cities whose identifier follows the given keyset position.
+     *
+     * @param cityId The identifier of the last row of the previous page
+     * @param limit  The maximum number of rows to return
+     * @return List of CityEntity objects sorted by identifier
+     */
+    List<CityEntity> findByCityIdGreaterThanOrderByCityIdAsc(Long cityId, Limit limit);
 }
@@ -1,9 +1,12 @@
 package org.acmapis.commercial_management_system.repository;
 
 import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for managing DepartmentEntity data access operations.
  * Provides standard CRUD operations for department-related database interactions.
@@ -14,4 +17,21 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface DepartmentRepository extends JpaRepository<DepartmentEntity, Long> {
+
+    /**
+     * Retrieves the first page of departments in ascending identifier order.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of DepartmentEntity objects sorted by identifier
+     */
+    List<DepartmentEntity> findByOrderByDepartmentIdAsc(Limit limit);
+
+    /**
+     * Retrieves the departments whose identifier follows the given keyset position.
+     *
+     * @param departmentId The identifier of the last row of the previous page
+     * @param limit        The maximum number of rows to return
+     * @return List of DepartmentEntity objects sorted by identifier
+     */
+    List<DepartmentEntity> findByDepartmentIdGreaterThanOrderByDepartmentIdAsc(Long departmentId, Limit limit);
 }
@@ -0,0 +1,58 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Repository fragment writing the products of a catalog import with set-based JDBC statements.
+ * Products are upserted by ID in JDBC batches, with {@code INSERT ... ON CONFLICT} on PostgreSQL and
+ * {@code MERGE} on other databases, and their categories are changed by batches of deletes and
+ * conflict-ignoring inserts into {@code product_category}.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public interface ProductImportRepository {
+
+    /**
+     * Finds the categories with the given IDs or names, in one statement.
+     *
+     * @param categoryIds   The unique identifiers of the categories
+     * @param categoryNames The names of the categories
+     * @return List of CategoryModel objects found, in no particular order
+     */
+    List<CategoryModel> findCategoriesByIdOrName(Collection<Long> categoryIds, Collection<String> categoryNames);
+
+    /**
+     * Finds the stored state of the products with the given IDs, to compare them with the import.
+     * The categories of each product are returned with their ID only.
+     *
+     * @param productIds The unique identifiers of the products
+     * @return Map of the existing products keyed by ID; IDs without a product are absent
+     */
+    Map<UUID, ProductModel> findProductsForImport(Collection<UUID> productIds);
+
+    /**
+     * Inserts the products with an unknown ID and updates the name, description and price of the others.
+     *
+     * @param products  The products, each with its ID
+     * @param timestamp The creation time of new products and the update time of every product
+     */
+    void upsertProducts(List<ProductModel> products, LocalDateTime timestamp);
+
+    /**
+     * Removes and adds product categories.
+     *
+     * @param removed The category IDs to remove, keyed by product ID
+     * @param added   The category IDs to add, keyed by product ID
+     */
+    void updateProductCategories(Map<UUID, Set<Long>> removed, Map<UUID, Set<Long>> added);
+}
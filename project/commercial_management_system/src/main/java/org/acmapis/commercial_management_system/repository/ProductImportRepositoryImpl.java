@@ -0,0 +1,166 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link ProductImportRepository}.
+ * Runs on the connection of the current JPA transaction. Reads bind at most {@value #IN_LIST_SIZE}
+ * values per statement.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class ProductImportRepositoryImpl implements ProductImportRepository {
+
+    /**
+     * Maximum number of values bound to a single IN list.
+     */
+    private static final int IN_LIST_SIZE = 500;
+
+    private static final String CATEGORIES_SQL = "SELECT category_id, category_name FROM category WHERE ";
+
+    private static final String PRODUCTS_SQL =
+            "SELECT p.product_id, p.product_name, p.description, p.price, pc.category_id_fk " +
+            "FROM product p LEFT JOIN product_category pc ON pc.product_id_fk = p.product_id " +
+            "WHERE p.product_id IN (%s)";
+
+    private static final String POSTGRESQL_UPSERT_SQL =
+            "INSERT INTO product (product_id, product_name, description, price, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) ON CONFLICT (product_id) DO UPDATE SET " +
+            "product_name = EXCLUDED.product_name, description = EXCLUDED.description, price = EXCLUDED.price, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private static final String MERGE_SQL =
+            "MERGE INTO product p USING (VALUES (CAST(? AS UUID), CAST(? AS VARCHAR(128)), CAST(? AS VARCHAR(255)), " +
+            "CAST(? AS DOUBLE PRECISION), CAST(? AS TIMESTAMP(6)), CAST(? AS TIMESTAMP(6)))) " +
+            "v (product_id, product_name, description, price, created_at, updated_at) " +
+            "ON p.product_id = v.product_id " +
+            "WHEN MATCHED THEN UPDATE SET product_name = v.product_name, description = v.description, " +
+            "price = v.price, updated_at = v.updated_at " +
+            "WHEN NOT MATCHED THEN INSERT (product_id, product_name, description, price, created_at, updated_at) " +
+            "VALUES (v.product_id, v.product_name, v.description, v.price, v.created_at, v.updated_at)";
+
+    private static final String DELETE_PRODUCT_CATEGORY_SQL =
+            "DELETE FROM product_category WHERE product_id_fk = ? AND category_id_fk = ?";
+
+    private static final String INSERT_PRODUCT_CATEGORY_SQL =
+            "INSERT INTO product_category (product_id_fk, category_id_fk) VALUES (?, ?) ON CONFLICT DO NOTHING";
+
+    /**
+     * JDBC template used to run the import statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Whether the database is PostgreSQL, where products are upserted with {@code INSERT ... ON CONFLICT};
+     * other databases use {@code MERGE}.
+     */
+    private final boolean postgreSql;
+
+    /**
+     * Constructs a new ProductImportRepositoryImpl with the required dependencies.
+     *
+     * @param jdbcTemplate   the JDBC template bound to the application data source
+     * @param databaseDriver the driver of the application data source
+     */
+    @Autowired
+    public ProductImportRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDriver databaseDriver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgreSql = databaseDriver == DatabaseDriver.POSTGRESQL;
+    }
+
+    @Override
+    public List<CategoryModel> findCategoriesByIdOrName(Collection<Long> categoryIds,
+                                                        Collection<String> categoryNames) {
+        List<Object> ids = new ArrayList<>(categoryIds);
+        List<Object> names = new ArrayList<>(categoryNames);
+        List<CategoryModel> categories = new ArrayList<>();
+        for (int from = 0; from < Math.max(ids.size(), names.size()); from += IN_LIST_SIZE) {
+            List<Object> idChunk = ids.subList(Math.min(from, ids.size()), Math.min(from + IN_LIST_SIZE, ids.size()));
+            List<Object> nameChunk =
+                    names.subList(Math.min(from, names.size()), Math.min(from + IN_LIST_SIZE, names.size()));
+            List<String> conditions = new ArrayList<>(2);
+            if (!idChunk.isEmpty()) {
+                conditions.add("category_id IN (" + placeholders(idChunk.size()) + ")");
+            }
+            if (!nameChunk.isEmpty()) {
+                conditions.add("category_name IN (" + placeholders(nameChunk.size()) + ")");
+            }
+            List<Object> args = new ArrayList<>(idChunk);
+            args.addAll(nameChunk);
+            categories.addAll(jdbcTemplate.query(CATEGORIES_SQL + String.join(" OR ", conditions),
+                    (rs, rowNum) -> new CategoryModel(rs.getLong(1), rs.getString(2)), args.toArray()));
+        }
+        return categories;
+    }
+
+    @Override
+    public Map<UUID, ProductModel> findProductsForImport(Collection<UUID> productIds) {
+        List<UUID> ids = new ArrayList<>(productIds);
+        Map<UUID, ProductModel> products = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_LIST_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + IN_LIST_SIZE, ids.size()));
+            jdbcTemplate.query(PRODUCTS_SQL.formatted(placeholders(chunk.size())), rs -> {
+                ProductModel product = products.computeIfAbsent(rs.getObject(1, UUID.class), productId ->
+                        new ProductModel(productId, null, null, null, null, null, new ArrayList<>()));
+                product.setProductName(rs.getString(2));
+                product.setProductDescription(rs.getString(3));
+                product.setPrice(rs.getDouble(4));
+                long categoryId = rs.getLong(5);
+                if (!rs.wasNull()) {
+                    product.getCategories().add(new CategoryModel(categoryId, null));
+                }
+            }, chunk.toArray());
+        }
+        return products;
+    }
+
+    @Override
+    public void upsertProducts(List<ProductModel> products, LocalDateTime timestamp) {
+        Timestamp now = Timestamp.valueOf(timestamp);
+        List<Object[]> rows = new ArrayList<>(products.size());
+        for (ProductModel product : products) {
+            rows.add(new Object[]{product.getProductId(), product.getProductName(), product.getProductDescription(),
+                    product.getPrice(), now, now});
+        }
+        jdbcTemplate.batchUpdate(postgreSql ? POSTGRESQL_UPSERT_SQL : MERGE_SQL, rows);
+    }
+
+    @Override
+    public void updateProductCategories(Map<UUID, Set<Long>> removed, Map<UUID, Set<Long>> added) {
+        List<Object[]> deletes = pairs(removed);
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_PRODUCT_CATEGORY_SQL, deletes);
+        }
+        List<Object[]> inserts = pairs(added);
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PRODUCT_CATEGORY_SQL, inserts);
+        }
+    }
+
+    private static List<Object[]> pairs(Map<UUID, Set<Long>> categoryIds) {
+        List<Object[]> pairs = new ArrayList<>();
+        categoryIds.forEach((productId, ids) -> ids.forEach(categoryId -> pairs.add(new Object[]{productId, categoryId})));
+        return pairs;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,13 +1,22 @@
 package org.acmapis.commercial_management_system.repository;
 
+import jakarta.persistence.QueryHint;
 import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.repository.projection.ProductCategoryRow;
+import org.acmapis.commercial_management_system.repository.projection.ProductRow;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -19,7 +28,8 @@ import java.util.UUID;
  * @since 2025-11-19
  */
 @Repository
-public interface ProductRepository extends JpaRepository<ProductEntity, UUID> {
+public interface ProductRepository extends JpaRepository<ProductEntity, UUID>, ProductSearchRepository,
+        ProductImportRepository {
 
     /**
      * Finds products with price within the specified range.
@@ -28,6 +38,7 @@ public interface ProductRepository extends JpaRepository<ProductEntity, UUID> {
      * @param priceBefore The maximum price (inclusive)
      * @return List of ProductEntity objects with prices in the specified range
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<ProductEntity> findByPriceBetween(Double priceAfter, Double priceBefore);
 
     /**
@@ -83,6 +94,7 @@ public interface ProductRepository extends JpaRepository<ProductEntity, UUID> {
      * @param storeId The unique identifier of the store
      * @return List of ProductEntity objects available in the specified store
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT sp.product FROM StoreProductEntity sp WHERE sp.store.storeId = :storeId")
     List<ProductEntity> findByStoreId(@Param("storeId") UUID storeId);
 
@@ -94,4 +106,201 @@ public interface ProductRepository extends JpaRepository<ProductEntity, UUID> {
      */
     @Query("SELECT sp.product FROM StoreProductEntity sp WHERE sp.store.storeName = :storeName")
     List<ProductEntity> findByStoreName(@Param("storeName") String storeName);
+
+    /**
+     * Retrieves the first page of products in ascending identifier order.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of ProductEntity objects sorted by identifier
+     */
+    List<ProductEntity> findByOrderByProductIdAsc(Limit limit);
+
+    /**
+     * Retrieves the products whose identifier follows the given keyset position.
+     *
+     * @param productId The identifier of the last row of the previous page
+     * @param limit     The maximum number of rows to return
+     * @return List of ProductEntity objects sorted by identifier
+     */
+    List<ProductEntity> findByProductIdGreaterThanOrderByProductIdAsc(UUID productId, Limit limit);
+
+    // Entity graph and fetch join variants used by FetchPlan.GRAPH: categories are loaded by the
+    // same statement instead of one select per product.
+
+    /**
+     * Retrieves all products, loading categories eagerly.
+     *
+     * @return List of all ProductEntity objects
+     */
+    @EntityGraph("ProductEntity.categories")
+    @Query("SELECT p FROM ProductEntity p")
+    List<ProductEntity> findAllDetailed();
+
+    /**
+     * Retrieves a product by its unique identifier, loading categories eagerly.
+     *
+     * @param productId The unique identifier of the product
+     * @return Optional containing the ProductEntity if found, empty otherwise
+     */
+    @EntityGraph("ProductEntity.categories")
+    @Query("SELECT p FROM ProductEntity p WHERE p.productId = :productId")
+    Optional<ProductEntity> findDetailedByProductId(@Param("productId") UUID productId);
+
+    /**
+     * Finds products with price within the specified range, loading categories eagerly.
+     *
+     * @param priceAfter  The minimum price (inclusive)
+     * @param priceBefore The maximum price (inclusive)
+     * @return List of ProductEntity objects with prices in the specified range
+     */
+    @EntityGraph("ProductEntity.categories")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<ProductEntity> findDetailedByPriceBetween(Double priceAfter, Double priceBefore);
+
+    /**
+     * Retrieves all products ordered by price in ascending order, loading categories eagerly.
+     *
+     * @return List of ProductEntity objects sorted by price from lowest to highest
+     */
+    @EntityGraph("ProductEntity.categories")
+    List<ProductEntity> findDetailedByOrderByPriceAsc();
+
+    /**
+     * Retrieves all products ordered by price in descending order, loading categories eagerly.
+     *
+     * @return List of ProductEntity objects sorted by price from highest to lowest
+     */
+    @EntityGraph("ProductEntity.categories")
+    List<ProductEntity> findDetailedByOrderByPriceDesc();
+
+    /**
+     * Finds products created after the specified date and time, loading categories eagerly.
+     *
+     * @param createdAtAfter The datetime threshold for filtering products
+     * @return List of ProductEntity objects created after the specified datetime
+     */
+    @EntityGraph("ProductEntity.categories")
+    List<ProductEntity> findDetailedByCreatedAtAfter(LocalDateTime createdAtAfter);
+
+    /**
+     * Retrieves all products that belong to a specific category by category ID, loading categories eagerly.
+     * The category filter runs in a subquery so every category of the product is fetched, not only the
+     * matching one.
+     *
+     * @param categoryId The unique identifier of the category
+     * @return List of ProductEntity objects associated with the specified category
+     */
+    @EntityGraph("ProductEntity.categories")
+    @Query("SELECT p FROM ProductEntity p WHERE p.productId IN (" +
+            "SELECT cp.productId FROM ProductEntity cp JOIN cp.categories c WHERE c.categoryId = :categoryId)")
+    List<ProductEntity> findDetailedByCategoryId(@Param("categoryId") Long categoryId);
+
+    /**
+     * Retrieves all products that belong to a specific category by category name, loading categories eagerly.
+     * The category filter runs in a subquery so every category of the product is fetched, not only the
+     * matching one.
+     *
+     * @param categoryName The unique name of the category
+     * @return List of ProductEntity objects associated with the specified category
+     */
+    @EntityGraph("ProductEntity.categories")
+    @Query("SELECT p FROM ProductEntity p WHERE p.productId IN (" +
+            "SELECT cp.productId FROM ProductEntity cp JOIN cp.categories c WHERE c.categoryName = :categoryName)")
+    List<ProductEntity> findDetailedByCategoryName(@Param("categoryName") String categoryName);
+
+    /**
+     * Retrieves all products available in a specific store by store ID, loading categories eagerly.
+     *
+     * @param storeId The unique identifier of the store
+     * @return List of ProductEntity objects available in the specified store
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM StoreProductEntity sp JOIN sp.product p LEFT JOIN FETCH p.categories " +
+            "WHERE sp.store.storeId = :storeId")
+    List<ProductEntity> findDetailedByStoreId(@Param("storeId") UUID storeId);
+
+    /**
+     * Retrieves all products available in a specific store by store name, loading categories eagerly.
+     *
+     * @param storeName The name of the store
+     * @return List of ProductEntity objects available in the store with the specified name
+     */
+    @Query("SELECT p FROM StoreProductEntity sp JOIN sp.product p LEFT JOIN FETCH p.categories " +
+            "WHERE sp.store.storeName = :storeName")
+    List<ProductEntity> findDetailedByStoreName(@Param("storeName") String storeName);
+
+    /**
+     * Loads the products with the given identifiers together with their categories.
+     * Used after paginated or aggregate queries, where a collection fetch join cannot be combined
+     * with the row limit or the grouping, to initialize the categories of all rows in one statement.
+     *
+     * @param productIds The identifiers of the products whose categories are loaded
+     * @return List of ProductEntity objects with their categories initialized
+     */
+    @EntityGraph("ProductEntity.categories")
+    List<ProductEntity> findDetailedByProductIdIn(Collection<UUID> productIds);
+
+    // Projection variants used by FetchPlan.PROJECTION: only the columns of the response are
+    // selected, straight into records, so no entity is instantiated or tracked by the session.
+
+    /**
+     * Finds the columns of the products with price within the specified range.
+     *
+     * @param minPrice The minimum price (inclusive)
+     * @param maxPrice The maximum price (inclusive)
+     * @return List of ProductRow objects with prices in the specified range
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.repository.projection.ProductRow(" +
+            "p.productId, p.productName, p.productDescription, p.price, p.createdAt, p.updatedAt) " +
+            "FROM ProductEntity p WHERE p.price BETWEEN :minPrice AND :maxPrice")
+    List<ProductRow> findRowsByPriceBetween(@Param("minPrice") Double minPrice, @Param("maxPrice") Double maxPrice);
+
+    /**
+     * Finds the categories of the products with price within the specified range.
+     *
+     * @param minPrice The minimum price (inclusive)
+     * @param maxPrice The maximum price (inclusive)
+     * @return List of ProductCategoryRow objects, one per product and category
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.repository.projection.ProductCategoryRow(" +
+            "p.productId, c.categoryId, c.categoryName) " +
+            "FROM ProductEntity p JOIN p.categories c WHERE p.price BETWEEN :minPrice AND :maxPrice")
+    List<ProductCategoryRow> findCategoryRowsByPriceBetween(@Param("minPrice") Double minPrice,
+                                                            @Param("maxPrice") Double maxPrice);
+
+    /**
+     * Finds the columns of the products available in a specific store by store ID.
+     *
+     * @param storeId The unique identifier of the store
+     * @return List of ProductRow objects available in the specified store
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.repository.projection.ProductRow(" +
+            "p.productId, p.productName, p.productDescription, p.price, p.createdAt, p.updatedAt) " +
+            "FROM StoreProductEntity sp JOIN sp.product p WHERE sp.store.storeId = :storeId")
+    List<ProductRow> findRowsByStoreId(@Param("storeId") UUID storeId);
+
+    /**
+     * Finds the categories of the products available in a specific store by store ID.
+     *
+     * @param storeId The unique identifier of the store
+     * @return List of ProductCategoryRow objects, one per product and category
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.repository.projection.ProductCategoryRow(" +
+            "p.productId, c.categoryId, c.categoryName) " +
+            "FROM StoreProductEntity sp JOIN sp.product p JOIN p.categories c WHERE sp.store.storeId = :storeId")
+    List<ProductCategoryRow> findCategoryRowsByStoreId(@Param("storeId") UUID storeId);
+
+    /**
+     * Initializes the categories of the given products, already attached to the current
+     * persistence context, with a single statement.
+     *
+     * @param products The products whose categories are initialized
+     * @return The same list of products
+     */
+    default List<ProductEntity> fetchCategories(List<ProductEntity> products) {
+        if (!products.isEmpty()) {
+            findDetailedByProductIdIn(products.stream().map(ProductEntity::getProductId).distinct().toList());
+        }
+        return products;
+    }
 }
@@ -0,0 +1,46 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.model.dto.ProductSuggestionModel;
+import org.acmapis.commercial_management_system.repository.projection.ProductSearchHit;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository fragment for the ranked product search and the product name autocomplete.
+ * On PostgreSQL the search matches the full-text document of migration V6 (name, category names and
+ * description) and the trigram similarity of the name, both served by GIN indexes; on other
+ * databases it falls back to substring matching, with the same weights, for tests and local runs.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public interface ProductSearchRepository {
+
+    /**
+     * Finds the products matching the search terms, ordered by relevance and then by product ID.
+     * Filters left null are not applied.
+     *
+     * @param terms      The search terms, in web search syntax on PostgreSQL
+     * @param minPrice   The minimum price (inclusive), or null
+     * @param maxPrice   The maximum price (inclusive), or null
+     * @param categoryId The category the products must belong to, or null
+     * @param storeId    The store that must have the products in stock, or null
+     * @param after      The last hit of the previous page, or null for the first page
+     * @param limit      The maximum number of hits to return
+     * @return List of ProductSearchHit objects, most relevant first
+     */
+    List<ProductSearchHit> searchProducts(String terms, Double minPrice, Double maxPrice, Long categoryId,
+                                          UUID storeId, ProductSearchHit after, int limit);
+
+    /**
+     * Finds the products whose name, or a word of their name, starts with the given prefix.
+     * Names starting with the prefix come first, then the closest names.
+     *
+     * @param prefix The text typed so far
+     * @param limit  The maximum number of suggestions to return
+     * @return List of ProductSuggestionModel objects, best first
+     */
+    List<ProductSuggestionModel> suggestProducts(String prefix, int limit);
+}
@@ -0,0 +1,214 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.model.dto.ProductSuggestionModel;
+import org.acmapis.commercial_management_system.repository.projection.ProductSearchHit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link ProductSearchRepository}.
+ * On PostgreSQL a product matches when its {@code search_vector} matches the terms or when the terms
+ * are similar to a part of its name ({@code <%}, word similarity); the score adds the cover density
+ * rank of the document, weighted name &gt; categories &gt; description, and that similarity.
+ * Elsewhere a product matches when its name, a category name or its description contains the terms,
+ * scored with the default weights of {@code ts_rank}: 1.0, 0.4 and 0.2.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    /**
+     * Number of names with a later word starting with the prefix that are ranked by similarity, so
+     * that a prefix shared by many names reads a bounded number of rows.
+     */
+    private static final int WORD_PREFIX_CANDIDATES = 200;
+
+    private static final String POSTGRESQL_SCORED_PRODUCTS_SQL =
+            "SELECT p.product_id, CAST(ts_rank_cd(p.search_vector, websearch_to_tsquery('product_search', ?)) " +
+            "+ word_similarity(product_search_text(?), product_search_text(p.product_name)) AS REAL) AS score " +
+            "FROM product p";
+
+    private static final String POSTGRESQL_MATCH_CONDITION =
+            "(p.search_vector @@ websearch_to_tsquery('product_search', ?) " +
+            "OR product_search_text(?) <% product_search_text(p.product_name))";
+
+    private static final String SUBSTRING_SCORED_PRODUCTS_SQL =
+            "SELECT p.product_id, CAST(" +
+            "CASE WHEN lower(p.product_name) LIKE lower(?) ESCAPE '\\' THEN 1.0 ELSE 0 END " +
+            "+ CASE WHEN EXISTS (SELECT 1 FROM product_category pc " +
+            "JOIN category c ON c.category_id = pc.category_id_fk " +
+            "WHERE pc.product_id_fk = p.product_id AND lower(c.category_name) LIKE lower(?) ESCAPE '\\') " +
+            "THEN 0.4 ELSE 0 END " +
+            "+ CASE WHEN lower(p.description) LIKE lower(?) ESCAPE '\\' THEN 0.2 ELSE 0 END AS REAL) AS score " +
+            "FROM product p";
+
+    private static final String SUBSTRING_MATCH_CONDITION = "s.score > 0";
+
+    private static final String MIN_PRICE_CONDITION = "p.price >= ?";
+
+    private static final String MAX_PRICE_CONDITION = "p.price <= ?";
+
+    private static final String CATEGORY_CONDITION =
+            "EXISTS (SELECT 1 FROM product_category pc WHERE pc.product_id_fk = p.product_id " +
+            "AND pc.category_id_fk = ?)";
+
+    private static final String IN_STOCK_CONDITION =
+            "EXISTS (SELECT 1 FROM store_product sp WHERE sp.product_id_fk = p.product_id " +
+            "AND sp.store_id_fk = ? AND sp.stock > 0)";
+
+    private static final String AFTER_CONDITION = "(s.score < ? OR (s.score = ? AND s.product_id > ?))";
+
+    // Names starting with the prefix: a range of idx_product_name_prefix, read in index order
+    private static final String POSTGRESQL_NAME_PREFIX_SQL =
+            "SELECT p.product_id, p.product_name FROM product p " +
+            "WHERE product_search_text(p.product_name) COLLATE \"C\" >= product_search_text(?) " +
+            "AND product_search_text(p.product_name) COLLATE \"C\" < product_search_text(?) || chr(1114111) " +
+            "ORDER BY product_search_text(p.product_name) COLLATE \"C\", p.product_id LIMIT ?";
+
+    // Names with a later word starting with the prefix: idx_product_name_trgm, closest names first
+    private static final String POSTGRESQL_WORD_PREFIX_SQL =
+            "SELECT product_id, product_name FROM (" +
+            "SELECT p.product_id, p.product_name, product_search_text(p.product_name) AS normalized_name " +
+            "FROM product p WHERE product_search_text(p.product_name) LIKE product_search_text(?) ESCAPE '\\' " +
+            "LIMIT " + WORD_PREFIX_CANDIDATES + ") candidates " +
+            "ORDER BY similarity(normalized_name, product_search_text(?)) DESC, " +
+            "normalized_name COLLATE \"C\", product_id LIMIT ?";
+
+    private static final String SUBSTRING_SUGGESTIONS_SQL =
+            "SELECT p.product_id, p.product_name FROM product p " +
+            "WHERE lower(p.product_name) LIKE lower(?) ESCAPE '\\' " +
+            "ORDER BY lower(p.product_name), p.product_id LIMIT ?";
+
+    /**
+     * JDBC template used to run the search statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Whether the full-text search of migration V6 is available, that is, whether the database is PostgreSQL.
+     */
+    private final boolean fullText;
+
+    /**
+     * Constructs a new ProductSearchRepositoryImpl with the required dependencies.
+     *
+     * @param jdbcTemplate   the JDBC template bound to the application data source
+     * @param databaseDriver the driver of the application data source
+     */
+    @Autowired
+    public ProductSearchRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDriver databaseDriver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fullText = databaseDriver == DatabaseDriver.POSTGRESQL;
+    }
+
+    @Override
+    public List<ProductSearchHit> searchProducts(String terms, Double minPrice, Double maxPrice, Long categoryId,
+                                                 UUID storeId, ProductSearchHit after, int limit) {
+        List<Object> args = new ArrayList<>();
+        List<String> productConditions = new ArrayList<>();
+        List<String> scoreConditions = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT product_id, score FROM (");
+        if (fullText) {
+            sql.append(POSTGRESQL_SCORED_PRODUCTS_SQL);
+            args.add(terms);
+            args.add(terms);
+            productConditions.add(POSTGRESQL_MATCH_CONDITION);
+            args.add(terms);
+            args.add(terms);
+        } else {
+            String pattern = "%" + escapeLike(terms) + "%";
+            sql.append(SUBSTRING_SCORED_PRODUCTS_SQL);
+            args.add(pattern);
+            args.add(pattern);
+            args.add(pattern);
+            scoreConditions.add(SUBSTRING_MATCH_CONDITION);
+        }
+        if (minPrice != null) {
+            productConditions.add(MIN_PRICE_CONDITION);
+            args.add(minPrice);
+        }
+        if (maxPrice != null) {
+            productConditions.add(MAX_PRICE_CONDITION);
+            args.add(maxPrice);
+        }
+        if (categoryId != null) {
+            productConditions.add(CATEGORY_CONDITION);
+            args.add(categoryId);
+        }
+        if (storeId != null) {
+            productConditions.add(IN_STOCK_CONDITION);
+            args.add(storeId);
+        }
+        appendWhere(sql, productConditions);
+        sql.append(") s");
+
+        if (after != null) {
+            scoreConditions.add(AFTER_CONDITION);
+            args.add(after.score());
+            args.add(after.score());
+            args.add(after.productId());
+        }
+        appendWhere(sql, scoreConditions);
+        sql.append(" ORDER BY s.score DESC, s.product_id LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(),
+                (rs, rowNum) -> new ProductSearchHit(rs.getObject(1, UUID.class), rs.getFloat(2)),
+                args.toArray());
+    }
+
+    @Override
+    public List<ProductSuggestionModel> suggestProducts(String prefix, int limit) {
+        String escaped = escapeLike(prefix);
+        List<ProductSuggestionModel> suggestions = fullText
+                ? jdbcTemplate.query(POSTGRESQL_NAME_PREFIX_SQL, this::toSuggestion, prefix, prefix, limit)
+                : jdbcTemplate.query(SUBSTRING_SUGGESTIONS_SQL, this::toSuggestion, escaped + "%", limit);
+        if (suggestions.size() == limit) {
+            return suggestions;
+        }
+
+        // Every name starting with the prefix is already listed; names that also have a later word
+        // starting with it are skipped
+        Map<UUID, ProductSuggestionModel> merged = new LinkedHashMap<>();
+        suggestions.forEach(suggestion -> merged.put(suggestion.getProductId(), suggestion));
+        String wordPattern = "% " + escaped + "%";
+        List<ProductSuggestionModel> wordMatches = fullText
+                ? jdbcTemplate.query(POSTGRESQL_WORD_PREFIX_SQL, this::toSuggestion, wordPattern, prefix, limit)
+                : jdbcTemplate.query(SUBSTRING_SUGGESTIONS_SQL, this::toSuggestion, wordPattern, limit);
+        for (ProductSuggestionModel suggestion : wordMatches) {
+            if (merged.size() == limit) {
+                break;
+            }
+            merged.putIfAbsent(suggestion.getProductId(), suggestion);
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private ProductSuggestionModel toSuggestion(ResultSet rs, int rowNum) throws SQLException {
+        return new ProductSuggestionModel(rs.getObject(1, UUID.class), rs.getString(2));
+    }
+
+    private static void appendWhere(StringBuilder sql, List<String> conditions) {
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+    }
+
+    /**
+     * Escapes the LIKE wildcards of user input, so that it is matched literally.
+     */
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,57 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.repository.projection.SaleEventRow;
+
+import java.util.List;
+
+/**
+ * Repository fragment maintaining the {@code sale_daily_rollup} table.
+ * Sales and sale lines reach the rollup as events of the sale event outbox, applied in batches by
+ * {@code SaleDailyRollupProjection}. Rollup rows are created with an insert that ignores conflicts and
+ * then adjusted with a relative update, so concurrent batches never lose an increment.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public interface SaleDailyRollupMaintenanceRepository {
+
+    /**
+     * Applies a batch of sale events to the rows of their days and cities. The changes of the batch
+     * are summed per day and city first, so each row is adjusted at most once per call.
+     *
+     * @param events The events, with the department of their city when they were written
+     * @return The number of rollup rows adjusted
+     */
+    int applyEvents(List<SaleEventRow> events);
+
+    /**
+     * Copies the current department of a city to its rollup rows, after the city is moved to
+     * another department.
+     *
+     * @param cityId The unique identifier of the city
+     * @return The number of rollup rows updated
+     */
+    int updateCityDepartment(Long cityId);
+
+    /**
+     * Rebuilds the rollup from the sale table. Used to backfill sales that were written
+     * without going through the service layer, such as the initial data script.
+     * The events the consumer has not applied yet are subtracted from the sales that caused them,
+     * so that applying them afterwards brings the rollup to the state of the sale table; sales may
+     * be written while the rollup is rebuilt. Must not run while the consumer applies events.
+     * Days before the first remaining sale keep their rows, so months whose partitions were
+     * archived stay in the daily totals.
+     *
+     * @param consumer The name of the consumer maintaining the rollup from the outbox
+     * @return The number of rollup rows written
+     */
+    int rebuild(String consumer);
+
+    /**
+     * Checks whether the rollup holds no rows, that is, whether it was never built.
+     *
+     * @return true if the rollup table is empty
+     */
+    boolean isEmpty();
+}
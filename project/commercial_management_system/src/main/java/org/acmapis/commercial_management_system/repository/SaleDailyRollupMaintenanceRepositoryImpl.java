@@ -0,0 +1,139 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.repository.projection.SaleEventRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDBC implementation of {@link SaleDailyRollupMaintenanceRepository}.
+ * Runs on the connection of the current JPA transaction. Rollup rows touched by one call are updated
+ * in (day, city) order, so concurrent calls lock them in the same order. Changes that cancel out
+ * within a batch, such as a sale updated and reverted, leave the row untouched.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class SaleDailyRollupMaintenanceRepositoryImpl implements SaleDailyRollupMaintenanceRepository {
+
+    private static final String INSERT_ROLLUP_SQL =
+            "INSERT INTO sale_daily_rollup (sale_day, city_id_fk, department_id_fk, sale_count, total_amount, units) " +
+            "VALUES (?, ?, ?, 0, 0, 0) ON CONFLICT DO NOTHING";
+
+    private static final String UPDATE_ROLLUP_SQL =
+            "UPDATE sale_daily_rollup SET sale_count = sale_count + ?, total_amount = total_amount + ?, " +
+            "units = units + ? WHERE sale_day = ? AND city_id_fk = ?";
+
+    private static final String UPDATE_CITY_DEPARTMENT_SQL =
+            "UPDATE sale_daily_rollup SET department_id_fk = " +
+            "(SELECT c.department_id_fk FROM city c WHERE c.city_id = ?) WHERE city_id_fk = ?";
+
+    private static final String FIRST_SALE_DAY_SQL = "SELECT CAST(MIN(sale_date) AS DATE) FROM sale";
+
+    private static final String ANY_ROLLUP_ROW_SQL = "SELECT COUNT(*) FROM (SELECT 1 FROM sale_daily_rollup LIMIT 1) r";
+
+    private static final String DELETE_ROLLUP_SQL = "DELETE FROM sale_daily_rollup WHERE sale_day >= ?";
+
+    // Sales minus the events the consumer has not applied yet, read in one statement and therefore
+    // from one snapshot: a sale and its event commit together, so both or neither are seen
+    private static final String REBUILD_ROLLUP_SQL =
+            "INSERT INTO sale_daily_rollup (sale_day, city_id_fk, department_id_fk, sale_count, total_amount, units) " +
+            "SELECT t.sale_day, t.city_id_fk, c.department_id_fk, SUM(t.sale_count), SUM(t.total_amount), " +
+            "SUM(t.units) FROM (" +
+            "SELECT CAST(s.sale_date AS DATE) AS sale_day, u.city_id_fk, COUNT(*) AS sale_count, " +
+            "SUM(s.total_amount) AS total_amount, COALESCE(SUM(l.units), 0) AS units " +
+            "FROM sale s JOIN users u ON u.user_id = s.user_id_fk " +
+            "LEFT JOIN (SELECT sale_id_fk, SUM(quantity) AS units FROM sale_product GROUP BY sale_id_fk) l " +
+            "ON l.sale_id_fk = s.sale_id " +
+            "GROUP BY CAST(s.sale_date AS DATE), u.city_id_fk " +
+            "UNION ALL " +
+            "SELECT o.sale_day, o.city_id_fk, -SUM(o.sale_count), -SUM(o.total_amount), -SUM(o.units) " +
+            "FROM sale_event_outbox o WHERE o.sale_day >= ? AND NOT EXISTS " +
+            "(SELECT 1 FROM sale_event_consumed m WHERE m.consumer = ? AND m.event_id = o.event_id) " +
+            "GROUP BY o.sale_day, o.city_id_fk" +
+            ") t JOIN city c ON c.city_id = t.city_id_fk " +
+            "GROUP BY t.sale_day, t.city_id_fk, c.department_id_fk " +
+            "HAVING SUM(t.sale_count) <> 0 OR SUM(t.total_amount) <> 0 OR SUM(t.units) <> 0";
+
+    /**
+     * Lower bound of the rows cleared when the sale table is empty.
+     */
+    private static final Date EPOCH = Date.valueOf(LocalDate.EPOCH);
+
+    /**
+     * JDBC template used to run the rollup statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new SaleDailyRollupMaintenanceRepositoryImpl with the required dependencies.
+     *
+     * @param jdbcTemplate the JDBC template bound to the application data source
+     */
+    @Autowired
+    public SaleDailyRollupMaintenanceRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int applyEvents(List<SaleEventRow> events) {
+        Map<RollupKey, long[]> changes = new TreeMap<>(Comparator.comparing(RollupKey::saleDay)
+                .thenComparing(RollupKey::cityId));
+        Map<RollupKey, Long> departments = new HashMap<>();
+        for (SaleEventRow event : events) {
+            RollupKey key = new RollupKey(event.saleDay(), event.cityId());
+            long[] change = changes.computeIfAbsent(key, k -> new long[3]);
+            change[0] += event.saleCount();
+            change[1] += event.totalAmount();
+            change[2] += event.units();
+            departments.put(key, event.departmentId());
+        }
+        int adjusted = 0;
+        for (Map.Entry<RollupKey, long[]> entry : changes.entrySet()) {
+            long[] change = entry.getValue();
+            if (change[0] == 0 && change[1] == 0 && change[2] == 0) {
+                continue;
+            }
+            Date saleDay = Date.valueOf(entry.getKey().saleDay());
+            Long cityId = entry.getKey().cityId();
+            jdbcTemplate.update(INSERT_ROLLUP_SQL, saleDay, cityId, departments.get(entry.getKey()));
+            jdbcTemplate.update(UPDATE_ROLLUP_SQL, change[0], change[1], change[2], saleDay, cityId);
+            adjusted++;
+        }
+        return adjusted;
+    }
+
+    @Override
+    public int updateCityDepartment(Long cityId) {
+        return jdbcTemplate.update(UPDATE_CITY_DEPARTMENT_SQL, cityId, cityId);
+    }
+
+    @Override
+    public int rebuild(String consumer) {
+        // Days before the first remaining sale belong to archived partitions and are kept
+        Date firstSaleDay = jdbcTemplate.queryForObject(FIRST_SALE_DAY_SQL, Date.class);
+        Date from = firstSaleDay != null ? firstSaleDay : EPOCH;
+        jdbcTemplate.update(DELETE_ROLLUP_SQL, from);
+        return jdbcTemplate.update(REBUILD_ROLLUP_SQL, from, consumer);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        Integer rows = jdbcTemplate.queryForObject(ANY_ROLLUP_ROW_SQL, Integer.class);
+        return rows == null || rows == 0;
+    }
+
+    /**
+     * Day and city of a rollup row.
+     */
+    private record RollupKey(LocalDate saleDay, Long cityId) {
+    }
+}
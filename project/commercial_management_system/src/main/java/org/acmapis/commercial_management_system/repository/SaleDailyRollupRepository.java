@@ -0,0 +1,128 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.entity.SaleDailyRollupEntity;
+import org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel;
+import org.acmapis.commercial_management_system.model.dto.SaleRegionTotalModel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for reading and maintaining the daily sales rollup.
+ * Analytics queries read at most one row per day and city, independently of the number of sales,
+ * including the department, city and day drill-down.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Repository
+public interface SaleDailyRollupRepository extends JpaRepository<SaleDailyRollupEntity, Long>,
+        SaleDailyRollupMaintenanceRepository {
+
+    /**
+     * Calculates the sum of the total amounts of the sales made on a day, across all cities.
+     *
+     * @param saleDay The day to calculate total sales for
+     * @return The sum of all sale amounts of the day, or null if no sales found
+     */
+    @Query("SELECT SUM(r.totalAmount) FROM SaleDailyRollupEntity r WHERE r.saleDay = :saleDay")
+    Long sumTotalAmountBySaleDay(@Param("saleDay") LocalDate saleDay);
+
+    /**
+     * Retrieves the daily totals across all cities for an inclusive range of days.
+     *
+     * @param from The first day of the range
+     * @param to   The last day of the range
+     * @return List of SaleDailyTotalModel objects, one per day with sales, in ascending day order
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel(" +
+            "r.saleDay, CAST(NULL AS Long), SUM(r.saleCount), SUM(r.totalAmount)) " +
+            "FROM SaleDailyRollupEntity r WHERE r.saleDay BETWEEN :from AND :to AND r.saleCount > 0 " +
+            "GROUP BY r.saleDay ORDER BY r.saleDay")
+    List<SaleDailyTotalModel> findDailyTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Retrieves the daily totals of one city for an inclusive range of days.
+     *
+     * @param cityId The unique identifier of the city
+     * @param from   The first day of the range
+     * @param to     The last day of the range
+     * @return List of SaleDailyTotalModel objects, one per day with sales, in ascending day order
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel(" +
+            "r.saleDay, r.city.cityId, r.saleCount, r.totalAmount) " +
+            "FROM SaleDailyRollupEntity r WHERE r.city.cityId = :cityId " +
+            "AND r.saleDay BETWEEN :from AND :to AND r.saleCount > 0 ORDER BY r.saleDay")
+    List<SaleDailyTotalModel> findDailyTotalsByCityId(@Param("cityId") Long cityId,
+                                                      @Param("from") LocalDate from,
+                                                      @Param("to") LocalDate to);
+
+    /**
+     * Retrieves the totals of each city over an inclusive range of days.
+     *
+     * @param from The first day of the range
+     * @param to   The last day of the range
+     * @return List of SaleDailyTotalModel objects, one per city with sales, with a null day,
+     * ordered by total amount descending
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel(" +
+            "CAST(NULL AS LocalDate), r.city.cityId, SUM(r.saleCount), SUM(r.totalAmount)) " +
+            "FROM SaleDailyRollupEntity r WHERE r.saleDay BETWEEN :from AND :to " +
+            "GROUP BY r.city.cityId HAVING SUM(r.saleCount) > 0 ORDER BY SUM(r.totalAmount) DESC")
+    List<SaleDailyTotalModel> findCityTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Retrieves the totals of each department over an inclusive range of days.
+     *
+     * @param from The first day of the range
+     * @param to   The last day of the range
+     * @return List of SaleRegionTotalModel objects, one per department with sales, with a null city
+     * and day, ordered by total amount descending
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.model.dto.SaleRegionTotalModel(" +
+            "r.department.departmentId, CAST(NULL AS Long), CAST(NULL AS LocalDate), " +
+            "SUM(r.saleCount), SUM(r.totalAmount), SUM(r.units)) " +
+            "FROM SaleDailyRollupEntity r WHERE r.saleDay BETWEEN :from AND :to " +
+            "GROUP BY r.department.departmentId HAVING SUM(r.saleCount) > 0 ORDER BY SUM(r.totalAmount) DESC")
+    List<SaleRegionTotalModel> findDepartmentTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Retrieves the totals of each city of a department over an inclusive range of days.
+     *
+     * @param departmentId The unique identifier of the department
+     * @param from         The first day of the range
+     * @param to           The last day of the range
+     * @return List of SaleRegionTotalModel objects, one per city with sales, with a null day,
+     * ordered by total amount descending
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.model.dto.SaleRegionTotalModel(" +
+            "r.department.departmentId, r.city.cityId, CAST(NULL AS LocalDate), " +
+            "SUM(r.saleCount), SUM(r.totalAmount), SUM(r.units)) " +
+            "FROM SaleDailyRollupEntity r WHERE r.department.departmentId = :departmentId " +
+            "AND r.saleDay BETWEEN :from AND :to GROUP BY r.department.departmentId, r.city.cityId " +
+            "HAVING SUM(r.saleCount) > 0 ORDER BY SUM(r.totalAmount) DESC")
+    List<SaleRegionTotalModel> findCityTotalsByDepartmentId(@Param("departmentId") Long departmentId,
+                                                            @Param("from") LocalDate from,
+                                                            @Param("to") LocalDate to);
+
+    /**
+     * Retrieves the totals of each day of one city over an inclusive range of days.
+     *
+     * @param cityId The unique identifier of the city
+     * @param from   The first day of the range
+     * @param to     The last day of the range
+     * @return List of SaleRegionTotalModel objects, one per day with sales, in ascending day order
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.model.dto.SaleRegionTotalModel(" +
+            "r.department.departmentId, r.city.cityId, r.saleDay, r.saleCount, r.totalAmount, r.units) " +
+            "FROM SaleDailyRollupEntity r WHERE r.city.cityId = :cityId " +
+            "AND r.saleDay BETWEEN :from AND :to AND r.saleCount > 0 ORDER BY r.saleDay")
+    List<SaleRegionTotalModel> findRegionDailyTotalsByCityId(@Param("cityId") Long cityId,
+                                                             @Param("from") LocalDate from,
+                                                             @Param("to") LocalDate to);
+}
@@ -0,0 +1,184 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.model.enums.SaleEventType;
+import org.acmapis.commercial_management_system.repository.projection.SaleEventRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * JDBC access to the sale event outbox and to the record of the events applied by each consumer.
+ * Events are written with a single insert-select per call, on the connection of the current JPA
+ * transaction, so they commit or roll back together with the sale; callers must flush pending sale
+ * changes first.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Repository
+public class SaleEventOutboxRepository {
+
+    /**
+     * Maximum number of IDs bound to a single statement.
+     */
+    private static final int IN_LIST_SIZE = 500;
+
+    private static final String INSERT_SALE_EVENT_SQL =
+            "INSERT INTO sale_event_outbox (event_type, sale_id, sale_day, city_id_fk, department_id_fk, " +
+            "sale_count, total_amount, units, created_at) " +
+            "SELECT ?, s.sale_id, CAST(s.sale_date AS DATE), u.city_id_fk, c.department_id_fk, ?, ? * s.total_amount, " +
+            "? * (SELECT COALESCE(SUM(sp.quantity), 0) FROM sale_product sp " +
+            "WHERE sp.sale_id_fk = s.sale_id AND sp.sale_date = s.sale_date), LOCALTIMESTAMP " +
+            "FROM sale s JOIN users u ON u.user_id = s.user_id_fk JOIN city c ON c.city_id = u.city_id_fk " +
+            "WHERE s.sale_id = ?";
+
+    private static final String INSERT_LINES_EVENTS_SQL =
+            "INSERT INTO sale_event_outbox (event_type, sale_id, sale_day, city_id_fk, department_id_fk, " +
+            "sale_count, total_amount, units, created_at) " +
+            "SELECT ?, s.sale_id, CAST(s.sale_date AS DATE), u.city_id_fk, c.department_id_fk, 0, 0, " +
+            "? * SUM(sp.quantity), LOCALTIMESTAMP " +
+            "FROM sale_product sp JOIN sale s ON s.sale_id = sp.sale_id_fk AND s.sale_date = sp.sale_date " +
+            "JOIN users u ON u.user_id = s.user_id_fk JOIN city c ON c.city_id = u.city_id_fk " +
+            "WHERE sp.sale_product_id IN (%s) " +
+            "GROUP BY s.sale_id, s.sale_date, u.city_id_fk, c.department_id_fk";
+
+    private static final String FIND_BATCH_SQL =
+            "SELECT event_id, event_type, sale_id, sale_day, city_id_fk, department_id_fk, sale_count, " +
+            "total_amount, units FROM sale_event_outbox ORDER BY event_id LIMIT ?";
+
+    private static final String FIND_CONSUMED_SQL =
+            "SELECT event_id FROM sale_event_consumed WHERE consumer = ? AND event_id BETWEEN ? AND ?";
+
+    private static final String INSERT_CONSUMED_SQL =
+            "INSERT INTO sale_event_consumed (consumer, event_id) VALUES (?, ?)";
+
+    private static final String DELETE_EVENTS_SQL = "DELETE FROM sale_event_outbox WHERE event_id IN (%s)";
+
+    private static final String DELETE_CONSUMED_SQL = "DELETE FROM sale_event_consumed WHERE event_id IN (%s)";
+
+    private static final String COUNT_PENDING_SQL = "SELECT COUNT(*) FROM sale_event_outbox";
+
+    /**
+     * JDBC template used to run the outbox statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new SaleEventOutboxRepository with the required dependencies.
+     *
+     * @param jdbcTemplate the JDBC template bound to the application data source
+     */
+    @Autowired
+    public SaleEventOutboxRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Writes an event with the current state of a sale: one sale, its total amount and the units of its lines.
+     *
+     * @param type   {@link SaleEventType#SALE_RECORDED} or {@link SaleEventType#SALE_REVERSED}
+     * @param saleId The unique identifier of the sale
+     * @return The number of events written, 0 if the sale does not exist
+     */
+    public int insertSaleEvent(SaleEventType type, UUID saleId) {
+        int sign = type == SaleEventType.SALE_REVERSED ? -1 : 1;
+        return jdbcTemplate.update(INSERT_SALE_EVENT_SQL, type.name(), sign, sign, sign, saleId);
+    }
+
+    /**
+     * Writes one event per sale with the units of the given lines of that sale.
+     *
+     * @param type           {@link SaleEventType#LINES_RECORDED} or {@link SaleEventType#LINES_REVERSED}
+     * @param saleProductIds The unique identifiers of the sale lines
+     * @return The number of events written
+     */
+    public int insertLinesEvents(SaleEventType type, Collection<Long> saleProductIds) {
+        int sign = type == SaleEventType.LINES_REVERSED ? -1 : 1;
+        List<Long> ids = new ArrayList<>(saleProductIds);
+        int written = 0;
+        for (int from = 0; from < ids.size(); from += IN_LIST_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_LIST_SIZE, ids.size()));
+            List<Object> args = new ArrayList<>(chunk.size() + 2);
+            args.add(type.name());
+            args.add(sign);
+            args.addAll(chunk);
+            written += jdbcTemplate.update(INSERT_LINES_EVENTS_SQL.formatted(placeholders(chunk.size())), args.toArray());
+        }
+        return written;
+    }
+
+    /**
+     * Finds the oldest pending events.
+     *
+     * @param limit The maximum number of events to return
+     * @return List of SaleEventRow objects in event ID order
+     */
+    public List<SaleEventRow> findBatch(int limit) {
+        return jdbcTemplate.query(FIND_BATCH_SQL, (rs, rowNum) -> new SaleEventRow(rs.getLong(1),
+                SaleEventType.valueOf(rs.getString(2)), rs.getObject(3, UUID.class), rs.getObject(4, LocalDate.class),
+                rs.getLong(5), rs.getLong(6), rs.getLong(7), rs.getLong(8), rs.getLong(9)), limit);
+    }
+
+    /**
+     * Finds which events of an ID range a consumer has already applied.
+     *
+     * @param consumer The name of the consumer
+     * @param fromId   The first event ID of the range
+     * @param toId     The last event ID of the range
+     * @return Set of the applied event IDs
+     */
+    public Set<Long> findConsumedEventIds(String consumer, long fromId, long toId) {
+        return new HashSet<>(jdbcTemplate.queryForList(FIND_CONSUMED_SQL, Long.class, consumer, fromId, toId));
+    }
+
+    /**
+     * Records that a consumer applied the given events. Must run in the transaction of their effect.
+     *
+     * @param consumer The name of the consumer
+     * @param eventIds The unique identifiers of the applied events
+     */
+    public void markConsumed(String consumer, Collection<Long> eventIds) {
+        List<Object[]> rows = new ArrayList<>(eventIds.size());
+        for (Long eventId : eventIds) {
+            rows.add(new Object[]{consumer, eventId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_CONSUMED_SQL, rows);
+    }
+
+    /**
+     * Deletes events delivered to every consumer, together with their consumption records.
+     *
+     * @param eventIds The unique identifiers of the events
+     */
+    public void deleteEvents(Collection<Long> eventIds) {
+        List<Long> ids = new ArrayList<>(eventIds);
+        for (int from = 0; from < ids.size(); from += IN_LIST_SIZE) {
+            Object[] chunk = ids.subList(from, Math.min(from + IN_LIST_SIZE, ids.size())).toArray();
+            jdbcTemplate.update(DELETE_CONSUMED_SQL.formatted(placeholders(chunk.length)), chunk);
+            jdbcTemplate.update(DELETE_EVENTS_SQL.formatted(placeholders(chunk.length)), chunk);
+        }
+    }
+
+    /**
+     * Counts the events not yet delivered to every consumer.
+     *
+     * @return The number of pending events
+     */
+    public long countPending() {
+        return jdbcTemplate.queryForObject(COUNT_PENDING_SQL, Long.class);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,35 @@
+package org.acmapis.commercial_management_system.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Repository fragment maintaining the monthly partitions of the {@code sale} and
+ * {@code sale_product} tables. Partitioning only exists on PostgreSQL (migration V5); on other
+ * databases the tables are not partitioned and every method does nothing.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public interface SalePartitionMaintenanceRepository {
+
+    /**
+     * Creates the missing monthly partitions from the month of the first day to the month of the
+     * last day, moving rows of those months out of the default partitions.
+     *
+     * @param firstDay A day of the first month to create
+     * @param lastDay  A day of the last month to create
+     * @return The number of months created
+     */
+    int createSalePartitions(LocalDate firstDay, LocalDate lastDay);
+
+    /**
+     * Detaches the monthly partitions of the months before the given day and moves them to the
+     * {@code sales_archive} schema. Archived sales no longer appear in any query of the application,
+     * but stay counted in the daily sales rollup.
+     *
+     * @param day A day of the oldest month to keep
+     * @return The number of months archived
+     */
+    int archiveSalePartitionsBefore(LocalDate day);
+}
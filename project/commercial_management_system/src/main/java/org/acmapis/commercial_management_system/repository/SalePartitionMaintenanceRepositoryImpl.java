@@ -0,0 +1,64 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * JDBC implementation of {@link SalePartitionMaintenanceRepository}, calling the
+ * {@code create_sale_partitions} and {@code archive_sale_partitions} functions of migration V5.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class SalePartitionMaintenanceRepositoryImpl implements SalePartitionMaintenanceRepository {
+
+    private static final String CREATE_PARTITIONS_SQL = "SELECT create_sale_partitions(?, ?)";
+
+    private static final String ARCHIVE_PARTITIONS_SQL = "SELECT archive_sale_partitions(?)";
+
+    /**
+     * JDBC template used to call the partition functions.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Whether the sale tables are partitioned, that is, whether the database is PostgreSQL.
+     */
+    private final boolean partitioned;
+
+    /**
+     * Constructs a new SalePartitionMaintenanceRepositoryImpl with the required dependencies.
+     *
+     * @param jdbcTemplate   the JDBC template bound to the application data source
+     * @param databaseDriver the driver of the application data source
+     */
+    @Autowired
+    public SalePartitionMaintenanceRepositoryImpl(JdbcTemplate jdbcTemplate, DatabaseDriver databaseDriver) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitioned = databaseDriver == DatabaseDriver.POSTGRESQL;
+    }
+
+    @Override
+    public int createSalePartitions(LocalDate firstDay, LocalDate lastDay) {
+        if (!partitioned) {
+            return 0;
+        }
+        Integer created = jdbcTemplate.queryForObject(CREATE_PARTITIONS_SQL, Integer.class,
+                Date.valueOf(firstDay), Date.valueOf(lastDay));
+        return created != null ? created : 0;
+    }
+
+    @Override
+    public int archiveSalePartitionsBefore(LocalDate day) {
+        if (!partitioned) {
+            return 0;
+        }
+        Integer archived = jdbcTemplate.queryForObject(ARCHIVE_PARTITIONS_SQL, Integer.class, Date.valueOf(day));
+        return archived != null ? archived : 0;
+    }
+}
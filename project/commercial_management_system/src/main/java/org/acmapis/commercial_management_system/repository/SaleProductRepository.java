@@ -1,13 +1,18 @@
 package org.acmapis.commercial_management_system.repository;
 
-import org.acmapis.commercial_management_system.entity.ProductEntity;
 import org.acmapis.commercial_management_system.entity.SaleProductEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repository interface for managing SaleProductEntity data access operations.
@@ -21,26 +26,118 @@ import java.util.List;
 public interface SaleProductRepository extends JpaRepository<SaleProductEntity, Long> {
 
     /**
-     * Retrieves all products ordered by their total sales quantity in descending order.
-     * This method aggregates the quantity sold for each product across all sales.
+     * Projection of a quantity sold of a product.
+     */
+    interface ProductQuantity {
+        UUID getProductId();
+
+        Long getQuantity();
+    }
+
+    /**
+     * Projection of a quantity sold of a product, with the date of the sale.
+     */
+    interface DatedProductQuantity extends ProductQuantity {
+        LocalDateTime getSaleDate();
+    }
+
+    /**
+     * Calculates the total quantity sold of every product that has been sold.
+     *
+     * @return List of ProductQuantity projections, one per product
+     */
+    @Query("SELECT sp.product.productId AS productId, SUM(sp.quantity) AS quantity " +
+            "FROM SaleProductEntity sp GROUP BY sp.product.productId")
+    List<ProductQuantity> sumQuantityByProduct();
+
+    /**
+     * Retrieves the product, quantity and sale date of every sale-product line sold since the given date.
+     * Filters on the line's own copy of the sale date, so only the partitions from that month on are read.
+     *
+     * @param since The earliest sale date to include
+     * @return List of DatedProductQuantity projections, one per line
+     */
+    @Query("SELECT sp.product.productId AS productId, sp.quantity AS quantity, sp.saleDate AS saleDate " +
+            "FROM SaleProductEntity sp WHERE sp.saleDate >= :since")
+    List<DatedProductQuantity> findDatedQuantitiesSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Retrieves the product, quantity and sale date of a sale-product line.
      *
-     * @return List of ProductEntity objects ordered by total sales quantity (highest to lowest)
+     * @param saleProductId The unique identifier of the sale-product line
+     * @return Optional containing the DatedProductQuantity projection if found, empty otherwise
      */
-    @Query("SELECT sp.product FROM SaleProductEntity sp " +
-            "GROUP BY sp.product " +
-            "ORDER BY SUM(sp.quantity) DESC")
-    List<ProductEntity> findBestSellingProducts();
+    @Query("SELECT sp.product.productId AS productId, sp.quantity AS quantity, sp.saleDate AS saleDate " +
+            "FROM SaleProductEntity sp WHERE sp.saleProductId = :saleProductId")
+    Optional<DatedProductQuantity> findDatedQuantityBySaleProductId(@Param("saleProductId") Long saleProductId);
 
     /**
-     * Retrieves the top N best-selling products ordered by total sales quantity.
+     * Retrieves the product, quantity and sale date of every line of a sale.
      *
-     * @param limit The maximum number of products to return
-     * @return List of ProductEntity objects representing the top best-selling products
+     * @param saleId The unique identifier of the sale
+     * @return List of DatedProductQuantity projections, one per line
      */
-    @Query("SELECT sp.product FROM SaleProductEntity sp " +
-            "GROUP BY sp.product " +
-            "ORDER BY SUM(sp.quantity) DESC " +
-            "LIMIT :limit")
-    List<ProductEntity> findTopBestSellingProducts(@Param("limit") int limit);
+    @Query("SELECT sp.product.productId AS productId, sp.quantity AS quantity, sp.saleDate AS saleDate " +
+            "FROM SaleProductEntity sp WHERE sp.sale.saleId = :saleId")
+    List<DatedProductQuantity> findDatedQuantitiesBySaleId(@Param("saleId") UUID saleId);
 
+    /**
+     * Retrieves the product, quantity and sale date of the given sale-product lines.
+     *
+     * @param saleProductIds The unique identifiers of the sale-product lines
+     * @return List of DatedProductQuantity projections, one per line found
+     */
+    @Query("SELECT sp.product.productId AS productId, sp.quantity AS quantity, sp.saleDate AS saleDate " +
+            "FROM SaleProductEntity sp WHERE sp.saleProductId IN :saleProductIds")
+    List<DatedProductQuantity> findDatedQuantitiesBySaleProductIdIn(@Param("saleProductIds") Collection<Long> saleProductIds);
+
+    /**
+     * Retrieves the first page of sale-product relationships in ascending identifier order.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of SaleProductEntity objects sorted by identifier
+     */
+    List<SaleProductEntity> findByOrderBySaleProductIdAsc(Limit limit);
+
+    /**
+     * Retrieves the sale-product relationships whose identifier follows the given keyset position.
+     *
+     * @param saleProductId The identifier of the last row of the previous page
+     * @param limit         The maximum number of rows to return
+     * @return List of SaleProductEntity objects sorted by identifier
+     */
+    List<SaleProductEntity> findBySaleProductIdGreaterThanOrderBySaleProductIdAsc(Long saleProductId, Limit limit);
+
+    // Entity graph variants used by FetchPlan.GRAPH: the sale with its user hierarchy and the product
+    // are loaded by the same statement; product categories are loaded with ProductRepository#fetchCategories.
+
+    /**
+     * Retrieves all sale-product relationships, loading sale and product eagerly.
+     *
+     * @return List of all SaleProductEntity objects
+     */
+    @EntityGraph("SaleProductEntity.detail")
+    @Query("SELECT sp FROM SaleProductEntity sp")
+    List<SaleProductEntity> findAllDetailed();
+
+    /**
+     * Retrieves the first page of sale-product relationships in ascending identifier order, loading sale
+     * and product eagerly.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of SaleProductEntity objects sorted by identifier
+     */
+    @EntityGraph("SaleProductEntity.detail")
+    List<SaleProductEntity> findDetailedByOrderBySaleProductIdAsc(Limit limit);
+
+    /**
+     * Retrieves the sale-product relationships whose identifier follows the given keyset position, loading
+     * sale and product eagerly.
+     *
+     * @param saleProductId The identifier of the last row of the previous page
+     * @param limit         The maximum number of rows to return
+     * @return List of SaleProductEntity objects sorted by identifier
+     */
+    @EntityGraph("SaleProductEntity.detail")
+    List<SaleProductEntity> findDetailedBySaleProductIdGreaterThanOrderBySaleProductIdAsc(Long saleProductId, Limit limit);
 }
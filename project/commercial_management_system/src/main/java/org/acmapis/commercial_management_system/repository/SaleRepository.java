@@ -1,14 +1,22 @@
 package org.acmapis.commercial_management_system.repository;
 
+import jakarta.persistence.QueryHint;
 import org.acmapis.commercial_management_system.entity.SaleEntity;
 import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing SaleEntity data access operations.
@@ -19,7 +27,7 @@ import java.util.UUID;
  * @since 2025-11-19
  */
 @Repository
-public interface SaleRepository extends JpaRepository<SaleEntity, UUID> {
+public interface SaleRepository extends JpaRepository<SaleEntity, UUID>, SalePartitionMaintenanceRepository {
     /**
      * Finds all sales made by a specific user using their user ID.
      *
@@ -28,6 +36,21 @@ public interface SaleRepository extends JpaRepository<SaleEntity, UUID> {
      */
     List<SaleEntity> findByUser_UserId(UUID userUserId);
 
+    /**
+     * Finds the sales made by a specific user within a date range. Only the monthly partitions
+     * of the range are read.
+     *
+     * @param userId The unique identifier of the user
+     * @param from   The earliest sale date to include
+     * @param until  The sale date from which sales are excluded
+     * @return List of SaleEntity objects of the user within the range
+     */
+    @Query("SELECT s FROM SaleEntity s WHERE s.user.userId = :userId " +
+            "AND s.saleDate >= :from AND s.saleDate < :until")
+    List<SaleEntity> findByUserIdAndSaleDateRange(@Param("userId") UUID userId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("until") LocalDateTime until);
+
     /**
      * Finds all sales made by a specific user entity.
      *
@@ -45,21 +68,143 @@ public interface SaleRepository extends JpaRepository<SaleEntity, UUID> {
     List<SaleEntity> findByUser_FirstName(String userFirstName);
 
     /**
-     * Calculates the total sales amount for a specific date.
+     * Finds all sales with total amount greater than the specified threshold.
+     *
+     * @param totalAmountAfter The minimum total amount threshold
+     * @return List of SaleEntity objects with total amount greater than the specified value
+     */
+    List<SaleEntity> findByTotalAmountAfter(Long totalAmountAfter);
+
+    /**
+     * Retrieves the first page of sales ordered by sale date, using the sale ID as tie-breaker.
      *
-     * @param saleDate The date to calculate total sales for
-     * @return The sum of all sale amounts for the specified date, or null if no sales found
+     * @param limit The maximum number of rows to return
+     * @return List of SaleEntity objects sorted by sale date and ID
      */
-    @Query("SELECT SUM(s.totalAmount) FROM SaleEntity s WHERE s.saleDate = ?1")
-    Long sumTotalAmountBySaleDate(LocalDateTime saleDate);
+    List<SaleEntity> findByOrderBySaleDateAscSaleIdAsc(Limit limit);
 
     /**
-     * Finds all sales with total amount greater than the specified threshold.
+     * Retrieves the sales that follow the given (sale date, sale ID) keyset position.
+     * Uses a row value comparison so the database can seek directly on a composite index; the
+     * separate lower bound on the sale date lets PostgreSQL skip the partitions of earlier months.
+     *
+     * @param saleDate The sale date of the last row of the previous page
+     * @param saleId   The sale ID of the last row of the previous page
+     * @param limit    The maximum number of rows to return
+     * @return List of SaleEntity objects sorted by sale date and ID
+     */
+    @Query("SELECT s FROM SaleEntity s " +
+            "WHERE s.saleDate >= :saleDate AND (s.saleDate, s.saleId) > (:saleDate, :saleId) " +
+            "ORDER BY s.saleDate ASC, s.saleId ASC")
+    List<SaleEntity> findSalesAfter(@Param("saleDate") LocalDateTime saleDate,
+                                    @Param("saleId") UUID saleId,
+                                    Limit limit);
+
+    /**
+     * Streams every sale together with its user, city, department and role for bulk export.
+     * Rows are fetched from the database in chunks and loaded read-only, so the caller can
+     * process an arbitrarily large table with constant memory.
+     * Must be consumed inside a transaction and closed after use.
+     *
+     * @return Stream of SaleEntity objects with their user graph initialized
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT s FROM SaleEntity s " +
+            "JOIN FETCH s.user u " +
+            "JOIN FETCH u.role " +
+            "JOIN FETCH u.city c " +
+            "JOIN FETCH c.department")
+    Stream<SaleEntity> streamAllForExport();
+
+    // Entity graph variants used by FetchPlan.GRAPH: the user, role, city and department are
+    // loaded by the same statement instead of one select per distinct user.
+
+    /**
+     * Retrieves all sales loading the user graph eagerly.
+     *
+     * @return List of all SaleEntity objects
+     */
+    @EntityGraph("SaleEntity.detail")
+    @Query("SELECT s FROM SaleEntity s")
+    List<SaleEntity> findAllDetailed();
+
+    /**
+     * Finds all sales made by a specific user, loading the user graph eagerly.
+     *
+     * @param userUserId The unique identifier of the user
+     * @return List of SaleEntity objects associated with the specified user
+     */
+    @EntityGraph("SaleEntity.detail")
+    List<SaleEntity> findDetailedByUser_UserId(UUID userUserId);
+
+    /**
+     * Finds the sales made by a specific user within a date range, loading the user graph eagerly.
+     *
+     * @param userId The unique identifier of the user
+     * @param from   The earliest sale date to include
+     * @param until  The sale date from which sales are excluded
+     * @return List of SaleEntity objects of the user within the range
+     */
+    @EntityGraph("SaleEntity.detail")
+    @Query("SELECT s FROM SaleEntity s WHERE s.user.userId = :userId " +
+            "AND s.saleDate >= :from AND s.saleDate < :until")
+    List<SaleEntity> findDetailedByUserIdAndSaleDateRange(@Param("userId") UUID userId,
+                                                          @Param("from") LocalDateTime from,
+                                                          @Param("until") LocalDateTime until);
+
+    /**
+     * Finds all sales made by users with the specified first name, loading the user graph eagerly.
+     *
+     * @param userFirstName The first name of the user
+     * @return List of SaleEntity objects made by users with the specified first name
+     */
+    @EntityGraph("SaleEntity.detail")
+    List<SaleEntity> findDetailedByUser_FirstName(String userFirstName);
+
+    /**
+     * Finds all sales with total amount greater than the specified threshold, loading the user graph eagerly.
      *
      * @param totalAmountAfter The minimum total amount threshold
      * @return List of SaleEntity objects with total amount greater than the specified value
      */
-    List<SaleEntity> findByTotalAmountAfter(Long totalAmountAfter);
+    @EntityGraph("SaleEntity.detail")
+    List<SaleEntity> findDetailedByTotalAmountAfter(Long totalAmountAfter);
 
+    /**
+     * Retrieves the first page of sales ordered by sale date and ID, loading the user graph eagerly.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of SaleEntity objects sorted by sale date and ID
+     */
+    @EntityGraph("SaleEntity.detail")
+    List<SaleEntity> findDetailedByOrderBySaleDateAscSaleIdAsc(Limit limit);
 
+    /**
+     * Retrieves the sales that follow the given keyset position, loading the user graph eagerly.
+     *
+     * @param saleDate The sale date of the last row of the previous page
+     * @param saleId   The sale ID of the last row of the previous page
+     * @param limit    The maximum number of rows to return
+     * @return List of SaleEntity objects sorted by sale date and ID
+     */
+    @EntityGraph("SaleEntity.detail")
+    @Query("SELECT s FROM SaleEntity s " +
+            "WHERE s.saleDate >= :saleDate AND (s.saleDate, s.saleId) > (:saleDate, :saleId) " +
+            "ORDER BY s.saleDate ASC, s.saleId ASC")
+    List<SaleEntity> findDetailedSalesAfter(@Param("saleDate") LocalDateTime saleDate,
+                                            @Param("saleId") UUID saleId,
+                                            Limit limit);
+
+    /**
+     * Finds the sales with the given identifiers, loading the user graph eagerly.
+     *
+     * @param saleIds The unique identifiers of the sales
+     * @return List of SaleEntity objects found, in no particular order
+     */
+    @EntityGraph("SaleEntity.detail")
+    List<SaleEntity> findDetailedBySaleIdIn(Collection<UUID> saleIds);
 }
@@ -0,0 +1,86 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.model.dto.StockReservationModel;
+import org.acmapis.commercial_management_system.model.enums.StockReservationStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * JDBC access to the stock reservations.
+ * Runs on the connection of the current JPA transaction, so a reservation is recorded or released
+ * together with the stock change it stands for.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Repository
+public class StockReservationRepository {
+
+    private static final String INSERT_RESERVATION_SQL =
+            "INSERT INTO stock_reservation (reservation_id, store_id_fk, product_id_fk, quantity, status, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND_RESERVATION_SQL =
+            "SELECT reservation_id, store_id_fk, product_id_fk, quantity, status FROM stock_reservation " +
+            "WHERE reservation_id = ?";
+
+    private static final String RELEASE_RESERVATION_SQL =
+            "UPDATE stock_reservation SET status = ?, released_at = ? WHERE reservation_id = ? AND status = ?";
+
+    /**
+     * JDBC template used to run the reservation statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new StockReservationRepository with the required dependencies.
+     *
+     * @param jdbcTemplate the JDBC template bound to the application data source
+     */
+    @Autowired
+    public StockReservationRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Records a reservation whose stock was just removed from the store.
+     *
+     * @param reservation The reservation, with its unique identifier
+     * @param createdAt   The time of the reservation
+     */
+    public void insert(StockReservationModel reservation, LocalDateTime createdAt) {
+        jdbcTemplate.update(INSERT_RESERVATION_SQL, reservation.getReservationId(), reservation.getStoreId(),
+                reservation.getProductId(), reservation.getQuantity(), StockReservationStatus.RESERVED.name(), createdAt);
+    }
+
+    /**
+     * Finds a reservation by its unique identifier.
+     *
+     * @param reservationId The unique identifier of the reservation
+     * @return Optional containing the reservation if found, empty otherwise
+     */
+    public Optional<StockReservationModel> findById(UUID reservationId) {
+        return jdbcTemplate.query(FIND_RESERVATION_SQL, (rs, rowNum) -> new StockReservationModel(
+                rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class),
+                rs.getLong(4), StockReservationStatus.valueOf(rs.getString(5))), reservationId).stream().findFirst();
+    }
+
+    /**
+     * Marks a reservation as released if it still holds its stock. Concurrent calls for the same
+     * reservation are serialized by the row lock, so at most one of them succeeds.
+     *
+     * @param reservationId The unique identifier of the reservation
+     * @param releasedAt    The time of the release
+     * @return true if the reservation was released by this call, false if it was already released or does not exist
+     */
+    public boolean markReleased(UUID reservationId, LocalDateTime releasedAt) {
+        return jdbcTemplate.update(RELEASE_RESERVATION_SQL, StockReservationStatus.RELEASED.name(), releasedAt,
+                reservationId, StockReservationStatus.RESERVED.name()) == 1;
+    }
+}
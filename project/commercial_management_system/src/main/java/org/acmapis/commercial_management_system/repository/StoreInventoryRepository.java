@@ -0,0 +1,84 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.model.dto.StoreInventoryItemModel;
+import org.acmapis.commercial_management_system.model.enums.InventorySort;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository fragment reading and maintaining the {@code store_inventory} table, a copy of each
+ * store-product row with the name, description, price and categories of its product.
+ * Rows are rewritten from the source tables, so callers must flush pending entity changes first.
+ * Each refresh locks the store-product rows it rewrites in ID order, as the stock updates do, so
+ * concurrent refreshes and stock changes of the same rows are applied one after the other.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public interface StoreInventoryRepository {
+
+    /**
+     * Finds the products available at a store, in the requested order and then by store-product ID.
+     * Filters left null are not applied.
+     *
+     * @param storeId     The unique identifier of the store
+     * @param minPrice    The minimum price (inclusive), or null
+     * @param maxPrice    The maximum price (inclusive), or null
+     * @param categoryId  The category the products must belong to, or null
+     * @param inStockOnly Whether only products with stock are listed
+     * @param sort        The order of the listing
+     * @param descending  Whether the order is descending
+     * @param afterValue  The sort value of the last row of the previous page, or null for the first page
+     * @param afterId     The store-product ID of the last row of the previous page, or null for the first page
+     * @param limit       The maximum number of rows to return
+     * @return List of StoreInventoryItemModel objects in listing order
+     */
+    List<StoreInventoryItemModel> findStoreInventory(UUID storeId, Double minPrice, Double maxPrice, Long categoryId,
+                                                     boolean inStockOnly, InventorySort sort, boolean descending,
+                                                     Object afterValue, Long afterId, int limit);
+
+    /**
+     * Rewrites the inventory rows of the given store-product relationships.
+     *
+     * @param storeProductIds The unique identifiers of the store-product relationships
+     * @return The number of inventory rows written
+     */
+    int refreshStoreInventory(Collection<Long> storeProductIds);
+
+    /**
+     * Rewrites the inventory rows of every store stocking a product, after a product change.
+     *
+     * @param productId The unique identifier of the product
+     * @return The number of inventory rows written
+     */
+    int refreshStoreInventoryByProductId(UUID productId);
+
+    /**
+     * Rewrites the inventory rows of every store stocking one of the given products, after a
+     * catalog import.
+     *
+     * @param productIds The unique identifiers of the products
+     * @return The number of inventory rows written
+     */
+    int refreshStoreInventoryByProductIds(Collection<UUID> productIds);
+
+    /**
+     * Rewrites the inventory rows of every product of a category, after the category is renamed.
+     *
+     * @param categoryId The unique identifier of the category
+     * @return The number of inventory rows written
+     */
+    int refreshStoreInventoryByCategoryId(Long categoryId);
+
+    /**
+     * Rebuilds the inventory of a store from the source tables. Used to backfill rows written
+     * without going through the service layer, such as the initial data script.
+     *
+     * @param storeId The unique identifier of the store
+     * @return The number of inventory rows written
+     */
+    int rebuildStoreInventory(UUID storeId);
+}
@@ -0,0 +1,284 @@
+package org.acmapis.commercial_management_system.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.StoreInventoryItemModel;
+import org.acmapis.commercial_management_system.model.enums.InventorySort;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link StoreInventoryRepository}.
+ * Runs on the connection of the current JPA transaction. Rows are refreshed by deleting and
+ * inserting them again, in chunks of {@value #IN_LIST_SIZE} store-product IDs; the categories of
+ * each product are stored as a JSON array of {@link CategoryModel}.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class StoreInventoryRepositoryImpl implements StoreInventoryRepository {
+
+    /**
+     * Maximum number of store-product IDs bound to a single statement.
+     */
+    private static final int IN_LIST_SIZE = 500;
+
+    private static final String INVENTORY_SQL =
+            "SELECT si.store_product_id, si.stock, si.address, si.version, si.product_id_fk, si.product_name, " +
+            "si.product_description, si.price, si.categories FROM store_inventory si WHERE si.store_id_fk = ?";
+
+    private static final String MIN_PRICE_CONDITION = " AND si.price >= ?";
+
+    private static final String MAX_PRICE_CONDITION = " AND si.price <= ?";
+
+    private static final String CATEGORY_CONDITION =
+            " AND EXISTS (SELECT 1 FROM product_category pc WHERE pc.product_id_fk = si.product_id_fk " +
+            "AND pc.category_id_fk = ?)";
+
+    private static final String IN_STOCK_CONDITION = " AND si.stock > 0";
+
+    private static final String LOCK_STORE_PRODUCTS_SQL =
+            "SELECT store_product_id FROM store_product WHERE store_product_id IN (%s) " +
+            "ORDER BY store_product_id FOR UPDATE";
+
+    private static final String SOURCE_ROWS_SQL =
+            "SELECT sp.store_product_id, sp.store_id_fk, sp.product_id_fk, sp.stock, sp.address, sp.version, " +
+            "p.product_name, p.description, p.price " +
+            "FROM store_product sp JOIN product p ON p.product_id = sp.product_id_fk " +
+            "WHERE sp.store_product_id IN (%s)";
+
+    private static final String PRODUCT_CATEGORIES_SQL =
+            "SELECT pc.product_id_fk, c.category_id, c.category_name " +
+            "FROM product_category pc JOIN category c ON c.category_id = pc.category_id_fk " +
+            "WHERE pc.product_id_fk IN (%s) ORDER BY c.category_id";
+
+    // The range keeps the delete on the primary key while the statistics of the table are stale, as
+    // during the first rebuild: a generic plan otherwise scans the table comparing every row with
+    // each ID of the list
+    private static final String DELETE_ROWS_SQL =
+            "DELETE FROM store_inventory WHERE store_product_id BETWEEN ? AND ? AND store_product_id IN (%s)";
+
+    private static final String INSERT_ROW_SQL =
+            "INSERT INTO store_inventory (store_product_id, store_id_fk, product_id_fk, stock, address, version, " +
+            "product_name, product_description, price, categories) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String STORE_PRODUCTS_BY_PRODUCT_SQL =
+            "SELECT store_product_id FROM store_product WHERE product_id_fk = ?";
+
+    private static final String STORE_PRODUCTS_BY_PRODUCTS_SQL =
+            "SELECT store_product_id FROM store_product WHERE product_id_fk IN (%s)";
+
+    private static final String STORE_PRODUCTS_BY_CATEGORY_SQL =
+            "SELECT sp.store_product_id FROM product_category pc " +
+            "JOIN store_product sp ON sp.product_id_fk = pc.product_id_fk WHERE pc.category_id_fk = ?";
+
+    private static final String LOCK_STORE_SQL =
+            "SELECT store_product_id FROM store_product WHERE store_id_fk = ? " +
+            "ORDER BY store_product_id FOR UPDATE";
+
+    private static final String DELETE_STORE_SQL = "DELETE FROM store_inventory WHERE store_id_fk = ?";
+
+    /**
+     * JDBC template used to run the inventory statements.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Object mapper used to write and read the categories column.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Reader of the categories column.
+     */
+    private final ObjectReader categoriesReader;
+
+    /**
+     * Constructs a new StoreInventoryRepositoryImpl with the required dependencies.
+     *
+     * @param jdbcTemplate the JDBC template bound to the application data source
+     * @param objectMapper the object mapper used for the categories column
+     */
+    @Autowired
+    public StoreInventoryRepositoryImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.categoriesReader = objectMapper.readerForListOf(CategoryModel.class);
+    }
+
+    @Override
+    public List<StoreInventoryItemModel> findStoreInventory(UUID storeId, Double minPrice, Double maxPrice,
+                                                            Long categoryId, boolean inStockOnly, InventorySort sort,
+                                                            boolean descending, Object afterValue, Long afterId,
+                                                            int limit) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(INVENTORY_SQL);
+        args.add(storeId);
+        if (minPrice != null) {
+            sql.append(MIN_PRICE_CONDITION);
+            args.add(minPrice);
+        }
+        if (maxPrice != null) {
+            sql.append(MAX_PRICE_CONDITION);
+            args.add(maxPrice);
+        }
+        if (categoryId != null) {
+            sql.append(CATEGORY_CONDITION);
+            args.add(categoryId);
+        }
+        if (inStockOnly) {
+            sql.append(IN_STOCK_CONDITION);
+        }
+
+        String column = sortColumn(sort);
+        String direction = descending ? "DESC" : "ASC";
+        if (afterId != null) {
+            sql.append(" AND (").append(column).append(", si.store_product_id) ")
+                    .append(descending ? "<" : ">").append(" (?, ?)");
+            args.add(afterValue);
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY ").append(column).append(' ').append(direction)
+                .append(", si.store_product_id ").append(direction).append(" LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(sql.toString(), this::toItem, args.toArray());
+    }
+
+    @Override
+    public int refreshStoreInventory(Collection<Long> storeProductIds) {
+        List<Long> sortedIds = new ArrayList<>(new TreeSet<>(storeProductIds));
+        int written = 0;
+        for (int from = 0; from < sortedIds.size(); from += IN_LIST_SIZE) {
+            written += refreshChunk(sortedIds.subList(from, Math.min(from + IN_LIST_SIZE, sortedIds.size())));
+        }
+        return written;
+    }
+
+    @Override
+    public int refreshStoreInventoryByProductId(UUID productId) {
+        return refreshStoreInventory(jdbcTemplate.queryForList(STORE_PRODUCTS_BY_PRODUCT_SQL, Long.class, productId));
+    }
+
+    @Override
+    public int refreshStoreInventoryByProductIds(Collection<UUID> productIds) {
+        List<UUID> ids = new ArrayList<>(productIds);
+        List<Long> storeProductIds = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_LIST_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + IN_LIST_SIZE, ids.size()));
+            storeProductIds.addAll(jdbcTemplate.queryForList(STORE_PRODUCTS_BY_PRODUCTS_SQL.formatted(
+                    placeholders(chunk.size())), Long.class, chunk.toArray()));
+        }
+        return refreshStoreInventory(storeProductIds);
+    }
+
+    @Override
+    public int refreshStoreInventoryByCategoryId(Long categoryId) {
+        return refreshStoreInventory(jdbcTemplate.queryForList(STORE_PRODUCTS_BY_CATEGORY_SQL, Long.class, categoryId));
+    }
+
+    @Override
+    public int rebuildStoreInventory(UUID storeId) {
+        // Rows of products moved to another store are dropped here and rewritten by that store
+        List<Long> storeProductIds = jdbcTemplate.queryForList(LOCK_STORE_SQL, Long.class, storeId);
+        jdbcTemplate.update(DELETE_STORE_SQL, storeId);
+        return refreshStoreInventory(storeProductIds);
+    }
+
+    /**
+     * Rewrites the inventory rows of at most {@value #IN_LIST_SIZE} store-product relationships,
+     * sorted by ID. Relationships that no longer exist lose their row.
+     *
+     * @param storeProductIds The unique identifiers of the store-product relationships, ascending
+     * @return The number of inventory rows written
+     */
+    private int refreshChunk(List<Long> storeProductIds) {
+        String placeholders = placeholders(storeProductIds.size());
+        Object[] ids = storeProductIds.toArray();
+        jdbcTemplate.queryForList(LOCK_STORE_PRODUCTS_SQL.formatted(placeholders), Long.class, ids);
+        List<Object[]> rows = jdbcTemplate.query(SOURCE_ROWS_SQL.formatted(placeholders),
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getObject(2, UUID.class),
+                        rs.getObject(3, UUID.class), rs.getLong(4), rs.getString(5), rs.getLong(6),
+                        rs.getString(7), rs.getString(8), rs.getDouble(9), null},
+                ids);
+
+        Set<UUID> productIds = new LinkedHashSet<>();
+        rows.forEach(row -> productIds.add((UUID) row[2]));
+        Map<UUID, String> categories = categoriesByProduct(productIds);
+        rows.forEach(row -> row[9] = categories.getOrDefault((UUID) row[2], "[]"));
+
+        List<Object> deleteArgs = new ArrayList<>(storeProductIds.size() + 2);
+        deleteArgs.add(storeProductIds.get(0));
+        deleteArgs.add(storeProductIds.get(storeProductIds.size() - 1));
+        deleteArgs.addAll(storeProductIds);
+        jdbcTemplate.update(DELETE_ROWS_SQL.formatted(placeholders), deleteArgs.toArray());
+        jdbcTemplate.batchUpdate(INSERT_ROW_SQL, rows);
+        return rows.size();
+    }
+
+    /**
+     * Reads the categories of the given products as the JSON arrays stored in the categories column.
+     * Products without categories are absent from the result.
+     */
+    private Map<UUID, String> categoriesByProduct(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, List<CategoryModel>> categories = new HashMap<>();
+        jdbcTemplate.query(PRODUCT_CATEGORIES_SQL.formatted(placeholders(productIds.size())),
+                rs -> {
+                    categories.computeIfAbsent(rs.getObject(1, UUID.class), productId -> new ArrayList<>())
+                            .add(new CategoryModel(rs.getLong(2), rs.getString(3)));
+                },
+                productIds.toArray());
+        Map<UUID, String> json = new HashMap<>();
+        try {
+            for (Map.Entry<UUID, List<CategoryModel>> entry : categories.entrySet()) {
+                json.put(entry.getKey(), objectMapper.writeValueAsString(entry.getValue()));
+            }
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return json;
+    }
+
+    private StoreInventoryItemModel toItem(ResultSet rs, int rowNum) throws SQLException {
+        List<CategoryModel> categories;
+        try {
+            categories = categoriesReader.readValue(rs.getString(9));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new StoreInventoryItemModel(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getLong(4),
+                rs.getObject(5, UUID.class), rs.getString(6), rs.getString(7), rs.getDouble(8), categories);
+    }
+
+    private static String sortColumn(InventorySort sort) {
+        return switch (sort) {
+            case NAME -> "si.product_name";
+            case PRICE -> "si.price";
+            case STOCK -> "si.stock";
+        };
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
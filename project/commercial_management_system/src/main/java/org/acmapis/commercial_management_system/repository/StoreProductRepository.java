@@ -1,18 +1,73 @@
 package org.acmapis.commercial_management_system.repository;
 
 import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Repository interface for managing StoreProductEntity data access operations.
- * Provides CRUD operations for managing inventory relationships between stores and products.
+ * Provides CRUD operations for managing inventory relationships between stores and products,
+ * and maintains their denormalized copy in the store inventory read model.
  *
  * @author Commercial Management System
  * @version 1.0
  * @since 2025-11-19
  */
 @Repository
-public interface StoreProductRepository extends JpaRepository<StoreProductEntity, Long> {
+public interface StoreProductRepository extends JpaRepository<StoreProductEntity, Long>, StoreProductStockRepository,
+        StoreInventoryRepository {
+
+    /**
+     * Retrieves the inventory rows of a store for the given products, with each product loaded.
+     *
+     * @param storeId    The unique identifier of the store
+     * @param productIds The unique identifiers of the products
+     * @return List of StoreProductEntity objects for the products stocked by the store
+     */
+    @Query("SELECT sp FROM StoreProductEntity sp JOIN FETCH sp.product " +
+            "WHERE sp.store.storeId = :storeId AND sp.product.productId IN :productIds")
+    List<StoreProductEntity> findByStoreIdAndProductIds(@Param("storeId") UUID storeId,
+                                                        @Param("productIds") Collection<UUID> productIds);
+
+    /**
+     * Retrieves the stores that stock a product.
+     *
+     * @param productId The unique identifier of the product
+     * @return List of the unique identifiers of the stores stocking the product
+     */
+    @Query("SELECT DISTINCT sp.store.storeId FROM StoreProductEntity sp WHERE sp.product.productId = :productId")
+    List<UUID> findStoreIdsByProductId(@Param("productId") UUID productId);
+
+    /**
+     * Retrieves the stores that stock any of the given products.
+     *
+     * @param productIds The unique identifiers of the products
+     * @return List of the unique identifiers of the stores stocking the products
+     */
+    @Query("SELECT DISTINCT sp.store.storeId FROM StoreProductEntity sp WHERE sp.product.productId IN :productIds")
+    List<UUID> findStoreIdsByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+    /**
+     * Retrieves the first page of store-product relationships in ascending identifier order.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of StoreProductEntity objects sorted by identifier
+     */
+    List<StoreProductEntity> findByOrderByIdAsc(Limit limit);
 
+    /**
+     * Retrieves the store-product relationships whose identifier follows the given keyset position.
+     *
+     * @param id    The identifier of the last row of the previous page
+     * @param limit The maximum number of rows to return
+     * @return List of StoreProductEntity objects sorted by identifier
+     */
+    List<StoreProductEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -0,0 +1,48 @@
+package org.acmapis.commercial_management_system.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Repository fragment for atomic stock operations on store-product relationships.
+ * Stock is changed with conditional SQL updates instead of read-modify-write on the entity,
+ * so concurrent purchases can never drive the stock below zero. Every statement also bumps
+ * the row version, invalidating entity updates based on an older read.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public interface StoreProductStockRepository {
+
+    /**
+     * Decrements the stock of several store-product relationships in a single JDBC batch.
+     * Each row is only updated when it holds at least the requested quantity.
+     * Rows are updated in ascending ID order so concurrent batches lock rows consistently.
+     *
+     * @param quantitiesByStoreProductId The quantity to remove, keyed by store-product ID
+     * @return List of store-product IDs whose stock was insufficient, empty when every row was decremented
+     */
+    List<Long> decrementStock(Map<Long, Long> quantitiesByStoreProductId);
+
+    /**
+     * Atomically decrements the stock of a product in a store if enough stock is available.
+     *
+     * @param storeId   The unique identifier of the store
+     * @param productId The unique identifier of the product
+     * @param quantity  The quantity to remove
+     * @return true if the stock was decremented, false if it was insufficient or the row does not exist
+     */
+    boolean decrementStock(UUID storeId, UUID productId, long quantity);
+
+    /**
+     * Atomically increments the stock of a product in a store.
+     *
+     * @param storeId   The unique identifier of the store
+     * @param productId The unique identifier of the product
+     * @param quantity  The quantity to add back
+     * @return true if the stock was incremented, false if the row does not exist
+     */
+    boolean incrementStock(UUID storeId, UUID productId, long quantity);
+}
@@ -0,0 +1,105 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of {@link StoreProductStockRepository}.
+ * Runs on the connection of the current JPA transaction. Every change is applied to the
+ * {@code store_inventory} row of the relationship too, with the same relative update, so the store
+ * inventory listing stays current without rewriting the row.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class StoreProductStockRepositoryImpl implements StoreProductStockRepository {
+
+    private static final String DECREMENT_STOCK_SQL =
+            "UPDATE store_product SET stock = stock - ?, version = version + 1 " +
+            "WHERE store_product_id = ? AND stock >= ?";
+
+    private static final String DECREMENT_STORE_PRODUCT_STOCK_SQL =
+            "UPDATE store_product SET stock = stock - ?, version = version + 1 " +
+            "WHERE store_id_fk = ? AND product_id_fk = ? AND stock >= ?";
+
+    private static final String INCREMENT_STORE_PRODUCT_STOCK_SQL =
+            "UPDATE store_product SET stock = stock + ?, version = version + 1 " +
+            "WHERE store_id_fk = ? AND product_id_fk = ?";
+
+    private static final String DECREMENT_INVENTORY_STOCK_SQL =
+            "UPDATE store_inventory SET stock = stock - ?, version = version + 1 WHERE store_product_id = ?";
+
+    private static final String DECREMENT_STORE_INVENTORY_STOCK_SQL =
+            "UPDATE store_inventory SET stock = stock - ?, version = version + 1 " +
+            "WHERE store_id_fk = ? AND product_id_fk = ?";
+
+    private static final String INCREMENT_STORE_INVENTORY_STOCK_SQL =
+            "UPDATE store_inventory SET stock = stock + ?, version = version + 1 " +
+            "WHERE store_id_fk = ? AND product_id_fk = ?";
+
+    /**
+     * JDBC template used to run the conditional stock updates.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new StoreProductStockRepositoryImpl with the required dependencies.
+     *
+     * @param jdbcTemplate the JDBC template bound to the application data source
+     */
+    @Autowired
+    public StoreProductStockRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> decrementStock(Map<Long, Long> quantitiesByStoreProductId) {
+        List<Long> storeProductIds = new ArrayList<>(new TreeMap<>(quantitiesByStoreProductId).keySet());
+        List<Object[]> batchArgs = new ArrayList<>(storeProductIds.size());
+        for (Long storeProductId : storeProductIds) {
+            Long quantity = quantitiesByStoreProductId.get(storeProductId);
+            batchArgs.add(new Object[]{quantity, storeProductId, quantity});
+        }
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(DECREMENT_STOCK_SQL, batchArgs);
+
+        List<Long> insufficient = new ArrayList<>();
+        List<Object[]> inventoryArgs = new ArrayList<>(updatedRows.length);
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                insufficient.add(storeProductIds.get(i));
+            } else {
+                inventoryArgs.add(new Object[]{batchArgs.get(i)[0], storeProductIds.get(i)});
+            }
+        }
+        if (!inventoryArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(DECREMENT_INVENTORY_STOCK_SQL, inventoryArgs);
+        }
+        return insufficient;
+    }
+
+    @Override
+    public boolean decrementStock(UUID storeId, UUID productId, long quantity) {
+        if (jdbcTemplate.update(DECREMENT_STORE_PRODUCT_STOCK_SQL, quantity, storeId, productId, quantity) == 0) {
+            return false;
+        }
+        jdbcTemplate.update(DECREMENT_STORE_INVENTORY_STOCK_SQL, quantity, storeId, productId);
+        return true;
+    }
+
+    @Override
+    public boolean incrementStock(UUID storeId, UUID productId, long quantity) {
+        if (jdbcTemplate.update(INCREMENT_STORE_PRODUCT_STOCK_SQL, quantity, storeId, productId) == 0) {
+            return false;
+        }
+        jdbcTemplate.update(INCREMENT_STORE_INVENTORY_STOCK_SQL, quantity, storeId, productId);
+        return true;
+    }
+}
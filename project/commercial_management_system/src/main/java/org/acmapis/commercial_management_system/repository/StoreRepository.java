@@ -1,12 +1,19 @@
 package org.acmapis.commercial_management_system.repository;
 
+import jakarta.persistence.QueryHint;
 import org.acmapis.commercial_management_system.entity.ProductEntity;
 import org.acmapis.commercial_management_system.entity.StoreEntity;
 import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.repository.projection.StoreProductRow;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,6 +35,14 @@ public interface StoreRepository extends JpaRepository<StoreEntity, UUID> {
      */
     List<StoreEntity> findByCity_CityId(Long cityCityId);
 
+    /**
+     * Retrieves the identifiers of all stores in ascending order.
+     *
+     * @return List of the unique identifiers of every store
+     */
+    @Query("SELECT s.storeId FROM StoreEntity s ORDER BY s.storeId")
+    List<UUID> findAllStoreIds();
+
     /**
      * Finds all stores located in a specific city by city name.
      *
@@ -61,7 +76,116 @@ public interface StoreRepository extends JpaRepository<StoreEntity, UUID> {
      * @param storeId The unique identifier of the store
      * @return List of StoreProductEntity objects representing the inventory for the specified store
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT sp FROM StoreProductEntity sp WHERE sp.store.storeId = :storeId")
     List<StoreProductEntity> findStoreProductsByStoreId(@Param("storeId") UUID storeId);
 
+    /**
+     * Retrieves the first page of stores in ascending identifier order.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of StoreEntity objects sorted by identifier
+     */
+    List<StoreEntity> findByOrderByStoreIdAsc(Limit limit);
+
+    /**
+     * Retrieves the stores whose identifier follows the given keyset position.
+     *
+     * @param storeId The identifier of the last row of the previous page
+     * @param limit   The maximum number of rows to return
+     * @return List of StoreEntity objects sorted by identifier
+     */
+    List<StoreEntity> findByStoreIdGreaterThanOrderByStoreIdAsc(UUID storeId, Limit limit);
+
+    // Entity graph and fetch join variants used by FetchPlan.GRAPH: the city and department are
+    // loaded by the same statement instead of one select per distinct city.
+
+    /**
+     * Retrieves all stores, loading city and department eagerly.
+     *
+     * @return List of all StoreEntity objects
+     */
+    @EntityGraph("StoreEntity.detail")
+    @Query("SELECT s FROM StoreEntity s")
+    List<StoreEntity> findAllDetailed();
+
+    /**
+     * Finds all stores located in a specific city by city ID, loading city and department eagerly.
+     *
+     * @param cityCityId The unique identifier of the city
+     * @return List of StoreEntity objects located in the specified city
+     */
+    @EntityGraph("StoreEntity.detail")
+    List<StoreEntity> findDetailedByCity_CityId(Long cityCityId);
+
+    /**
+     * Finds all stores located in a specific city by city name, loading city and department eagerly.
+     *
+     * @param cityCityName The name of the city
+     * @return List of StoreEntity objects located in the city with the specified name
+     */
+    @EntityGraph("StoreEntity.detail")
+    List<StoreEntity> findDetailedByCity_CityName(String cityCityName);
+
+    /**
+     * Retrieves the first page of stores in ascending identifier order, loading city and department eagerly.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of StoreEntity objects sorted by identifier
+     */
+    @EntityGraph("StoreEntity.detail")
+    List<StoreEntity> findDetailedByOrderByStoreIdAsc(Limit limit);
+
+    /**
+     * Retrieves the stores whose identifier follows the given keyset position, loading city and department
+     * eagerly.
+     *
+     * @param storeId The identifier of the last row of the previous page
+     * @param limit   The maximum number of rows to return
+     * @return List of StoreEntity objects sorted by identifier
+     */
+    @EntityGraph("StoreEntity.detail")
+    List<StoreEntity> findDetailedByStoreIdGreaterThanOrderByStoreIdAsc(UUID storeId, Limit limit);
+
+    /**
+     * Retrieves the inventory of a specific store with the store, city, department, product and
+     * product categories fetched in a single statement.
+     *
+     * @param storeId The unique identifier of the store
+     * @return List of StoreProductEntity objects representing the store's inventory
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT DISTINCT sp FROM StoreProductEntity sp " +
+            "JOIN FETCH sp.store st " +
+            "JOIN FETCH st.city c " +
+            "JOIN FETCH c.department " +
+            "JOIN FETCH sp.product p " +
+            "LEFT JOIN FETCH p.categories " +
+            "WHERE st.storeId = :storeId")
+    List<StoreProductEntity> findDetailedStoreProductsByStoreId(@Param("storeId") UUID storeId);
+
+    /**
+     * Finds the stores with the given identifiers, loading the city and department eagerly.
+     *
+     * @param storeIds The unique identifiers of the stores
+     * @return List of StoreEntity objects found, in no particular order
+     */
+    @EntityGraph("StoreEntity.detail")
+    List<StoreEntity> findDetailedByStoreIdIn(Collection<UUID> storeIds);
+
+    /**
+     * Retrieves the columns of the inventory of a specific store, with the store, city, department
+     * and product, for FetchPlan.PROJECTION. The product categories are read by
+     * {@link ProductRepository#findCategoryRowsByStoreId(UUID)}.
+     *
+     * @param storeId The unique identifier of the store
+     * @return List of StoreProductRow objects representing the store's inventory
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.repository.projection.StoreProductRow(" +
+            "sp.id, sp.stock, sp.address, sp.version, st.storeId, st.storeName, c.cityId, c.cityName, " +
+            "d.departmentId, d.departmentName, p.productId, p.productName, p.productDescription, p.price, " +
+            "p.createdAt, p.updatedAt) " +
+            "FROM StoreProductEntity sp JOIN sp.store st JOIN st.city c JOIN c.department d JOIN sp.product p " +
+            "WHERE st.storeId = :storeId")
+    List<StoreProductRow> findStoreProductRowsByStoreId(@Param("storeId") UUID storeId);
 }
@@ -1,7 +1,15 @@
 package org.acmapis.commercial_management_system.repository;
 
+import jakarta.persistence.QueryHint;
 import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.repository.projection.UserRow;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.UUID;
@@ -30,6 +38,7 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
      * @param cityCityId The unique identifier of the city
      * @return List of UserEntity objects located in the specified city
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<UserEntity> findByCity_CityId(Long cityCityId);
 
     /**
@@ -38,6 +47,7 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
      * @param cityCityName The name of the city
      * @return List of UserEntity objects located in the city with the specified name
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<UserEntity> findByCity_CityName(String cityCityName);
 
     /**
@@ -55,4 +65,127 @@ public interface UserRepository extends JpaRepository<UserEntity, UUID> {
      * @return List of UserEntity objects with first names matching the specified pattern
      */
     List<UserEntity> findByFirstNameContainingIgnoreCase(String firstName);
+
+    /**
+     * Retrieves the first page of users in ascending identifier order.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of UserEntity objects sorted by identifier
+     */
+    List<UserEntity> findByOrderByUserIdAsc(Limit limit);
+
+    /**
+     * Retrieves the users whose identifier follows the given keyset position.
+     *
+     * @param userId The identifier of the last row of the previous page
+     * @param limit  The maximum number of rows to return
+     * @return List of UserEntity objects sorted by identifier
+     */
+    List<UserEntity> findByUserIdGreaterThanOrderByUserIdAsc(UUID userId, Limit limit);
+
+    // Entity graph variants used by FetchPlan.GRAPH: the role, city and department are loaded by
+    // the same statement instead of one select per distinct city and role.
+
+    /**
+     * Retrieves all users, loading role and city eagerly.
+     *
+     * @return List of all UserEntity objects
+     */
+    @EntityGraph("UserEntity.detail")
+    @Query("SELECT u FROM UserEntity u")
+    List<UserEntity> findAllDetailed();
+
+    /**
+     * Finds users by their last name (case-insensitive), loading role and city eagerly.
+     *
+     * @param lastName The last name to search for (case-insensitive)
+     * @return List of UserEntity objects with the specified last name
+     */
+    @EntityGraph("UserEntity.detail")
+    List<UserEntity> findDetailedByLastNameIgnoreCase(String lastName);
+
+    /**
+     * Finds all users located in a specific city by city ID, loading role and city eagerly.
+     *
+     * @param cityCityId The unique identifier of the city
+     * @return List of UserEntity objects located in the specified city
+     */
+    @EntityGraph("UserEntity.detail")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<UserEntity> findDetailedByCity_CityId(Long cityCityId);
+
+    /**
+     * Finds all users located in a specific city by city name, loading role and city eagerly.
+     *
+     * @param cityCityName The name of the city
+     * @return List of UserEntity objects located in the city with the specified name
+     */
+    @EntityGraph("UserEntity.detail")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<UserEntity> findDetailedByCity_CityName(String cityCityName);
+
+    /**
+     * Finds all users located in cities within a specific department by department name, loading role and
+     * city eagerly.
+     *
+     * @param cityDepartmentDepartmentName The name of the department
+     * @return List of UserEntity objects located in cities within the specified department
+     */
+    @EntityGraph("UserEntity.detail")
+    List<UserEntity> findDetailedByCity_Department_DepartmentName(String cityDepartmentDepartmentName);
+
+    /**
+     * Finds users by their first name using a case-insensitive partial match, loading role and city eagerly.
+     *
+     * @param firstName The first name pattern to search for (case-insensitive)
+     * @return List of UserEntity objects with first names matching the specified pattern
+     */
+    @EntityGraph("UserEntity.detail")
+    List<UserEntity> findDetailedByFirstNameContainingIgnoreCase(String firstName);
+
+    /**
+     * Retrieves the first page of users in ascending identifier order, loading role and city eagerly.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of UserEntity objects sorted by identifier
+     */
+    @EntityGraph("UserEntity.detail")
+    List<UserEntity> findDetailedByOrderByUserIdAsc(Limit limit);
+
+    /**
+     * Retrieves the users whose identifier follows the given keyset position, loading role and city eagerly.
+     *
+     * @param userId The identifier of the last row of the previous page
+     * @param limit  The maximum number of rows to return
+     * @return List of UserEntity objects sorted by identifier
+     */
+    @EntityGraph("UserEntity.detail")
+    List<UserEntity> findDetailedByUserIdGreaterThanOrderByUserIdAsc(UUID userId, Limit limit);
+
+    // Projection variants used by FetchPlan.PROJECTION: only the columns of the response are
+    // selected, straight into records, so no entity is instantiated or tracked by the session.
+
+    /**
+     * Finds the columns of the users located in a specific city by city ID, with role, city and department.
+     *
+     * @param cityId The unique identifier of the city
+     * @return List of UserRow objects located in the specified city
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.repository.projection.UserRow(" +
+            "u.userId, u.firstName, u.lastName, u.username, u.email, u.password, u.createdAt, u.phone, " +
+            "r.userRoleId, r.role, c.cityId, c.cityName, d.departmentId, d.departmentName) " +
+            "FROM UserEntity u JOIN u.role r JOIN u.city c JOIN c.department d WHERE c.cityId = :cityId")
+    List<UserRow> findRowsByCityId(@Param("cityId") Long cityId);
+
+    /**
+     * Finds the columns of the users located in a specific city by city name, with role, city and department.
+     *
+     * @param cityName The name of the city
+     * @return List of UserRow objects located in the city with the specified name
+     */
+    @Query("SELECT new org.acmapis.commercial_management_system.repository.projection.UserRow(" +
+            "u.userId, u.firstName, u.lastName, u.username, u.email, u.password, u.createdAt, u.phone, " +
+            "r.userRoleId, r.role, c.cityId, c.cityName, d.departmentId, d.departmentName) " +
+            "FROM UserEntity u JOIN u.role r JOIN u.city c JOIN c.department d WHERE c.cityName = :cityName")
+    List<UserRow> findRowsByCityName(@Param("cityName") String cityName);
 }
@@ -1,9 +1,12 @@
 package org.acmapis.commercial_management_system.repository;
 
 import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * Repository interface for managing UserRoleEntity data access operations.
  * Provides CRUD operations for user role management and role-based queries.
@@ -15,4 +18,20 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface UserRoleRepository extends JpaRepository<UserRoleEntity, Long> {
 
+    /**
+     * Retrieves the first page of user roles in ascending identifier order.
+     *
+     * @param limit The maximum number of rows to return
+     * @return List of UserRoleEntity objects sorted by identifier
+     */
+    List<UserRoleEntity> findByOrderByUserRoleIdAsc(Limit limit);
+
+    /**
+     * Retrieves the user roles whose identifier follows the given keyset position.
+     *
+     * @param userRoleId The identifier of the last row of the previous page
+     * @param limit      The maximum number of rows to return
+     * @return List of UserRoleEntity objects sorted by identifier
+     */
+    List<UserRoleEntity> findByUserRoleIdGreaterThanOrderByUserRoleIdAsc(Long userRoleId, Limit limit);
 }
@@ -0,0 +1,17 @@
+package org.acmapis.commercial_management_system.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * One category of a product, read by the projection queries to fill the categories of
+ * {@link ProductRow} results with a single additional statement.
+ *
+ * @param productId    The unique identifier of the product
+ * @param categoryId   The unique identifier of the category
+ * @param categoryName The name of the category
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public record ProductCategoryRow(UUID productId, Long categoryId, String categoryName) {
+}
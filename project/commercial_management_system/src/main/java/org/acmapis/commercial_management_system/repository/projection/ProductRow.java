@@ -0,0 +1,25 @@
+package org.acmapis.commercial_management_system.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Columns of a product read by the projection queries, without its categories.
+ *
+ * @param productId          The unique identifier of the product
+ * @param productName        The name of the product
+ * @param productDescription The description of the product
+ * @param price              The price of the product
+ * @param createdAt          The creation timestamp of the product
+ * @param updatedAt          The last update timestamp of the product
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public record ProductRow(UUID productId,
+                         String productName,
+                         String productDescription,
+                         Double price,
+                         LocalDateTime createdAt,
+                         LocalDateTime updatedAt) {
+}
@@ -0,0 +1,17 @@
+package org.acmapis.commercial_management_system.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * A product matched by the product search, with its relevance score.
+ * Results are ordered by score descending and product ID ascending, which is also the keyset
+ * of the search pages.
+ *
+ * @param productId The unique identifier of the product
+ * @param score     The relevance of the product for the search terms, higher first
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public record ProductSearchHit(UUID productId, float score) {
+}
@@ -0,0 +1,27 @@
+package org.acmapis.commercial_management_system.repository.projection;
+
+import org.acmapis.commercial_management_system.model.enums.SaleEventType;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One sale event read from the outbox by {@code SaleEventDispatcher}.
+ * Counts, amounts and units are the change the event applies, negative for reversing events.
+ *
+ * @param eventId      The unique identifier of the event, increasing with insertion order
+ * @param type         The kind of event
+ * @param saleId       The unique identifier of the sale
+ * @param saleDay      The calendar day of the sale
+ * @param cityId       The city of the user who made the sale
+ * @param departmentId The department of that city
+ * @param saleCount    The change in the number of sales
+ * @param totalAmount  The change in the sum of the sale totals
+ * @param units        The change in the sum of the line quantities
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public record SaleEventRow(Long eventId, SaleEventType type, UUID saleId, LocalDate saleDay, Long cityId,
+                           Long departmentId, long saleCount, long totalAmount, long units) {
+}
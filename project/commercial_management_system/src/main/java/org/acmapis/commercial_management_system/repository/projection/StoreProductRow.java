@@ -0,0 +1,46 @@
+package org.acmapis.commercial_management_system.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Columns of a store inventory line read by the projection queries: the stock and address of the
+ * line, its store with city and department, and its product without categories.
+ *
+ * @param id                 The unique identifier of the store-product relationship
+ * @param stock              The stock of the product in the store
+ * @param address            The location of the product within the store
+ * @param version            The optimistic locking version of the line
+ * @param storeId            The unique identifier of the store
+ * @param storeName          The name of the store
+ * @param cityId             The unique identifier of the city of the store
+ * @param cityName           The name of the city of the store
+ * @param departmentId       The unique identifier of the department of the city
+ * @param departmentName     The name of the department of the city
+ * @param productId          The unique identifier of the product
+ * @param productName        The name of the product
+ * @param productDescription The description of the product
+ * @param price              The price of the product
+ * @param createdAt          The creation timestamp of the product
+ * @param updatedAt          The last update timestamp of the product
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public record StoreProductRow(Long id,
+                              Long stock,
+                              String address,
+                              Long version,
+                              UUID storeId,
+                              String storeName,
+                              Long cityId,
+                              String cityName,
+                              Long departmentId,
+                              String departmentName,
+                              UUID productId,
+                              String productName,
+                              String productDescription,
+                              Double price,
+                              LocalDateTime createdAt,
+                              LocalDateTime updatedAt) {
+}
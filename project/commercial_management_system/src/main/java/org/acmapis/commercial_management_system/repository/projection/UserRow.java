@@ -0,0 +1,43 @@
+package org.acmapis.commercial_management_system.repository.projection;
+
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Columns of a user read by the projection queries, together with its role, city and department.
+ *
+ * @param userId         The unique identifier of the user
+ * @param firstName      The first name of the user
+ * @param lastName       The last name of the user
+ * @param username       The username of the user
+ * @param email          The email address of the user
+ * @param password       The password of the user
+ * @param createdAt      The creation timestamp of the user
+ * @param phone          The phone number of the user
+ * @param userRoleId     The unique identifier of the role of the user
+ * @param role           The role of the user
+ * @param cityId         The unique identifier of the city of the user
+ * @param cityName       The name of the city of the user
+ * @param departmentId   The unique identifier of the department of the city
+ * @param departmentName The name of the department of the city
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public record UserRow(UUID userId,
+                      String firstName,
+                      String lastName,
+                      String username,
+                      String email,
+                      String password,
+                      LocalDateTime createdAt,
+                      String phone,
+                      Long userRoleId,
+                      UserRole role,
+                      Long cityId,
+                      String cityName,
+                      Long departmentId,
+                      String departmentName) {
+}
@@ -0,0 +1,97 @@
+package org.acmapis.commercial_management_system.repository.reactive;
+
+import io.r2dbc.spi.Readable;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reactive read-only queries over products and store inventory, run through R2DBC.
+ * Rows are mapped straight to models, without categories, and emitted as the database returns them.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Repository
+public class ReactiveProductRepository {
+
+    private static final String PRODUCT_COLUMNS =
+            "p.product_id, p.product_name, p.description, p.price, p.created_at, p.updated_at";
+
+    private static final String FIND_BY_PRICE_BETWEEN_SQL =
+            "SELECT " + PRODUCT_COLUMNS + " FROM product p " +
+            "WHERE p.price BETWEEN :minPrice AND :maxPrice ORDER BY p.price, p.product_id";
+
+    private static final String FIND_STORE_PRODUCTS_BY_STORE_ID_SQL =
+            "SELECT sp.store_product_id, sp.stock, sp.address, sp.version, " + PRODUCT_COLUMNS + " " +
+            "FROM store_product sp JOIN product p ON p.product_id = sp.product_id_fk " +
+            "WHERE sp.store_id_fk = :storeId ORDER BY p.product_name, p.product_id";
+
+    /**
+     * Client running the queries on the R2DBC connection factory.
+     */
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructs a new ReactiveProductRepository with the required dependencies.
+     *
+     * @param databaseClient the client bound to the R2DBC connection factory
+     */
+    @Autowired
+    public ReactiveProductRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Finds the products within a price range, ordered by price.
+     *
+     * @param minPrice The minimum price (inclusive)
+     * @param maxPrice The maximum price (inclusive)
+     * @return Flux of ProductModel objects without categories
+     */
+    public Flux<ProductModel> findByPriceBetween(Double minPrice, Double maxPrice) {
+        return databaseClient.sql(FIND_BY_PRICE_BETWEEN_SQL)
+                .bind("minPrice", minPrice)
+                .bind("maxPrice", maxPrice)
+                .map(ReactiveProductRepository::toProduct)
+                .all();
+    }
+
+    /**
+     * Finds the inventory of a store: its stock entries together with their products, ordered by
+     * product name.
+     *
+     * @param storeId The unique identifier of the store
+     * @return Flux of StoreProductModel objects with their product, without the store
+     */
+    public Flux<StoreProductModel> findStoreProductsByStoreId(UUID storeId) {
+        return databaseClient.sql(FIND_STORE_PRODUCTS_BY_STORE_ID_SQL)
+                .bind("storeId", storeId)
+                .map(row -> StoreProductModel.builder()
+                        .id(row.get("store_product_id", Long.class))
+                        .stock(row.get("stock", Long.class))
+                        .address(row.get("address", String.class))
+                        .version(row.get("version", Long.class))
+                        .product(toProduct(row))
+                        .build())
+                .all();
+    }
+
+    private static ProductModel toProduct(Readable row) {
+        return ProductModel.builder()
+                .productId(row.get("product_id", UUID.class))
+                .productName(row.get("product_name", String.class))
+                .productDescription(row.get("description", String.class))
+                .price(row.get("price", Double.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
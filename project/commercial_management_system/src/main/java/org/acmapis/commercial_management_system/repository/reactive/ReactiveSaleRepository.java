@@ -0,0 +1,131 @@
+package org.acmapis.commercial_management_system.repository.reactive;
+
+import org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel;
+import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Reactive read-only queries over sales and the daily sales rollup, run through R2DBC.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Repository
+public class ReactiveSaleRepository {
+
+    private static final String FIND_BY_USER_ID_AND_SALE_DATE_RANGE_SQL =
+            "SELECT sale_id, sale_date, total_amount FROM sale " +
+            "WHERE user_id_fk = :userId AND sale_date >= :from AND sale_date < :until " +
+            "ORDER BY sale_date, sale_id";
+
+    private static final String FIND_DAILY_TOTALS_SQL =
+            "SELECT sale_day, CAST(SUM(sale_count) AS BIGINT) AS sale_count, " +
+            "CAST(SUM(total_amount) AS BIGINT) AS total_amount FROM sale_daily_rollup " +
+            "WHERE sale_day BETWEEN :from AND :to AND sale_count > 0 GROUP BY sale_day ORDER BY sale_day";
+
+    private static final String FIND_DAILY_TOTALS_BY_CITY_ID_SQL =
+            "SELECT sale_day, sale_count, total_amount FROM sale_daily_rollup " +
+            "WHERE city_id_fk = :cityId AND sale_day BETWEEN :from AND :to AND sale_count > 0 ORDER BY sale_day";
+
+    private static final String FIND_CITY_TOTALS_SQL =
+            "SELECT city_id_fk, CAST(SUM(sale_count) AS BIGINT) AS sale_count, " +
+            "CAST(SUM(total_amount) AS BIGINT) AS total_amount FROM sale_daily_rollup " +
+            "WHERE sale_day BETWEEN :from AND :to GROUP BY city_id_fk " +
+            "HAVING SUM(sale_count) > 0 ORDER BY SUM(total_amount) DESC";
+
+    /**
+     * Client running the queries on the R2DBC connection factory.
+     */
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Constructs a new ReactiveSaleRepository with the required dependencies.
+     *
+     * @param databaseClient the client bound to the R2DBC connection factory
+     */
+    @Autowired
+    public ReactiveSaleRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * Finds the sales made by a specific user within a date range, in date order. On PostgreSQL
+     * only the monthly partitions of the range are read.
+     *
+     * @param userId The unique identifier of the user
+     * @param from   The earliest sale date to include
+     * @param until  The sale date from which sales are excluded
+     * @return Flux of SaleModel objects without their user
+     */
+    public Flux<SaleModel> findByUserIdAndSaleDateRange(UUID userId, LocalDateTime from, LocalDateTime until) {
+        return databaseClient.sql(FIND_BY_USER_ID_AND_SALE_DATE_RANGE_SQL)
+                .bind("userId", userId)
+                .bind("from", from)
+                .bind("until", until)
+                .map(row -> SaleModel.builder()
+                        .saleId(row.get("sale_id", UUID.class))
+                        .saleDate(row.get("sale_date", LocalDateTime.class))
+                        .totalAmount(row.get("total_amount", Long.class))
+                        .build())
+                .all();
+    }
+
+    /**
+     * Retrieves the daily totals across all cities for an inclusive range of days.
+     *
+     * @param from The first day of the range
+     * @param to   The last day of the range
+     * @return Flux of SaleDailyTotalModel objects, one per day with sales, in ascending day order
+     */
+    public Flux<SaleDailyTotalModel> findDailyTotals(LocalDate from, LocalDate to) {
+        return databaseClient.sql(FIND_DAILY_TOTALS_SQL)
+                .bind("from", from)
+                .bind("to", to)
+                .map(row -> new SaleDailyTotalModel(row.get("sale_day", LocalDate.class), null,
+                        row.get("sale_count", Long.class), row.get("total_amount", Long.class)))
+                .all();
+    }
+
+    /**
+     * Retrieves the daily totals of one city for an inclusive range of days.
+     *
+     * @param cityId The unique identifier of the city
+     * @param from   The first day of the range
+     * @param to     The last day of the range
+     * @return Flux of SaleDailyTotalModel objects, one per day with sales, in ascending day order
+     */
+    public Flux<SaleDailyTotalModel> findDailyTotalsByCityId(Long cityId, LocalDate from, LocalDate to) {
+        return databaseClient.sql(FIND_DAILY_TOTALS_BY_CITY_ID_SQL)
+                .bind("cityId", cityId)
+                .bind("from", from)
+                .bind("to", to)
+                .map(row -> new SaleDailyTotalModel(row.get("sale_day", LocalDate.class), cityId,
+                        row.get("sale_count", Long.class), row.get("total_amount", Long.class)))
+                .all();
+    }
+
+    /**
+     * Retrieves the totals of each city over an inclusive range of days.
+     *
+     * @param from The first day of the range
+     * @param to   The last day of the range
+     * @return Flux of SaleDailyTotalModel objects, one per city with sales, with a null day,
+     * ordered by total amount descending
+     */
+    public Flux<SaleDailyTotalModel> findCityTotals(LocalDate from, LocalDate to) {
+        return databaseClient.sql(FIND_CITY_TOTALS_SQL)
+                .bind("from", from)
+                .bind("to", to)
+                .map(row -> new SaleDailyTotalModel(null, row.get("city_id_fk", Long.class),
+                        row.get("sale_count", Long.class), row.get("total_amount", Long.class)))
+                .all();
+    }
+}
@@ -0,0 +1,253 @@
+package org.acmapis.commercial_management_system.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * In-memory ranking of products by quantity sold, updated incrementally.
+ * <p>
+ * Products are kept in an indexed binary max-heap: a hash index maps each product to its heap
+ * slot, so a quantity change is applied with one sift in O(log n). The top {@code k} products are
+ * read without modifying the heap by walking it with a small frontier queue in O(k log k).
+ * Ties are broken by product identifier so rankings are deterministic.
+ * <p>
+ * A windowed leaderboard also keeps the quantities of each time bucket. Buckets that fall out of
+ * the window are subtracted from the ranking before every read and write, and changes to sales
+ * older than the window are ignored.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class BestSellerLeaderboard {
+
+    /**
+     * Ranked product and its slot in the heap.
+     */
+    private static final class Entry {
+        private final UUID productId;
+        private long quantity;
+        private int slot;
+
+        private Entry(UUID productId) {
+            this.productId = productId;
+        }
+    }
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong((Entry entry) -> entry.quantity).reversed()
+            .thenComparing(entry -> entry.productId);
+
+    private final List<Entry> heap = new ArrayList<>();
+
+    private final Map<UUID, Entry> index = new HashMap<>();
+
+    private final TreeMap<Long, Map<UUID, Long>> buckets = new TreeMap<>();
+
+    private final long windowSeconds;
+
+    private final long bucketSeconds;
+
+    private final Clock clock;
+
+    /**
+     * Creates a leaderboard counting every sale.
+     */
+    public BestSellerLeaderboard() {
+        this.windowSeconds = 0;
+        this.bucketSeconds = 0;
+        this.clock = null;
+    }
+
+    /**
+     * Creates a leaderboard counting only the sales of a sliding window.
+     *
+     * @param window the length of the window
+     * @param bucket the granularity at which sales expire, must divide the window
+     * @param clock  the clock defining the current time and the time zone of sale dates
+     */
+    public BestSellerLeaderboard(Duration window, Duration bucket, Clock clock) {
+        this.windowSeconds = window.toSeconds();
+        this.bucketSeconds = bucket.toSeconds();
+        this.clock = clock;
+    }
+
+    /**
+     * Adds a quantity sold of a product. A negative quantity removes previously added sales.
+     * Products whose quantity drops to zero leave the ranking.
+     *
+     * @param productId the unique identifier of the product
+     * @param saleDate  the date of the sale, used by windowed leaderboards
+     * @param quantity  the quantity to add
+     */
+    public synchronized void add(UUID productId, LocalDateTime saleDate, long quantity) {
+        if (quantity == 0) {
+            return;
+        }
+        if (clock != null) {
+            expire();
+            long bucket = bucketOf(saleDate);
+            if (bucket < currentBucket() - bucketCount()) {
+                return;
+            }
+            buckets.computeIfAbsent(bucket, key -> new HashMap<>()).merge(productId, quantity, Long::sum);
+        }
+        adjust(productId, quantity);
+    }
+
+    /**
+     * Returns the best-selling products, highest quantity first.
+     *
+     * @param limit the maximum number of products to return
+     * @return the identifiers of at most {@code limit} products
+     */
+    public synchronized List<UUID> top(int limit) {
+        if (clock != null) {
+            expire();
+        }
+        int size = Math.min(Math.max(limit, 0), heap.size());
+        List<UUID> result = new ArrayList<>(size);
+        if (size == 0) {
+            return result;
+        }
+        PriorityQueue<Entry> frontier = new PriorityQueue<>(RANKING);
+        frontier.add(heap.get(0));
+        while (result.size() < size) {
+            Entry entry = frontier.poll();
+            result.add(entry.productId);
+            int child = 2 * entry.slot + 1;
+            if (child < heap.size()) {
+                frontier.add(heap.get(child));
+            }
+            if (child + 1 < heap.size()) {
+                frontier.add(heap.get(child + 1));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the quantity currently counted for a product.
+     *
+     * @param productId the unique identifier of the product
+     * @return the quantity sold, 0 if the product is not ranked
+     */
+    public synchronized long quantityOf(UUID productId) {
+        if (clock != null) {
+            expire();
+        }
+        Entry entry = index.get(productId);
+        return entry != null ? entry.quantity : 0;
+    }
+
+    /**
+     * Removes every product and bucket.
+     */
+    public synchronized void clear() {
+        heap.clear();
+        index.clear();
+        buckets.clear();
+    }
+
+    private void adjust(UUID productId, long quantity) {
+        Entry entry = index.get(productId);
+        if (entry == null) {
+            entry = new Entry(productId);
+            entry.slot = heap.size();
+            heap.add(entry);
+            index.put(productId, entry);
+        }
+        entry.quantity += quantity;
+        if (entry.quantity <= 0) {
+            remove(entry);
+        } else if (quantity > 0) {
+            siftUp(entry.slot);
+        } else {
+            siftDown(entry.slot);
+        }
+    }
+
+    private void remove(Entry entry) {
+        index.remove(entry.productId);
+        Entry last = heap.remove(heap.size() - 1);
+        if (last != entry) {
+            place(last, entry.slot);
+            siftUp(last.slot);
+            siftDown(last.slot);
+        }
+    }
+
+    private void siftUp(int slot) {
+        Entry entry = heap.get(slot);
+        while (slot > 0) {
+            int parent = (slot - 1) / 2;
+            if (RANKING.compare(entry, heap.get(parent)) >= 0) {
+                break;
+            }
+            place(heap.get(parent), slot);
+            slot = parent;
+        }
+        place(entry, slot);
+    }
+
+    private void siftDown(int slot) {
+        Entry entry = heap.get(slot);
+        int size = heap.size();
+        while (true) {
+            int child = 2 * slot + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && RANKING.compare(heap.get(child + 1), heap.get(child)) < 0) {
+                child++;
+            }
+            if (RANKING.compare(heap.get(child), entry) >= 0) {
+                break;
+            }
+            place(heap.get(child), slot);
+            slot = child;
+        }
+        place(entry, slot);
+    }
+
+    private void place(Entry entry, int slot) {
+        heap.set(slot, entry);
+        entry.slot = slot;
+    }
+
+    /**
+     * Subtracts the buckets that left the window from the ranking.
+     */
+    private void expire() {
+        long oldestKept = currentBucket() - bucketCount();
+        Iterator<Map.Entry<Long, Map<UUID, Long>>> expired = buckets.headMap(oldestKept).entrySet().iterator();
+        while (expired.hasNext()) {
+            for (Map.Entry<UUID, Long> sold : expired.next().getValue().entrySet()) {
+                adjust(sold.getKey(), -sold.getValue());
+            }
+            expired.remove();
+        }
+    }
+
+    private long currentBucket() {
+        return Math.floorDiv(clock.instant().getEpochSecond(), bucketSeconds);
+    }
+
+    private long bucketOf(LocalDateTime saleDate) {
+        return Math.floorDiv(saleDate.atZone(clock.getZone()).toEpochSecond(), bucketSeconds);
+    }
+
+    private long bucketCount() {
+        return windowSeconds / bucketSeconds;
+    }
+}
@@ -0,0 +1,193 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.model.enums.SalesWindow;
+import org.acmapis.commercial_management_system.repository.SaleProductRepository;
+import org.acmapis.commercial_management_system.repository.SaleProductRepository.DatedProductQuantity;
+import org.acmapis.commercial_management_system.repository.SaleProductRepository.ProductQuantity;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service class maintaining the in-memory best-seller leaderboards, one per {@link SalesWindow}.
+ * The leaderboards are rebuilt from the database when the application starts and then updated
+ * incrementally by the services that write sale-product lines. Changes made inside a transaction
+ * are applied only once it commits, so rolled back sales never reach the rankings. A rebuild fills
+ * new leaderboards and swaps them in at once; the changes committed while it reads the database are
+ * recorded and replayed onto the new leaderboards, so none is lost. A change committed right as the
+ * rebuild starts may be both read and replayed, and counted twice until the next rebuild.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Service
+public class BestSellerService {
+
+    /**
+     * Repository interface for reading the quantities sold per product.
+     */
+    private final SaleProductRepository saleProductRepository;
+
+    /**
+     * Clock defining the current time of the windowed leaderboards.
+     */
+    private final Clock clock;
+
+    /**
+     * Leaderboard of each sales window, replaced as a whole by a rebuild.
+     */
+    private volatile Map<SalesWindow, BestSellerLeaderboard> leaderboards;
+
+    /**
+     * Guards the swap of the leaderboards and the changes recorded during a rebuild.
+     */
+    private final Object rebuildLock = new Object();
+
+    /**
+     * Changes applied while a rebuild reads the database, with their sign, or null outside a rebuild.
+     */
+    private List<Map.Entry<List<DatedProductQuantity>, Integer>> changesDuringRebuild;
+
+    /**
+     * Constructs a new BestSellerService with the required dependencies.
+     *
+     * @param saleProductRepository the repository for sale-product data access operations
+     */
+    @Autowired
+    public BestSellerService(SaleProductRepository saleProductRepository) {
+        this.saleProductRepository = saleProductRepository;
+        this.clock = Clock.systemDefaultZone();
+        this.leaderboards = newLeaderboards();
+    }
+
+    /**
+     * Returns the best-selling products of a window, highest quantity first.
+     *
+     * @param window The sales window to rank
+     * @param limit  The maximum number of products to return
+     * @return List of product identifiers
+     */
+    public List<UUID> getTopProductIds(SalesWindow window, int limit) {
+        return leaderboards.get(window).top(limit);
+    }
+
+    /**
+     * Counts the given sale-product lines in every leaderboard once the current transaction commits.
+     *
+     * @param lines The lines that were saved
+     */
+    public void recordSold(List<DatedProductQuantity> lines) {
+        afterCommit(lines, 1);
+    }
+
+    /**
+     * Removes the given sale-product lines from every leaderboard once the current transaction commits.
+     *
+     * @param lines The lines that were deleted, or their state before an update
+     */
+    public void recordRemoved(List<DatedProductQuantity> lines) {
+        afterCommit(lines, -1);
+    }
+
+    /**
+     * Rebuilds every leaderboard from the database. Runs when the application starts and
+     * whenever sale-product lines were written without going through the service layer.
+     * The current leaderboards keep serving reads until the new ones are complete.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        Map<SalesWindow, BestSellerLeaderboard> rebuilt = newLeaderboards();
+        try {
+            List<ProductQuantity> totals = saleProductRepository.sumQuantityByProduct();
+            LocalDateTime since = LocalDateTime.now(clock).minus(SalesWindow.LAST_WEEK.getLength())
+                    .minus(SalesWindow.LAST_WEEK.getBucket());
+            List<DatedProductQuantity> recent = saleProductRepository.findDatedQuantitiesSince(since);
+            for (Map.Entry<SalesWindow, BestSellerLeaderboard> entry : rebuilt.entrySet()) {
+                BestSellerLeaderboard leaderboard = entry.getValue();
+                if (entry.getKey() == SalesWindow.ALL) {
+                    for (ProductQuantity total : totals) {
+                        leaderboard.add(total.getProductId(), null, total.getQuantity());
+                    }
+                } else {
+                    for (DatedProductQuantity line : recent) {
+                        leaderboard.add(line.getProductId(), line.getSaleDate(), line.getQuantity());
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (rebuildLock) {
+            // Lines committed after the reads started, which the new leaderboards may not include
+            for (Map.Entry<List<DatedProductQuantity>, Integer> change : changesDuringRebuild) {
+                add(rebuilt, change.getKey(), change.getValue());
+            }
+            changesDuringRebuild = null;
+            leaderboards = rebuilt;
+        }
+    }
+
+    private Map<SalesWindow, BestSellerLeaderboard> newLeaderboards() {
+        Map<SalesWindow, BestSellerLeaderboard> created = new EnumMap<>(SalesWindow.class);
+        for (SalesWindow window : SalesWindow.values()) {
+            created.put(window, window == SalesWindow.ALL
+                    ? new BestSellerLeaderboard()
+                    : new BestSellerLeaderboard(window.getLength(), window.getBucket(), clock));
+        }
+        return created;
+    }
+
+    private void afterCommit(List<DatedProductQuantity> lines, int sign) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(lines, sign);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(lines, sign);
+            }
+        });
+    }
+
+    private void apply(List<DatedProductQuantity> lines, int sign) {
+        synchronized (rebuildLock) {
+            add(leaderboards, lines, sign);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(Map.entry(lines, sign));
+            }
+        }
+    }
+
+    private static void add(Map<SalesWindow, BestSellerLeaderboard> leaderboards,
+                            List<DatedProductQuantity> lines, int sign) {
+        for (BestSellerLeaderboard leaderboard : leaderboards.values()) {
+            for (DatedProductQuantity line : lines) {
+                leaderboard.add(line.getProductId(), line.getSaleDate(), sign * line.getQuantity());
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
+import org.acmapis.commercial_management_system.repository.CatalogVersionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Version stamps of the catalog and reference data collections, from which their read endpoints
+ * derive ETag and Last-Modified validators without loading the data.
+ * The stamps live in the {@code catalog_version} table: service writes advance the row of each written
+ * collection in their own transaction, so the new stamp becomes visible exactly when the data does, to
+ * every application instance and across restarts. Reading the stamps is one small query.
+ * A stamp covers a whole collection rather than single rows: a product representation also depends on
+ * its category assignments and on the category names, which its {@code updatedAt} does not follow.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+public class CatalogVersions {
+
+    /**
+     * Validators of the current state of one or more collections.
+     *
+     * @param eTag         weak entity tag, changing whenever any of the collections changes
+     * @param lastModified time of the latest change, in milliseconds, truncated to seconds
+     */
+    public record Stamp(String eTag, long lastModified) {
+    }
+
+    /**
+     * Repository holding the version row of each collection.
+     */
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    /**
+     * Constructs a new CatalogVersions with the required dependencies.
+     *
+     * @param catalogVersionRepository the repository holding the version row of each collection
+     */
+    @Autowired
+    public CatalogVersions(CatalogVersionRepository catalogVersionRepository) {
+        this.catalogVersionRepository = catalogVersionRepository;
+    }
+
+    /**
+     * Returns the validators of the current state of the given collections.
+     * Must be called before reading the data they validate.
+     *
+     * @param resources The collections the response is built from
+     * @return Stamp combining the versions of the collections
+     */
+    public Stamp current(CatalogResource... resources) {
+        Map<CatalogResource, CatalogVersionRepository.Version> versions = catalogVersionRepository.findAll();
+        StringBuilder eTag = new StringBuilder("W/\"");
+        long latest = 0;
+        for (CatalogResource resource : resources) {
+            CatalogVersionRepository.Version version = versions.get(resource);
+            if (eTag.length() > 3) {
+                eTag.append('-');
+            }
+            eTag.append(version.version());
+            latest = Math.max(latest, version.lastModified());
+        }
+        return new Stamp(eTag.append('"').toString(), latest);
+    }
+
+    /**
+     * Advances the versions of collections within the current transaction, or immediately outside a
+     * transaction. Must be called by every write of the collections.
+     *
+     * @param resources The written collections
+     */
+    public void changed(CatalogResource... resources) {
+        long now = System.currentTimeMillis();
+        now -= now % 1000;
+        for (CatalogResource resource : resources) {
+            catalogVersionRepository.advance(resource, now);
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package org.acmapis.commercial_management_system.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.exception.InvalidBulkRequestException;
 import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
 import org.acmapis.commercial_management_system.repository.CategoryRepository;
+import org.acmapis.commercial_management_system.repository.StoreProductRepository;
+import org.acmapis.commercial_management_system.utils.bulk.BulkRequests;
 import org.acmapis.commercial_management_system.utils.mapper.CategoryMapper;
 import org.acmapis.commercial_management_system.utils.mapper.ProductMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,20 +44,53 @@ public class CategoryService {
      */
     private final CategoryMapper categoryMapper;
 
+    /**
+     * Entity manager factory whose second-level and query cache entries are evicted after writes.
+     */
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Repository interface for accessing store-product relationship data in the database.
+     * Used to rewrite the store inventory rows of the products of a renamed category.
+     */
+    private final StoreProductRepository storeProductRepository;
+
+    /**
+     * Version stamps of the catalog collections, advanced by every write.
+     */
+    private final CatalogVersions catalogVersions;
+
+    /**
+     * Component evicting the product cache entries, which embed the category names of each product.
+     */
+    private final ProductCacheInvalidator productCacheInvalidator;
+
     /**
      * Constructs a new CategoryService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
      *
-     * @param categoryRepository the repository for category data access operations
-     * @param categoryMapper     the mapper for category entity-model conversions
-     * @param productMapper      the mapper for product entity-model conversions
+     * @param categoryRepository      the repository for category data access operations
+     * @param categoryMapper          the mapper for category entity-model conversions
+     * @param productMapper           the mapper for product entity-model conversions
+     * @param entityManagerFactory    the entity manager factory owning the second-level cache
+     * @param storeProductRepository  the repository for store-product relationship data access
+     * @param catalogVersions         the version stamps of the catalog collections
+     * @param productCacheInvalidator the component evicting product cache entries
      */
     @Autowired
     public CategoryService(CategoryRepository categoryRepository,
                            CategoryMapper categoryMapper,
-                           ProductMapper productMapper) {
+                           ProductMapper productMapper,
+                           EntityManagerFactory entityManagerFactory,
+                           StoreProductRepository storeProductRepository,
+                           CatalogVersions catalogVersions,
+                           ProductCacheInvalidator productCacheInvalidator) {
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.storeProductRepository = storeProductRepository;
+        this.catalogVersions = catalogVersions;
+        this.productCacheInvalidator = productCacheInvalidator;
     }
 
     /**
@@ -60,6 +103,23 @@ public class CategoryService {
         return categoryMapper.toModelList(entities);
     }
 
+    /**
+     * Retrieves one page of categories using keyset pagination on the identifier.
+     *
+     * @param cursor The continuation token returned by the previous page, or null for the first page
+     * @param size   The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @return CursorPageModel containing the CategoryModel objects of the page
+     */
+    public CursorPageModel<CategoryModel> getCategoriesPage(String cursor, Integer size) {
+        int pageSize = CursorPages.pageSize(size);
+        List<CategoryEntity> entities = cursor == null
+                ? categoryRepository.findByOrderByCategoryIdAsc(CursorPages.lookAhead(pageSize))
+                : categoryRepository.findByCategoryIdGreaterThanOrderByCategoryIdAsc(
+                        CursorCodec.decodeKey(cursor, Long::valueOf), CursorPages.lookAhead(pageSize));
+        return CursorPages.toPage(entities, pageSize, categoryMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getCategoryId()));
+    }
+
     /**
      * Retrieves a category by its unique identifier.
      *
@@ -77,38 +137,70 @@ public class CategoryService {
      * @param categoryModel The CategoryModel containing the category data to save
      * @return The saved CategoryModel with generated ID
      */
+    @Transactional
     public CategoryModel saveCategory(CategoryModel categoryModel) {
         CategoryEntity entity = categoryMapper.toEntity(categoryModel);
         CategoryEntity savedEntity = categoryRepository.save(entity);
+        catalogVersions.changed(CatalogResource.CATEGORIES);
         return categoryMapper.toModel(savedEntity);
     }
 
+    /**
+     * Creates several categories in one transaction, inserting them in JDBC batches.
+     * Identifiers in the models are ignored.
+     *
+     * @param categoryModels The CategoryModels containing the category data to save
+     * @return The saved CategoryModels with generated IDs, in request order
+     * @throws InvalidBulkRequestException if the request is empty or too large
+     */
+    @Transactional
+    public List<CategoryModel> saveCategories(List<CategoryModel> categoryModels) {
+        BulkRequests.requireValidSize(categoryModels);
+        List<CategoryEntity> entities = categoryMapper.toEntityList(categoryModels);
+        entities.forEach(entity -> entity.setCategoryId(null));
+        List<CategoryEntity> savedEntities = categoryRepository.saveAll(entities);
+        catalogVersions.changed(CatalogResource.CATEGORIES);
+        return categoryMapper.toModelList(savedEntities);
+    }
+
     /**
      * Updates an existing category in the database.
      * Uses the find-modify-save pattern to ensure data integrity and prevent ID conflicts.
+     * The store inventory rows of the products of the category are rewritten with the new name, and the
+     * product caches are cleared once the transaction commits.
      *
      * @param categoryId    The unique identifier of the category to update
      * @param categoryModel The CategoryModel containing the updated category data
      * @return The updated CategoryModel
      * @throws RuntimeException if the category with the given ID is not found
      */
+    @Transactional
     public CategoryModel updateCategory(Long categoryId, CategoryModel categoryModel) {
         CategoryEntity existingEntity = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new RuntimeException("Category not found with ID: " + categoryId));
 
         categoryMapper.updateEntityFromModel(categoryModel, existingEntity);
 
-        CategoryEntity updatedEntity = categoryRepository.save(existingEntity);
+        CategoryEntity updatedEntity = categoryRepository.saveAndFlush(existingEntity);
+        storeProductRepository.refreshStoreInventoryByCategoryId(categoryId);
+        catalogVersions.changed(CatalogResource.CATEGORIES);
+        evictFromCache(categoryId);
+        productCacheInvalidator.evictAll();
         return categoryMapper.toModel(updatedEntity);
     }
 
     /**
      * Deletes a category by its unique identifier.
+     * The product caches are cleared afterwards, since cached products may still list the category.
      *
      * @param categoryId The unique identifier of the category to delete
      */
+    @Transactional
     public void deleteCategoryById(Long categoryId) {
         categoryRepository.deleteById(categoryId);
+        catalogVersions.changed(CatalogResource.CATEGORIES);
+        evictFromCache(categoryId);
+        productCacheInvalidator.evictAll();
     }
 
     // Custom query methods
@@ -124,4 +216,15 @@ public class CategoryService {
         return entity.map(categoryMapper::toModel);
     }
 
+    /**
+     * Evicts a category from the second-level cache, together with the cached results of
+     * {@link CategoryRepository#findByCategoryName(String)}, which may still return it under its old name.
+     *
+     * @param categoryId The unique identifier of the evicted category
+     */
+    private void evictFromCache(Long categoryId) {
+        entityManagerFactory.getCache().evict(CategoryEntity.class, categoryId);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictQueryRegion(CategoryRepository.CATEGORY_BY_NAME_REGION);
+    }
 }
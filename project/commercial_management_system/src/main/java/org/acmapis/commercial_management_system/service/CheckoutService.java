@@ -0,0 +1,215 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.entity.SaleProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.exception.CheckoutReferenceNotFoundException;
+import org.acmapis.commercial_management_system.exception.InsufficientStockException;
+import org.acmapis.commercial_management_system.exception.InvalidCheckoutException;
+import org.acmapis.commercial_management_system.model.dto.CheckoutLineModel;
+import org.acmapis.commercial_management_system.model.dto.CheckoutModel;
+import org.acmapis.commercial_management_system.model.dto.CheckoutReceiptModel;
+import org.acmapis.commercial_management_system.repository.SaleProductRepository;
+import org.acmapis.commercial_management_system.repository.SaleRepository;
+import org.acmapis.commercial_management_system.repository.StoreProductRepository;
+import org.acmapis.commercial_management_system.repository.StoreRepository;
+import org.acmapis.commercial_management_system.repository.UserRepository;
+import org.acmapis.commercial_management_system.utils.mapper.SaleMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Service class for processing checkouts.
+ * Records a sale, its product lines and the corresponding stock decrements atomically,
+ * replacing the separate sale, sale-product and store-product calls a client would otherwise make.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Service
+public class CheckoutService {
+
+    /**
+     * Repository interface for accessing sale data in the database.
+     */
+    private final SaleRepository saleRepository;
+
+    /**
+     * Repository interface for accessing sale-product relationship data in the database.
+     */
+    private final SaleProductRepository saleProductRepository;
+
+    /**
+     * Publisher of the sale events.
+     */
+    private final SaleEventPublisher saleEventPublisher;
+
+    /**
+     * Repository interface for accessing store inventory and performing atomic stock updates.
+     */
+    private final StoreProductRepository storeProductRepository;
+
+    /**
+     * Repository interface for checking that the store of a checkout exists.
+     */
+    private final StoreRepository storeRepository;
+
+    /**
+     * Repository interface for accessing user data in the database.
+     */
+    private final UserRepository userRepository;
+
+    /**
+     * Mapper interface for converting between SaleEntity and SaleModel objects.
+     */
+    private final SaleMapper saleMapper;
+
+    /**
+     * Service maintaining the in-memory best-seller leaderboards.
+     */
+    private final BestSellerService bestSellerService;
+
+    /**
+     * Constructs a new CheckoutService with the required dependencies.
+     * Uses constructor-based dependency injection for better testability and immutability.
+     *
+     * @param saleRepository            the repository for sale data access operations
+     * @param saleProductRepository     the repository for sale-product data access operations
+     * @param saleEventPublisher        the publisher of the sale events
+     * @param storeProductRepository    the repository for store inventory data access operations
+     * @param storeRepository           the repository for store data access operations
+     * @param userRepository            the repository for user data access operations
+     * @param saleMapper                the mapper for sale entity-model conversions
+     * @param bestSellerService         the service maintaining the best-seller leaderboards
+     */
+    @Autowired
+    public CheckoutService(SaleRepository saleRepository,
+                           SaleProductRepository saleProductRepository,
+                           SaleEventPublisher saleEventPublisher,
+                           StoreProductRepository storeProductRepository,
+                           StoreRepository storeRepository,
+                           UserRepository userRepository,
+                           SaleMapper saleMapper,
+                           BestSellerService bestSellerService) {
+        this.saleRepository = saleRepository;
+        this.saleProductRepository = saleProductRepository;
+        this.saleEventPublisher = saleEventPublisher;
+        this.storeProductRepository = storeProductRepository;
+        this.storeRepository = storeRepository;
+        this.userRepository = userRepository;
+        this.saleMapper = saleMapper;
+        this.bestSellerService = bestSellerService;
+    }
+
+    /**
+     * Processes a checkout in a single transaction.
+     * Stock is decremented first with one batch of conditional updates; if any line lacks stock
+     * the whole checkout is rolled back. The sale total is computed from the current product prices
+     * and published as a sale event; the lines are added to the best-seller leaderboards on commit.
+     *
+     * @param checkout The cart containing the store, the user and the product lines
+     * @return CheckoutReceiptModel with the recorded sale and its lines
+     * @throws InvalidCheckoutException           if the cart is empty or contains non-positive quantities
+     * @throws CheckoutReferenceNotFoundException if the store or user is not found, or a product is not
+     *                                            stocked by the store
+     * @throws InsufficientStockException         if the store lacks stock for any line
+     */
+    @Transactional
+    public CheckoutReceiptModel checkout(CheckoutModel checkout) {
+        Map<UUID, Long> quantities = mergeLines(checkout);
+
+        UserEntity user = userRepository.findById(checkout.getUserId())
+                .orElseThrow(() -> new CheckoutReferenceNotFoundException(
+                        "User not found with ID: " + checkout.getUserId()));
+        if (!storeRepository.existsById(checkout.getStoreId())) {
+            throw new CheckoutReferenceNotFoundException("Store not found with ID: " + checkout.getStoreId());
+        }
+
+        Map<UUID, StoreProductEntity> inventory = new HashMap<>();
+        for (StoreProductEntity storeProduct : storeProductRepository
+                .findByStoreIdAndProductIds(checkout.getStoreId(), quantities.keySet())) {
+            inventory.put(storeProduct.getProduct().getProductId(), storeProduct);
+        }
+
+        Map<Long, Long> decrements = new HashMap<>();
+        BigDecimal total = BigDecimal.ZERO;
+        for (Map.Entry<UUID, Long> line : quantities.entrySet()) {
+            StoreProductEntity storeProduct = inventory.get(line.getKey());
+            if (storeProduct == null) {
+                throw new CheckoutReferenceNotFoundException("Product " + line.getKey()
+                        + " is not available in store " + checkout.getStoreId());
+            }
+            decrements.put(storeProduct.getId(), line.getValue());
+            total = total.add(BigDecimal.valueOf(storeProduct.getProduct().getPrice())
+                    .multiply(BigDecimal.valueOf(line.getValue())));
+        }
+
+        List<Long> insufficient = storeProductRepository.decrementStock(decrements);
+        if (!insufficient.isEmpty()) {
+            throw new InsufficientStockException("Insufficient stock for store-product IDs: " + insufficient);
+        }
+
+        SaleEntity sale = saleRepository.save(SaleEntity.builder()
+                .user(user)
+                .totalAmount(total.setScale(0, RoundingMode.HALF_UP).longValueExact())
+                .build());
+
+        List<SaleProductEntity> saleProducts = new ArrayList<>(quantities.size());
+        for (Map.Entry<UUID, Long> line : quantities.entrySet()) {
+            ProductEntity product = inventory.get(line.getKey()).getProduct();
+            saleProducts.add(new SaleProductEntity(null, line.getValue(), sale, product, null));
+        }
+        saleProducts = saleProductRepository.saveAll(saleProducts);
+        saleRepository.flush();
+        saleEventPublisher.saleRecorded(sale.getSaleId());
+        bestSellerService.recordSold(saleProductRepository.findDatedQuantitiesBySaleId(sale.getSaleId()));
+
+        List<CheckoutLineModel> receiptLines = new ArrayList<>(saleProducts.size());
+        for (SaleProductEntity saleProduct : saleProducts) {
+            receiptLines.add(CheckoutLineModel.builder()
+                    .productId(saleProduct.getProduct().getProductId())
+                    .quantity(saleProduct.getQuantity())
+                    .unitPrice(saleProduct.getProduct().getPrice())
+                    .saleProductId(saleProduct.getSaleProductId())
+                    .build());
+        }
+        return new CheckoutReceiptModel(saleMapper.toModel(sale), receiptLines);
+    }
+
+    /**
+     * Validates the cart and merges lines that refer to the same product.
+     *
+     * @param checkout The cart to validate
+     * @return Map of quantities keyed by product ID, in the order the products first appear
+     * @throws InvalidCheckoutException if the cart is incomplete or contains non-positive quantities
+     */
+    private Map<UUID, Long> mergeLines(CheckoutModel checkout) {
+        if (checkout.getStoreId() == null || checkout.getUserId() == null) {
+            throw new InvalidCheckoutException("Checkout requires a storeId and a userId");
+        }
+        if (checkout.getLines() == null || checkout.getLines().isEmpty()) {
+            throw new InvalidCheckoutException("Checkout requires at least one product line");
+        }
+        Map<UUID, Long> quantities = new LinkedHashMap<>();
+        for (CheckoutLineModel line : checkout.getLines()) {
+            if (line.getProductId() == null || line.getQuantity() == null || line.getQuantity() <= 0) {
+                throw new InvalidCheckoutException("Every line requires a productId and a positive quantity");
+            }
+            quantities.merge(line.getProductId(), line.getQuantity(), Long::sum);
+        }
+        return quantities;
+    }
+}
@@ -1,11 +1,20 @@
 package org.acmapis.commercial_management_system.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.acmapis.commercial_management_system.entity.CityEntity;
 import org.acmapis.commercial_management_system.model.dto.CityModel;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
 import org.acmapis.commercial_management_system.repository.CityRepository;
+import org.acmapis.commercial_management_system.repository.SaleDailyRollupRepository;
 import org.acmapis.commercial_management_system.utils.mapper.CityMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,17 +42,42 @@ public class CityService {
      */
     private final CityMapper cityMapper;
 
+    /**
+     * Entity manager factory whose second-level cache entries are evicted after writes.
+     */
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Repository maintaining the daily sales rollup, whose rows carry the department of their city.
+     */
+    private final SaleDailyRollupRepository saleDailyRollupRepository;
+
+    /**
+     * Version stamps of the catalog collections, advanced by every write.
+     */
+    private final CatalogVersions catalogVersions;
+
     /**
      * Constructs a new CityService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
      *
-     * @param cityRepository the repository for city data access operations
-     * @param cityMapper     the mapper for city entity-model conversions
+     * @param cityRepository            the repository for city data access operations
+     * @param cityMapper                the mapper for city entity-model conversions
+     * @param entityManagerFactory      the entity manager factory owning the second-level cache
+     * @param saleDailyRollupRepository the repository for daily sales rollup operations
+     * @param catalogVersions           the version stamps of the catalog collections
      */
     @Autowired
-    public CityService(CityRepository cityRepository, CityMapper cityMapper) {
+    public CityService(CityRepository cityRepository,
+                       CityMapper cityMapper,
+                       EntityManagerFactory entityManagerFactory,
+                       SaleDailyRollupRepository saleDailyRollupRepository,
+                       CatalogVersions catalogVersions) {
         this.cityRepository = cityRepository;
         this.cityMapper = cityMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.saleDailyRollupRepository = saleDailyRollupRepository;
+        this.catalogVersions = catalogVersions;
     }
 
     /**
@@ -56,6 +90,23 @@ public class CityService {
         return cityMapper.toModelList(entities);
     }
 
+    /**
+     * Retrieves one page of cities using keyset pagination on the identifier.
+     *
+     * @param cursor The continuation token returned by the previous page, or null for the first page
+     * @param size   The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @return CursorPageModel containing the CityModel objects of the page
+     */
+    public CursorPageModel<CityModel> getCitiesPage(String cursor, Integer size) {
+        int pageSize = CursorPages.pageSize(size);
+        List<CityEntity> entities = cursor == null
+                ? cityRepository.findByOrderByCityIdAsc(CursorPages.lookAhead(pageSize))
+                : cityRepository.findByCityIdGreaterThanOrderByCityIdAsc(
+                        CursorCodec.decodeKey(cursor, Long::valueOf), CursorPages.lookAhead(pageSize));
+        return CursorPages.toPage(entities, pageSize, cityMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getCityId()));
+    }
+
     /**
      * Retrieves a city by its unique identifier.
      *
@@ -73,28 +124,36 @@ public class CityService {
      * @param cityModel The CityModel containing the city data to save
      * @return The saved CityModel with generated ID
      */
+    @Transactional
     public CityModel saveCity(CityModel cityModel) {
         CityEntity entity = cityMapper.toEntity(cityModel);
         CityEntity savedEntity = cityRepository.save(entity);
+        catalogVersions.changed(CatalogResource.CITIES);
         return cityMapper.toModel(savedEntity);
     }
 
     /**
      * Updates an existing city in the database.
      * Uses the find-modify-save pattern to ensure data integrity and prevent ID conflicts.
+     * If the city moves to another department, its daily sales rollup rows move with it.
      *
      * @param cityId    The unique identifier of the city to update
      * @param cityModel The CityModel containing the updated city data
      * @return The updated CityModel
      * @throws RuntimeException if the city with the given ID is not found
      */
+    @Transactional
     public CityModel updateCity(Long cityId, CityModel cityModel) {
         CityEntity existingEntity = cityRepository.findById(cityId)
                 .orElseThrow(() -> new RuntimeException("City not found with ID: " + cityId));
 
         cityMapper.updateEntityFromModel(cityModel, existingEntity);
 
-        CityEntity updatedEntity = cityRepository.save(existingEntity);
+        CityEntity updatedEntity = cityRepository.saveAndFlush(existingEntity);
+        // Runs after the city is flushed; copying the department again is harmless if it did not change
+        saleDailyRollupRepository.updateCityDepartment(cityId);
+        catalogVersions.changed(CatalogResource.CITIES);
+        evictFromCache(cityId);
         return cityMapper.toModel(updatedEntity);
     }
 
@@ -103,7 +162,26 @@ public class CityService {
      *
      * @param cityId The unique identifier of the city to delete
      */
+    @Transactional
     public void deleteCityById(Long cityId) {
         cityRepository.deleteById(cityId);
+        catalogVersions.changed(CatalogResource.CITIES);
+        evictFromCache(cityId);
+    }
+
+    /**
+     * Evicts a city from the second-level cache, so writes that bypass the persistence
+     * context (bulk updates, other applications) cannot leave a stale copy behind.
+     * The eviction runs once the transaction commits, after the cache has been updated with the written state.
+     *
+     * @param cityId The unique identifier of the evicted city
+     */
+    private void evictFromCache(Long cityId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(CityEntity.class, cityId);
+            }
+        });
     }
 }
@@ -1,11 +1,19 @@
 package org.acmapis.commercial_management_system.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.DepartmentModel;
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
 import org.acmapis.commercial_management_system.repository.DepartmentRepository;
 import org.acmapis.commercial_management_system.utils.mapper.DepartmentMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -33,17 +41,34 @@ public class DepartmentService {
      */
     private final DepartmentMapper departmentMapper;
 
+    /**
+     * Entity manager factory whose second-level cache entries are evicted after writes.
+     */
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Version stamps of the catalog collections, advanced by every write.
+     */
+    private final CatalogVersions catalogVersions;
+
     /**
      * Constructs a new DepartmentService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
      *
      * @param departmentRepository the repository for department data access operations
      * @param departmentMapper     the mapper for department entity-model conversions
+     * @param entityManagerFactory the entity manager factory owning the second-level cache
+     * @param catalogVersions      the version stamps of the catalog collections
      */
     @Autowired
-    public DepartmentService(DepartmentRepository departmentRepository, DepartmentMapper departmentMapper) {
+    public DepartmentService(DepartmentRepository departmentRepository,
+                             DepartmentMapper departmentMapper,
+                             EntityManagerFactory entityManagerFactory,
+                             CatalogVersions catalogVersions) {
         this.departmentRepository = departmentRepository;
         this.departmentMapper = departmentMapper;
+        this.entityManagerFactory = entityManagerFactory;
+        this.catalogVersions = catalogVersions;
     }
 
     /**
@@ -56,6 +81,23 @@ public class DepartmentService {
         return departmentMapper.toModelList(entities);
     }
 
+    /**
+     * Retrieves one page of departments using keyset pagination on the identifier.
+     *
+     * @param cursor The continuation token returned by the previous page, or null for the first page
+     * @param size   The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @return CursorPageModel containing the DepartmentModel objects of the page
+     */
+    public CursorPageModel<DepartmentModel> getDepartmentsPage(String cursor, Integer size) {
+        int pageSize = CursorPages.pageSize(size);
+        List<DepartmentEntity> entities = cursor == null
+                ? departmentRepository.findByOrderByDepartmentIdAsc(CursorPages.lookAhead(pageSize))
+                : departmentRepository.findByDepartmentIdGreaterThanOrderByDepartmentIdAsc(
+                        CursorCodec.decodeKey(cursor, Long::valueOf), CursorPages.lookAhead(pageSize));
+        return CursorPages.toPage(entities, pageSize, departmentMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getDepartmentId()));
+    }
+
     /**
      * Retrieves a department by its unique identifier.
      *
@@ -73,9 +115,11 @@ public class DepartmentService {
      * @param departmentModel The DepartmentModel containing the department data to save
      * @return The saved DepartmentModel with generated ID
      */
+    @Transactional
     public DepartmentModel saveDepartment(DepartmentModel departmentModel) {
         DepartmentEntity entity = departmentMapper.toEntity(departmentModel);
         DepartmentEntity savedEntity = departmentRepository.save(entity);
+        catalogVersions.changed(CatalogResource.DEPARTMENTS);
         return departmentMapper.toModel(savedEntity);
     }
 
@@ -88,6 +132,7 @@ public class DepartmentService {
      * @return The updated DepartmentModel
      * @throws RuntimeException if the department with the given ID is not found
      */
+    @Transactional
     public DepartmentModel updateDepartment(Long departmentId, DepartmentModel departmentModel) {
         DepartmentEntity existingEntity = departmentRepository.findById(departmentId)
                 .orElseThrow(() -> new RuntimeException("Department not found with ID: " + departmentId));
@@ -95,6 +140,8 @@ public class DepartmentService {
         departmentMapper.updateEntityFromModel(departmentModel, existingEntity);
 
         DepartmentEntity updatedEntity = departmentRepository.save(existingEntity);
+        catalogVersions.changed(CatalogResource.DEPARTMENTS);
+        evictFromCache(departmentId);
         return departmentMapper.toModel(updatedEntity);
     }
 
@@ -103,7 +150,24 @@ public class DepartmentService {
      *
      * @param departmentId The unique identifier of the department to delete
      */
+    @Transactional
     public void deleteDepartmentById(Long departmentId) {
         departmentRepository.deleteById(departmentId);
+        catalogVersions.changed(CatalogResource.DEPARTMENTS);
+        evictFromCache(departmentId);
+    }
+
+    /**
+     * Evicts a department from the second-level cache once the transaction commits.
+     *
+     * @param departmentId The unique identifier of the evicted department
+     */
+    private void evictFromCache(Long departmentId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entityManagerFactory.getCache().evict(DepartmentEntity.class, departmentId);
+            }
+        });
     }
 }
@@ -0,0 +1,125 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.config.ProductCacheConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Evicts the entries of the product caches affected by a catalog write.
+ * Inside a transaction the entries are evicted once it commits, so a read running concurrently
+ * with the write cannot put the old value back after the eviction; on rollback nothing is evicted.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+public class ProductCacheInvalidator {
+
+    /**
+     * Cache manager holding the product caches.
+     */
+    private final CacheManager cacheManager;
+
+    /**
+     * Constructs a new ProductCacheInvalidator with the required dependencies.
+     *
+     * @param cacheManager the cache manager holding the product caches
+     */
+    @Autowired
+    public ProductCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Evicts a product and the store and category listings that contain it.
+     *
+     * @param productId   The unique identifier of the product
+     * @param storeIds    The stores whose product listings contain the product
+     * @param categoryIds The categories whose product listings contain the product
+     */
+    public void evictProduct(UUID productId, Collection<UUID> storeIds, Collection<Long> categoryIds) {
+        afterCommit(() -> {
+            evict(ProductCacheConfiguration.PRODUCT_CACHE, List.of(productId));
+            evict(ProductCacheConfiguration.PRODUCTS_BY_STORE_CACHE, storeIds);
+            evict(ProductCacheConfiguration.PRODUCTS_BY_CATEGORY_CACHE, categoryIds);
+        });
+    }
+
+    /**
+     * Evicts several products and the store and category listings that contain them.
+     *
+     * @param productIds  The unique identifiers of the products
+     * @param storeIds    The stores whose product listings contain the products
+     * @param categoryIds The categories whose product listings contain the products
+     */
+    public void evictProducts(Collection<UUID> productIds, Collection<UUID> storeIds, Collection<Long> categoryIds) {
+        afterCommit(() -> {
+            evict(ProductCacheConfiguration.PRODUCT_CACHE, productIds);
+            evict(ProductCacheConfiguration.PRODUCTS_BY_STORE_CACHE, storeIds);
+            evict(ProductCacheConfiguration.PRODUCTS_BY_CATEGORY_CACHE, categoryIds);
+        });
+    }
+
+    /**
+     * Evicts the product listings of stores.
+     *
+     * @param storeIds The unique identifiers of the stores
+     */
+    public void evictStores(Collection<UUID> storeIds) {
+        afterCommit(() -> evict(ProductCacheConfiguration.PRODUCTS_BY_STORE_CACHE, storeIds));
+    }
+
+    /**
+     * Clears the product caches. Used by category writes: every cached product embeds the names of its
+     * categories, and the products of a category also appear in the listings of their stores and of
+     * their other categories, so no narrower set of keys is known to hold the old name.
+     */
+    public void evictAll() {
+        afterCommit(() -> {
+            clear(ProductCacheConfiguration.PRODUCT_CACHE);
+            clear(ProductCacheConfiguration.PRODUCTS_BY_STORE_CACHE);
+            clear(ProductCacheConfiguration.PRODUCTS_BY_CATEGORY_CACHE);
+        });
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private void evict(String cacheName, Collection<?> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            return;
+        }
+        for (Object key : keys) {
+            if (key != null) {
+                cache.evict(key);
+            }
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
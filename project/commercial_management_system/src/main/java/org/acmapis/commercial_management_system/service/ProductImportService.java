@@ -0,0 +1,405 @@
+package org.acmapis.commercial_management_system.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.acmapis.commercial_management_system.exception.InvalidBulkRequestException;
+import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.ProductImportReportModel;
+import org.acmapis.commercial_management_system.model.dto.ProductImportRowModel;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
+import org.acmapis.commercial_management_system.model.enums.ProductImportStatus;
+import org.acmapis.commercial_management_system.repository.ProductRepository;
+import org.acmapis.commercial_management_system.repository.StoreProductRepository;
+import org.acmapis.commercial_management_system.utils.bulk.ProductImportReader;
+import org.acmapis.commercial_management_system.utils.id.TimeOrderedUuids;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Service class importing product catalogs, such as the syncs of an ERP, in bulk.
+ * The request body is read row by row and written in chunks of {@code products.import.chunk-size}
+ * rows: the categories of a chunk are resolved by ID or name with one statement (and remembered for
+ * the following chunks), the stored products it references are read with one statement, and the
+ * products and their categories are written in JDBC batches. Rows with a product ID upsert that
+ * product, rows without one create a product; rows equal to the stored product are not written.
+ * Each chunk is written in its own transaction, so the body is read from the client without holding
+ * a database connection; a body that cannot be parsed keeps the chunks written before the error,
+ * while invalid rows are only reported. The store inventory rows of updated products are rewritten
+ * and the affected product cache entries are evicted on commit.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Service
+public class ProductImportService {
+
+    /**
+     * Maximum length of a product name, as defined by the product table.
+     */
+    private static final int MAX_NAME_LENGTH = 128;
+
+    /**
+     * Maximum length of a product description, as defined by the product table.
+     */
+    private static final int MAX_DESCRIPTION_LENGTH = 255;
+
+    /**
+     * Repository interface for reading and writing the imported products.
+     */
+    private final ProductRepository productRepository;
+
+    /**
+     * Repository interface for the store inventory of the updated products.
+     */
+    private final StoreProductRepository storeProductRepository;
+
+    /**
+     * Component evicting the product cache entries affected by the import.
+     */
+    private final ProductCacheInvalidator productCacheInvalidator;
+
+    /**
+     * JSON mapper used to read JSON imports.
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Number of rows written together.
+     */
+    private final int chunkSize;
+
+    /**
+     * Maximum number of rows of an import.
+     */
+    private final int maxRows;
+
+    /**
+     * Version stamps of the catalog collections, advanced by every write.
+     */
+    private final CatalogVersions catalogVersions;
+
+    /**
+     * Transaction template writing each chunk in its own transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a new ProductImportService with the required dependencies.
+     *
+     * @param productRepository       the repository for product data access operations
+     * @param storeProductRepository  the repository for store-product relationship data access
+     * @param productCacheInvalidator the component evicting product cache entries
+     * @param objectMapper            the JSON mapper used to read JSON imports
+     * @param chunkSize               the number of rows written together
+     * @param maxRows                 the maximum number of rows of an import
+     * @param catalogVersions         the version stamps of the catalog collections
+     * @param transactionManager      the transaction manager writing each chunk
+     */
+    @Autowired
+    public ProductImportService(ProductRepository productRepository,
+                                StoreProductRepository storeProductRepository,
+                                ProductCacheInvalidator productCacheInvalidator,
+                                ObjectMapper objectMapper,
+                                @Value("${products.import.chunk-size:1000}") int chunkSize,
+                                @Value("${products.import.max-rows:100000}") int maxRows,
+                                CatalogVersions catalogVersions,
+                                PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.storeProductRepository = storeProductRepository;
+        this.productCacheInvalidator = productCacheInvalidator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+        this.catalogVersions = catalogVersions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Imports a JSON array of products.
+     *
+     * @param input The request body
+     * @return ProductImportReportModel with the counts and the rejected or superseded rows
+     * @throws InvalidBulkRequestException if the body is not a JSON array, is empty or exceeds the row limit
+     */
+    public ProductImportReportModel importJson(InputStream input) {
+        return importRows(ProductImportReader.json(input, objectMapper));
+    }
+
+    /**
+     * Imports CSV rows of products, see {@link ProductImportReader} for the columns.
+     *
+     * @param input The request body
+     * @return ProductImportReportModel with the counts and the rejected or superseded rows
+     * @throws InvalidBulkRequestException if the body lacks a valid header, is empty or exceeds the row limit
+     */
+    public ProductImportReportModel importCsv(InputStream input) {
+        return importRows(ProductImportReader.csv(input));
+    }
+
+    private ProductImportReportModel importRows(ProductImportReader reader) {
+        Map<Long, CategoryModel> categoriesById = new HashMap<>();
+        Map<String, CategoryModel> categoriesByName = new HashMap<>();
+        ProductImportReportModel report = new ProductImportReportModel(0, 0, 0, 0, 0, new ArrayList<>());
+        List<ProductImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        int imported = 0;
+        try {
+            while (reader.hasNext()) {
+                ProductImportReader.Row row = reader.next();
+                if (row.row() > maxRows) {
+                    throw new InvalidBulkRequestException("Product import exceeds the maximum of " + maxRows + " rows");
+                }
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    addToReport(report, importChunk(chunk, categoriesById, categoriesByName));
+                    imported += chunk.size();
+                    chunk.clear();
+                }
+            }
+        } catch (InvalidBulkRequestException e) {
+            if (imported == 0) {
+                throw e;
+            }
+            throw new InvalidBulkRequestException(e.getMessage() + " (the first " + imported
+                    + " rows were already imported)");
+        }
+        if (!chunk.isEmpty()) {
+            addToReport(report, importChunk(chunk, categoriesById, categoriesByName));
+            imported += chunk.size();
+        }
+        if (imported == 0) {
+            throw new InvalidBulkRequestException("Bulk request requires at least one row");
+        }
+        return report;
+    }
+
+    /**
+     * Counts the outcomes of a chunk, keeping only the rows the client has to look at.
+     *
+     * @param report  The report of the import
+     * @param results The outcome of each row of the chunk
+     */
+    private static void addToReport(ProductImportReportModel report, List<ProductImportRowModel> results) {
+        for (ProductImportRowModel result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> report.setCreated(report.getCreated() + 1);
+                case UPDATED -> report.setUpdated(report.getUpdated() + 1);
+                case UNCHANGED -> report.setUnchanged(report.getUnchanged() + 1);
+                case SUPERSEDED -> {
+                    report.setSuperseded(report.getSuperseded() + 1);
+                    report.getRows().add(result);
+                }
+                case REJECTED -> {
+                    report.setRejected(report.getRejected() + 1);
+                    report.getRows().add(result);
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes one chunk of rows in its own transaction.
+     *
+     * @param rows             The rows of the chunk, in request order
+     * @param categoriesById   The categories resolved so far, by ID
+     * @param categoriesByName The categories resolved so far, by name
+     * @return The outcome of each row, in request order
+     */
+    private List<ProductImportRowModel> importChunk(List<ProductImportReader.Row> rows,
+                                                    Map<Long, CategoryModel> categoriesById,
+                                                    Map<String, CategoryModel> categoriesByName) {
+        return transactionTemplate.execute(status -> writeChunk(rows, categoriesById, categoriesByName));
+    }
+
+    private List<ProductImportRowModel> writeChunk(List<ProductImportReader.Row> rows,
+                                                   Map<Long, CategoryModel> categoriesById,
+                                                   Map<String, CategoryModel> categoriesByName) {
+        ProductImportRowModel[] results = new ProductImportRowModel[rows.size()];
+        Set<Long> missingIds = new HashSet<>();
+        Set<String> missingNames = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ProductImportReader.Row row = rows.get(i);
+            ProductModel product = row.product();
+            String error = row.error() != null ? row.error() : validate(product);
+            if (error != null) {
+                results[i] = result(row, product, ProductImportStatus.REJECTED, error);
+                continue;
+            }
+            if (product.getCategories() != null) {
+                for (CategoryModel category : product.getCategories()) {
+                    if (category.getCategoryId() != null && !categoriesById.containsKey(category.getCategoryId())) {
+                        missingIds.add(category.getCategoryId());
+                    } else if (category.getCategoryId() == null
+                            && !categoriesByName.containsKey(category.getCategoryName())) {
+                        missingNames.add(category.getCategoryName());
+                    }
+                }
+            }
+        }
+        if (!missingIds.isEmpty() || !missingNames.isEmpty()) {
+            for (CategoryModel category : productRepository.findCategoriesByIdOrName(missingIds, missingNames)) {
+                categoriesById.put(category.getCategoryId(), category);
+                categoriesByName.put(category.getCategoryName(), category);
+            }
+        }
+
+        Map<Integer, Set<Long>> categoryIdsOfRow = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ProductModel product = rows.get(i).product();
+            if (results[i] != null || product.getCategories() == null) {
+                continue;
+            }
+            Set<Long> categoryIds = new LinkedHashSet<>();
+            for (CategoryModel category : product.getCategories()) {
+                CategoryModel resolved = category.getCategoryId() != null
+                        ? categoriesById.get(category.getCategoryId())
+                        : categoriesByName.get(category.getCategoryName());
+                if (resolved == null) {
+                    results[i] = result(rows.get(i), product, ProductImportStatus.REJECTED, "Category not found: "
+                            + (category.getCategoryId() != null ? category.getCategoryId() : category.getCategoryName()));
+                    break;
+                }
+                categoryIds.add(resolved.getCategoryId());
+            }
+            categoryIdsOfRow.put(i, categoryIds);
+        }
+
+        // Decided once the categories are resolved, so a rejected later row does not drop a valid one
+        Map<UUID, Integer> lastRowOfProduct = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (results[i] != null || rows.get(i).product().getProductId() == null) {
+                continue;
+            }
+            Integer previous = lastRowOfProduct.put(rows.get(i).product().getProductId(), i);
+            if (previous != null) {
+                results[previous] = result(rows.get(previous), rows.get(previous).product(),
+                        ProductImportStatus.SUPERSEDED, null);
+            }
+        }
+
+        Set<UUID> requestedIds = new HashSet<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (results[i] == null && rows.get(i).product().getProductId() != null) {
+                requestedIds.add(rows.get(i).product().getProductId());
+            }
+        }
+        Map<UUID, ProductModel> stored = requestedIds.isEmpty()
+                ? Map.of()
+                : productRepository.findProductsForImport(requestedIds);
+
+        List<ProductModel> written = new ArrayList<>();
+        List<UUID> updatedIds = new ArrayList<>();
+        Set<Long> affectedCategoryIds = new HashSet<>();
+        Map<UUID, Set<Long>> removedCategories = new HashMap<>();
+        Map<UUID, Set<Long>> addedCategories = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            if (results[i] != null) {
+                continue;
+            }
+            ProductModel product = rows.get(i).product();
+            Set<Long> categoryIds = categoryIdsOfRow.get(i);
+            ProductModel current = product.getProductId() != null ? stored.get(product.getProductId()) : null;
+            if (current == null) {
+                if (product.getProductId() == null) {
+                    product.setProductId(TimeOrderedUuids.next());
+                }
+                written.add(product);
+                if (categoryIds != null && !categoryIds.isEmpty()) {
+                    addedCategories.put(product.getProductId(), categoryIds);
+                    affectedCategoryIds.addAll(categoryIds);
+                }
+                results[i] = result(rows.get(i), product, ProductImportStatus.CREATED, null);
+                continue;
+            }
+
+            Set<Long> currentIds = new HashSet<>();
+            current.getCategories().forEach(category -> currentIds.add(category.getCategoryId()));
+            boolean sameCategories = categoryIds == null || categoryIds.equals(currentIds);
+            if (sameCategories && Objects.equals(product.getProductName(), current.getProductName())
+                    && Objects.equals(product.getProductDescription(), current.getProductDescription())
+                    && Objects.equals(product.getPrice(), current.getPrice())) {
+                results[i] = result(rows.get(i), product, ProductImportStatus.UNCHANGED, null);
+                continue;
+            }
+            written.add(product);
+            updatedIds.add(product.getProductId());
+            affectedCategoryIds.addAll(currentIds);
+            if (!sameCategories) {
+                Set<Long> removed = new HashSet<>(currentIds);
+                removed.removeAll(categoryIds);
+                Set<Long> added = new HashSet<>(categoryIds);
+                added.removeAll(currentIds);
+                removedCategories.put(product.getProductId(), removed);
+                addedCategories.put(product.getProductId(), added);
+                affectedCategoryIds.addAll(categoryIds);
+            }
+            results[i] = result(rows.get(i), product, ProductImportStatus.UPDATED, null);
+        }
+
+        if (!written.isEmpty()) {
+            productRepository.upsertProducts(written, LocalDateTime.now());
+            productRepository.updateProductCategories(removedCategories, addedCategories);
+            List<UUID> storeIds = List.of();
+            if (!updatedIds.isEmpty()) {
+                storeProductRepository.refreshStoreInventoryByProductIds(updatedIds);
+                storeIds = storeProductRepository.findStoreIdsByProductIdIn(updatedIds);
+            }
+            productCacheInvalidator.evictProducts(written.stream().map(ProductModel::getProductId).toList(),
+                    storeIds, affectedCategoryIds);
+            catalogVersions.changed(CatalogResource.PRODUCTS);
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Checks the values of a row against the constraints of the product table.
+     *
+     * @param product The product of the row
+     * @return Why the row is invalid, or null if it is valid
+     */
+    private static String validate(ProductModel product) {
+        if (product.getProductName() == null || product.getProductName().isBlank()) {
+            return "productName is required";
+        }
+        if (product.getProductName().length() > MAX_NAME_LENGTH) {
+            return "productName exceeds " + MAX_NAME_LENGTH + " characters";
+        }
+        if (product.getProductDescription() == null) {
+            return "productDescription is required";
+        }
+        if (product.getProductDescription().length() > MAX_DESCRIPTION_LENGTH) {
+            return "productDescription exceeds " + MAX_DESCRIPTION_LENGTH + " characters";
+        }
+        if (product.getPrice() == null || !Double.isFinite(product.getPrice()) || product.getPrice() < 0) {
+            return "price must be a non-negative number";
+        }
+        if (product.getCategories() != null) {
+            for (CategoryModel category : product.getCategories()) {
+                if (category == null || (category.getCategoryId() == null && category.getCategoryName() == null)) {
+                    return "Every category requires an ID or a name";
+                }
+            }
+        }
+        return null;
+    }
+
+    private static ProductImportRowModel result(ProductImportReader.Row row, ProductModel product,
+                                                ProductImportStatus status, String message) {
+        return new ProductImportRowModel(row.row(), product != null ? product.getProductId() : null, status, message);
+    }
+}
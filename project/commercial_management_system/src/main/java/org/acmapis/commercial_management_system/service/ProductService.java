@@ -1,20 +1,42 @@
 package org.acmapis.commercial_management_system.service;
 
+import org.acmapis.commercial_management_system.config.ProductCacheConfiguration;
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
 import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.exception.InvalidSearchException;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.ProductSuggestionModel;
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.model.enums.SalesWindow;
 import org.acmapis.commercial_management_system.repository.ProductRepository;
+import org.acmapis.commercial_management_system.repository.StoreProductRepository;
+import org.acmapis.commercial_management_system.repository.projection.ProductSearchHit;
 import org.acmapis.commercial_management_system.utils.mapper.ProductMapper;
+import org.acmapis.commercial_management_system.utils.mapper.ProjectionMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Service class for managing product-related business logic.
  * Provides CRUD operations and specific queries for product management.
+ * Lookups by product, store and category are served from the caches configured in
+ * {@link ProductCacheConfiguration}; writes evict the affected entries when they commit.
  *
  * @author Commercial Management System
  * @version 1.0
@@ -23,6 +45,21 @@ import java.util.UUID;
 @Service
 public class ProductService {
 
+    /**
+     * Maximum length of the search terms and of the autocomplete prefix.
+     */
+    public static final int MAX_SEARCH_TERMS_LENGTH = 200;
+
+    /**
+     * Number of autocomplete suggestions returned when the client does not request a limit.
+     */
+    public static final int DEFAULT_SUGGESTIONS = 10;
+
+    /**
+     * Upper bound for the number of autocomplete suggestions.
+     */
+    public static final int MAX_SUGGESTIONS = 50;
+
     /**
      * Repository interface for accessing product data in the database.
      * Provides CRUD operations and custom queries for product entities.
@@ -35,87 +72,179 @@ public class ProductService {
      */
     private final ProductMapper productMapper;
 
+    /**
+     * Mapper building ProductModel objects from the rows of the projection queries.
+     */
+    private final ProjectionMapper projectionMapper;
+
     /**
      * Service for managing sale-product relationships.
      * Used for analytics and relationship management operations.
      */
     private final SaleProductService saleProductService;
 
+    /**
+     * Repository interface for accessing store-product relationship data in the database.
+     * Used to find the store listings affected by a product change.
+     */
+    private final StoreProductRepository storeProductRepository;
+
+    /**
+     * Component evicting the product cache entries affected by a write.
+     */
+    private final ProductCacheInvalidator productCacheInvalidator;
+
+    /**
+     * Version stamps of the catalog collections, advanced by every write.
+     */
+    private final CatalogVersions catalogVersions;
+
     /**
      * Constructs a new ProductService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
      *
-     * @param productRepository the repository for product data access operations
-     * @param productMapper     the mapper for entity-model conversions
+     * @param productRepository       the repository for product data access operations
+     * @param productMapper           the mapper for entity-model conversions
+     * @param projectionMapper        the mapper for projection row-model conversions
+     * @param saleProductService      the service for sale-product analytics
+     * @param storeProductRepository  the repository for store-product relationship data access
+     * @param productCacheInvalidator the component evicting product cache entries
+     * @param catalogVersions         the version stamps of the catalog collections
      */
     @Autowired
     public ProductService(ProductRepository productRepository,
                           ProductMapper productMapper,
-                          SaleProductService saleProductService) {
+                          ProjectionMapper projectionMapper,
+                          SaleProductService saleProductService,
+                          StoreProductRepository storeProductRepository,
+                          ProductCacheInvalidator productCacheInvalidator,
+                          CatalogVersions catalogVersions) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.projectionMapper = projectionMapper;
         this.saleProductService = saleProductService;
+        this.storeProductRepository = storeProductRepository;
+        this.productCacheInvalidator = productCacheInvalidator;
+        this.catalogVersions = catalogVersions;
     }
 
     /**
      * Retrieves all products from the database.
      *
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects representing all products
      */
-    public List<ProductModel> getAllProducts() {
-        List<ProductEntity> entities = productRepository.findAll();
+    public List<ProductModel> getAllProducts(FetchPlan fetchPlan) {
+        List<ProductEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? productRepository.findAllDetailed()
+                : productRepository.findAll();
         return productMapper.toModelList(entities);
     }
 
     /**
-     * Retrieves a product by its unique identifier.
+     * Retrieves one page of products using keyset pagination on the identifier.
+     * With {@link FetchPlan#GRAPH} the categories of the page are loaded by one additional statement,
+     * since a collection fetch join cannot be combined with the row limit.
+     *
+     * @param cursor    The continuation token returned by the previous page, or null for the first page
+     * @param size      The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
+     * @return CursorPageModel containing the ProductModel objects of the page
+     */
+    @Transactional(readOnly = true)
+    public CursorPageModel<ProductModel> getProductsPage(String cursor, Integer size, FetchPlan fetchPlan) {
+        int pageSize = CursorPages.pageSize(size);
+        List<ProductEntity> entities = cursor == null
+                ? productRepository.findByOrderByProductIdAsc(CursorPages.lookAhead(pageSize))
+                : productRepository.findByProductIdGreaterThanOrderByProductIdAsc(
+                        CursorCodec.decodeKey(cursor, UUID::fromString), CursorPages.lookAhead(pageSize));
+        if (fetchPlan != FetchPlan.DEFAULT) {
+            productRepository.fetchCategories(entities);
+        }
+        return CursorPages.toPage(entities, pageSize, productMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getProductId()));
+    }
+
+    /**
+     * Retrieves a product by its unique identifier, from the product cache when present.
      *
      * @param productId The unique identifier of the product
      * @return Optional containing the ProductModel if found, empty otherwise
      */
+    @Cacheable(cacheNames = ProductCacheConfiguration.PRODUCT_CACHE, key = "#productId")
     public Optional<ProductModel> getProductById(UUID productId) {
-        Optional<ProductEntity> entity = productRepository.findById(productId);
+        return loadProductById(productId);
+    }
+
+    /**
+     * Reads a product with its categories from the database, bypassing the product cache.
+     * Used by the cache to load and refresh its entries.
+     *
+     * @param productId The unique identifier of the product
+     * @return Optional containing the ProductModel if found, empty otherwise
+     */
+    public Optional<ProductModel> loadProductById(UUID productId) {
+        Optional<ProductEntity> entity = productRepository.findDetailedByProductId(productId);
         return entity.map(productMapper::toModel);
     }
 
     /**
      * Creates a new product in the database.
+     * The listings of the product's categories are evicted from the cache on commit.
      *
      * @param productModel The ProductModel containing the product data to save
      * @return The saved ProductModel with generated ID
      */
+    @Transactional
     public ProductModel saveProduct(ProductModel productModel) {
         ProductEntity entity = productMapper.toEntity(productModel);
         ProductEntity savedEntity = productRepository.save(entity);
+        productCacheInvalidator.evictProduct(savedEntity.getProductId(), List.of(), categoryIds(savedEntity));
+        catalogVersions.changed(CatalogResource.PRODUCTS);
         return productMapper.toModel(savedEntity);
     }
 
     /**
      * Updates an existing product in the database.
      * Uses the find-modify-save pattern to ensure data integrity and prevent ID conflicts.
+     * The product, the listings of the stores stocking it and the listings of its previous and new
+     * categories are evicted from the cache on commit, and the store inventory rows of the product
+     * are rewritten.
      *
      * @param productId    The unique identifier of the product to update
      * @param productModel The ProductModel containing the updated product data
      * @return The updated ProductModel
      * @throws RuntimeException if the product with the given ID is not found
      */
+    @Transactional
     public ProductModel updateProduct(UUID productId, ProductModel productModel) {
         ProductEntity existingEntity = productRepository.findById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found with ID: " + productId));
+        Set<Long> categoryIds = categoryIds(existingEntity);
 
         productMapper.updateEntityFromModel(productModel, existingEntity);
 
-        ProductEntity updatedEntity = productRepository.save(existingEntity);
+        ProductEntity updatedEntity = productRepository.saveAndFlush(existingEntity);
+        storeProductRepository.refreshStoreInventoryByProductId(productId);
+        categoryIds.addAll(categoryIds(updatedEntity));
+        productCacheInvalidator.evictProduct(productId,
+                storeProductRepository.findStoreIdsByProductId(productId), categoryIds);
+        catalogVersions.changed(CatalogResource.PRODUCTS);
         return productMapper.toModel(updatedEntity);
     }
 
     /**
      * Deletes a product by its unique identifier.
+     * The product and the store and category listings containing it are evicted from the cache on commit.
      *
      * @param productId The unique identifier of the product to delete
      */
+    @Transactional
     public void deleteProductById(UUID productId) {
+        productRepository.findById(productId).ifPresent(entity -> productCacheInvalidator.evictProduct(productId,
+                storeProductRepository.findStoreIdsByProductId(productId), categoryIds(entity)));
         productRepository.deleteById(productId);
+        catalogVersions.changed(CatalogResource.PRODUCTS);
     }
 
     // Custom query methods
@@ -123,32 +252,46 @@ public class ProductService {
     /**
      * Finds products with price within the specified range.
      *
-     * @param minPrice The minimum price (inclusive)
-     * @param maxPrice The maximum price (inclusive)
+     * @param minPrice  The minimum price (inclusive)
+     * @param maxPrice  The maximum price (inclusive)
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects with prices in the specified range
      */
-    public List<ProductModel> getProductsByPriceRange(Double minPrice, Double maxPrice) {
-        List<ProductEntity> entities = productRepository.findByPriceBetween(minPrice, maxPrice);
+    @Transactional(readOnly = true)
+    public List<ProductModel> getProductsByPriceRange(Double minPrice, Double maxPrice, FetchPlan fetchPlan) {
+        if (fetchPlan == FetchPlan.PROJECTION) {
+            return projectionMapper.toProductModels(productRepository.findRowsByPriceBetween(minPrice, maxPrice),
+                    productRepository.findCategoryRowsByPriceBetween(minPrice, maxPrice));
+        }
+        List<ProductEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? productRepository.findDetailedByPriceBetween(minPrice, maxPrice)
+                : productRepository.findByPriceBetween(minPrice, maxPrice);
         return productMapper.toModelList(entities);
     }
 
     /**
      * Retrieves all products ordered by price in ascending order.
      *
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects sorted by price from lowest to highest
      */
-    public List<ProductModel> getProductsOrderByPriceAsc() {
-        List<ProductEntity> entities = productRepository.findByOrderByPriceAsc();
+    public List<ProductModel> getProductsOrderByPriceAsc(FetchPlan fetchPlan) {
+        List<ProductEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? productRepository.findDetailedByOrderByPriceAsc()
+                : productRepository.findByOrderByPriceAsc();
         return productMapper.toModelList(entities);
     }
 
     /**
      * Retrieves all products ordered by price in descending order.
      *
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects sorted by price from highest to lowest
      */
-    public List<ProductModel> getProductsOrderByPriceDesc() {
-        List<ProductEntity> entities = productRepository.findByOrderByPriceDesc();
+    public List<ProductModel> getProductsOrderByPriceDesc(FetchPlan fetchPlan) {
+        List<ProductEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? productRepository.findDetailedByOrderByPriceDesc()
+                : productRepository.findByOrderByPriceDesc();
         return productMapper.toModelList(entities);
     }
 
@@ -156,10 +299,13 @@ public class ProductService {
      * Finds products created after the specified date and time.
      *
      * @param createdAfter The datetime threshold for filtering products
+     * @param fetchPlan    How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects created after the specified datetime
      */
-    public List<ProductModel> getProductsCreatedAfter(LocalDateTime createdAfter) {
-        List<ProductEntity> entities = productRepository.findByCreatedAtAfter(createdAfter);
+    public List<ProductModel> getProductsCreatedAfter(LocalDateTime createdAfter, FetchPlan fetchPlan) {
+        List<ProductEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? productRepository.findDetailedByCreatedAtAfter(createdAfter)
+                : productRepository.findByCreatedAtAfter(createdAfter);
         return productMapper.toModelList(entities);
     }
 
@@ -167,63 +313,197 @@ public class ProductService {
      * Retrieves all products that belong to a specific category by category name.
      *
      * @param categoryName The unique name of the category
+     * @param fetchPlan    How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects associated with the specified category
      */
-    public List<ProductModel> getProductsByCategoryName(String categoryName) {
-        List<ProductEntity> entities = productRepository.findByCategoryName(categoryName);
+    public List<ProductModel> getProductsByCategoryName(String categoryName, FetchPlan fetchPlan) {
+        List<ProductEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? productRepository.findDetailedByCategoryName(categoryName)
+                : productRepository.findByCategoryName(categoryName);
         return productMapper.toModelList(entities);
     }
 
     /**
      * Retrieves all products that belong to a specific category by category ID.
+     * Unless {@link FetchPlan#DEFAULT} is requested, the products are served from the category listing
+     * cache when present.
      *
      * @param categoryId The unique identifier of the category
+     * @param fetchPlan  How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects associated with the specified category
      */
-    public List<ProductModel> getProductsByCategoryId(Long categoryId) {
-        List<ProductEntity> entities = productRepository.findByCategoryId(categoryId);
-        return productMapper.toModelList(entities);
+    @Cacheable(cacheNames = ProductCacheConfiguration.PRODUCTS_BY_CATEGORY_CACHE, key = "#categoryId",
+            condition = "#fetchPlan != T(org.acmapis.commercial_management_system.model.enums.FetchPlan).DEFAULT")
+    public List<ProductModel> getProductsByCategoryId(Long categoryId, FetchPlan fetchPlan) {
+        return fetchPlan != FetchPlan.DEFAULT
+                ? loadProductsByCategoryId(categoryId)
+                : productMapper.toModelList(productRepository.findByCategoryId(categoryId));
+    }
+
+    /**
+     * Reads the products of a category with their categories from the database, bypassing the cache.
+     * Used by the cache to load and refresh its entries.
+     *
+     * @param categoryId The unique identifier of the category
+     * @return List of ProductModel objects associated with the specified category
+     */
+    public List<ProductModel> loadProductsByCategoryId(Long categoryId) {
+        return productMapper.toModelList(productRepository.findDetailedByCategoryId(categoryId));
     }
 
 
     /**
      * Retrieves all products ordered by their total sales quantity in descending order.
      *
+     * @param window    The sales window to rank, see {@link SalesWindow}
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects ordered by total sales quantity (highest to lowest)
      */
-    public List<ProductModel> getBestSellingProducts() {
-        return saleProductService.getBestSellingProducts();
+    public List<ProductModel> getBestSellingProducts(SalesWindow window, FetchPlan fetchPlan) {
+        return saleProductService.getBestSellingProducts(window, fetchPlan);
     }
 
     /**
      * Retrieves the top N best-selling products based on total sales quantity.
      *
-     * @param limit The maximum number of top best-selling products to retrieve
+     * @param limit     The maximum number of top best-selling products to retrieve
+     * @param window    The sales window to rank, see {@link SalesWindow}
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects representing the top N best-selling products
      */
-    public List<ProductModel> getTopBestSellingProducts(int limit) {
-        return saleProductService.getTopBestSellingProducts(limit);
+    public List<ProductModel> getTopBestSellingProducts(int limit, SalesWindow window, FetchPlan fetchPlan) {
+        return saleProductService.getTopBestSellingProducts(limit, window, fetchPlan);
     }
 
     /**
      * Retrieves all products available in a specific store by store ID.
+     * With {@link FetchPlan#GRAPH} the products are served from the store listing cache when present;
+     * {@link FetchPlan#PROJECTION} always reads the database.
+     *
+     * @param storeId   The unique identifier of the store
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
+     * @return List of ProductModel objects available in the specified store
+     */
+    @Cacheable(cacheNames = ProductCacheConfiguration.PRODUCTS_BY_STORE_CACHE, key = "#storeId",
+            condition = "#fetchPlan == T(org.acmapis.commercial_management_system.model.enums.FetchPlan).GRAPH")
+    @Transactional(readOnly = true)
+    public List<ProductModel> getProductsByStoreId(UUID storeId, FetchPlan fetchPlan) {
+        return switch (fetchPlan) {
+            case GRAPH -> loadProductsByStoreId(storeId);
+            case PROJECTION -> projectionMapper.toProductModels(productRepository.findRowsByStoreId(storeId),
+                    productRepository.findCategoryRowsByStoreId(storeId));
+            case DEFAULT -> productMapper.toModelList(productRepository.findByStoreId(storeId));
+        };
+    }
+
+    /**
+     * Reads the products available in a store with their categories from the database, bypassing the cache.
+     * Used by the cache to load and refresh its entries.
      *
      * @param storeId The unique identifier of the store
      * @return List of ProductModel objects available in the specified store
      */
-    public List<ProductModel> getProductsByStoreId(UUID storeId) {
-        List<ProductEntity> entities = productRepository.findByStoreId(storeId);
-        return productMapper.toModelList(entities);
+    public List<ProductModel> loadProductsByStoreId(UUID storeId) {
+        return productMapper.toModelList(productRepository.findDetailedByStoreId(storeId));
     }
 
     /**
      * Retrieves all products available in a specific store by store name.
      *
      * @param storeName The name of the store
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects available in the store with the specified name
      */
-    public List<ProductModel> getProductsByStoreName(String storeName) {
-        List<ProductEntity> entities = productRepository.findByStoreName(storeName);
+    public List<ProductModel> getProductsByStoreName(String storeName, FetchPlan fetchPlan) {
+        List<ProductEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? productRepository.findDetailedByStoreName(storeName)
+                : productRepository.findByStoreName(storeName);
         return productMapper.toModelList(entities);
     }
+
+    /**
+     * Searches the products by name, category names and description, most relevant first, using keyset
+     * pagination on (score, product ID). The products of the page are loaded with their categories by one
+     * additional statement. Filters left null are not applied.
+     *
+     * @param terms      The search terms
+     * @param minPrice   The minimum price (inclusive), or null
+     * @param maxPrice   The maximum price (inclusive), or null
+     * @param categoryId The category the products must belong to, or null
+     * @param storeId    The store that must have the products in stock, or null
+     * @param cursor     The continuation token returned by the previous page, or null for the first page
+     * @param size       The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @return CursorPageModel containing the ProductModel objects of the page, most relevant first
+     * @throws InvalidSearchException if the terms are blank or too long
+     */
+    @Transactional(readOnly = true)
+    public CursorPageModel<ProductModel> searchProducts(String terms, Double minPrice, Double maxPrice,
+                                                        Long categoryId, UUID storeId, String cursor, Integer size) {
+        String searchTerms = searchTerms(terms, "Search terms");
+        int pageSize = CursorPages.pageSize(size);
+        ProductSearchHit after = null;
+        if (cursor != null) {
+            String[] keys = CursorCodec.decode(cursor, 2);
+            after = new ProductSearchHit(CursorCodec.parseKey(keys[1], UUID::fromString),
+                    CursorCodec.parseKey(keys[0], Float::parseFloat));
+        }
+        List<ProductSearchHit> hits = productRepository.searchProducts(searchTerms, minPrice, maxPrice, categoryId,
+                storeId, after, pageSize + 1);
+        return CursorPages.toPage(hits, pageSize, this::loadSearchHits,
+                hit -> CursorCodec.encode(hit.score(), hit.productId()));
+    }
+
+    /**
+     * Suggests product names for the text typed so far: names starting with it first, then names with a
+     * word starting with it.
+     *
+     * @param prefix The text typed so far
+     * @param limit  The requested number of suggestions, bounded by {@link #MAX_SUGGESTIONS}
+     * @return List of ProductSuggestionModel objects, best first
+     * @throws InvalidSearchException if the prefix is blank or too long
+     */
+    public List<ProductSuggestionModel> suggestProducts(String prefix, Integer limit) {
+        int suggestions = limit == null ? DEFAULT_SUGGESTIONS : Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        return productRepository.suggestProducts(searchTerms(prefix, "Prefix"), suggestions);
+    }
+
+    /**
+     * Loads the products of the given hits with their categories, in the order of the hits.
+     */
+    private List<ProductModel> loadSearchHits(List<ProductSearchHit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, ProductEntity> products = new HashMap<>();
+        for (ProductEntity entity : productRepository.findDetailedByProductIdIn(
+                hits.stream().map(ProductSearchHit::productId).toList())) {
+            products.put(entity.getProductId(), entity);
+        }
+        // A product deleted between both statements is left out of the page
+        return productMapper.toModelList(hits.stream()
+                .map(hit -> products.get(hit.productId()))
+                .filter(Objects::nonNull)
+                .toList());
+    }
+
+    private static String searchTerms(String value, String name) {
+        String trimmed = value == null ? "" : value.strip();
+        if (trimmed.isEmpty()) {
+            throw new InvalidSearchException(name + " must not be blank");
+        }
+        if (trimmed.length() > MAX_SEARCH_TERMS_LENGTH) {
+            throw new InvalidSearchException(name + " must not exceed " + MAX_SEARCH_TERMS_LENGTH + " characters");
+        }
+        return trimmed;
+    }
+
+    private Set<Long> categoryIds(ProductEntity entity) {
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        if (entity.getCategories() != null) {
+            for (CategoryEntity category : entity.getCategories()) {
+                categoryIds.add(category.getCategoryId());
+            }
+        }
+        return categoryIds;
+    }
 }
@@ -0,0 +1,58 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.repository.reactive.ReactiveProductRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.UUID;
+
+/**
+ * Service class for the reactive product reads of the {@code /api/v2} API.
+ * Queries run on the R2DBC connection pool and never take a JPA connection.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Service
+public class ReactiveProductService {
+
+    /**
+     * Reactive repository for product queries.
+     */
+    private final ReactiveProductRepository reactiveProductRepository;
+
+    /**
+     * Constructs a new ReactiveProductService with the required dependencies.
+     *
+     * @param reactiveProductRepository the reactive repository for product queries
+     */
+    @Autowired
+    public ReactiveProductService(ReactiveProductRepository reactiveProductRepository) {
+        this.reactiveProductRepository = reactiveProductRepository;
+    }
+
+    /**
+     * Streams the products within a price range, ordered by price.
+     *
+     * @param minPrice The minimum price (inclusive)
+     * @param maxPrice The maximum price (inclusive)
+     * @return Flux of ProductModel objects without categories
+     */
+    public Flux<ProductModel> getProductsByPriceRange(Double minPrice, Double maxPrice) {
+        return reactiveProductRepository.findByPriceBetween(minPrice, maxPrice);
+    }
+
+    /**
+     * Streams the inventory of a store, ordered by product name.
+     *
+     * @param storeId The unique identifier of the store
+     * @return Flux of StoreProductModel objects with their product
+     */
+    public Flux<StoreProductModel> getStoreInventory(UUID storeId) {
+        return reactiveProductRepository.findStoreProductsByStoreId(storeId);
+    }
+}
@@ -0,0 +1,78 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel;
+import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.repository.reactive.ReactiveSaleRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Service class for the reactive sale reads of the {@code /api/v2} API: user sale history and
+ * the analytics served from the daily sales rollup.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Service
+public class ReactiveSaleService {
+
+    /**
+     * Reactive repository for sale and rollup queries.
+     */
+    private final ReactiveSaleRepository reactiveSaleRepository;
+
+    /**
+     * Constructs a new ReactiveSaleService with the required dependencies.
+     *
+     * @param reactiveSaleRepository the reactive repository for sale and rollup queries
+     */
+    @Autowired
+    public ReactiveSaleService(ReactiveSaleRepository reactiveSaleRepository) {
+        this.reactiveSaleRepository = reactiveSaleRepository;
+    }
+
+    /**
+     * Streams the sales made by a specific user between two days, in date order.
+     *
+     * @param userId The unique identifier of the user
+     * @param from   The first day of the range, inclusive, or null for no lower bound
+     * @param to     The last day of the range, inclusive, or null for today
+     * @return Flux of SaleModel objects without their user
+     */
+    public Flux<SaleModel> getSalesByUserId(UUID userId, LocalDate from, LocalDate to) {
+        return reactiveSaleRepository.findByUserIdAndSaleDateRange(userId,
+                (from != null ? from : LocalDate.EPOCH).atStartOfDay(),
+                (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * Streams the sales count and total amount of each day in a date range, optionally restricted
+     * to one city.
+     *
+     * @param from   The first day of the range, inclusive
+     * @param to     The last day of the range, inclusive
+     * @param cityId The city to restrict the totals to, or null for every city
+     * @return Flux of SaleDailyTotalModel objects in ascending day order, omitting days without sales
+     */
+    public Flux<SaleDailyTotalModel> getDailySalesTotals(LocalDate from, LocalDate to, Long cityId) {
+        return cityId != null
+                ? reactiveSaleRepository.findDailyTotalsByCityId(cityId, from, to)
+                : reactiveSaleRepository.findDailyTotals(from, to);
+    }
+
+    /**
+     * Streams the sales count and total amount of each city over a date range.
+     *
+     * @param from The first day of the range, inclusive
+     * @param to   The last day of the range, inclusive
+     * @return Flux of SaleDailyTotalModel objects ordered by total amount descending
+     */
+    public Flux<SaleDailyTotalModel> getCitySalesTotals(LocalDate from, LocalDate to) {
+        return reactiveSaleRepository.findCityTotals(from, to);
+    }
+}
@@ -0,0 +1,56 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup job backfilling the daily sales rollup.
+ * Sales loaded by the initial data script bypass the service layer, so the rollup is rebuilt once
+ * the application is ready if it holds no rows yet. A rollup that was already built is kept, so a
+ * restart does not rescan the sale table; rebuilding it again is an explicit maintenance action
+ * ({@code POST /api/v1/sales/analytics/daily/rebuild}). Disable with
+ * {@code sales.rollup.backfill-on-startup=false}.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+public class SaleDailyRollupBackfill {
+
+    /**
+     * Service used to rebuild the rollup.
+     */
+    private final SaleService saleService;
+
+    /**
+     * Whether an empty rollup is built when the application starts.
+     */
+    private final boolean enabled;
+
+    /**
+     * Constructs a new SaleDailyRollupBackfill with the required dependencies.
+     *
+     * @param saleService the service used to rebuild the rollup
+     * @param enabled     whether an empty rollup is built when the application starts
+     */
+    @Autowired
+    public SaleDailyRollupBackfill(SaleService saleService,
+                                   @Value("${sales.rollup.backfill-on-startup:true}") boolean enabled) {
+        this.saleService = saleService;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Builds an empty rollup once the application, including the data script, is initialized.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (enabled && saleService.isDailySalesRollupEmpty()) {
+            saleService.rebuildDailySalesRollup();
+        }
+    }
+}
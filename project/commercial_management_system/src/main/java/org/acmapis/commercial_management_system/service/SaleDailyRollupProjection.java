@@ -0,0 +1,51 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.repository.SaleDailyRollupRepository;
+import org.acmapis.commercial_management_system.repository.projection.SaleEventRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Consumer of the sale event outbox maintaining the daily sales rollup.
+ * Sales of the same day and city update one rollup row; applying them in batches, outside the
+ * sale transactions, keeps that row from serializing the checkouts.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+public class SaleDailyRollupProjection implements SaleEventConsumer {
+
+    /**
+     * Name of this consumer in the outbox.
+     */
+    public static final String NAME = "sale-daily-rollup";
+
+    /**
+     * Repository interface for maintaining the daily sales rollup.
+     */
+    private final SaleDailyRollupRepository saleDailyRollupRepository;
+
+    /**
+     * Constructs a new SaleDailyRollupProjection with the required dependencies.
+     *
+     * @param saleDailyRollupRepository the repository for daily sales rollup operations
+     */
+    @Autowired
+    public SaleDailyRollupProjection(SaleDailyRollupRepository saleDailyRollupRepository) {
+        this.saleDailyRollupRepository = saleDailyRollupRepository;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public void consume(List<SaleEventRow> events) {
+        saleDailyRollupRepository.applyEvents(events);
+    }
+}
@@ -0,0 +1,31 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.repository.projection.SaleEventRow;
+
+import java.util.List;
+
+/**
+ * Projection fed by the sale event outbox through {@link SaleEventDispatcher}.
+ * Each batch is consumed in its own transaction, in which the dispatcher also records the events as
+ * applied by this consumer; redelivered events are filtered out before reaching {@link #consume}.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public interface SaleEventConsumer {
+
+    /**
+     * Returns the name under which the events applied by this consumer are recorded.
+     *
+     * @return The unique name of the consumer
+     */
+    String getName();
+
+    /**
+     * Applies a batch of events not yet applied by this consumer, in event ID order.
+     *
+     * @param events The events to apply
+     */
+    void consume(List<SaleEventRow> events);
+}
@@ -0,0 +1,274 @@
+package org.acmapis.commercial_management_system.service;
+
+import jakarta.annotation.PreDestroy;
+import org.acmapis.commercial_management_system.repository.SaleEventOutboxRepository;
+import org.acmapis.commercial_management_system.repository.projection.SaleEventRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * In-process dispatcher of the sale event outbox.
+ * A virtual thread drains the outbox every {@code sales.events.flush-interval}, or as soon as
+ * {@code sales.events.batch-size} events were committed since the last drain, reading the events in
+ * batches of that size. Each batch is delivered to every {@link SaleEventConsumer} in parallel, on
+ * virtual threads, and deleted once all of them applied it.
+ * Delivery is at least once: a batch whose delivery fails stays in the outbox and is delivered again
+ * on the next drain, and the events a consumer already applied are skipped, because they are recorded
+ * in the same transaction as their effect. Disable the background thread with
+ * {@code sales.events.dispatcher-enabled=false}; {@link #drain()} still delivers on demand.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+public class SaleEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(SaleEventDispatcher.class);
+
+    /**
+     * Repository reading and deleting the outbox events.
+     */
+    private final SaleEventOutboxRepository outboxRepository;
+
+    /**
+     * Consumers receiving every event.
+     */
+    private final List<SaleEventConsumer> consumers;
+
+    /**
+     * Template running each delivery and acknowledgement in its own transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Maximum number of events read and delivered at once.
+     */
+    private final int batchSize;
+
+    /**
+     * Maximum time an event waits in the outbox while the dispatcher is idle.
+     */
+    private final Duration flushInterval;
+
+    /**
+     * Whether the background thread is started.
+     */
+    private final boolean enabled;
+
+    /**
+     * Serializes the drains of the background thread and of the callers of {@link #drain()}.
+     */
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    /**
+     * Number of events committed since the last drain, as reported by {@link #signal(int)}.
+     */
+    private final AtomicInteger signalled = new AtomicInteger();
+
+    /**
+     * Background thread, once started.
+     */
+    private volatile Thread worker;
+
+    /**
+     * Whether the background thread keeps running.
+     */
+    private volatile boolean running;
+
+    /**
+     * Constructs a new SaleEventDispatcher with the required dependencies.
+     *
+     * @param outboxRepository    the repository of the sale event outbox
+     * @param consumers           the consumers receiving every event
+     * @param transactionTemplate the template running deliveries in their own transactions
+     * @param batchSize           the maximum number of events delivered at once
+     * @param flushInterval       the maximum time an event waits while the dispatcher is idle
+     * @param enabled             whether the background thread is started
+     */
+    @Autowired
+    public SaleEventDispatcher(SaleEventOutboxRepository outboxRepository,
+                               List<SaleEventConsumer> consumers,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${sales.events.batch-size:500}") int batchSize,
+                               @Value("${sales.events.flush-interval:200ms}") Duration flushInterval,
+                               @Value("${sales.events.dispatcher-enabled:true}") boolean enabled) {
+        this.outboxRepository = outboxRepository;
+        this.consumers = consumers;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts the background thread once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!enabled || worker != null) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofVirtual().name("sale-event-dispatcher").start(this::run);
+    }
+
+    /**
+     * Stops the background thread. Pending events stay in the outbox for the next start.
+     */
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        Thread current = worker;
+        if (current == null) {
+            return;
+        }
+        LockSupport.unpark(current);
+        try {
+            current.join(flushInterval.plusSeconds(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+    }
+
+    /**
+     * Reports committed events, waking the background thread early once a full batch is pending.
+     *
+     * @param count The number of events committed
+     */
+    public void signal(int count) {
+        Thread current = worker;
+        if (signalled.addAndGet(count) >= batchSize && current != null) {
+            LockSupport.unpark(current);
+        }
+    }
+
+    /**
+     * Delivers every committed event to the consumers and deletes it from the outbox.
+     *
+     * @return The number of events delivered
+     * @throws IllegalStateException if a consumer fails; its batch stays in the outbox
+     */
+    public int drain() {
+        drainLock.lock();
+        try {
+            signalled.set(0);
+            int delivered = 0;
+            List<SaleEventRow> batch;
+            do {
+                batch = outboxRepository.findBatch(batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                deliver(batch);
+                acknowledge(batch);
+                delivered += batch.size();
+            } while (batch.size() == batchSize);
+            return delivered;
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Runs work while this dispatcher delivers no events, waiting for a running drain to finish.
+     * Used to rebuild a projection without a batch being applied to it at the same time.
+     *
+     * @param work The work to run, including the commit of its transaction
+     * @param <T>  The type of the result of the work
+     * @return The result of the work
+     */
+    public <T> T runPaused(Supplier<T> work) {
+        drainLock.lock();
+        try {
+            return work.get();
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Delivers a batch to every consumer, each in its own transaction on its own virtual thread.
+     *
+     * @param batch The events, in event ID order
+     * @throws IllegalStateException if a consumer fails
+     */
+    void deliver(List<SaleEventRow> batch) {
+        List<Future<?>> deliveries = new ArrayList<>(consumers.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (SaleEventConsumer consumer : consumers) {
+                deliveries.add(executor.submit(() -> deliverTo(consumer, batch)));
+            }
+        }
+        for (Future<?> delivery : deliveries) {
+            try {
+                delivery.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Sale event delivery failed", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Sale event delivery interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * Deletes a batch delivered to every consumer.
+     *
+     * @param batch The events
+     */
+    void acknowledge(List<SaleEventRow> batch) {
+        List<Long> eventIds = batch.stream().map(SaleEventRow::eventId).toList();
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteEvents(eventIds));
+    }
+
+    private void deliverTo(SaleEventConsumer consumer, List<SaleEventRow> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> applied = outboxRepository.findConsumedEventIds(consumer.getName(),
+                    batch.get(0).eventId(), batch.get(batch.size() - 1).eventId());
+            List<SaleEventRow> pending = batch.stream().filter(event -> !applied.contains(event.eventId())).toList();
+            if (pending.isEmpty()) {
+                return;
+            }
+            consumer.consume(pending);
+            outboxRepository.markConsumed(consumer.getName(), pending.stream().map(SaleEventRow::eventId).toList());
+        });
+    }
+
+    private void run() {
+        while (running) {
+            LockSupport.parkNanos(flushInterval.toNanos());
+            if (!running) {
+                break;
+            }
+            try {
+                int delivered = drain();
+                if (delivered > 0) {
+                    log.debug("Delivered {} sale event(s)", delivered);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Sale event dispatch failed, retrying in {}", flushInterval, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.model.enums.SaleEventType;
+import org.acmapis.commercial_management_system.repository.SaleEventOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Service class writing sale events to the outbox, in the transaction of the sale write that causes
+ * them. Events describe the current state of the rows, so pending changes must be flushed before a
+ * recording event and a reversing event must be written before the change. Once the transaction
+ * commits, the {@link SaleEventDispatcher} is told how many events are waiting.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Service
+public class SaleEventPublisher {
+
+    /**
+     * Repository writing the outbox events.
+     */
+    private final SaleEventOutboxRepository outboxRepository;
+
+    /**
+     * Dispatcher delivering the events.
+     */
+    private final SaleEventDispatcher dispatcher;
+
+    /**
+     * Constructs a new SaleEventPublisher with the required dependencies.
+     *
+     * @param outboxRepository the repository of the sale event outbox
+     * @param dispatcher       the dispatcher delivering the events
+     */
+    @Autowired
+    public SaleEventPublisher(SaleEventOutboxRepository outboxRepository, SaleEventDispatcher dispatcher) {
+        this.outboxRepository = outboxRepository;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Publishes a sale, with its total amount and the units of its lines.
+     *
+     * @param saleId The unique identifier of the sale
+     */
+    public void saleRecorded(UUID saleId) {
+        signalAfterCommit(outboxRepository.insertSaleEvent(SaleEventType.SALE_RECORDED, saleId));
+    }
+
+    /**
+     * Publishes the reversal of a sale about to be deleted or modified.
+     *
+     * @param saleId The unique identifier of the sale
+     */
+    public void saleReversed(UUID saleId) {
+        signalAfterCommit(outboxRepository.insertSaleEvent(SaleEventType.SALE_REVERSED, saleId));
+    }
+
+    /**
+     * Publishes sale lines written after their sale was recorded.
+     *
+     * @param saleProductIds The unique identifiers of the sale lines
+     */
+    public void linesRecorded(Collection<Long> saleProductIds) {
+        signalAfterCommit(outboxRepository.insertLinesEvents(SaleEventType.LINES_RECORDED, saleProductIds));
+    }
+
+    /**
+     * Publishes the reversal of sale lines about to be deleted or modified.
+     *
+     * @param saleProductIds The unique identifiers of the sale lines
+     */
+    public void linesReversed(Collection<Long> saleProductIds) {
+        signalAfterCommit(outboxRepository.insertLinesEvents(SaleEventType.LINES_REVERSED, saleProductIds));
+    }
+
+    private void signalAfterCommit(int count) {
+        if (count == 0) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatcher.signal(count);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatcher.signal(count);
+            }
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.repository.SaleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Maintenance job of the monthly sale partitions on PostgreSQL.
+ * When the application starts and then daily, creates the partitions of the current month and of
+ * the next {@code sales.partitions.months-ahead} months, so new sales never land in the default
+ * partition. With {@code sales.partitions.retention-months} above zero, the months older than the
+ * retention are detached and moved to the {@code sales_archive} schema. Does nothing on other databases.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+public class SalePartitionMaintenance {
+
+    private static final Logger log = LoggerFactory.getLogger(SalePartitionMaintenance.class);
+
+    /**
+     * Repository used to create and archive the partitions.
+     */
+    private final SaleRepository saleRepository;
+
+    /**
+     * Number of months after the current one whose partitions are created in advance.
+     */
+    private final int monthsAhead;
+
+    /**
+     * Number of past months kept attached, or zero to never archive.
+     */
+    private final int retentionMonths;
+
+    /**
+     * Constructs a new SalePartitionMaintenance with the required dependencies.
+     *
+     * @param saleRepository  the repository used to create and archive the partitions
+     * @param monthsAhead     the number of months after the current one created in advance
+     * @param retentionMonths the number of past months kept attached, or zero to never archive
+     */
+    @Autowired
+    public SalePartitionMaintenance(SaleRepository saleRepository,
+                                    @Value("${sales.partitions.months-ahead:3}") int monthsAhead,
+                                    @Value("${sales.partitions.retention-months:0}") int retentionMonths) {
+        this.saleRepository = saleRepository;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Creates the upcoming partitions and archives the expired ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${sales.partitions.maintenance-cron:0 30 2 * * *}")
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+        int created = createPartitions(today, today.plusMonths(monthsAhead));
+        int archived = retentionMonths > 0
+                ? saleRepository.archiveSalePartitionsBefore(today.minusMonths(retentionMonths))
+                : 0;
+        if (created > 0 || archived > 0) {
+            log.info("Sale partitions: {} month(s) created, {} month(s) archived", created, archived);
+        }
+    }
+
+    /**
+     * Creates the missing partitions of the months between two days, inclusive.
+     * Used before loading sales dated outside the maintained window.
+     *
+     * @param firstDay A day of the first month
+     * @param lastDay  A day of the last month
+     * @return The number of months created
+     */
+    public int createPartitions(LocalDate firstDay, LocalDate lastDay) {
+        return saleRepository.createSalePartitions(firstDay, lastDay);
+    }
+}
@@ -1,21 +1,43 @@
 package org.acmapis.commercial_management_system.service;
 
 import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
 import org.acmapis.commercial_management_system.entity.SaleProductEntity;
+import org.acmapis.commercial_management_system.exception.InvalidBulkRequestException;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.ProductModel;
 import org.acmapis.commercial_management_system.model.dto.SaleProductModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.model.enums.SalesWindow;
+import org.acmapis.commercial_management_system.repository.ProductRepository;
 import org.acmapis.commercial_management_system.repository.SaleProductRepository;
+import org.acmapis.commercial_management_system.repository.SaleRepository;
+import org.acmapis.commercial_management_system.utils.bulk.BulkRequests;
 import org.acmapis.commercial_management_system.utils.mapper.ProductMapper;
 import org.acmapis.commercial_management_system.utils.mapper.SaleProductMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Service class for managing sale-product relationship business logic.
  * Provides CRUD operations and analytics queries for sale-product relationships.
+ * Writes keep the best-seller leaderboards of {@link BestSellerService} up to date and publish sale
+ * line events, from which the units of the daily sales rollup follow; best-seller queries are answered
+ * from those leaderboards.
  *
  * @author Commercial Management System
  * @version 1.0
@@ -30,6 +52,18 @@ public class SaleProductService {
      */
     private final SaleProductRepository saleProductRepository;
 
+    /**
+     * Repository interface for accessing product data in the database.
+     * Used to load product categories in bulk for the {@link FetchPlan#GRAPH} fetch plan.
+     */
+    private final ProductRepository productRepository;
+
+    /**
+     * Repository interface for accessing sale data in the database.
+     * Used to resolve the sales referenced by bulk creations with a single query.
+     */
+    private final SaleRepository saleRepository;
+
     /**
      * Mapper interface for converting between SaleProductEntity and SaleProductModel objects.
      * Handles automatic mapping using MapStruct framework.
@@ -42,33 +76,94 @@ public class SaleProductService {
      */
     private final ProductMapper productMapper;
 
+    /**
+     * Service maintaining the in-memory best-seller leaderboards.
+     */
+    private final BestSellerService bestSellerService;
+
+    /**
+     * Publisher of the sale line events.
+     */
+    private final SaleEventPublisher saleEventPublisher;
+
     /**
      * Constructs a new SaleProductService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
      *
      * @param saleProductRepository the repository for sale-product relationship data access
+     * @param productRepository     the repository for product data access
+     * @param saleRepository        the repository for sale data access
      * @param saleProductMapper     the mapper for sale-product entity-model conversions
      * @param productMapper         the mapper for product entity-model conversions
+     * @param bestSellerService     the service maintaining the best-seller leaderboards
+     * @param saleEventPublisher    the publisher of the sale line events
      */
     @Autowired
     public SaleProductService(SaleProductRepository saleProductRepository,
+                              ProductRepository productRepository,
+                              SaleRepository saleRepository,
                               SaleProductMapper saleProductMapper,
-                              ProductMapper productMapper) {
+                              ProductMapper productMapper,
+                              BestSellerService bestSellerService,
+                              SaleEventPublisher saleEventPublisher) {
         this.saleProductRepository = saleProductRepository;
+        this.productRepository = productRepository;
+        this.saleRepository = saleRepository;
         this.saleProductMapper = saleProductMapper;
         this.productMapper = productMapper;
+        this.bestSellerService = bestSellerService;
+        this.saleEventPublisher = saleEventPublisher;
     }
 
     /**
      * Retrieves all sale-product relationships from the database.
      *
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of SaleProductModel objects representing all sale-product relationships
      */
-    public List<SaleProductModel> getAllSaleProducts() {
-        List<SaleProductEntity> entities = saleProductRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<SaleProductModel> getAllSaleProducts(FetchPlan fetchPlan) {
+        List<SaleProductEntity> entities;
+        if (fetchPlan != FetchPlan.DEFAULT) {
+            entities = saleProductRepository.findAllDetailed();
+            fetchProductCategories(entities);
+        } else {
+            entities = saleProductRepository.findAll();
+        }
         return saleProductMapper.toModelList(entities);
     }
 
+    /**
+     * Retrieves one page of sale-product relationships using keyset pagination on the identifier.
+     *
+     * @param cursor    The continuation token returned by the previous page, or null for the first page
+     * @param size      The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
+     * @return CursorPageModel containing the SaleProductModel objects of the page
+     */
+    @Transactional(readOnly = true)
+    public CursorPageModel<SaleProductModel> getSaleProductsPage(String cursor, Integer size, FetchPlan fetchPlan) {
+        int pageSize = CursorPages.pageSize(size);
+        Limit limit = CursorPages.lookAhead(pageSize);
+        boolean graph = fetchPlan != FetchPlan.DEFAULT;
+        List<SaleProductEntity> entities;
+        if (cursor == null) {
+            entities = graph
+                    ? saleProductRepository.findDetailedByOrderBySaleProductIdAsc(limit)
+                    : saleProductRepository.findByOrderBySaleProductIdAsc(limit);
+        } else {
+            Long after = CursorCodec.decodeKey(cursor, Long::valueOf);
+            entities = graph
+                    ? saleProductRepository.findDetailedBySaleProductIdGreaterThanOrderBySaleProductIdAsc(after, limit)
+                    : saleProductRepository.findBySaleProductIdGreaterThanOrderBySaleProductIdAsc(after, limit);
+        }
+        if (graph) {
+            fetchProductCategories(entities);
+        }
+        return CursorPages.toPage(entities, pageSize, saleProductMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getSaleProductId()));
+    }
+
     /**
      * Retrieves a sale-product relationship by its unique identifier.
      *
@@ -86,12 +181,55 @@ public class SaleProductService {
      * @param saleProductModel The SaleProductModel containing the relationship data to save
      * @return The saved SaleProductModel with generated ID
      */
+    @Transactional
     public SaleProductModel saveSaleProduct(SaleProductModel saleProductModel) {
         SaleProductEntity entity = saleProductMapper.toEntity(saleProductModel);
-        SaleProductEntity savedEntity = saleProductRepository.save(entity);
+        SaleProductEntity savedEntity = saleProductRepository.saveAndFlush(entity);
+        recordSold(savedEntity.getSaleProductId());
         return saleProductMapper.toModel(savedEntity);
     }
 
+    /**
+     * Creates several sale-product relationships in one transaction.
+     * The referenced sales and products are loaded with one query each and the rows are inserted
+     * in JDBC batches; identifiers in the models are ignored. The new lines are added to the
+     * best-seller leaderboards and published as sale line events together.
+     *
+     * @param saleProductModels The SaleProductModels to save, each referencing a sale and a product by ID
+     * @return The saved SaleProductModels with generated IDs, in request order
+     * @throws InvalidBulkRequestException if the request is empty, too large or a row lacks its references
+     * @throws RuntimeException            if a referenced sale or product is not found
+     */
+    @Transactional
+    public List<SaleProductModel> saveSaleProducts(List<SaleProductModel> saleProductModels) {
+        BulkRequests.requireValidSize(saleProductModels);
+        Set<UUID> saleIds = new LinkedHashSet<>();
+        Set<UUID> productIds = new LinkedHashSet<>();
+        for (SaleProductModel model : saleProductModels) {
+            if (model.getSale() == null || model.getSale().getSaleId() == null
+                    || model.getProduct() == null || model.getProduct().getProductId() == null) {
+                throw new InvalidBulkRequestException("Every sale product requires a sale and a product ID");
+            }
+            saleIds.add(model.getSale().getSaleId());
+            productIds.add(model.getProduct().getProductId());
+        }
+        Map<UUID, SaleEntity> sales = BulkRequests.indexById(saleIds,
+                saleRepository.findDetailedBySaleIdIn(saleIds), SaleEntity::getSaleId, "Sale");
+        Map<UUID, ProductEntity> products = BulkRequests.indexById(productIds,
+                productRepository.findDetailedByProductIdIn(productIds), ProductEntity::getProductId, "Product");
+
+        List<SaleProductEntity> entities = new ArrayList<>(saleProductModels.size());
+        for (SaleProductModel model : saleProductModels) {
+            entities.add(new SaleProductEntity(null, model.getQuantity(),
+                    sales.get(model.getSale().getSaleId()), products.get(model.getProduct().getProductId()), null));
+        }
+        List<SaleProductEntity> savedEntities = saleProductRepository.saveAllAndFlush(entities);
+        List<Long> savedIds = savedEntities.stream().map(SaleProductEntity::getSaleProductId).toList();
+        bestSellerService.recordSold(saleProductRepository.findDatedQuantitiesBySaleProductIdIn(savedIds));
+        saleEventPublisher.linesRecorded(savedIds);
+        return saleProductMapper.toModelList(savedEntities);
+    }
+
     /**
      * Updates an existing sale-product relationship in the database.
      * Uses the find-modify-save pattern to ensure data integrity and prevent ID conflicts.
@@ -101,13 +239,16 @@ public class SaleProductService {
      * @return The updated SaleProductModel
      * @throws RuntimeException if the sale-product relationship with the given ID is not found
      */
+    @Transactional
     public SaleProductModel updateSaleProduct(Long saleProductId, SaleProductModel saleProductModel) {
         SaleProductEntity existingEntity = saleProductRepository.findById(saleProductId)
                 .orElseThrow(() -> new RuntimeException("SaleProduct not found with ID: " + saleProductId));
+        recordRemoved(saleProductId);
 
         saleProductMapper.updateEntityFromModel(saleProductModel, existingEntity);
 
-        SaleProductEntity updatedEntity = saleProductRepository.save(existingEntity);
+        SaleProductEntity updatedEntity = saleProductRepository.saveAndFlush(existingEntity);
+        recordSold(updatedEntity.getSaleProductId());
         return saleProductMapper.toModel(updatedEntity);
     }
 
@@ -116,31 +257,84 @@ public class SaleProductService {
      *
      * @param saleProductId The unique identifier of the sale-product relationship to delete
      */
+    @Transactional
     public void deleteSaleProductById(Long saleProductId) {
+        recordRemoved(saleProductId);
         saleProductRepository.deleteById(saleProductId);
     }
 
     // Custom query methods
 
     /**
-     * Retrieves all products ordered by their total sales quantity in descending order.
-     * This method aggregates the quantity sold for each product across all sales.
+     * Retrieves all sold products ordered by their total sales quantity in descending order.
+     * The ranking is read from the in-memory leaderboard of the window; only the products are loaded.
      *
+     * @param window    The sales window to rank
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects ordered by total sales quantity (highest to lowest)
      */
-    public List<ProductModel> getBestSellingProducts() {
-        List<ProductEntity> entities = saleProductRepository.findBestSellingProducts();
-        return productMapper.toModelList(entities);
+    @Transactional(readOnly = true)
+    public List<ProductModel> getBestSellingProducts(SalesWindow window, FetchPlan fetchPlan) {
+        return getTopBestSellingProducts(Integer.MAX_VALUE, window, fetchPlan);
     }
 
     /**
      * Retrieves the top N best-selling products ordered by total sales quantity.
+     * The ranking is read from the in-memory leaderboard of the window; only the products are loaded.
      *
-     * @param limit The maximum number of products to return
+     * @param limit     The maximum number of products to return
+     * @param window    The sales window to rank
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of ProductModel objects representing the top best-selling products
      */
-    public List<ProductModel> getTopBestSellingProducts(int limit) {
-        List<ProductEntity> entities = saleProductRepository.findTopBestSellingProducts(limit);
-        return productMapper.toModelList(entities);
+    @Transactional(readOnly = true)
+    public List<ProductModel> getTopBestSellingProducts(int limit, SalesWindow window, FetchPlan fetchPlan) {
+        List<UUID> productIds = bestSellerService.getTopProductIds(window, limit);
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        List<ProductEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? productRepository.findDetailedByProductIdIn(productIds)
+                : productRepository.findAllById(productIds);
+        Map<UUID, ProductEntity> byId = new HashMap<>();
+        for (ProductEntity entity : entities) {
+            byId.put(entity.getProductId(), entity);
+        }
+        List<ProductEntity> ranked = productIds.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return productMapper.toModelList(ranked);
+    }
+
+    /**
+     * Initializes the categories of the products referenced by the given sale-product relationships
+     * with a single statement, instead of one select per product during mapping.
+     *
+     * @param saleProducts The sale-product relationships whose product categories are loaded
+     */
+    /**
+     * Counts the current state of a sale-product line in the best-seller leaderboards and publishes
+     * it as recorded. Pending changes must be flushed first.
+     *
+     * @param saleProductId The unique identifier of the sale-product line
+     */
+    private void recordSold(Long saleProductId) {
+        bestSellerService.recordSold(saleProductRepository.findDatedQuantityBySaleProductId(saleProductId)
+                .stream().toList());
+        saleEventPublisher.linesRecorded(List.of(saleProductId));
+    }
+
+    /**
+     * Removes the current state of a sale-product line from the best-seller leaderboards and
+     * publishes it as reversed.
+     *
+     * @param saleProductId The unique identifier of the sale-product line
+     */
+    private void recordRemoved(Long saleProductId) {
+        bestSellerService.recordRemoved(saleProductRepository.findDatedQuantityBySaleProductId(saleProductId)
+                .stream().toList());
+        saleEventPublisher.linesReversed(List.of(saleProductId));
+    }
+
+    private void fetchProductCategories(List<SaleProductEntity> saleProducts) {
+        productRepository.fetchCategories(saleProducts.stream().map(SaleProductEntity::getProduct).toList());
     }
 }
@@ -1,20 +1,39 @@
 package org.acmapis.commercial_management_system.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel;
 import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.model.dto.SaleRegionTotalModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.repository.SaleDailyRollupRepository;
 import org.acmapis.commercial_management_system.repository.SaleRepository;
 import org.acmapis.commercial_management_system.utils.mapper.SaleMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Service class for managing sale-related business logic.
  * Provides CRUD operations and analytics queries for sales transactions.
+ * Every sale write publishes a sale event in its transaction; the daily sales rollup, from which the
+ * analytics queries are served, is updated from those events by {@link SaleDailyRollupProjection}.
  *
  * @author Commercial Management System
  * @version 1.0
@@ -23,41 +42,152 @@ import java.util.UUID;
 @Service
 public class SaleService {
 
+    /**
+     * Number of exported rows after which the persistence context is cleared and the output flushed.
+     */
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+
     /**
      * Repository interface for accessing sale data in the database.
      * Provides CRUD operations and custom queries for sale entities.
      */
     private final SaleRepository saleRepository;
 
+    /**
+     * Repository interface for reading and maintaining the daily sales rollup.
+     */
+    private final SaleDailyRollupRepository saleDailyRollupRepository;
+
+    /**
+     * Publisher of the sale events.
+     */
+    private final SaleEventPublisher saleEventPublisher;
+
+    /**
+     * Dispatcher of the sale events, paused while the rollup is rebuilt.
+     */
+    private final SaleEventDispatcher saleEventDispatcher;
+
+    /**
+     * Template running the rebuild of the rollup in a transaction that commits before the dispatcher resumes.
+     */
+    private final TransactionTemplate transactionTemplate;
+
     /**
      * Mapper interface for converting between SaleEntity and SaleModel objects.
      * Handles automatic mapping using MapStruct framework.
      */
     private final SaleMapper saleMapper;
 
+    /**
+     * Entity manager used to detach exported sales from the persistence context.
+     */
+    private final EntityManager entityManager;
+
+    /**
+     * JSON mapper used to serialize exported sales, shared with the web layer.
+     */
+    private final ObjectMapper objectMapper;
+
     /**
      * Constructs a new SaleService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
      *
-     * @param saleRepository the repository for sale data access operations
-     * @param saleMapper     the mapper for entity-model conversions
+     * @param saleRepository            the repository for sale data access operations
+     * @param saleDailyRollupRepository the repository for daily sales rollup operations
+     * @param saleEventPublisher        the publisher of the sale events
+     * @param saleEventDispatcher       the dispatcher of the sale events
+     * @param saleMapper                the mapper for entity-model conversions
+     * @param entityManager             the entity manager used during bulk exports
+     * @param objectMapper              the JSON mapper used during bulk exports
+     * @param transactionManager        the transaction manager used to rebuild the rollup
      */
     @Autowired
-    public SaleService(SaleRepository saleRepository, SaleMapper saleMapper) {
+    public SaleService(SaleRepository saleRepository,
+                       SaleDailyRollupRepository saleDailyRollupRepository,
+                       SaleEventPublisher saleEventPublisher,
+                       SaleEventDispatcher saleEventDispatcher,
+                       SaleMapper saleMapper,
+                       EntityManager entityManager,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager) {
         this.saleRepository = saleRepository;
+        this.saleDailyRollupRepository = saleDailyRollupRepository;
+        this.saleEventPublisher = saleEventPublisher;
+        this.saleEventDispatcher = saleEventDispatcher;
         this.saleMapper = saleMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Retrieves all sales from the database.
      *
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of SaleModel objects representing all sales
      */
-    public List<SaleModel> getAllSales() {
-        List<SaleEntity> entities = saleRepository.findAll();
+    public List<SaleModel> getAllSales(FetchPlan fetchPlan) {
+        List<SaleEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? saleRepository.findAllDetailed()
+                : saleRepository.findAll();
         return saleMapper.toModelList(entities);
     }
 
+    /**
+     * Retrieves one page of sales using keyset pagination on (sale date, sale ID).
+     *
+     * @param cursor    The continuation token returned by the previous page, or null for the first page
+     * @param size      The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
+     * @return CursorPageModel containing the SaleModel objects of the page
+     */
+    public CursorPageModel<SaleModel> getSalesPage(String cursor, Integer size, FetchPlan fetchPlan) {
+        int pageSize = CursorPages.pageSize(size);
+        List<SaleEntity> entities;
+        boolean graph = fetchPlan != FetchPlan.DEFAULT;
+        if (cursor == null) {
+            entities = graph
+                    ? saleRepository.findDetailedByOrderBySaleDateAscSaleIdAsc(CursorPages.lookAhead(pageSize))
+                    : saleRepository.findByOrderBySaleDateAscSaleIdAsc(CursorPages.lookAhead(pageSize));
+        } else {
+            String[] keys = CursorCodec.decode(cursor, 2);
+            LocalDateTime saleDate = CursorCodec.parseKey(keys[0], LocalDateTime::parse);
+            UUID saleId = CursorCodec.parseKey(keys[1], UUID::fromString);
+            entities = graph
+                    ? saleRepository.findDetailedSalesAfter(saleDate, saleId, CursorPages.lookAhead(pageSize))
+                    : saleRepository.findSalesAfter(saleDate, saleId, CursorPages.lookAhead(pageSize));
+        }
+        return CursorPages.toPage(entities, pageSize, saleMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getSaleDate(), entity.getSaleId()));
+    }
+
+    /**
+     * Writes every sale to the given output stream as newline-delimited JSON.
+     * Sales are streamed from the database in a read-only transaction and the persistence
+     * context is cleared periodically, so memory usage does not grow with the table size.
+     *
+     * @param outputStream the stream receiving one JSON document per line
+     * @throws IOException if writing to the output stream fails
+     */
+    @Transactional(readOnly = true)
+    public void exportSales(OutputStream outputStream) throws IOException {
+        try (Stream<SaleEntity> entities = saleRepository.streamAllForExport()) {
+            Iterator<SaleEntity> iterator = entities.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                SaleModel model = saleMapper.toModel(iterator.next());
+                outputStream.write(objectMapper.writeValueAsBytes(model));
+                outputStream.write('\n');
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    entityManager.clear();
+                    outputStream.flush();
+                }
+            }
+            outputStream.flush();
+        }
+    }
+
     /**
      * Retrieves a sale by its unique identifier.
      *
@@ -70,42 +200,50 @@ public class SaleService {
     }
 
     /**
-     * Creates a new sale in the database.
+     * Creates a new sale in the database and publishes it.
      *
      * @param saleModel The SaleModel containing the sale data to save
      * @return The saved SaleModel with generated ID
      */
+    @Transactional
     public SaleModel saveSale(SaleModel saleModel) {
         SaleEntity entity = saleMapper.toEntity(saleModel);
-        SaleEntity savedEntity = saleRepository.save(entity);
+        SaleEntity savedEntity = saleRepository.saveAndFlush(entity);
+        saleEventPublisher.saleRecorded(savedEntity.getSaleId());
         return saleMapper.toModel(savedEntity);
     }
 
     /**
      * Updates an existing sale in the database.
      * Uses the find-modify-save pattern to ensure data integrity and prevent ID conflicts.
+     * The previous state of the sale is published as reversed and the new one as recorded.
      *
      * @param saleId    The unique identifier of the sale to update
      * @param saleModel The SaleModel containing the updated sale data
      * @return The updated SaleModel
      * @throws RuntimeException if the sale with the given ID is not found
      */
+    @Transactional
     public SaleModel updateSale(UUID saleId, SaleModel saleModel) {
         SaleEntity existingEntity = saleRepository.findById(saleId)
                 .orElseThrow(() -> new RuntimeException("Sale not found with ID: " + saleId));
+        saleEventPublisher.saleReversed(saleId);
 
         saleMapper.updateEntityFromModel(saleModel, existingEntity);
 
-        SaleEntity updatedEntity = saleRepository.save(existingEntity);
+        SaleEntity updatedEntity = saleRepository.saveAndFlush(existingEntity);
+        saleEventPublisher.saleRecorded(updatedEntity.getSaleId());
         return saleMapper.toModel(updatedEntity);
     }
 
     /**
-     * Deletes a sale by its unique identifier.
+     * Deletes a sale by its unique identifier and publishes its reversal.
      *
      * @param saleId The unique identifier of the sale to delete
      */
+    @Transactional
     public void deleteSaleById(UUID saleId) {
+        saleEventPublisher.saleReversed(saleId);
         saleRepository.deleteById(saleId);
     }
 
@@ -114,11 +252,33 @@ public class SaleService {
     /**
      * Finds all sales made by a specific user using their user ID.
      *
-     * @param userId The unique identifier of the user
+     * @param userId    The unique identifier of the user
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of SaleModel objects associated with the specified user
      */
-    public List<SaleModel> getSalesByUserId(UUID userId) {
-        List<SaleEntity> entities = saleRepository.findByUser_UserId(userId);
+    public List<SaleModel> getSalesByUserId(UUID userId, FetchPlan fetchPlan) {
+        List<SaleEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? saleRepository.findDetailedByUser_UserId(userId)
+                : saleRepository.findByUser_UserId(userId);
+        return saleMapper.toModelList(entities);
+    }
+
+    /**
+     * Finds the sales made by a specific user between two days. On PostgreSQL only the monthly
+     * partitions of the range are read, so recent history stays fast as older sales accumulate.
+     *
+     * @param userId    The unique identifier of the user
+     * @param from      The first day of the range, inclusive, or null for no lower bound
+     * @param to        The last day of the range, inclusive, or null for today
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
+     * @return List of SaleModel objects of the user within the range
+     */
+    public List<SaleModel> getSalesByUserId(UUID userId, LocalDate from, LocalDate to, FetchPlan fetchPlan) {
+        LocalDateTime start = (from != null ? from : LocalDate.EPOCH).atStartOfDay();
+        LocalDateTime end = (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay();
+        List<SaleEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? saleRepository.findDetailedByUserIdAndSaleDateRange(userId, start, end)
+                : saleRepository.findByUserIdAndSaleDateRange(userId, start, end);
         return saleMapper.toModelList(entities);
     }
 
@@ -126,31 +286,125 @@ public class SaleService {
      * Finds all sales made by users with the specified first name.
      *
      * @param firstName The first name of the user
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of SaleModel objects made by users with the specified first name
      */
-    public List<SaleModel> getSalesByUserFirstName(String firstName) {
-        List<SaleEntity> entities = saleRepository.findByUser_FirstName(firstName);
+    public List<SaleModel> getSalesByUserFirstName(String firstName, FetchPlan fetchPlan) {
+        List<SaleEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? saleRepository.findDetailedByUser_FirstName(firstName)
+                : saleRepository.findByUser_FirstName(firstName);
         return saleMapper.toModelList(entities);
     }
 
     /**
-     * Calculates the total sales amount for a specific date.
+     * Calculates the total sales amount for a specific day from the daily sales rollup.
+     *
+     * @param saleDay The day to calculate total sales for
+     * @return The sum of all sale amounts for the specified day, or null if no sales found
+     */
+    public Long getTotalSalesAmountByDate(LocalDate saleDay) {
+        return saleDailyRollupRepository.sumTotalAmountBySaleDay(saleDay);
+    }
+
+    /**
+     * Retrieves the daily sales totals for an inclusive range of days from the daily sales rollup.
+     *
+     * @param from   The first day of the range
+     * @param to     The last day of the range
+     * @param cityId The city to restrict the totals to, or null for every city
+     * @return List of SaleDailyTotalModel objects, one per day with sales, in ascending day order
+     */
+    public List<SaleDailyTotalModel> getDailySalesTotals(LocalDate from, LocalDate to, Long cityId) {
+        return cityId == null
+                ? saleDailyRollupRepository.findDailyTotals(from, to)
+                : saleDailyRollupRepository.findDailyTotalsByCityId(cityId, from, to);
+    }
+
+    /**
+     * Retrieves the sales totals of each city over an inclusive range of days from the daily sales rollup.
+     *
+     * @param from The first day of the range
+     * @param to   The last day of the range
+     * @return List of SaleDailyTotalModel objects, one per city with sales, ordered by total amount descending
+     */
+    public List<SaleDailyTotalModel> getCitySalesTotals(LocalDate from, LocalDate to) {
+        return saleDailyRollupRepository.findCityTotals(from, to);
+    }
+
+    /**
+     * Retrieves the sales totals of each department over an inclusive range of days from the daily
+     * sales rollup. First level of the department, city and day drill-down.
+     *
+     * @param from The first day of the range
+     * @param to   The last day of the range
+     * @return List of SaleRegionTotalModel objects, one per department with sales, ordered by total amount descending
+     */
+    public List<SaleRegionTotalModel> getDepartmentSalesTotals(LocalDate from, LocalDate to) {
+        return saleDailyRollupRepository.findDepartmentTotals(from, to);
+    }
+
+    /**
+     * Retrieves the sales totals of each city of a department over an inclusive range of days from the
+     * daily sales rollup.
+     *
+     * @param departmentId The unique identifier of the department
+     * @param from         The first day of the range
+     * @param to           The last day of the range
+     * @return List of SaleRegionTotalModel objects, one per city with sales, ordered by total amount descending
+     */
+    public List<SaleRegionTotalModel> getDepartmentCitySalesTotals(Long departmentId, LocalDate from, LocalDate to) {
+        return saleDailyRollupRepository.findCityTotalsByDepartmentId(departmentId, from, to);
+    }
+
+    /**
+     * Retrieves the sales totals of each day of a city over an inclusive range of days from the daily
+     * sales rollup, including the units sold.
+     *
+     * @param cityId The unique identifier of the city
+     * @param from   The first day of the range
+     * @param to     The last day of the range
+     * @return List of SaleRegionTotalModel objects, one per day with sales, in ascending day order
+     */
+    public List<SaleRegionTotalModel> getCityDailySalesTotals(Long cityId, LocalDate from, LocalDate to) {
+        return saleDailyRollupRepository.findRegionDailyTotalsByCityId(cityId, from, to);
+    }
+
+    /**
+     * Rebuilds the daily sales rollup from the sale table.
+     * Backfills sales written without going through this service, such as the initial data script.
+     * Sales may be written meanwhile: the events still in the outbox are left out of the rebuilt rows
+     * and applied by the dispatcher afterwards. The dispatcher of this instance is paused until the
+     * rebuild commits, so no batch is applied to the rows being replaced.
+     *
+     * @return The number of rollup rows written
+     */
+    public int rebuildDailySalesRollup() {
+        Integer written = saleEventDispatcher.runPaused(() -> transactionTemplate.execute(status ->
+                saleDailyRollupRepository.rebuild(SaleDailyRollupProjection.NAME)));
+        return written != null ? written : 0;
+    }
+
+    /**
+     * Checks whether the daily sales rollup was never built, such as right after the initial data
+     * script loaded its sales.
      *
-     * @param saleDate The date to calculate total sales for
-     * @return The sum of all sale amounts for the specified date, or null if no sales found
+     * @return true if the rollup holds no rows
      */
-    public Long getTotalSalesAmountByDate(LocalDateTime saleDate) {
-        return saleRepository.sumTotalAmountBySaleDate(saleDate);
+    public boolean isDailySalesRollupEmpty() {
+        return saleDailyRollupRepository.isEmpty();
     }
 
     /**
      * Finds all sales with total amount greater than the specified threshold.
      *
      * @param minAmount The minimum total amount threshold
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of SaleModel objects with total amount greater than the specified value
      */
-    public List<SaleModel> getSalesWithAmountGreaterThan(Long minAmount) {
-        List<SaleEntity> entities = saleRepository.findByTotalAmountAfter(minAmount);
+    public List<SaleModel> getSalesWithAmountGreaterThan(Long minAmount, FetchPlan fetchPlan) {
+        List<SaleEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? saleRepository.findDetailedByTotalAmountAfter(minAmount)
+                : saleRepository.findByTotalAmountAfter(minAmount);
         return saleMapper.toModelList(entities);
     }
 }
@@ -0,0 +1,227 @@
+package org.acmapis.commercial_management_system.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Striped in-memory ledger that coalesces concurrent stock reservations into batched decrements.
+ * <p>
+ * Reservations are queued per (store, product) key on a stripe chosen by the key. At most one
+ * thread writes a key at a time: a thread whose key is not being written takes every reservation
+ * queued for that key and applies their sum with a single conditional decrement. If the combined
+ * decrement does not fit in the available stock, the reservations are applied one by one in
+ * arrival order, so as many as possible succeed. Reservations arriving meanwhile wait for that write
+ * to finish and are then applied together by one of their threads, so a hot product costs one
+ * database update per batch instead of one per request.
+ * <p>
+ * The stripe lock only guards the queues and is never held during a write, so a slow write delays
+ * only the reservations of its own key, by at most the duration of that write, and other keys of the
+ * stripe keep being written. Waiting threads hold no database connection.
+ * <p>
+ * The ledger holds no stock counts itself: the conditional decrement performed by the
+ * {@link StockWriter} remains the single source of truth, which keeps overselling impossible.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class StockReservationLedger {
+
+    /**
+     * Function applying an atomic conditional decrement of the stock of a key.
+     */
+    @FunctionalInterface
+    public interface StockWriter {
+        /**
+         * Decrements the stock of the given key if at least the given quantity is available.
+         *
+         * @param key      the (store, product) key
+         * @param quantity the quantity to remove
+         * @return true if the stock was decremented, false if it was insufficient
+         */
+        boolean tryDecrement(StockKey key, long quantity);
+    }
+
+    /**
+     * Key identifying the stock of a product in a store.
+     *
+     * @param storeId   the unique identifier of the store
+     * @param productId the unique identifier of the product
+     */
+    public record StockKey(UUID storeId, UUID productId) {
+    }
+
+    /**
+     * Pending reservation waiting to be applied by a combining thread.
+     */
+    private static final class Reservation {
+        private final long quantity;
+        private volatile boolean done;
+        private volatile boolean granted;
+        private volatile RuntimeException failure;
+
+        private Reservation(long quantity) {
+            this.quantity = quantity;
+        }
+
+        private void complete(boolean granted) {
+            this.granted = granted;
+            this.done = true;
+        }
+
+        private void fail(RuntimeException failure) {
+            this.failure = failure;
+            this.done = true;
+        }
+    }
+
+    /**
+     * Queues of the keys hashed to the same stripe, guarded by its lock.
+     */
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition written = lock.newCondition();
+        private final Map<StockKey, List<Reservation>> pending = new HashMap<>();
+        private final Set<StockKey> writing = new HashSet<>();
+    }
+
+    private final Stripe[] stripes;
+
+    private final StockWriter stockWriter;
+
+    /**
+     * Creates a ledger with the given number of stripes.
+     *
+     * @param stripeCount the number of stripes, rounded up to a power of two
+     * @param stockWriter the function applying atomic conditional decrements
+     */
+    public StockReservationLedger(int stripeCount, StockWriter stockWriter) {
+        int size = 1;
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stockWriter = stockWriter;
+    }
+
+    /**
+     * Reserves the given quantity of a product in a store, blocking until the reservation is applied.
+     *
+     * @param key      the (store, product) key
+     * @param quantity the quantity to reserve, must be positive
+     * @return true if the stock was decremented, false if it was insufficient
+     * @throws IllegalArgumentException if the quantity is not positive
+     * @throws RuntimeException         the failure of the stock writer, if it could not apply the reservation
+     */
+    public boolean reserve(StockKey key, long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Reservation quantity must be positive: " + quantity);
+        }
+        Reservation reservation = new Reservation(quantity);
+        Stripe stripe = stripeFor(key);
+        List<Reservation> batch = null;
+        stripe.lock.lock();
+        try {
+            stripe.pending.computeIfAbsent(key, k -> new ArrayList<>()).add(reservation);
+            while (!reservation.done) {
+                if (!stripe.writing.contains(key)) {
+                    // Still queued, as a batch taking it would have marked the key as being written
+                    batch = stripe.pending.remove(key);
+                    stripe.writing.add(key);
+                    break;
+                }
+                stripe.written.awaitUninterruptibly();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+        if (batch != null) {
+            write(stripe, key, batch);
+        }
+        if (reservation.failure != null) {
+            throw reservation.failure;
+        }
+        return reservation.granted;
+    }
+
+    /**
+     * Applies a batch taken from the queue of a key, outside the stripe lock, then lets the next
+     * batch of the key be taken. If the writer fails, the reservations of the batch that were not
+     * applied yet are failed with the same exception, which is rethrown by their owning threads.
+     *
+     * @param stripe the stripe of the key
+     * @param key    the (store, product) key
+     * @param batch  the reservations of the key, in arrival order
+     */
+    private void write(Stripe stripe, StockKey key, List<Reservation> batch) {
+        try {
+            applyBatch(key, batch);
+        } catch (RuntimeException e) {
+            for (Reservation reservation : batch) {
+                if (!reservation.done) {
+                    reservation.fail(e);
+                }
+            }
+        } finally {
+            stripe.lock.lock();
+            try {
+                stripe.writing.remove(key);
+                stripe.written.signalAll();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Applies the reservations of one key, first as a single combined decrement and, if that does
+     * not fit, one reservation at a time. Within the batch, a reservation at least as large as one
+     * already rejected is rejected without another write.
+     *
+     * @param key          the (store, product) key
+     * @param reservations the pending reservations of the key, in arrival order
+     */
+    private void applyBatch(StockKey key, List<Reservation> reservations) {
+        long total = 0;
+        for (Reservation reservation : reservations) {
+            total += reservation.quantity;
+        }
+        if (stockWriter.tryDecrement(key, total)) {
+            for (Reservation reservation : reservations) {
+                reservation.complete(true);
+            }
+            return;
+        }
+        if (reservations.size() == 1) {
+            reservations.get(0).complete(false);
+            return;
+        }
+        long smallestRejected = total;
+        for (Reservation reservation : reservations) {
+            if (reservation.quantity >= smallestRejected) {
+                reservation.complete(false);
+            } else if (stockWriter.tryDecrement(key, reservation.quantity)) {
+                reservation.complete(true);
+            } else {
+                smallestRejected = reservation.quantity;
+                reservation.complete(false);
+            }
+        }
+    }
+
+    private Stripe stripeFor(StockKey key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[hash & (stripes.length - 1)];
+    }
+}
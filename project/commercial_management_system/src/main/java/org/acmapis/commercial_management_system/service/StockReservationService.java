@@ -0,0 +1,166 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.exception.InsufficientStockException;
+import org.acmapis.commercial_management_system.exception.InvalidReservationException;
+import org.acmapis.commercial_management_system.exception.ReservationNotFoundException;
+import org.acmapis.commercial_management_system.model.dto.StockReservationModel;
+import org.acmapis.commercial_management_system.model.enums.StockReservationStatus;
+import org.acmapis.commercial_management_system.repository.StockReservationRepository;
+import org.acmapis.commercial_management_system.repository.StoreProductRepository;
+import org.acmapis.commercial_management_system.service.StockReservationLedger.StockKey;
+import org.acmapis.commercial_management_system.utils.id.TimeOrderedUuids;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service class for reserving and releasing store stock under high contention.
+ * Reservations for the same (store, product) pair are coalesced by a {@link StockReservationLedger}
+ * so a hot product is decremented with one conditional update per batch instead of one per request,
+ * without holding row locks across requests.
+ * Every reservation is recorded with an ID, its quantity and its state; stock is only given back by
+ * releasing a recorded reservation, at most once.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Service
+public class StockReservationService {
+
+    /**
+     * Number of ledger stripes. Reservations for keys on different stripes never wait for each other.
+     */
+    static final int LEDGER_STRIPES = 64;
+
+    /**
+     * Repository interface providing the atomic conditional stock updates.
+     */
+    private final StoreProductRepository storeProductRepository;
+
+    /**
+     * Repository recording the reservations and their state.
+     */
+    private final StockReservationRepository stockReservationRepository;
+
+    /**
+     * Ledger coalescing concurrent reservations into batched decrements.
+     */
+    private final StockReservationLedger ledger;
+
+    /**
+     * Template recording a reservation applied by the ledger, or giving its stock back if that fails.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a new StockReservationService with the required dependencies.
+     * Each batch applied by the ledger is committed in its own transaction, so a reservation is
+     * durable once {@link #reserve(StockReservationModel)} returns.
+     *
+     * @param storeProductRepository     the repository for atomic stock updates
+     * @param stockReservationRepository the repository recording the reservations
+     * @param transactionManager         the transaction manager used to commit each ledger batch
+     */
+    @Autowired
+    public StockReservationService(StoreProductRepository storeProductRepository,
+                                   StockReservationRepository stockReservationRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.storeProductRepository = storeProductRepository;
+        this.stockReservationRepository = stockReservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        TransactionTemplate batchTransaction = new TransactionTemplate(transactionManager);
+        batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.ledger = new StockReservationLedger(LEDGER_STRIPES, (key, quantity) ->
+                Boolean.TRUE.equals(batchTransaction.execute(status ->
+                        storeProductRepository.decrementStock(key.storeId(), key.productId(), quantity))));
+    }
+
+    /**
+     * Reserves stock of a product in a store and records the reservation.
+     * When called inside an existing transaction the decrement joins that transaction instead of
+     * going through the ledger, so it is rolled back together with the caller's work. Otherwise the
+     * reservation is recorded right after its batch commits; if that fails, the stock is given back.
+     *
+     * @param reservation The store, product and quantity to reserve
+     * @return The recorded reservation, with its unique identifier
+     * @throws InvalidReservationException if the reservation is incomplete or the quantity is not positive
+     * @throws InsufficientStockException  if the store does not hold enough stock or does not stock the product
+     */
+    public StockReservationModel reserve(StockReservationModel reservation) {
+        validate(reservation);
+        StockReservationModel recorded = StockReservationModel.builder()
+                .reservationId(TimeOrderedUuids.next())
+                .storeId(reservation.getStoreId())
+                .productId(reservation.getProductId())
+                .quantity(reservation.getQuantity())
+                .status(StockReservationStatus.RESERVED)
+                .build();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            if (!storeProductRepository.decrementStock(
+                    recorded.getStoreId(), recorded.getProductId(), recorded.getQuantity())) {
+                throw insufficientStock(recorded);
+            }
+            stockReservationRepository.insert(recorded, LocalDateTime.now());
+            return recorded;
+        }
+        if (!ledger.reserve(new StockKey(recorded.getStoreId(), recorded.getProductId()), recorded.getQuantity())) {
+            throw insufficientStock(recorded);
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    stockReservationRepository.insert(recorded, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> storeProductRepository.incrementStock(
+                    recorded.getStoreId(), recorded.getProductId(), recorded.getQuantity()));
+            throw e;
+        }
+        return recorded;
+    }
+
+    /**
+     * Releases a reservation, giving its stock back to the store.
+     * A reservation is released at most once: releasing it again changes nothing.
+     *
+     * @param reservationId The unique identifier returned when the stock was reserved
+     * @return The reservation, released
+     * @throws ReservationNotFoundException if no reservation has the given ID
+     */
+    @Transactional
+    public StockReservationModel release(UUID reservationId) {
+        StockReservationModel reservation = stockReservationRepository.findById(reservationId)
+                .orElseThrow(() -> new ReservationNotFoundException("Reservation not found with ID: " + reservationId));
+        if (stockReservationRepository.markReleased(reservationId, LocalDateTime.now())) {
+            // The reservation cascades away with its store-product row, so the row still exists
+            storeProductRepository.incrementStock(
+                    reservation.getStoreId(), reservation.getProductId(), reservation.getQuantity());
+        }
+        reservation.setStatus(StockReservationStatus.RELEASED);
+        return reservation;
+    }
+
+    /**
+     * Validates that a reservation names a store, a product and a positive quantity.
+     *
+     * @param reservation The reservation to validate
+     * @throws InvalidReservationException if the reservation is incomplete or the quantity is not positive
+     */
+    private void validate(StockReservationModel reservation) {
+        if (reservation.getStoreId() == null || reservation.getProductId() == null
+                || reservation.getQuantity() == null || reservation.getQuantity() <= 0) {
+            throw new InvalidReservationException("Reservation requires a storeId, a productId and a positive quantity");
+        }
+    }
+
+    private static InsufficientStockException insufficientStock(StockReservationModel reservation) {
+        return new InsufficientStockException("Insufficient stock of product " + reservation.getProductId()
+                + " in store " + reservation.getStoreId());
+    }
+}
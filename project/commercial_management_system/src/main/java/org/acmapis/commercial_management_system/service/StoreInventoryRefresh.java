@@ -0,0 +1,71 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuild job of the store inventory read model.
+ * Store products loaded by the initial data script bypass the service layer, so the inventory is
+ * rebuilt once the application is ready; disable with {@code stores.inventory.rebuild-on-startup=false}.
+ * A periodic rebuild, reconciling rows written by other tools, can be scheduled with
+ * {@code stores.inventory.rebuild-cron} (disabled by default). Each store is rebuilt in its own
+ * transaction while the application keeps serving reads and writes.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+public class StoreInventoryRefresh {
+
+    private static final Logger log = LoggerFactory.getLogger(StoreInventoryRefresh.class);
+
+    /**
+     * Service used to rebuild the inventory.
+     */
+    private final StoreService storeService;
+
+    /**
+     * Whether the inventory is rebuilt when the application starts.
+     */
+    private final boolean rebuildOnStartup;
+
+    /**
+     * Constructs a new StoreInventoryRefresh with the required dependencies.
+     *
+     * @param storeService     the service used to rebuild the inventory
+     * @param rebuildOnStartup whether the inventory is rebuilt when the application starts
+     */
+    @Autowired
+    public StoreInventoryRefresh(StoreService storeService,
+                                 @Value("${stores.inventory.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.storeService = storeService;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * Rebuilds the inventory once the application, including the data script, is initialized.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Rebuilds the inventory of every store.
+     */
+    @Scheduled(cron = "${stores.inventory.rebuild-cron:-}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        long rows = storeService.rebuildStoreInventory();
+        log.info("Store inventory rebuilt: {} row(s) in {} ms", rows, (System.nanoTime() - started) / 1_000_000);
+    }
+}
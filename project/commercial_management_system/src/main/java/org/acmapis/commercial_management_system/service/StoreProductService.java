@@ -1,18 +1,39 @@
 package org.acmapis.commercial_management_system.service;
 
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
 import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.exception.ConcurrentUpdateException;
+import org.acmapis.commercial_management_system.exception.InvalidBulkRequestException;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.repository.ProductRepository;
 import org.acmapis.commercial_management_system.repository.StoreProductRepository;
+import org.acmapis.commercial_management_system.repository.StoreRepository;
+import org.acmapis.commercial_management_system.utils.bulk.BulkRequests;
 import org.acmapis.commercial_management_system.utils.mapper.StoreProductMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Service class for managing store-product relationship business logic.
  * Provides CRUD operations for managing inventory relationships between stores and products.
+ * Writes evict the cached product listings of the affected stores when they commit, and rewrite the
+ * store inventory rows of the relationships in the same transaction (deleted relationships lose
+ * theirs through the cascading foreign key).
  *
  * @author Commercial Management System
  * @version 1.0
@@ -27,24 +48,50 @@ public class StoreProductService {
      */
     private final StoreProductRepository storeProductRepository;
 
+    /**
+     * Repository interface for accessing store data in the database.
+     * Used to resolve the stores referenced by bulk creations with a single query.
+     */
+    private final StoreRepository storeRepository;
+
+    /**
+     * Repository interface for accessing product data in the database.
+     * Used to resolve the products referenced by bulk creations with a single query.
+     */
+    private final ProductRepository productRepository;
+
     /**
      * Mapper interface for converting between StoreProductEntity and StoreProductModel objects.
      * Handles automatic mapping using MapStruct framework.
      */
     private final StoreProductMapper storeProductMapper;
 
+    /**
+     * Component evicting the product cache entries affected by a write.
+     */
+    private final ProductCacheInvalidator productCacheInvalidator;
+
     /**
      * Constructs a new StoreProductService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
      *
-     * @param storeProductRepository the repository for store-product relationship data access
-     * @param storeProductMapper     the mapper for store-product entity-model conversions
+     * @param storeProductRepository  the repository for store-product relationship data access
+     * @param storeRepository         the repository for store data access
+     * @param productRepository       the repository for product data access
+     * @param storeProductMapper      the mapper for store-product entity-model conversions
+     * @param productCacheInvalidator the component evicting product cache entries
      */
     @Autowired
     public StoreProductService(StoreProductRepository storeProductRepository,
-                               StoreProductMapper storeProductMapper) {
+                               StoreRepository storeRepository,
+                               ProductRepository productRepository,
+                               StoreProductMapper storeProductMapper,
+                               ProductCacheInvalidator productCacheInvalidator) {
         this.storeProductRepository = storeProductRepository;
+        this.storeRepository = storeRepository;
+        this.productRepository = productRepository;
         this.storeProductMapper = storeProductMapper;
+        this.productCacheInvalidator = productCacheInvalidator;
     }
 
     /**
@@ -57,6 +104,23 @@ public class StoreProductService {
         return storeProductMapper.toModelList(entities);
     }
 
+    /**
+     * Retrieves one page of store-product relationships using keyset pagination on the identifier.
+     *
+     * @param cursor The continuation token returned by the previous page, or null for the first page
+     * @param size   The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @return CursorPageModel containing the StoreProductModel objects of the page
+     */
+    public CursorPageModel<StoreProductModel> getStoreProductsPage(String cursor, Integer size) {
+        int pageSize = CursorPages.pageSize(size);
+        List<StoreProductEntity> entities = cursor == null
+                ? storeProductRepository.findByOrderByIdAsc(CursorPages.lookAhead(pageSize))
+                : storeProductRepository.findByIdGreaterThanOrderByIdAsc(
+                        CursorCodec.decodeKey(cursor, Long::valueOf), CursorPages.lookAhead(pageSize));
+        return CursorPages.toPage(entities, pageSize, storeProductMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getId()));
+    }
+
     /**
      * Retrieves a store-product relationship by its unique identifier.
      *
@@ -74,29 +138,90 @@ public class StoreProductService {
      * @param storeProductModel The StoreProductModel containing the relationship data to save
      * @return The saved StoreProductModel with generated ID
      */
+    @Transactional
     public StoreProductModel saveStoreProduct(StoreProductModel storeProductModel) {
         StoreProductEntity entity = storeProductMapper.toEntity(storeProductModel);
-        StoreProductEntity savedEntity = storeProductRepository.save(entity);
+        StoreProductEntity savedEntity = storeProductRepository.saveAndFlush(entity);
+        storeProductRepository.refreshStoreInventory(List.of(savedEntity.getId()));
+        productCacheInvalidator.evictStores(Arrays.asList(storeId(savedEntity)));
         return storeProductMapper.toModel(savedEntity);
     }
 
+    /**
+     * Creates several store-product relationships in one transaction.
+     * The referenced stores and products are loaded with one query each and the rows are inserted
+     * in JDBC batches; identifiers and versions in the models are ignored.
+     *
+     * @param storeProductModels The StoreProductModels to save, each referencing a store and a product by ID
+     * @return The saved StoreProductModels with generated IDs, in request order
+     * @throws InvalidBulkRequestException if the request is empty, too large or a row lacks its references
+     * @throws RuntimeException            if a referenced store or product is not found
+     */
+    @Transactional
+    public List<StoreProductModel> saveStoreProducts(List<StoreProductModel> storeProductModels) {
+        BulkRequests.requireValidSize(storeProductModels);
+        Set<UUID> storeIds = new LinkedHashSet<>();
+        Set<UUID> productIds = new LinkedHashSet<>();
+        for (StoreProductModel model : storeProductModels) {
+            if (model.getStore() == null || model.getStore().getStoreId() == null
+                    || model.getProduct() == null || model.getProduct().getProductId() == null) {
+                throw new InvalidBulkRequestException("Every store product requires a store and a product ID");
+            }
+            storeIds.add(model.getStore().getStoreId());
+            productIds.add(model.getProduct().getProductId());
+        }
+        Map<UUID, StoreEntity> stores = BulkRequests.indexById(storeIds,
+                storeRepository.findDetailedByStoreIdIn(storeIds), StoreEntity::getStoreId, "Store");
+        Map<UUID, ProductEntity> products = BulkRequests.indexById(productIds,
+                productRepository.findDetailedByProductIdIn(productIds), ProductEntity::getProductId, "Product");
+
+        List<StoreProductEntity> entities = new ArrayList<>(storeProductModels.size());
+        for (StoreProductModel model : storeProductModels) {
+            entities.add(new StoreProductEntity(null, model.getStock(), model.getAddress(),
+                    stores.get(model.getStore().getStoreId()), products.get(model.getProduct().getProductId()), null));
+        }
+        List<StoreProductEntity> savedEntities = storeProductRepository.saveAllAndFlush(entities);
+        storeProductRepository.refreshStoreInventory(savedEntities.stream().map(StoreProductEntity::getId).toList());
+        productCacheInvalidator.evictStores(storeIds);
+        return storeProductMapper.toModelList(savedEntities);
+    }
+
     /**
      * Updates an existing store-product relationship in the database.
      * Uses the find-modify-save pattern to ensure data integrity and prevent ID conflicts.
+     * The update is guarded by the entity version: if the model carries a version it must match the
+     * stored one, and a concurrent stock change or update between the read and the write is rejected
+     * instead of being silently overwritten.
      *
      * @param storeProductId    The unique identifier of the store-product relationship to update
      * @param storeProductModel The StoreProductModel containing the updated relationship data
      * @return The updated StoreProductModel
-     * @throws RuntimeException if the store-product relationship with the given ID is not found
+     * @throws RuntimeException          if the store-product relationship with the given ID is not found
+     * @throws ConcurrentUpdateException if the relationship was modified since the given version was read
      */
+    @Transactional
     public StoreProductModel updateStoreProduct(Long storeProductId, StoreProductModel storeProductModel) {
         StoreProductEntity existingEntity = storeProductRepository.findById(storeProductId)
                 .orElseThrow(() -> new RuntimeException("StoreProduct not found with ID: " + storeProductId));
 
+        if (storeProductModel.getVersion() != null
+                && !storeProductModel.getVersion().equals(existingEntity.getVersion())) {
+            throw new ConcurrentUpdateException("StoreProduct " + storeProductId + " was modified concurrently: expected version "
+                    + storeProductModel.getVersion() + " but found " + existingEntity.getVersion());
+        }
+
+        UUID previousStoreId = storeId(existingEntity);
+
         storeProductMapper.updateEntityFromModel(storeProductModel, existingEntity);
 
-        StoreProductEntity updatedEntity = storeProductRepository.save(existingEntity);
-        return storeProductMapper.toModel(updatedEntity);
+        try {
+            StoreProductEntity updatedEntity = storeProductRepository.saveAndFlush(existingEntity);
+            storeProductRepository.refreshStoreInventory(List.of(storeProductId));
+            productCacheInvalidator.evictStores(Arrays.asList(previousStoreId, storeId(updatedEntity)));
+            return storeProductMapper.toModel(updatedEntity);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ConcurrentUpdateException("StoreProduct " + storeProductId + " was modified concurrently");
+        }
     }
 
     /**
@@ -104,7 +229,14 @@ public class StoreProductService {
      *
      * @param storeProductId The unique identifier of the store-product relationship to delete
      */
+    @Transactional
     public void deleteStoreProductById(Long storeProductId) {
+        storeProductRepository.findById(storeProductId)
+                .ifPresent(entity -> productCacheInvalidator.evictStores(Arrays.asList(storeId(entity))));
         storeProductRepository.deleteById(storeProductId);
     }
+
+    private UUID storeId(StoreProductEntity entity) {
+        return entity.getStore() != null ? entity.getStore().getStoreId() : null;
+    }
 }
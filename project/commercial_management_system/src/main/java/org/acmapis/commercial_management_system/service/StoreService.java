@@ -2,13 +2,28 @@ package org.acmapis.commercial_management_system.service;
 
 import org.acmapis.commercial_management_system.entity.StoreEntity;
 import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.exception.InvalidCursorException;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.acmapis.commercial_management_system.model.dto.StoreInventoryItemModel;
 import org.acmapis.commercial_management_system.model.dto.StoreModel;
 import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.model.enums.InventorySort;
+import org.acmapis.commercial_management_system.repository.ProductRepository;
+import org.acmapis.commercial_management_system.repository.StoreProductRepository;
 import org.acmapis.commercial_management_system.repository.StoreRepository;
+import org.acmapis.commercial_management_system.utils.mapper.ProjectionMapper;
 import org.acmapis.commercial_management_system.utils.mapper.StoreMapper;
 import org.acmapis.commercial_management_system.utils.mapper.StoreProductMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -43,6 +58,28 @@ public class StoreService {
      */
     private final StoreProductMapper storeProductMapper;
 
+    /**
+     * Repository interface for accessing product data in the database.
+     * Used to read the product categories of the inventory projection.
+     */
+    private final ProductRepository productRepository;
+
+    /**
+     * Mapper building StoreProductModel objects from the rows of the projection queries.
+     */
+    private final ProjectionMapper projectionMapper;
+
+    /**
+     * Repository interface for accessing store-product relationship data in the database.
+     * Reads and rebuilds the store inventory read model.
+     */
+    private final StoreProductRepository storeProductRepository;
+
+    /**
+     * Template running the rebuild of each store inventory in its own transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
     /**
      * Constructs a new StoreService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
@@ -50,26 +87,66 @@ public class StoreService {
      * @param storeRepository    the repository for store data access operations
      * @param storeMapper        the mapper for store entity-model conversions
      * @param storeProductMapper the mapper for store-product relationship conversions
+     * @param productRepository  the repository for product data access operations
+     * @param projectionMapper       the mapper for projection row-model conversions
+     * @param storeProductRepository the repository for store-product relationship data access
+     * @param transactionManager     the transaction manager used to rebuild each store inventory
      */
     @Autowired
     public StoreService(StoreRepository storeRepository,
                         StoreMapper storeMapper,
-                        StoreProductMapper storeProductMapper) {
+                        StoreProductMapper storeProductMapper,
+                        ProductRepository productRepository,
+                        ProjectionMapper projectionMapper,
+                        StoreProductRepository storeProductRepository,
+                        PlatformTransactionManager transactionManager) {
         this.storeRepository = storeRepository;
         this.storeMapper = storeMapper;
         this.storeProductMapper = storeProductMapper;
+        this.productRepository = productRepository;
+        this.projectionMapper = projectionMapper;
+        this.storeProductRepository = storeProductRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Retrieves all stores from the database.
      *
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of StoreModel objects representing all stores
      */
-    public List<StoreModel> getAllStores() {
-        List<StoreEntity> entities = storeRepository.findAll();
+    public List<StoreModel> getAllStores(FetchPlan fetchPlan) {
+        List<StoreEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? storeRepository.findAllDetailed()
+                : storeRepository.findAll();
         return storeMapper.toModelList(entities);
     }
 
+    /**
+     * Retrieves one page of stores using keyset pagination on the identifier.
+     *
+     * @param cursor    The continuation token returned by the previous page, or null for the first page
+     * @param size      The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
+     * @return CursorPageModel containing the StoreModel objects of the page
+     */
+    public CursorPageModel<StoreModel> getStoresPage(String cursor, Integer size, FetchPlan fetchPlan) {
+        int pageSize = CursorPages.pageSize(size);
+        Limit limit = CursorPages.lookAhead(pageSize);
+        boolean graph = fetchPlan != FetchPlan.DEFAULT;
+        List<StoreEntity> entities;
+        if (cursor == null) {
+            entities = graph ? storeRepository.findDetailedByOrderByStoreIdAsc(limit) : storeRepository.findByOrderByStoreIdAsc(limit);
+        } else {
+            UUID after = CursorCodec.decodeKey(cursor, UUID::fromString);
+            entities = graph
+                    ? storeRepository.findDetailedByStoreIdGreaterThanOrderByStoreIdAsc(after, limit)
+                    : storeRepository.findByStoreIdGreaterThanOrderByStoreIdAsc(after, limit);
+        }
+        return CursorPages.toPage(entities, pageSize, storeMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getStoreId()));
+    }
+
     /**
      * Retrieves a store by its unique identifier.
      *
@@ -126,22 +203,28 @@ public class StoreService {
     /**
      * Finds all stores located in a specific city by city ID.
      *
-     * @param cityId The unique identifier of the city
+     * @param cityId    The unique identifier of the city
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of StoreModel objects located in the specified city
      */
-    public List<StoreModel> getStoresByCityId(Long cityId) {
-        List<StoreEntity> entities = storeRepository.findByCity_CityId(cityId);
+    public List<StoreModel> getStoresByCityId(Long cityId, FetchPlan fetchPlan) {
+        List<StoreEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? storeRepository.findDetailedByCity_CityId(cityId)
+                : storeRepository.findByCity_CityId(cityId);
         return storeMapper.toModelList(entities);
     }
 
     /**
      * Finds all stores located in a specific city by city name.
      *
-     * @param cityName The name of the city
+     * @param cityName  The name of the city
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of StoreModel objects located in the city with the specified name
      */
-    public List<StoreModel> getStoresByCityName(String cityName) {
-        List<StoreEntity> entities = storeRepository.findByCity_CityName(cityName);
+    public List<StoreModel> getStoresByCityName(String cityName, FetchPlan fetchPlan) {
+        List<StoreEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? storeRepository.findDetailedByCity_CityName(cityName)
+                : storeRepository.findByCity_CityName(cityName);
         return storeMapper.toModelList(entities);
     }
 
@@ -150,11 +233,84 @@ public class StoreService {
      * Retrieves all store-product relationships for a specific store.
      * This includes inventory details like stock levels and storage addresses.
      *
-     * @param storeId The unique identifier of the store
+     * @param storeId   The unique identifier of the store
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of StoreProductModel objects representing the inventory for the specified store
      */
-    public List<StoreProductModel> getStoreProductsByStoreId(UUID storeId) {
-        List<StoreProductEntity> entities = storeRepository.findStoreProductsByStoreId(storeId);
+    @Transactional(readOnly = true)
+    public List<StoreProductModel> getStoreProductsByStoreId(UUID storeId, FetchPlan fetchPlan) {
+        if (fetchPlan == FetchPlan.PROJECTION) {
+            return projectionMapper.toStoreProductModels(storeRepository.findStoreProductRowsByStoreId(storeId),
+                    productRepository.findCategoryRowsByStoreId(storeId));
+        }
+        List<StoreProductEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? storeRepository.findDetailedStoreProductsByStoreId(storeId)
+                : storeRepository.findStoreProductsByStoreId(storeId);
         return storeProductMapper.toModelList(entities);
     }
+
+    /**
+     * Retrieves one page of the products available at a store from the store inventory read model,
+     * a single range of the index matching the requested order. Filters left null are not applied.
+     *
+     * @param storeId     The unique identifier of the store
+     * @param minPrice    The minimum price (inclusive), or null
+     * @param maxPrice    The maximum price (inclusive), or null
+     * @param categoryId  The category the products must belong to, or null
+     * @param inStockOnly Whether only products with stock are listed
+     * @param sort        The order of the listing
+     * @param direction   The direction of the order
+     * @param cursor      The continuation token returned by the previous page, or null for the first page
+     * @param size        The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @return CursorPageModel containing the StoreInventoryItemModel objects of the page
+     * @throws InvalidCursorException if the cursor is malformed or was issued for another order
+     */
+    @Transactional(readOnly = true)
+    public CursorPageModel<StoreInventoryItemModel> getStoreInventory(UUID storeId, Double minPrice, Double maxPrice,
+                                                                      Long categoryId, boolean inStockOnly,
+                                                                      InventorySort sort, Sort.Direction direction,
+                                                                      String cursor, Integer size) {
+        int pageSize = CursorPages.pageSize(size);
+        Object afterValue = null;
+        Long afterId = null;
+        if (cursor != null) {
+            String[] keys = CursorCodec.decode(cursor, 4);
+            if (!sort.name().equals(keys[0]) || !direction.name().equals(keys[1])) {
+                throw new InvalidCursorException("Cursor issued for another order: " + cursor);
+            }
+            afterId = CursorCodec.parseKey(keys[2], Long::valueOf);
+            afterValue = switch (sort) {
+                case NAME -> keys[3];
+                case PRICE -> CursorCodec.parseKey(keys[3], Double::valueOf);
+                case STOCK -> CursorCodec.parseKey(keys[3], Long::valueOf);
+            };
+        }
+        List<StoreInventoryItemModel> items = storeProductRepository.findStoreInventory(storeId, minPrice, maxPrice,
+                categoryId, inStockOnly, sort, direction.isDescending(), afterValue, afterId, pageSize + 1);
+        return CursorPages.toPage(items, pageSize, page -> page,
+                item -> CursorCodec.encode(sort, direction, item.getId(), sortValue(item, sort)));
+    }
+
+    /**
+     * Rebuilds the store inventory read model, one store per transaction, so readers and writers of
+     * the other stores are never blocked by the rebuild.
+     *
+     * @return The number of inventory rows written
+     */
+    public long rebuildStoreInventory() {
+        long written = 0;
+        for (UUID storeId : storeRepository.findAllStoreIds()) {
+            Integer storeRows = transactionTemplate.execute(status -> storeProductRepository.rebuildStoreInventory(storeId));
+            written += storeRows != null ? storeRows : 0;
+        }
+        return written;
+    }
+
+    private static Object sortValue(StoreInventoryItemModel item, InventorySort sort) {
+        return switch (sort) {
+            case NAME -> item.getProductName();
+            case PRICE -> item.getPrice();
+            case STOCK -> item.getStock();
+        };
+    }
 }
@@ -1,9 +1,13 @@
 package org.acmapis.commercial_management_system.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.UserRoleModel;
 import org.acmapis.commercial_management_system.repository.UserRoleRepository;
 import org.acmapis.commercial_management_system.utils.mapper.UserRoleMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -33,17 +37,26 @@ public class UserRoleService {
      */
     private final UserRoleMapper userRoleMapper;
 
+    /**
+     * Entity manager factory whose second-level cache entries are evicted after writes.
+     */
+    private final EntityManagerFactory entityManagerFactory;
+
     /**
      * Constructs a new UserRoleService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
      *
-     * @param userRoleRepository the repository for user role data access operations
-     * @param userRoleMapper     the mapper for user role entity-model conversions
+     * @param userRoleRepository   the repository for user role data access operations
+     * @param userRoleMapper       the mapper for user role entity-model conversions
+     * @param entityManagerFactory the entity manager factory owning the second-level cache
      */
     @Autowired
-    public UserRoleService(UserRoleRepository userRoleRepository, UserRoleMapper userRoleMapper) {
+    public UserRoleService(UserRoleRepository userRoleRepository,
+                           UserRoleMapper userRoleMapper,
+                           EntityManagerFactory entityManagerFactory) {
         this.userRoleRepository = userRoleRepository;
         this.userRoleMapper = userRoleMapper;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     /**
@@ -56,6 +69,23 @@ public class UserRoleService {
         return userRoleMapper.toModelList(entities);
     }
 
+    /**
+     * Retrieves one page of user roles using keyset pagination on the identifier.
+     *
+     * @param cursor The continuation token returned by the previous page, or null for the first page
+     * @param size   The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @return CursorPageModel containing the UserRoleModel objects of the page
+     */
+    public CursorPageModel<UserRoleModel> getUserRolesPage(String cursor, Integer size) {
+        int pageSize = CursorPages.pageSize(size);
+        List<UserRoleEntity> entities = cursor == null
+                ? userRoleRepository.findByOrderByUserRoleIdAsc(CursorPages.lookAhead(pageSize))
+                : userRoleRepository.findByUserRoleIdGreaterThanOrderByUserRoleIdAsc(
+                        CursorCodec.decodeKey(cursor, Long::valueOf), CursorPages.lookAhead(pageSize));
+        return CursorPages.toPage(entities, pageSize, userRoleMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getUserRoleId()));
+    }
+
     /**
      * Retrieves a user role by its unique identifier.
      *
@@ -95,6 +125,7 @@ public class UserRoleService {
         userRoleMapper.updateEntityFromModel(userRoleModel, existingEntity);
 
         UserRoleEntity updatedEntity = userRoleRepository.save(existingEntity);
+        evictFromCache(userRoleId);
         return userRoleMapper.toModel(updatedEntity);
     }
 
@@ -105,5 +136,16 @@ public class UserRoleService {
      */
     public void deleteUserRoleById(Long userRoleId) {
         userRoleRepository.deleteById(userRoleId);
+        evictFromCache(userRoleId);
+    }
+
+    /**
+     * Evicts a user role from the second-level cache.
+     * Roles are read with every user, so a stale entry would show up in every user response.
+     *
+     * @param userRoleId The unique identifier of the evicted user role
+     */
+    private void evictFromCache(Long userRoleId) {
+        entityManagerFactory.getCache().evict(UserRoleEntity.class, userRoleId);
     }
 }
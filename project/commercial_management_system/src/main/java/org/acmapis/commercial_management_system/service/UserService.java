@@ -1,11 +1,18 @@
 package org.acmapis.commercial_management_system.service;
 
 import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
 import org.acmapis.commercial_management_system.model.dto.UserModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
 import org.acmapis.commercial_management_system.repository.UserRepository;
+import org.acmapis.commercial_management_system.utils.mapper.ProjectionMapper;
 import org.acmapis.commercial_management_system.utils.mapper.UserMapper;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -34,29 +41,64 @@ public class UserService {
      */
     private final UserMapper userMapper;
 
+    /**
+     * Mapper building UserModel objects from the rows of the projection queries.
+     */
+    private final ProjectionMapper projectionMapper;
+
     /**
      * Constructs a new UserService with the required dependencies.
      * Uses constructor-based dependency injection for better testability and immutability.
      *
-     * @param userRepository the repository for user data access operations
-     * @param userMapper     the mapper for entity-model conversions
+     * @param userRepository   the repository for user data access operations
+     * @param userMapper       the mapper for entity-model conversions
+     * @param projectionMapper the mapper for projection row-model conversions
      */
     @Autowired
-    public UserService(UserRepository userRepository, UserMapper userMapper) {
+    public UserService(UserRepository userRepository, UserMapper userMapper, ProjectionMapper projectionMapper) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.projectionMapper = projectionMapper;
     }
 
     /**
      * Retrieves all users from the database.
      *
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of UserModel objects representing all users
      */
-    public List<UserModel> getAllUsers() {
-        List<UserEntity> entities = userRepository.findAll();
+    public List<UserModel> getAllUsers(FetchPlan fetchPlan) {
+        List<UserEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? userRepository.findAllDetailed()
+                : userRepository.findAll();
         return userMapper.toModelList(entities);
     }
 
+    /**
+     * Retrieves one page of users using keyset pagination on the identifier.
+     *
+     * @param cursor    The continuation token returned by the previous page, or null for the first page
+     * @param size      The requested page size, bounded by {@link CursorPages#MAX_PAGE_SIZE}
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
+     * @return CursorPageModel containing the UserModel objects of the page
+     */
+    public CursorPageModel<UserModel> getUsersPage(String cursor, Integer size, FetchPlan fetchPlan) {
+        int pageSize = CursorPages.pageSize(size);
+        Limit limit = CursorPages.lookAhead(pageSize);
+        boolean graph = fetchPlan != FetchPlan.DEFAULT;
+        List<UserEntity> entities;
+        if (cursor == null) {
+            entities = graph ? userRepository.findDetailedByOrderByUserIdAsc(limit) : userRepository.findByOrderByUserIdAsc(limit);
+        } else {
+            UUID after = CursorCodec.decodeKey(cursor, UUID::fromString);
+            entities = graph
+                    ? userRepository.findDetailedByUserIdGreaterThanOrderByUserIdAsc(after, limit)
+                    : userRepository.findByUserIdGreaterThanOrderByUserIdAsc(after, limit);
+        }
+        return CursorPages.toPage(entities, pageSize, userMapper::toModelList,
+                entity -> CursorCodec.encode(entity.getUserId()));
+    }
+
     /**
      * Retrieves a user by their unique identifier.
      *
@@ -113,33 +155,50 @@ public class UserService {
     /**
      * Finds users by their last name (case-insensitive).
      *
-     * @param lastName The last name to search for
+     * @param lastName  The last name to search for
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of UserModel objects with the specified last name
      */
-    public List<UserModel> getUsersByLastName(String lastName) {
-        List<UserEntity> entities = userRepository.findByLastNameIgnoreCase(lastName);
+    public List<UserModel> getUsersByLastName(String lastName, FetchPlan fetchPlan) {
+        List<UserEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? userRepository.findDetailedByLastNameIgnoreCase(lastName)
+                : userRepository.findByLastNameIgnoreCase(lastName);
         return userMapper.toModelList(entities);
     }
 
     /**
      * Finds all users located in a specific city by city ID.
      *
-     * @param cityId The unique identifier of the city
+     * @param cityId    The unique identifier of the city
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of UserModel objects located in the specified city
      */
-    public List<UserModel> getUsersByCityId(Long cityId) {
-        List<UserEntity> entities = userRepository.findByCity_CityId(cityId);
+    @Transactional(readOnly = true)
+    public List<UserModel> getUsersByCityId(Long cityId, FetchPlan fetchPlan) {
+        if (fetchPlan == FetchPlan.PROJECTION) {
+            return projectionMapper.toUserModels(userRepository.findRowsByCityId(cityId));
+        }
+        List<UserEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? userRepository.findDetailedByCity_CityId(cityId)
+                : userRepository.findByCity_CityId(cityId);
         return userMapper.toModelList(entities);
     }
 
     /**
      * Finds all users located in a specific city by city name.
      *
-     * @param cityName The name of the city
+     * @param cityName  The name of the city
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of UserModel objects located in the city with the specified name
      */
-    public List<UserModel> getUsersByCityName(String cityName) {
-        List<UserEntity> entities = userRepository.findByCity_CityName(cityName);
+    @Transactional(readOnly = true)
+    public List<UserModel> getUsersByCityName(String cityName, FetchPlan fetchPlan) {
+        if (fetchPlan == FetchPlan.PROJECTION) {
+            return projectionMapper.toUserModels(userRepository.findRowsByCityName(cityName));
+        }
+        List<UserEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? userRepository.findDetailedByCity_CityName(cityName)
+                : userRepository.findByCity_CityName(cityName);
         return userMapper.toModelList(entities);
     }
 
@@ -147,10 +206,13 @@ public class UserService {
      * Finds all users located in cities within a specific department by department name.
      *
      * @param departmentName The name of the department
+     * @param fetchPlan      How associations are loaded, see {@link FetchPlan}
      * @return List of UserModel objects located in cities within the specified department
      */
-    public List<UserModel> getUsersByDepartmentName(String departmentName) {
-        List<UserEntity> entities = userRepository.findByCity_Department_DepartmentName(departmentName);
+    public List<UserModel> getUsersByDepartmentName(String departmentName, FetchPlan fetchPlan) {
+        List<UserEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? userRepository.findDetailedByCity_Department_DepartmentName(departmentName)
+                : userRepository.findByCity_Department_DepartmentName(departmentName);
         return userMapper.toModelList(entities);
     }
 
@@ -159,10 +221,13 @@ public class UserService {
      * Supports SQL LIKE patterns with wildcards (%, _).
      *
      * @param firstName The first name pattern to search for
+     * @param fetchPlan How associations are loaded, see {@link FetchPlan}
      * @return List of UserModel objects with first names matching the specified pattern
      */
-    public List<UserModel> getUsersByFirstNamePattern(String firstName) {
-        List<UserEntity> entities = userRepository.findByFirstNameContainingIgnoreCase(firstName);
+    public List<UserModel> getUsersByFirstNamePattern(String firstName, FetchPlan fetchPlan) {
+        List<UserEntity> entities = fetchPlan != FetchPlan.DEFAULT
+                ? userRepository.findDetailedByFirstNameContainingIgnoreCase(firstName)
+                : userRepository.findByFirstNameContainingIgnoreCase(firstName);
         return userMapper.toModelList(entities);
     }
 }
@@ -0,0 +1,73 @@
+package org.acmapis.commercial_management_system.utils.bulk;
+
+import org.acmapis.commercial_management_system.exception.InvalidBulkRequestException;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Utility class for the bulk-create endpoints.
+ * A bulk request is written in one transaction, with its inserts grouped into JDBC batches,
+ * so its size is bounded to keep the transaction and the persistence context small.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public final class BulkRequests {
+
+    /**
+     * Upper bound for the number of rows of a bulk request.
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+
+    private BulkRequests() {
+    }
+
+    /**
+     * Validates the size of a bulk request.
+     *
+     * @param rows the rows of the request
+     * @throws InvalidBulkRequestException if the request is null, empty, larger than {@link #MAX_BULK_SIZE}
+     *                                     or contains null rows
+     */
+    public static void requireValidSize(List<?> rows) {
+        if (rows == null || rows.isEmpty()) {
+            throw new InvalidBulkRequestException("Bulk request requires at least one row");
+        }
+        if (rows.size() > MAX_BULK_SIZE) {
+            throw new InvalidBulkRequestException("Bulk request exceeds the maximum of " + MAX_BULK_SIZE + " rows");
+        }
+        if (rows.contains(null)) {
+            throw new InvalidBulkRequestException("Bulk request must not contain null rows");
+        }
+    }
+
+    /**
+     * Indexes the entities referenced by a bulk request, loaded with a single query, by their identifier.
+     *
+     * @param ids      the identifiers referenced by the request
+     * @param entities the entities loaded for those identifiers
+     * @param idOf     extracts the identifier of an entity
+     * @param type     the entity name used in the error message
+     * @param <K>      the identifier type
+     * @param <E>      the entity type
+     * @return Map of the entities keyed by identifier
+     * @throws RuntimeException if an identifier has no entity
+     */
+    public static <K, E> Map<K, E> indexById(Collection<K> ids, List<E> entities, Function<E, K> idOf, String type) {
+        Map<K, E> byId = new HashMap<>();
+        for (E entity : entities) {
+            byId.put(idOf.apply(entity), entity);
+        }
+        for (K id : ids) {
+            if (!byId.containsKey(id)) {
+                throw new RuntimeException(type + " not found with ID: " + id);
+            }
+        }
+        return byId;
+    }
+}
@@ -0,0 +1,324 @@
+package org.acmapis.commercial_management_system.utils.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.acmapis.commercial_management_system.exception.InvalidBulkRequestException;
+import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Reads the rows of a product catalog import one at a time from the request body, so the whole
+ * catalog is never held in memory. Two formats are accepted:
+ * <ul>
+ *     <li>a JSON array of {@link ProductModel} objects;</li>
+ *     <li>CSV (RFC 4180, UTF-8) with a header naming the columns {@code productId}, {@code productName},
+ *     {@code productDescription}, {@code price} and {@code categories}, the last holding category names
+ *     separated by {@value #CATEGORY_SEPARATOR}. Columns may appear in any order; a missing
+ *     {@code productId} column creates every row and a missing {@code categories} column keeps the
+ *     categories of updated products.</li>
+ * </ul>
+ * A row whose values cannot be converted is returned with an error and the reading continues; a body
+ * that is not well-formed stops the import with an {@link InvalidBulkRequestException}.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public abstract class ProductImportReader implements Iterator<ProductImportReader.Row> {
+
+    /**
+     * Separator of the category names of a CSV row.
+     */
+    public static final String CATEGORY_SEPARATOR = "|";
+
+    /**
+     * Number of the last row read, starting at 1.
+     */
+    private int rowNumber;
+
+    /**
+     * Next row, read ahead by {@link #hasNext()}.
+     */
+    private Row next;
+
+    /**
+     * Whether the end of the body was reached.
+     */
+    private boolean finished;
+
+    /**
+     * One row of the import.
+     *
+     * @param row     The position of the row, starting at 1
+     * @param product The product of the row, null if it could not be read
+     * @param error   Why the row could not be read, null otherwise
+     */
+    public record Row(int row, ProductModel product, String error) {
+    }
+
+    /**
+     * Creates a reader of a JSON array of products.
+     *
+     * @param input        the request body
+     * @param objectMapper the JSON mapper of the application
+     * @return a reader of the products of the array
+     */
+    public static ProductImportReader json(InputStream input, ObjectMapper objectMapper) {
+        return new JsonReader(input, objectMapper);
+    }
+
+    /**
+     * Creates a reader of CSV rows with a header.
+     *
+     * @param input the request body
+     * @return a reader of the products of the rows
+     */
+    public static ProductImportReader csv(InputStream input) {
+        return new CsvReader(input);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            try {
+                next = readNext(rowNumber + 1);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (next == null) {
+                finished = true;
+            } else {
+                rowNumber++;
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Row row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * Reads the next row of the body.
+     *
+     * @param row the position of the row
+     * @return the row, or null at the end of the body
+     * @throws IOException if the body cannot be read
+     */
+    protected abstract Row readNext(int row) throws IOException;
+
+    /**
+     * Reader of a JSON array, converting one element at a time.
+     */
+    private static final class JsonReader extends ProductImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        private final JsonParser parser;
+
+        private boolean started;
+
+        private JsonReader(InputStream input, ObjectMapper objectMapper) {
+            this.objectMapper = objectMapper;
+            try {
+                this.parser = objectMapper.getFactory().createParser(input);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        protected Row readNext(int row) throws IOException {
+            try {
+                if (!started) {
+                    started = true;
+                    if (parser.nextToken() != JsonToken.START_ARRAY) {
+                        throw new InvalidBulkRequestException("Product import requires a JSON array of products");
+                    }
+                }
+                if (parser.nextToken() == JsonToken.END_ARRAY) {
+                    return null;
+                }
+                JsonNode node = parser.readValueAsTree();
+                if (node == null || !node.isObject()) {
+                    return new Row(row, null, "Row is not a JSON object");
+                }
+                try {
+                    return new Row(row, objectMapper.treeToValue(node, ProductModel.class), null);
+                } catch (JsonProcessingException e) {
+                    return new Row(row, null, "Invalid product: " + e.getOriginalMessage());
+                }
+            } catch (JsonProcessingException e) {
+                throw new InvalidBulkRequestException("Malformed JSON at row " + row + ": " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * Reader of CSV records, mapping the columns named by the header.
+     */
+    private static final class CsvReader extends ProductImportReader {
+
+        private static final List<String> COLUMNS =
+                List.of("productId", "productName", "productDescription", "price", "categories");
+
+        private final BufferedReader reader;
+
+        private Map<String, Integer> columns;
+
+        private CsvReader(InputStream input) {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        protected Row readNext(int row) throws IOException {
+            if (columns == null) {
+                columns = readHeader();
+            }
+            List<String> fields;
+            do {
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+            try {
+                return new Row(row, toProduct(fields), null);
+            } catch (IllegalArgumentException e) {
+                return new Row(row, null, e.getMessage());
+            }
+        }
+
+        private Map<String, Integer> readHeader() throws IOException {
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new InvalidBulkRequestException("Product import requires a CSV header");
+            }
+            Map<String, Integer> indexes = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).strip();
+                if (i == 0 && name.startsWith("\uFEFF")) {
+                    name = name.substring(1);
+                }
+                if (COLUMNS.contains(name)) {
+                    indexes.put(name, i);
+                }
+            }
+            for (String required : List.of("productName", "productDescription", "price")) {
+                if (!indexes.containsKey(required)) {
+                    throw new InvalidBulkRequestException("CSV header lacks the column " + required);
+                }
+            }
+            return indexes;
+        }
+
+        private ProductModel toProduct(List<String> fields) {
+            ProductModel product = new ProductModel();
+            String productId = field(fields, "productId");
+            if (productId != null && !productId.isBlank()) {
+                try {
+                    product.setProductId(UUID.fromString(productId.strip()));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid productId: " + productId);
+                }
+            }
+            product.setProductName(field(fields, "productName"));
+            product.setProductDescription(field(fields, "productDescription"));
+            String price = field(fields, "price");
+            if (price != null && !price.isBlank()) {
+                try {
+                    product.setPrice(Double.valueOf(price.strip()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid price: " + price);
+                }
+            }
+            if (columns.containsKey("categories")) {
+                String categories = field(fields, "categories");
+                List<CategoryModel> models = new ArrayList<>();
+                if (categories != null && !categories.isBlank()) {
+                    Arrays.stream(categories.split("\\" + CATEGORY_SEPARATOR))
+                            .map(String::strip)
+                            .filter(name -> !name.isEmpty())
+                            .forEach(name -> models.add(new CategoryModel(null, name)));
+                }
+                product.setCategories(models);
+            }
+            return product;
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            return index != null && index < fields.size() ? fields.get(index) : null;
+        }
+
+        /**
+         * Reads one record, which may span several lines when a quoted field contains line breaks.
+         *
+         * @return the fields of the record, or null at the end of the body
+         */
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean read = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                read = true;
+                if (quoted) {
+                    if (c != '"') {
+                        field.append((char) c);
+                        continue;
+                    }
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (quoted) {
+                throw new InvalidBulkRequestException("Unterminated quoted CSV field");
+            }
+            if (!read) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package org.acmapis.commercial_management_system.utils.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servlet filter bounding the number of API requests served at the same time to the size of the
+ * connection pool.
+ * <p>
+ * With open session in view, a request keeps its JDBC connection from its first query until the
+ * response is written, so the pool, not the request threads, limits throughput. On virtual threads
+ * thousands of requests may be accepted at once; without this filter they would all queue inside
+ * Hikari and fail after {@code connection-timeout}. Here they wait for a permit in arrival order and,
+ * if none is released within the acquire timeout, get {@code 503 Service Unavailable} with a
+ * {@code Retry-After} header. Requests that continue asynchronously hold their permit until the
+ * response completes.
+ * <p>
+ * Streaming responses (the NDJSON sales export) keep their connection for as long as the client reads,
+ * up to {@code spring.mvc.async.request-timeout}, so if they competed for the same permits as every
+ * other request a handful of slow downloads would block the whole API for that long. Requests to the
+ * streaming paths therefore first take one of a smaller number of streaming permits, and only then
+ * a regular permit: at most {@code maxStreaming} regular permits are ever held by streams, and the
+ * rest stay available to the other requests. A stream that finds no streaming permit within the
+ * acquire timeout is rejected like any other request.
+ * <p>
+ * Published meters: {@code api.concurrency.active} and {@code api.concurrency.queued} (gauges),
+ * {@code api.concurrency.streaming} (gauge of streams holding a permit), {@code api.concurrency.wait}
+ * (time spent waiting for a permit) and {@code api.concurrency.rejected}.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class ConnectionPoolConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+
+    private final int maxInFlight;
+
+    private final Semaphore streamingPermits;
+
+    private final int maxStreaming;
+
+    private final Set<String> streamingPaths;
+
+    private final long acquireTimeoutNanos;
+
+    private final AtomicInteger queued = new AtomicInteger();
+
+    private final Timer waitTimer;
+
+    private final Counter rejected;
+
+    /**
+     * Constructs a new ConnectionPoolConcurrencyLimitFilter publishing to the given registry.
+     *
+     * @param maxInFlight    the maximum number of requests served at the same time
+     * @param maxStreaming   the maximum number of streaming requests served at the same time
+     * @param streamingPaths the request paths whose responses are streamed
+     * @param acquireTimeout the maximum time a request waits for a permit
+     * @param meterRegistry  the registry receiving the limiter meters
+     */
+    public ConnectionPoolConcurrencyLimitFilter(int maxInFlight, int maxStreaming, Set<String> streamingPaths,
+                                                Duration acquireTimeout, MeterRegistry meterRegistry) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        if (maxStreaming < 1 || maxStreaming > maxInFlight) {
+            throw new IllegalArgumentException("maxStreaming must be between 1 and " + maxInFlight + ": "
+                    + maxStreaming);
+        }
+        this.permits = new Semaphore(maxInFlight, true);
+        this.maxInFlight = maxInFlight;
+        this.streamingPermits = new Semaphore(maxStreaming, true);
+        this.maxStreaming = maxStreaming;
+        this.streamingPaths = Set.copyOf(streamingPaths);
+        this.acquireTimeoutNanos = acquireTimeout.toNanos();
+        Gauge.builder("api.concurrency.active", this, ConnectionPoolConcurrencyLimitFilter::activeRequests)
+                .description("API requests holding a concurrency permit")
+                .register(meterRegistry);
+        Gauge.builder("api.concurrency.queued", queued, AtomicInteger::get)
+                .description("API requests waiting for a concurrency permit")
+                .register(meterRegistry);
+        Gauge.builder("api.concurrency.streaming", this, ConnectionPoolConcurrencyLimitFilter::activeStreams)
+                .description("Streaming API requests holding a concurrency permit")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("api.concurrency.wait")
+                .description("Time API requests waited for a concurrency permit")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("api.concurrency.rejected")
+                .description("API requests rejected because no permit was released in time")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the number of requests currently holding a permit.
+     *
+     * @return the number of requests in flight
+     */
+    public int activeRequests() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * Returns the number of streaming requests currently holding a streaming permit.
+     *
+     * @return the number of streams in flight
+     */
+    public int activeStreams() {
+        return maxStreaming - streamingPermits.availablePermits();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean streaming = streamingPaths.contains(path);
+        if (streaming && !acquire(streamingPermits)) {
+            reject(response);
+            return;
+        }
+        if (!acquire(permits)) {
+            if (streaming) {
+                streamingPermits.release();
+            }
+            reject(response);
+            return;
+        }
+        boolean released = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingListener(streaming));
+                released = true;
+            }
+        } finally {
+            if (!released) {
+                release(streaming);
+            }
+        }
+    }
+
+    /**
+     * Waits for a permit of the given semaphore up to the acquire timeout.
+     *
+     * @param semaphore the semaphore to take the permit from
+     * @return true if a permit was acquired
+     */
+    private boolean acquire(Semaphore semaphore) {
+        queued.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            return semaphore.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Releases the permits of a request.
+     *
+     * @param streaming whether the request also holds a streaming permit
+     */
+    private void release(boolean streaming) {
+        permits.release();
+        if (streaming) {
+            streamingPermits.release();
+        }
+    }
+
+    /**
+     * Answers a request that found no permit in time with 503 and a {@code Retry-After} header.
+     *
+     * @param response the response of the rejected request
+     * @throws IOException if the error response cannot be sent
+     */
+    private void reject(HttpServletResponse response) throws IOException {
+        rejected.increment();
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many concurrent requests");
+    }
+
+    /**
+     * Releases the permits of an asynchronous request once its response is complete.
+     */
+    private final class ReleasingListener implements AsyncListener {
+
+        /**
+         * Whether the request also holds a streaming permit.
+         */
+        private final boolean streaming;
+
+        private ReleasingListener(boolean streaming) {
+            this.streaming = streaming;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(streaming);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
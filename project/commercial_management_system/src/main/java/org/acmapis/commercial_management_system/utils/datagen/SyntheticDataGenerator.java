@@ -0,0 +1,359 @@
+package org.acmapis.commercial_management_system.utils.datagen;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.service.BestSellerService;
+import org.acmapis.commercial_management_system.service.SalePartitionMaintenance;
+import org.acmapis.commercial_management_system.service.SaleService;
+import org.acmapis.commercial_management_system.service.StoreService;
+import org.acmapis.commercial_management_system.utils.id.TimeOrderedUuids;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+/**
+ * Bulk-loads a deterministic synthetic data set for load and capacity testing.
+ * <p>
+ * Rows are written with JDBC batches, one transaction per batch, bypassing JPA; UUID keys are
+ * time-ordered and issued in insertion order, as the application issues them. Product popularity
+ * in sale lines follows a Zipf distribution over a shuffled product order, so a few products
+ * dominate the sales as in production; users and dates are uniform. Sale totals are computed from
+ * the lines and the product prices. Generated names carry a per-seed prefix, so data sets with
+ * different seeds can be loaded into the same database; loading the same seed twice violates the
+ * unique user names. Once the rows are written, the daily sales rollup, the best-seller
+ * leaderboards and the store inventory are rebuilt and the product and second-level caches are cleared.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+public class SyntheticDataGenerator {
+
+    private static final String INSERT_DEPARTMENT_SQL = "INSERT INTO department (department_name) VALUES (?)";
+
+    private static final String INSERT_CITY_SQL = "INSERT INTO city (city_name, department_id_fk) VALUES (?, ?)";
+
+    private static final String INSERT_ROLE_SQL = "INSERT INTO user_role (role) VALUES (?)";
+
+    private static final String INSERT_CATEGORY_SQL = "INSERT INTO category (category_name) VALUES (?)";
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (user_id, first_name, last_name, username, email, password, phone, " +
+            "role_id_fk, city_id_fk, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_STORE_SQL =
+            "INSERT INTO store (store_id, store_name, city_id_fk) VALUES (?, ?, ?)";
+
+    private static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO product (product_id, product_name, description, price, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PRODUCT_CATEGORY_SQL =
+            "INSERT INTO product_category (product_id_fk, category_id_fk) VALUES (?, ?)";
+
+    private static final String INSERT_STORE_PRODUCT_SQL =
+            "INSERT INTO store_product (stock, address, store_id_fk, product_id_fk, version) VALUES (?, ?, ?, ?, 0)";
+
+    private static final String INSERT_SALE_SQL =
+            "INSERT INTO sale (sale_id, sale_date, total_amount, user_id_fk) VALUES (?, ?, ?, ?)";
+
+    private static final String INSERT_SALE_PRODUCT_SQL =
+            "INSERT INTO sale_product (quantity, sale_id_fk, product_id_fk, sale_date) VALUES (?, ?, ?, ?)";
+
+    private static final int MAX_CATEGORIES_PER_PRODUCT = 3;
+
+    private static final int MAX_QUANTITY = 5;
+
+    /**
+     * JDBC template used for the batched inserts.
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Template running each batch in its own transaction.
+     */
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Service used to rebuild the daily sales rollup.
+     */
+    private final SaleService saleService;
+
+    /**
+     * Service used to rebuild the best-seller leaderboards.
+     */
+    private final BestSellerService bestSellerService;
+
+    /**
+     * Service used to rebuild the store inventory read model.
+     */
+    private final StoreService storeService;
+
+    /**
+     * Job creating the monthly sale partitions of the generated period.
+     */
+    private final SalePartitionMaintenance salePartitionMaintenance;
+
+    /**
+     * Cache manager holding the product caches.
+     */
+    private final CacheManager cacheManager;
+
+    /**
+     * Entity manager factory whose second-level cache is cleared after loading.
+     */
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Constructs a new SyntheticDataGenerator with the required dependencies.
+     *
+     * @param jdbcTemplate             the JDBC template used for the batched inserts
+     * @param transactionManager       the transaction manager used for each batch
+     * @param saleService              the service used to rebuild the daily sales rollup
+     * @param bestSellerService        the service used to rebuild the best-seller leaderboards
+     * @param storeService             the service used to rebuild the store inventory
+     * @param salePartitionMaintenance the job creating the sale partitions of the generated period
+     * @param cacheManager             the cache manager holding the product caches
+     * @param entityManagerFactory     the entity manager factory owning the second-level cache
+     */
+    @Autowired
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  SaleService saleService,
+                                  BestSellerService bestSellerService,
+                                  StoreService storeService,
+                                  SalePartitionMaintenance salePartitionMaintenance,
+                                  CacheManager cacheManager,
+                                  EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.saleService = saleService;
+        this.bestSellerService = bestSellerService;
+        this.storeService = storeService;
+        this.salePartitionMaintenance = salePartitionMaintenance;
+        this.cacheManager = cacheManager;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Writes the data set described by the spec.
+     *
+     * @param spec the shape of the data set
+     * @return the number of rows written
+     */
+    public SyntheticDataSummary generate(SyntheticDataSpec spec) {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        String prefix = "syn" + spec.seed() + "-";
+
+        long[] cityIds = new long[spec.departments() * spec.citiesPerDepartment()];
+        for (int d = 0; d < spec.departments(); d++) {
+            long departmentId = insertReturningKey(INSERT_DEPARTMENT_SQL, "department_id", prefix + "Department " + d);
+            for (int c = 0; c < spec.citiesPerDepartment(); c++) {
+                cityIds[d * spec.citiesPerDepartment() + c] = insertReturningKey(INSERT_CITY_SQL, "city_id",
+                        prefix + "City " + d + "-" + c, departmentId);
+            }
+        }
+        long[] roleIds = roleIds();
+        long[] categoryIds = new long[spec.categories()];
+        for (int c = 0; c < spec.categories(); c++) {
+            categoryIds[c] = insertReturningKey(INSERT_CATEGORY_SQL, "category_id", prefix + "Category " + c);
+        }
+
+        LocalDateTime salesStart = spec.salesEnd().minusDays(spec.days());
+        KeySequence keys = new KeySequence(salesStart.toInstant(ZoneOffset.UTC).toEpochMilli());
+        UUID[] userIds = new UUID[spec.users()];
+        insertBatched(INSERT_USER_SQL, spec.users(), spec.batchSize(), i -> {
+            userIds[i] = keys.next(random);
+            return new Object[]{userIds[i], "First" + i, "Last" + (i % 1000), prefix + "user" + i,
+                    prefix + "user" + i + "@example.com", "secret", String.format("3%09d", i % 1_000_000_000),
+                    roleIds[random.nextInt(roleIds.length)], cityIds[random.nextInt(cityIds.length)],
+                    salesStart.minusDays(random.nextInt(365))};
+        });
+
+        UUID[] storeIds = new UUID[spec.stores()];
+        insertBatched(INSERT_STORE_SQL, spec.stores(), spec.batchSize(), s -> {
+            storeIds[s] = keys.next(random);
+            return new Object[]{storeIds[s], prefix + "Store " + s, cityIds[random.nextInt(cityIds.length)]};
+        });
+
+        UUID[] productIds = new UUID[spec.products()];
+        double[] prices = new double[spec.products()];
+        List<Object[]> productCategories = new ArrayList<>();
+        insertBatched(INSERT_PRODUCT_SQL, spec.products(), spec.batchSize(), p -> {
+            productIds[p] = keys.next(random);
+            prices[p] = 100 + random.nextInt(500_000);
+            int categoryCount = 1 + random.nextInt(Math.min(MAX_CATEGORIES_PER_PRODUCT, categoryIds.length));
+            int firstCategory = random.nextInt(categoryIds.length);
+            for (int c = 0; c < categoryCount; c++) {
+                productCategories.add(new Object[]{productIds[p], categoryIds[(firstCategory + c) % categoryIds.length]});
+            }
+            LocalDateTime createdAt = salesStart.minusDays(random.nextInt(365));
+            return new Object[]{productIds[p], prefix + "Product " + p, "Synthetic product " + p,
+                    prices[p], createdAt, createdAt};
+        });
+        insertBatched(INSERT_PRODUCT_CATEGORY_SQL, productCategories.size(), spec.batchSize(), productCategories::get);
+
+        int productsPerStore = Math.min(spec.productsPerStore(), spec.products());
+        long storeProducts = (long) spec.stores() * productsPerStore;
+        for (int s = 0; s < spec.stores(); s++) {
+            int offset = random.nextInt(spec.products());
+            UUID storeId = storeIds[s];
+            insertBatched(INSERT_STORE_PRODUCT_SQL, productsPerStore, spec.batchSize(), k -> new Object[]{
+                    (long) random.nextInt(1000), "Aisle " + (k % 50), storeId,
+                    productIds[(offset + k) % productIds.length]});
+        }
+
+        long saleLines = insertSales(spec, random, keys, userIds, productIds, prices, salesStart);
+
+        saleService.rebuildDailySalesRollup();
+        bestSellerService.rebuild();
+        storeService.rebuildStoreInventory();
+        for (String cacheName : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        entityManagerFactory.getCache().evictAll();
+
+        return new SyntheticDataSummary(spec.departments(), cityIds.length, spec.users(), spec.stores(),
+                spec.categories(), spec.products(), storeProducts, spec.sales(), saleLines,
+                Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private long insertSales(SyntheticDataSpec spec, SplittableRandom random, KeySequence keys, UUID[] userIds,
+                             UUID[] productIds, double[] prices, LocalDateTime salesStart) {
+        ZipfSampler popularity = new ZipfSampler(productIds.length, spec.zipfExponent());
+        int[] productByRank = shuffledIndexes(productIds.length, random);
+        int maxLines = Math.min(spec.maxLinesPerSale(), productIds.length);
+        long periodSeconds = spec.days() * 86_400L;
+        long saleLines = 0;
+        salePartitionMaintenance.createPartitions(salesStart.toLocalDate(), spec.salesEnd().toLocalDate());
+
+        for (int first = 0; first < spec.sales(); first += spec.batchSize()) {
+            int last = Math.min(first + spec.batchSize(), spec.sales());
+            List<Object[]> sales = new ArrayList<>(last - first);
+            List<Object[]> lines = new ArrayList<>((last - first) * maxLines);
+            for (int i = first; i < last; i++) {
+                UUID saleId = keys.next(random);
+                LocalDateTime saleDate = salesStart.plusSeconds(random.nextLong(periodSeconds));
+                int lineCount = 1 + random.nextInt(maxLines);
+                Set<Integer> saleProducts = new HashSet<>();
+                double total = 0;
+                while (saleProducts.size() < lineCount) {
+                    int product = productByRank[popularity.sample(random)];
+                    if (saleProducts.add(product)) {
+                        long quantity = 1 + random.nextInt(MAX_QUANTITY);
+                        total += prices[product] * quantity;
+                        lines.add(new Object[]{quantity, saleId, productIds[product], saleDate});
+                    }
+                }
+                sales.add(new Object[]{saleId, saleDate,
+                        Math.round(total), userIds[random.nextInt(userIds.length)]});
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SALE_SQL, sales);
+                jdbcTemplate.batchUpdate(INSERT_SALE_PRODUCT_SQL, lines);
+            });
+            saleLines += lines.size();
+        }
+        return saleLines;
+    }
+
+    /**
+     * Returns the identifiers of every {@link UserRole}, inserting the missing roles.
+     */
+    private long[] roleIds() {
+        Map<UserRole, Long> existing = new EnumMap<>(UserRole.class);
+        jdbcTemplate.query("SELECT user_role_id, role FROM user_role", (RowCallbackHandler) rs ->
+                existing.putIfAbsent(UserRole.valueOf(rs.getString("role")), rs.getLong("user_role_id")));
+        long[] roleIds = new long[UserRole.values().length];
+        for (UserRole role : UserRole.values()) {
+            Long roleId = existing.get(role);
+            roleIds[role.ordinal()] = roleId != null
+                    ? roleId
+                    : insertReturningKey(INSERT_ROLE_SQL, "user_role_id", role.name());
+        }
+        return roleIds;
+    }
+
+    private long insertReturningKey(String sql, String keyColumn, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, new String[]{keyColumn});
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private void insertBatched(String sql, int count, int batchSize, IntFunction<Object[]> row) {
+        for (int first = 0; first < count; first += batchSize) {
+            int last = Math.min(first + batchSize, count);
+            List<Object[]> rows = new ArrayList<>(last - first);
+            for (int i = first; i < last; i++) {
+                rows.add(row.apply(i));
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        }
+    }
+
+    private static int[] shuffledIndexes(int size, SplittableRandom random) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    /**
+     * Issues time-ordered keys in insertion order from a fixed epoch, so that the primary key indexes
+     * get the layout produced by the application while the data set stays reproducible.
+     */
+    private static final class KeySequence {
+
+        private final long epochMillis;
+
+        private long issued;
+
+        KeySequence(long epochMillis) {
+            this.epochMillis = epochMillis;
+        }
+
+        UUID next(SplittableRandom random) {
+            long key = issued++;
+            return TimeOrderedUuids.create(epochMillis + (key >>> 12), key, random.nextLong());
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.acmapis.commercial_management_system.utils.datagen;
+
+import org.acmapis.commercial_management_system.model.enums.CatalogResource;
+import org.acmapis.commercial_management_system.service.CatalogVersions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Loads a synthetic data set when the application starts with {@code datagen.enabled=true}.
+ * The counts are read from the {@code datagen.*} properties; the sales period ends when the
+ * application starts, unless {@code datagen.sales-end} fixes it for a reproducible data set.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+@ConditionalOnProperty(name = "datagen.enabled", havingValue = "true")
+public class SyntheticDataLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataLoader.class);
+
+    /**
+     * Generator writing the data set.
+     */
+    private final SyntheticDataGenerator generator;
+
+    /**
+     * Shape of the data set.
+     */
+    private final SyntheticDataSpec spec;
+
+    /**
+     * Version stamps of the catalog collections, advanced once the data set is written.
+     */
+    private final CatalogVersions catalogVersions;
+
+    /**
+     * Constructs a new SyntheticDataLoader from the {@code datagen.*} properties.
+     *
+     * @param generator           the generator writing the data set
+     * @param seed                seed of every random choice
+     * @param departments         number of departments
+     * @param citiesPerDepartment number of cities in each department
+     * @param users               number of users
+     * @param stores              number of stores
+     * @param categories          number of categories
+     * @param products            number of products
+     * @param productsPerStore    number of products stocked by each store
+     * @param sales               number of sales
+     * @param maxLinesPerSale     maximum number of products in a sale
+     * @param zipfExponent        skew of product popularity
+     * @param days                length of the sales period in days
+     * @param salesEnd            end of the sales period, or null for the start time
+     * @param batchSize           number of rows per JDBC batch
+     * @param catalogVersions     the version stamps of the catalog collections
+     */
+    @Autowired
+    public SyntheticDataLoader(SyntheticDataGenerator generator,
+                               @Value("${datagen.seed:42}") long seed,
+                               @Value("${datagen.departments:8}") int departments,
+                               @Value("${datagen.cities-per-department:5}") int citiesPerDepartment,
+                               @Value("${datagen.users:100000}") int users,
+                               @Value("${datagen.stores:200}") int stores,
+                               @Value("${datagen.categories:50}") int categories,
+                               @Value("${datagen.products:20000}") int products,
+                               @Value("${datagen.products-per-store:2000}") int productsPerStore,
+                               @Value("${datagen.sales:1000000}") int sales,
+                               @Value("${datagen.max-lines-per-sale:5}") int maxLinesPerSale,
+                               @Value("${datagen.zipf-exponent:1.1}") double zipfExponent,
+                               @Value("${datagen.days:365}") int days,
+                               @Value("${datagen.sales-end:#{null}}") LocalDateTime salesEnd,
+                               @Value("${datagen.batch-size:1000}") int batchSize,
+                               CatalogVersions catalogVersions) {
+        this.generator = generator;
+        this.catalogVersions = catalogVersions;
+        this.spec = new SyntheticDataSpec(seed, departments, citiesPerDepartment, users, stores, categories,
+                products, productsPerStore, sales, maxLinesPerSale, zipfExponent, days,
+                salesEnd != null ? salesEnd : LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES), batchSize);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("Loading synthetic data set {}", spec);
+        SyntheticDataSummary summary = generator.generate(spec);
+        // The web server is already serving requests, which may have been answered while the data was loading
+        catalogVersions.changed(CatalogResource.values());
+        log.info("Loaded synthetic data set {}", summary);
+    }
+}
@@ -0,0 +1,59 @@
+package org.acmapis.commercial_management_system.utils.datagen;
+
+import java.time.LocalDateTime;
+
+/**
+ * Shape of a synthetic data set. The same spec, including the seed and the end of the sales
+ * period, always produces the same rows.
+ *
+ * @param seed                seed of every random choice
+ * @param departments         number of departments
+ * @param citiesPerDepartment number of cities in each department
+ * @param users               number of users
+ * @param stores              number of stores
+ * @param categories          number of categories
+ * @param products            number of products
+ * @param productsPerStore    number of products stocked by each store, capped at the number of products
+ * @param sales               number of sales
+ * @param maxLinesPerSale     maximum number of distinct products in a sale
+ * @param zipfExponent        skew of product popularity in sale lines; 0 is uniform
+ * @param days                length of the sales period, in days before {@code salesEnd}
+ * @param salesEnd            end of the sales period
+ * @param batchSize           number of sales written per JDBC batch and transaction
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public record SyntheticDataSpec(long seed,
+                                int departments,
+                                int citiesPerDepartment,
+                                int users,
+                                int stores,
+                                int categories,
+                                int products,
+                                int productsPerStore,
+                                int sales,
+                                int maxLinesPerSale,
+                                double zipfExponent,
+                                int days,
+                                LocalDateTime salesEnd,
+                                int batchSize) {
+
+    /**
+     * Validates the spec.
+     *
+     * @throws IllegalArgumentException if a count is out of range
+     */
+    public SyntheticDataSpec {
+        if (departments <= 0 || citiesPerDepartment <= 0 || users <= 0 || stores <= 0
+                || categories <= 0 || products <= 0) {
+            throw new IllegalArgumentException("Reference data and catalog counts must be positive");
+        }
+        if (productsPerStore < 0 || sales < 0) {
+            throw new IllegalArgumentException("Stocked products and sales must not be negative");
+        }
+        if (maxLinesPerSale <= 0 || days <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Lines per sale, days and batch size must be positive");
+        }
+    }
+}
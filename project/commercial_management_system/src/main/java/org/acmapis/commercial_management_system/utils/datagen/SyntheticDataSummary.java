@@ -0,0 +1,32 @@
+package org.acmapis.commercial_management_system.utils.datagen;
+
+import java.time.Duration;
+
+/**
+ * Number of rows written by a {@link SyntheticDataGenerator} run.
+ *
+ * @param departments   departments inserted
+ * @param cities        cities inserted
+ * @param users         users inserted
+ * @param stores        stores inserted
+ * @param categories    categories inserted
+ * @param products      products inserted
+ * @param storeProducts store-product rows inserted
+ * @param sales         sales inserted
+ * @param saleLines     sale-product lines inserted
+ * @param elapsed       time taken, including the rebuild of derived data
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public record SyntheticDataSummary(int departments,
+                                   int cities,
+                                   int users,
+                                   int stores,
+                                   int categories,
+                                   int products,
+                                   long storeProducts,
+                                   int sales,
+                                   long saleLines,
+                                   Duration elapsed) {
+}
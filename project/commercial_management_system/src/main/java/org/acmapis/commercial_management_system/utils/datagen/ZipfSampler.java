@@ -0,0 +1,55 @@
+package org.acmapis.commercial_management_system.utils.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples ranks from a Zipf distribution: the probability of rank {@code k} (1-based) is
+ * proportional to {@code 1 / k^s}. The cumulative distribution is precomputed, so each sample
+ * is a binary search; memory is one double per rank.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public final class ZipfSampler {
+
+    private final double[] cumulative;
+
+    /**
+     * Creates a sampler over {@code size} ranks.
+     *
+     * @param size     the number of ranks, must be positive
+     * @param exponent the skew exponent {@code s}; 0 is uniform, larger values are more skewed
+     * @throws IllegalArgumentException if the size is not positive or the exponent is negative
+     */
+    public ZipfSampler(int size, double exponent) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Zipf size must be positive: " + size);
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Zipf exponent must not be negative: " + exponent);
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int k = 0; k < size; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < size; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    /**
+     * Draws a rank.
+     *
+     * @param random the source of randomness
+     * @return a 0-based rank, 0 being the most frequent
+     */
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
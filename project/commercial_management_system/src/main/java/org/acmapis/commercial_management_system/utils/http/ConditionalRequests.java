@@ -0,0 +1,45 @@
+package org.acmapis.commercial_management_system.utils.http;
+
+import org.acmapis.commercial_management_system.service.CatalogVersions;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Utility class answering conditional GET requests from catalog version stamps.
+ * Controllers check the request before loading any data and return no body when it is not modified:
+ *
+ * <pre>{@code
+ * if (ConditionalRequests.checkNotModified(request, catalogVersions.current(CatalogResource.CITIES))) {
+ *     return null;
+ * }
+ * }</pre>
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * Writes the ETag and Last-Modified validators of a stamp to the response and checks the
+     * If-None-Match and If-Modified-Since headers of the request against them. If the client's copy
+     * is current the response status is set to 304 Not Modified. Responses are marked
+     * {@code Cache-Control: no-cache}, so browsers and CDNs revalidate their copy on every use instead
+     * of reusing it for a heuristic lifetime derived from Last-Modified.
+     *
+     * @param request The current request
+     * @param stamp   The validators of the data the response is built from
+     * @return true if the client's copy is current and the handler must return without a body
+     */
+    public static boolean checkNotModified(WebRequest request, CatalogVersions.Stamp stamp) {
+        if (request instanceof ServletWebRequest servletRequest && servletRequest.getResponse() != null) {
+            servletRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        }
+        return request.checkNotModified(stamp.eTag(), stamp.lastModified());
+    }
+}
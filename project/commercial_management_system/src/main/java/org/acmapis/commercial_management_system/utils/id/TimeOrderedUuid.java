@@ -0,0 +1,23 @@
+package org.acmapis.commercial_management_system.utils.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link java.util.UUID} identifier as generated by {@link TimeOrderedUuidGenerator}:
+ * a time-ordered version 7 UUID assigned when the entity is persisted.
+ * Replaces {@code @GeneratedValue(strategy = GenerationType.UUID)}, which produces random version 4 UUIDs.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
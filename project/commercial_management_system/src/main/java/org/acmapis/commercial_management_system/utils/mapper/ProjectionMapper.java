@@ -0,0 +1,123 @@
+package org.acmapis.commercial_management_system.utils.mapper;
+
+import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.CityModel;
+import org.acmapis.commercial_management_system.model.dto.DepartmentModel;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.StoreModel;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.model.dto.UserModel;
+import org.acmapis.commercial_management_system.model.dto.UserRoleModel;
+import org.acmapis.commercial_management_system.repository.projection.ProductCategoryRow;
+import org.acmapis.commercial_management_system.repository.projection.ProductRow;
+import org.acmapis.commercial_management_system.repository.projection.StoreProductRow;
+import org.acmapis.commercial_management_system.repository.projection.UserRow;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Builds the response models from the records of the projection queries.
+ * Produces the same models as the entity mappers, but the referenced models (categories, roles,
+ * cities, departments and stores) are created once per distinct identifier within a result and shared
+ * by every row that points to them, as the entities are within a persistence context.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@Component
+public class ProjectionMapper {
+
+    /**
+     * Converts product rows and the categories of those products to ProductModel objects.
+     *
+     * @param products   the product rows, in result order
+     * @param categories the categories of the products, one row per product and category
+     * @return the corresponding list of ProductModel, with their categories
+     */
+    public List<ProductModel> toProductModels(List<ProductRow> products, List<ProductCategoryRow> categories) {
+        Map<UUID, List<CategoryModel>> categoriesByProduct = groupCategories(categories);
+        List<ProductModel> models = new ArrayList<>(products.size());
+        for (ProductRow row : products) {
+            models.add(new ProductModel(row.productId(), row.productName(), row.productDescription(), row.price(),
+                    row.createdAt(), row.updatedAt(), categoriesOf(categoriesByProduct, row.productId())));
+        }
+        return models;
+    }
+
+    /**
+     * Converts store inventory rows and the categories of their products to StoreProductModel objects.
+     *
+     * @param storeProducts the inventory rows, in result order
+     * @param categories    the categories of the products, one row per product and category
+     * @return the corresponding list of StoreProductModel, with store and product
+     */
+    public List<StoreProductModel> toStoreProductModels(List<StoreProductRow> storeProducts,
+                                                        List<ProductCategoryRow> categories) {
+        Map<UUID, List<CategoryModel>> categoriesByProduct = groupCategories(categories);
+        Map<Long, DepartmentModel> departments = new HashMap<>();
+        Map<Long, CityModel> cities = new HashMap<>();
+        Map<UUID, StoreModel> stores = new HashMap<>();
+        List<StoreProductModel> models = new ArrayList<>(storeProducts.size());
+        for (StoreProductRow row : storeProducts) {
+            StoreModel store = stores.computeIfAbsent(row.storeId(), storeId -> new StoreModel(storeId,
+                    row.storeName(), city(cities, departments, row.cityId(), row.cityName(),
+                    row.departmentId(), row.departmentName())));
+            ProductModel product = new ProductModel(row.productId(), row.productName(), row.productDescription(),
+                    row.price(), row.createdAt(), row.updatedAt(), categoriesOf(categoriesByProduct, row.productId()));
+            models.add(new StoreProductModel(row.id(), row.stock(), row.address(), store, product, row.version()));
+        }
+        return models;
+    }
+
+    /**
+     * Converts user rows to UserModel objects.
+     *
+     * @param users the user rows, in result order
+     * @return the corresponding list of UserModel, with role and city
+     */
+    public List<UserModel> toUserModels(List<UserRow> users) {
+        Map<Long, DepartmentModel> departments = new HashMap<>();
+        Map<Long, CityModel> cities = new HashMap<>();
+        Map<Long, UserRoleModel> roles = new HashMap<>();
+        List<UserModel> models = new ArrayList<>(users.size());
+        for (UserRow row : users) {
+            UserRoleModel role = roles.computeIfAbsent(row.userRoleId(), roleId -> new UserRoleModel(roleId, row.role()));
+            CityModel city = city(cities, departments, row.cityId(), row.cityName(), row.departmentId(),
+                    row.departmentName());
+            models.add(new UserModel(row.userId(), row.firstName(), row.lastName(), row.username(), row.email(),
+                    row.password(), row.createdAt(), row.phone(), role, city));
+        }
+        return models;
+    }
+
+    private static Map<UUID, List<CategoryModel>> groupCategories(List<ProductCategoryRow> rows) {
+        Map<Long, CategoryModel> categories = new HashMap<>();
+        Map<UUID, List<CategoryModel>> categoriesByProduct = new HashMap<>();
+        for (ProductCategoryRow row : rows) {
+            CategoryModel category = categories.computeIfAbsent(row.categoryId(),
+                    categoryId -> new CategoryModel(categoryId, row.categoryName()));
+            categoriesByProduct.computeIfAbsent(row.productId(), productId -> new ArrayList<>()).add(category);
+        }
+        return categoriesByProduct;
+    }
+
+    /**
+     * Returns a new list for each product, as the entity mappers do, so that a product listed twice
+     * never shares a mutable list.
+     */
+    private static List<CategoryModel> categoriesOf(Map<UUID, List<CategoryModel>> categoriesByProduct, UUID productId) {
+        return new ArrayList<>(categoriesByProduct.getOrDefault(productId, List.of()));
+    }
+
+    private static CityModel city(Map<Long, CityModel> cities, Map<Long, DepartmentModel> departments,
+                                  Long cityId, String cityName, Long departmentId, String departmentName) {
+        return cities.computeIfAbsent(cityId, id -> new CityModel(id, cityName,
+                departments.computeIfAbsent(departmentId, deptId -> new DepartmentModel(deptId, departmentName))));
+    }
+}
@@ -3,6 +3,7 @@ package org.acmapis.commercial_management_system.utils.mapper;
 import org.acmapis.commercial_management_system.entity.SaleProductEntity;
 import org.acmapis.commercial_management_system.model.dto.SaleProductModel;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import java.util.List;
@@ -26,10 +27,12 @@ public interface SaleProductMapper {
 
     /**
      * Converts a SaleProductModel to a SaleProductEntity.
+     * The sale date, the partition key, is copied from the sale by the service and is not mapped.
      *
      * @param saleProductModel the SaleProductModel to convert
      * @return the corresponding SaleProductEntity
      */
+    @Mapping(target = "saleDate", ignore = true)
     SaleProductEntity toEntity(SaleProductModel saleProductModel);
 
     /**
@@ -50,9 +53,11 @@ public interface SaleProductMapper {
 
     /**
      * Updates an existing SaleProductEntity with data from SaleProductModel, preserving the ID.
+     * The sale date is kept, as it follows the sale.
      *
      * @param saleProductModel  the SaleProductModel containing the updated data
      * @param saleProductEntity the existing SaleProductEntity to update
      */
+    @Mapping(target = "saleDate", ignore = true)
     void updateEntityFromModel(SaleProductModel saleProductModel, @MappingTarget SaleProductEntity saleProductEntity);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package org.acmapis.commercial_management_system.utils.mapper;
 import org.acmapis.commercial_management_system.entity.StoreProductEntity;
 import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 
 import java.util.List;
@@ -26,10 +27,12 @@ public interface StoreProductMapper {
 
     /**
      * Converts a StoreProductModel to a StoreProductEntity.
+     * The version is managed by Hibernate and is not copied from the model.
      *
      * @param storeProductModel the StoreProductModel to convert
      * @return the corresponding StoreProductEntity
      */
+    @Mapping(target = "version", ignore = true)
     StoreProductEntity toEntity(StoreProductModel storeProductModel);
 
     /**
@@ -49,10 +52,11 @@ public interface StoreProductMapper {
     List<StoreProductEntity> toEntityList(List<StoreProductModel> storeProductModels);
 
     /**
-     * Updates an existing StoreProductEntity with data from StoreProductModel, preserving the ID.
+     * Updates an existing StoreProductEntity with data from StoreProductModel, preserving the ID and version.
      *
      * @param storeProductModel  the StoreProductModel containing the updated data
      * @param storeProductEntity the existing StoreProductEntity to update
      */
+    @Mapping(target = "version", ignore = true)
     void updateEntityFromModel(StoreProductModel storeProductModel, @MappingTarget StoreProductEntity storeProductEntity);
 }
@@ -0,0 +1,42 @@
+package org.acmapis.commercial_management_system.utils.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Hibernate integrator registering a post-load listener that counts the entities hydrated
+ * for the {@link PersistenceMetrics} of the current thread.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class EntityLoadMetricsIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata,
+                          BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, EntityLoadMetricsIntegrator::onPostLoad);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory,
+                             SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    private static void onPostLoad(PostLoadEvent event) {
+        PersistenceMetrics metrics = PersistenceMetrics.current();
+        if (metrics != null) {
+            metrics.entityLoaded();
+        }
+    }
+}
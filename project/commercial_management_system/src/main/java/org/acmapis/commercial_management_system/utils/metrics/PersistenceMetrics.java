@@ -0,0 +1,143 @@
+package org.acmapis.commercial_management_system.utils.metrics;
+
+/**
+ * Per-thread accumulator of the persistence work done while serving one request.
+ * Hibernate listeners add to the accumulator bound to the current thread; the web interceptor
+ * binds a fresh accumulator when a request starts and publishes its totals when it completes.
+ * Work done on other threads (for example asynchronous streaming responses) is not attributed.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public final class PersistenceMetrics {
+
+    private static final ThreadLocal<PersistenceMetrics> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+
+    private long statements;
+
+    private long entitiesLoaded;
+
+    private long cacheHits;
+
+    private long cacheMisses;
+
+    private long jdbcNanos;
+
+    private long connectionAcquisitionNanos;
+
+    private long serializationStartNanos;
+
+    private PersistenceMetrics() {
+    }
+
+    /**
+     * Binds a new accumulator to the current thread, replacing any previous one.
+     *
+     * @return the new accumulator
+     */
+    public static PersistenceMetrics start() {
+        PersistenceMetrics metrics = new PersistenceMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    /**
+     * Returns the accumulator bound to the current thread.
+     *
+     * @return the current accumulator, or null if no request is being measured
+     */
+    public static PersistenceMetrics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Unbinds the accumulator from the current thread.
+     *
+     * @return the accumulator that was bound, or null if there was none
+     */
+    public static PersistenceMetrics end() {
+        PersistenceMetrics metrics = CURRENT.get();
+        CURRENT.remove();
+        return metrics;
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    void entityLoaded() {
+        entitiesLoaded++;
+    }
+
+    void cacheGet(boolean hit) {
+        if (hit) {
+            cacheHits++;
+        } else {
+            cacheMisses++;
+        }
+    }
+
+    void addJdbcNanos(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    void addConnectionAcquisitionNanos(long nanos) {
+        connectionAcquisitionNanos += nanos;
+    }
+
+    /**
+     * Records that the response body is about to be serialized.
+     */
+    public void markSerializationStart() {
+        serializationStartNanos = System.nanoTime();
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getEntitiesLoaded() {
+        return entitiesLoaded;
+    }
+
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    public long getConnectionAcquisitionNanos() {
+        return connectionAcquisitionNanos;
+    }
+
+    /**
+     * Time spent in the handler outside JDBC calls and connection acquisition: service logic,
+     * entity hydration and entity-to-model mapping.
+     *
+     * @param endNanos the {@link System#nanoTime()} at which the request completed
+     * @return the application time in nanoseconds, never negative
+     */
+    public long getApplicationNanos(long endNanos) {
+        long handlerEnd = serializationStartNanos != 0 ? serializationStartNanos : endNanos;
+        return Math.max(0, handlerEnd - startNanos - jdbcNanos - connectionAcquisitionNanos);
+    }
+
+    /**
+     * Time spent writing the response body.
+     *
+     * @param endNanos the {@link System#nanoTime()} at which the request completed
+     * @return the serialization time in nanoseconds, or 0 if the response had no body
+     */
+    public long getSerializationNanos(long endNanos) {
+        return serializationStartNanos != 0 ? Math.max(0, endNanos - serializationStartNanos) : 0;
+    }
+}
@@ -0,0 +1,80 @@
+package org.acmapis.commercial_management_system.utils.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Web interceptor measuring the persistence work of every request and publishing it to Micrometer,
+ * tagged with the matched route pattern (for example {@code /api/v1/sales/{id}}) and HTTP method.
+ * <p>
+ * Published meters:
+ * <ul>
+ *     <li>{@code persistence.request.statements}: SQL statements prepared by Hibernate</li>
+ *     <li>{@code persistence.request.entities.loaded}: entities hydrated</li>
+ *     <li>{@code persistence.request.cache}: second-level and query cache lookups, tagged {@code result=hit|miss}</li>
+ *     <li>{@code persistence.request.time}: time split by {@code phase}: {@code connection} (pool wait),
+ *     {@code jdbc}, {@code application} (service logic and mapping) and {@code serialization}</li>
+ * </ul>
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class PersistenceMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Constructs a new PersistenceMetricsInterceptor publishing to the given registry.
+     *
+     * @param meterRegistry the registry receiving the request meters
+     */
+    public PersistenceMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        PersistenceMetrics.start();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        PersistenceMetrics.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        PersistenceMetrics metrics = PersistenceMetrics.end();
+        if (metrics == null) {
+            return;
+        }
+        long endNanos = System.nanoTime();
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("uri", route != null ? route.toString() : "UNKNOWN", "method", request.getMethod());
+
+        meterRegistry.summary("persistence.request.statements", tags).record(metrics.getStatements());
+        meterRegistry.summary("persistence.request.entities.loaded", tags).record(metrics.getEntitiesLoaded());
+        if (metrics.getCacheHits() > 0) {
+            meterRegistry.counter("persistence.request.cache", tags.and("result", "hit")).increment(metrics.getCacheHits());
+        }
+        if (metrics.getCacheMisses() > 0) {
+            meterRegistry.counter("persistence.request.cache", tags.and("result", "miss")).increment(metrics.getCacheMisses());
+        }
+        recordPhase(tags, "connection", metrics.getConnectionAcquisitionNanos());
+        recordPhase(tags, "jdbc", metrics.getJdbcNanos());
+        recordPhase(tags, "application", metrics.getApplicationNanos(endNanos));
+        recordPhase(tags, "serialization", metrics.getSerializationNanos(endNanos));
+    }
+
+    private void recordPhase(Tags tags, String phase, long nanos) {
+        meterRegistry.timer("persistence.request.time", tags.and("phase", phase)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,76 @@
+package org.acmapis.commercial_management_system.utils.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener feeding the {@link PersistenceMetrics} of the current thread.
+ * Hibernate creates one instance per session from the {@code hibernate.session.events.auto}
+ * setting, so the start timestamps below are never shared between threads.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class PersistenceMetricsSessionListener implements SessionEventListener {
+
+    private long connectionAcquisitionStart;
+
+    private long executeStart;
+
+    private long batchStart;
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        connectionAcquisitionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        PersistenceMetrics metrics = PersistenceMetrics.current();
+        if (metrics != null) {
+            metrics.addConnectionAcquisitionNanos(System.nanoTime() - connectionAcquisitionStart);
+        }
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        PersistenceMetrics metrics = PersistenceMetrics.current();
+        if (metrics != null) {
+            metrics.statementPrepared();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        PersistenceMetrics metrics = PersistenceMetrics.current();
+        if (metrics != null) {
+            metrics.addJdbcNanos(System.nanoTime() - executeStart);
+        }
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        PersistenceMetrics metrics = PersistenceMetrics.current();
+        if (metrics != null) {
+            metrics.addJdbcNanos(System.nanoTime() - batchStart);
+        }
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        PersistenceMetrics metrics = PersistenceMetrics.current();
+        if (metrics != null) {
+            metrics.cacheGet(hit);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.acmapis.commercial_management_system.utils.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Repository proxy advice recording, for every repository method call, the SQL statements and
+ * entities it caused. Published as {@code persistence.repository.statements} and
+ * {@code persistence.repository.entities.loaded}, tagged with the repository and method name.
+ * Latency per repository method is already published by Spring Boot as
+ * {@code spring.data.repository.invocations}.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    private final String repository;
+
+    /**
+     * Constructs a new RepositoryMetricsInterceptor for one repository.
+     *
+     * @param meterRegistry the registry receiving the repository meters
+     * @param repository    the simple name of the repository interface, used as tag
+     */
+    public RepositoryMetricsInterceptor(MeterRegistry meterRegistry, String repository) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        PersistenceMetrics metrics = PersistenceMetrics.current();
+        boolean owner = metrics == null;
+        if (owner) {
+            metrics = PersistenceMetrics.start();
+        }
+        long statements = metrics.getStatements();
+        long entitiesLoaded = metrics.getEntitiesLoaded();
+        try {
+            return invocation.proceed();
+        } finally {
+            Tags tags = Tags.of("repository", repository, "method", invocation.getMethod().getName());
+            meterRegistry.summary("persistence.repository.statements", tags)
+                    .record(metrics.getStatements() - statements);
+            meterRegistry.summary("persistence.repository.entities.loaded", tags)
+                    .record(metrics.getEntitiesLoaded() - entitiesLoaded);
+            if (owner) {
+                PersistenceMetrics.end();
+            }
+        }
+    }
+}
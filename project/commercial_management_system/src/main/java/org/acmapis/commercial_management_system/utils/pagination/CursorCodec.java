@@ -0,0 +1,99 @@
+package org.acmapis.commercial_management_system.utils.pagination;
+
+import org.acmapis.commercial_management_system.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.Function;
+
+/**
+ * Utility class for encoding and decoding opaque keyset pagination cursors.
+ * A cursor holds the sort key values of the last row of a page, joined and Base64URL encoded,
+ * so that clients cannot depend on its internal format. Only the last key may contain the separator,
+ * so free text such as a name goes last.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public final class CursorCodec {
+
+    /**
+     * Separator placed between the key values of a composite cursor.
+     */
+    private static final String KEY_SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    /**
+     * Encodes the given sort key values into an opaque cursor.
+     *
+     * @param keys the key values of the last row of a page, in sort order
+     * @return the encoded cursor
+     */
+    public static String encode(Object... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(KEY_SEPARATOR);
+            }
+            raw.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes an opaque cursor into its raw key values.
+     * The last key value keeps any separator found after the previous keys.
+     *
+     * @param cursor       the cursor received from the client
+     * @param expectedKeys the number of key values the cursor must contain
+     * @return the raw key values, in sort order
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static String[] decode(String cursor, int expectedKeys) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed cursor: " + cursor);
+        }
+        String[] keys = raw.split("\\" + KEY_SEPARATOR, expectedKeys);
+        if (keys.length != expectedKeys) {
+            throw new InvalidCursorException("Malformed cursor: " + cursor);
+        }
+        return keys;
+    }
+
+    /**
+     * Decodes a single-key cursor and converts its value with the given parser.
+     *
+     * @param cursor the cursor received from the client
+     * @param parser the function converting the raw key value
+     * @param <T>    the type of the key
+     * @return the decoded key value
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    public static <T> T decodeKey(String cursor, Function<String, T> parser) {
+        return parseKey(decode(cursor, 1)[0], parser);
+    }
+
+    /**
+     * Converts a raw key value taken from a decoded cursor.
+     *
+     * @param value  the raw key value
+     * @param parser the function converting the raw key value
+     * @param <T>    the type of the key
+     * @return the converted key value
+     * @throws InvalidCursorException if the value cannot be converted
+     */
+    public static <T> T parseKey(String value, Function<String, T> parser) {
+        try {
+            return parser.apply(value);
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Malformed cursor key: " + value);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.acmapis.commercial_management_system.utils.pagination;
+
+import org.acmapis.commercial_management_system.model.dto.CursorPageModel;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Utility class for building keyset-paginated responses.
+ * Repositories are queried for one row more than the page size so that the presence
+ * of a next page is known without issuing a count query.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public final class CursorPages {
+
+    /**
+     * Page size used when the client does not request one.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Upper bound for the page size, keeping memory per request constant.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private CursorPages() {
+    }
+
+    /**
+     * Resolves the effective page size, clamping the requested value to the allowed range.
+     *
+     * @param requestedSize the page size requested by the client, may be null
+     * @return the effective page size, between 1 and {@link #MAX_PAGE_SIZE}
+     */
+    public static int pageSize(Integer requestedSize) {
+        if (requestedSize == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(requestedSize, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Builds the query limit for a page, including the extra look-ahead row.
+     *
+     * @param pageSize the effective page size
+     * @return the limit to pass to the repository
+     */
+    public static Limit lookAhead(int pageSize) {
+        return Limit.of(pageSize + 1);
+    }
+
+    /**
+     * Builds a page from the rows returned by a look-ahead query.
+     *
+     * @param rows            the rows returned by the repository, at most pageSize + 1
+     * @param pageSize        the effective page size
+     * @param mapper          the function converting the page rows into models
+     * @param cursorExtractor the function encoding the cursor of a row
+     * @param <E>             the entity type
+     * @param <M>             the model type
+     * @return the page of models with its continuation token
+     */
+    public static <E, M> CursorPageModel<M> toPage(List<E> rows,
+                                                   int pageSize,
+                                                   Function<List<E>, List<M>> mapper,
+                                                   Function<E, String> cursorExtractor) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPageModel<>(mapper.apply(pageRows), nextCursor, pageRows.size(), hasNext);
+    }
+}
@@ -0,0 +1,22 @@
+package org.acmapis.commercial_management_system.utils.partition;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the copy of the sale date held by a sale line, generated by {@link SaleDateOfSaleGenerator}
+ * from the line's sale whenever the line is inserted or updated.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+@ValueGenerationType(generatedBy = SaleDateOfSaleGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SaleDateOfSale {
+}
@@ -0,0 +1,39 @@
+package org.acmapis.commercial_management_system.utils.partition;
+
+import org.acmapis.commercial_management_system.entity.SaleProductEntity;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * Hibernate value generator copying the date of the sale into a {@link SaleProductEntity}.
+ * Applied with {@link SaleDateOfSale}.
+ * <p>
+ * The value is generated when the line's statement is executed rather than when it is persisted:
+ * a new sale receives its date from {@code @CreationTimestamp} when its own insert runs, which
+ * Hibernate always orders before the inserts of its lines.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public class SaleDateOfSaleGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        Object saleDate = ((SaleProductEntity) owner).getSale().getSaleDate();
+        if (saleDate == null) {
+            throw new IllegalStateException("Sale line written before the date of its sale was generated");
+        }
+        return saleDate;
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_AND_UPDATE;
+    }
+}
@@ -0,0 +1,32 @@
+-- =====================================================
+-- Stock Reservations
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- stock_reservation registra cada reserva de stock (POST
+-- /api/v1/store-products/reservations) con su tienda, producto, cantidad y
+-- estado. La liberación recibe el ID de la reserva y solo devuelve el stock si
+-- la reserva sigue en RESERVED: el cambio de estado es una actualización
+-- condicional, de modo que liberar dos veces o liberar algo que no se reservó
+-- no crea stock.
+-- ON DELETE CASCADE elimina las reservas al borrar su store_product.
+-- =====================================================
+
+CREATE TABLE stock_reservation (
+    reservation_id UUID NOT NULL,
+    store_id_fk UUID NOT NULL,
+    product_id_fk UUID NOT NULL,
+    quantity BIGINT NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    released_at TIMESTAMP(6),
+    CONSTRAINT stock_reservation_pkey PRIMARY KEY (reservation_id),
+    CONSTRAINT ck_stock_reservation_quantity CHECK (quantity > 0),
+    CONSTRAINT fk_stock_reservation_store_product FOREIGN KEY (store_id_fk, product_id_fk)
+        REFERENCES store_product (store_id_fk, product_id_fk) ON DELETE CASCADE
+);
+
+-- Clave foránea hacia store_product
+CREATE INDEX idx_stock_reservation_store_product ON stock_reservation (store_id_fk, product_id_fk);
@@ -0,0 +1,26 @@
+-- =====================================================
+-- Catalog Versions
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- catalog_version guarda, por colección del catálogo (PRODUCTS, CATEGORIES,
+-- CITIES, DEPARTMENTS), un número de versión y el instante del último cambio
+-- en milisegundos. De ahí salen los validadores ETag y Last-Modified de los
+-- GET condicionales. Cada escritura del servicio incrementa la fila en su
+-- propia transacción, de modo que todas las instancias ven el mismo valor y
+-- la versión sobrevive a los reinicios. Las escrituras hechas directamente en
+-- la base de datos deben incrementar también la fila de su colección.
+-- =====================================================
+
+CREATE TABLE catalog_version (
+    resource VARCHAR(32) NOT NULL,
+    version BIGINT NOT NULL,
+    last_modified BIGINT NOT NULL,
+    CONSTRAINT catalog_version_pkey PRIMARY KEY (resource)
+);
+
+INSERT INTO catalog_version (resource, version, last_modified)
+SELECT resource, 0, CAST(EXTRACT(EPOCH FROM CURRENT_TIMESTAMP) AS BIGINT) * 1000
+FROM (VALUES ('PRODUCTS'), ('CATEGORIES'), ('CITIES'), ('DEPARTMENTS')) AS catalog (resource);
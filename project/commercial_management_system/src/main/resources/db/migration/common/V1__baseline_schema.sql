@@ -0,0 +1,151 @@
+-- =====================================================
+-- Baseline Schema
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- Esquema que antes generaba Hibernate con ddl-auto=create-drop.
+-- Hibernate ahora solo lo valida (ddl-auto=validate); cualquier cambio
+-- en las entidades necesita una nueva migración.
+-- Compatible con PostgreSQL y con H2 en modo PostgreSQL.
+-- =====================================================
+
+-- =====================================================
+-- 1. SECUENCIAS
+-- =====================================================
+-- Incremento 50 = SequenceAllocation.ALLOCATION_SIZE (optimizador pooled-lo)
+CREATE SEQUENCE department_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE city_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE user_role_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE category_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE store_product_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE sale_product_seq START WITH 1 INCREMENT BY 50;
+
+-- =====================================================
+-- 2. DATOS DE REFERENCIA
+-- =====================================================
+CREATE TABLE department (
+    department_id BIGINT DEFAULT nextval('department_seq') NOT NULL,
+    department_name VARCHAR(64) NOT NULL,
+    CONSTRAINT department_pkey PRIMARY KEY (department_id)
+);
+
+CREATE TABLE city (
+    city_id BIGINT DEFAULT nextval('city_seq') NOT NULL,
+    city_name VARCHAR(64) NOT NULL,
+    department_id_fk BIGINT NOT NULL,
+    CONSTRAINT city_pkey PRIMARY KEY (city_id),
+    CONSTRAINT fk_city_department FOREIGN KEY (department_id_fk) REFERENCES department (department_id)
+);
+
+CREATE TABLE user_role (
+    user_role_id BIGINT DEFAULT nextval('user_role_seq') NOT NULL,
+    role VARCHAR(255) NOT NULL,
+    CONSTRAINT user_role_pkey PRIMARY KEY (user_role_id),
+    CONSTRAINT ck_user_role_role CHECK (role IN ('ADMIN', 'USER', 'MANAGER'))
+);
+
+CREATE TABLE category (
+    category_id BIGINT DEFAULT nextval('category_seq') NOT NULL,
+    category_name VARCHAR(64) NOT NULL,
+    CONSTRAINT category_pkey PRIMARY KEY (category_id),
+    CONSTRAINT uk_category_name UNIQUE (category_name)
+);
+
+-- =====================================================
+-- 3. USUARIOS
+-- =====================================================
+CREATE TABLE users (
+    user_id UUID NOT NULL,
+    first_name VARCHAR(32) NOT NULL,
+    last_name VARCHAR(32) NOT NULL,
+    username VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    phone VARCHAR(10) NOT NULL,
+    role_id_fk BIGINT NOT NULL,
+    city_id_fk BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT users_pkey PRIMARY KEY (user_id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id_fk) REFERENCES user_role (user_role_id),
+    CONSTRAINT fk_users_city FOREIGN KEY (city_id_fk) REFERENCES city (city_id)
+);
+
+-- =====================================================
+-- 4. PRODUCTOS Y TIENDAS
+-- =====================================================
+CREATE TABLE product (
+    product_id UUID NOT NULL,
+    product_name VARCHAR(128) NOT NULL,
+    description VARCHAR(255) NOT NULL,
+    price DOUBLE PRECISION NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT product_pkey PRIMARY KEY (product_id)
+);
+
+-- La clave primaria (producto, categoría) sirve la carga de las categorías de un producto
+CREATE TABLE product_category (
+    product_id_fk UUID NOT NULL,
+    category_id_fk BIGINT NOT NULL,
+    CONSTRAINT product_category_pkey PRIMARY KEY (product_id_fk, category_id_fk),
+    CONSTRAINT fk_product_category_product FOREIGN KEY (product_id_fk) REFERENCES product (product_id),
+    CONSTRAINT fk_product_category_category FOREIGN KEY (category_id_fk) REFERENCES category (category_id)
+);
+
+CREATE TABLE store (
+    store_id UUID NOT NULL,
+    store_name VARCHAR(64) NOT NULL,
+    city_id_fk BIGINT NOT NULL,
+    CONSTRAINT store_pkey PRIMARY KEY (store_id),
+    CONSTRAINT fk_store_city FOREIGN KEY (city_id_fk) REFERENCES city (city_id)
+);
+
+CREATE TABLE store_product (
+    store_product_id BIGINT DEFAULT nextval('store_product_seq') NOT NULL,
+    stock BIGINT NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    version BIGINT DEFAULT 0 NOT NULL,
+    store_id_fk UUID NOT NULL,
+    product_id_fk UUID NOT NULL,
+    CONSTRAINT store_product_pkey PRIMARY KEY (store_product_id),
+    CONSTRAINT uk_store_product_store_product UNIQUE (store_id_fk, product_id_fk),
+    CONSTRAINT fk_store_product_store FOREIGN KEY (store_id_fk) REFERENCES store (store_id),
+    CONSTRAINT fk_store_product_product FOREIGN KEY (product_id_fk) REFERENCES product (product_id)
+);
+
+-- =====================================================
+-- 5. VENTAS
+-- =====================================================
+CREATE TABLE sale (
+    sale_id UUID NOT NULL,
+    sale_date TIMESTAMP(6) NOT NULL,
+    total_amount BIGINT NOT NULL,
+    user_id_fk UUID NOT NULL,
+    CONSTRAINT sale_pkey PRIMARY KEY (sale_id),
+    CONSTRAINT fk_sale_user FOREIGN KEY (user_id_fk) REFERENCES users (user_id)
+);
+
+CREATE TABLE sale_product (
+    sale_product_id BIGINT DEFAULT nextval('sale_product_seq') NOT NULL,
+    quantity BIGINT NOT NULL,
+    sale_id_fk UUID NOT NULL,
+    product_id_fk UUID NOT NULL,
+    CONSTRAINT sale_product_pkey PRIMARY KEY (sale_product_id),
+    CONSTRAINT fk_sale_product_sale FOREIGN KEY (sale_id_fk) REFERENCES sale (sale_id),
+    CONSTRAINT fk_sale_product_product FOREIGN KEY (product_id_fk) REFERENCES product (product_id)
+);
+
+CREATE TABLE sale_daily_rollup (
+    sale_daily_rollup_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    sale_day DATE NOT NULL,
+    city_id_fk BIGINT NOT NULL,
+    sale_count BIGINT NOT NULL,
+    total_amount BIGINT NOT NULL,
+    CONSTRAINT sale_daily_rollup_pkey PRIMARY KEY (sale_daily_rollup_id),
+    CONSTRAINT uk_sale_daily_rollup_day_city UNIQUE (sale_day, city_id_fk),
+    CONSTRAINT fk_sale_daily_rollup_city FOREIGN KEY (city_id_fk) REFERENCES city (city_id)
+);
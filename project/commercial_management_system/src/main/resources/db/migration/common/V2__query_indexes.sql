@@ -0,0 +1,83 @@
+-- =====================================================
+-- Query Indexes
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- Índices para las consultas de los repositorios. PostgreSQL no indexa
+-- las claves foráneas; sin estos índices cada búsqueda por usuario, venta,
+-- producto, tienda o ciudad recorre la tabla completa.
+-- Cuando un índice incluye columnas que la consulta solo lee (por ejemplo
+-- quantity), la consulta se resuelve desde el índice sin leer la tabla.
+-- QueryPlanIndexTest comprueba con EXPLAIN que las consultas los usan.
+-- =====================================================
+
+-- =====================================================
+-- 1. VENTAS
+-- =====================================================
+-- SaleRepository.findByUser_UserId y la clave foránea hacia users;
+-- el historial de un usuario sale ordenado por fecha
+CREATE INDEX idx_sale_user_date ON sale (user_id_fk, sale_date);
+
+-- Paginación por keyset (saleDate, saleId), exportación y
+-- SaleProductRepository.findDatedQuantitiesSince
+CREATE INDEX idx_sale_date_id ON sale (sale_date, sale_id);
+
+-- SaleRepository.findByTotalAmountAfter
+CREATE INDEX idx_sale_total_amount ON sale (total_amount);
+
+-- Líneas de una venta (findDatedQuantitiesBySaleId, findDatedQuantitiesSince)
+-- y la clave foránea hacia sale; cubre producto y cantidad
+CREATE INDEX idx_sale_product_sale ON sale_product (sale_id_fk, product_id_fk, quantity);
+
+-- Ventas de un producto (sumQuantityByProduct, ranking de más vendidos)
+-- y la clave foránea hacia product; cubre la cantidad
+CREATE INDEX idx_sale_product_product ON sale_product (product_id_fk, quantity);
+
+-- Resumen diario de una ciudad (SaleDailyRollupRepository.findDailyTotalsByCityId);
+-- uk_sale_daily_rollup_day_city ya sirve los rangos de días de todas las ciudades
+CREATE INDEX idx_sale_daily_rollup_city_day ON sale_daily_rollup (city_id_fk, sale_day);
+
+-- =====================================================
+-- 2. INVENTARIO
+-- =====================================================
+-- uk_store_product_store_product (tienda, producto) sirve los productos de una tienda;
+-- StoreProductRepository.findStoreIdsByProductId y la clave foránea hacia product
+-- necesitan el orden inverso
+CREATE INDEX idx_store_product_product_store ON store_product (product_id_fk, store_id_fk);
+
+-- =====================================================
+-- 3. PRODUCTOS
+-- =====================================================
+-- ProductRepository.findByPriceBetween y los listados ordenados por precio
+CREATE INDEX idx_product_price ON product (price);
+
+-- ProductRepository.findByCreatedAtAfter
+CREATE INDEX idx_product_created_at ON product (created_at);
+
+-- ProductRepository.findByCategoryId / findByCategoryName; product_category_pkey
+-- empieza por el producto y no sirve las búsquedas por categoría
+CREATE INDEX idx_product_category_category ON product_category (category_id_fk, product_id_fk);
+
+-- =====================================================
+-- 4. USUARIOS, TIENDAS Y CIUDADES
+-- =====================================================
+-- UserRepository.findByCity_* y la clave foránea hacia city
+CREATE INDEX idx_users_city ON users (city_id_fk);
+
+-- Clave foránea hacia user_role
+CREATE INDEX idx_users_role ON users (role_id_fk);
+
+-- SaleRepository.findByUser_FirstName
+CREATE INDEX idx_users_first_name ON users (first_name);
+
+-- StoreRepository.findByCity_* y la clave foránea hacia city
+CREATE INDEX idx_store_city ON store (city_id_fk);
+
+-- Productos de una tienda por nombre (ProductRepository.findByStoreName)
+CREATE INDEX idx_store_name ON store (store_name);
+
+-- Búsquedas por nombre de ciudad y la clave foránea hacia department
+CREATE INDEX idx_city_name ON city (city_name);
+CREATE INDEX idx_city_department ON city (department_id_fk);
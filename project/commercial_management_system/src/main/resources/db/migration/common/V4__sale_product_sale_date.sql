@@ -0,0 +1,32 @@
+-- =====================================================
+-- Sale Date on Sale Lines
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- Copia sale_date de la venta en cada línea (sale_product). En PostgreSQL
+-- ambas tablas se particionan por mes sobre esta columna (V5), de modo que
+-- una venta y sus líneas quedan en particiones del mismo mes y las consultas
+-- de líneas por fecha no necesitan unir la tabla sale.
+-- La clave foránea compuesta (venta, fecha) con ON UPDATE CASCADE mantiene
+-- la copia al día si cambia la fecha de la venta.
+-- =====================================================
+
+ALTER TABLE sale_product ADD COLUMN sale_date TIMESTAMP(6);
+
+UPDATE sale_product
+SET sale_date = (SELECT s.sale_date FROM sale s WHERE s.sale_id = sale_product.sale_id_fk);
+
+ALTER TABLE sale_product ALTER COLUMN sale_date SET NOT NULL;
+
+ALTER TABLE sale ADD CONSTRAINT uk_sale_id_date UNIQUE (sale_id, sale_date);
+
+ALTER TABLE sale_product DROP CONSTRAINT fk_sale_product_sale;
+
+ALTER TABLE sale_product ADD CONSTRAINT fk_sale_product_sale
+    FOREIGN KEY (sale_id_fk, sale_date) REFERENCES sale (sale_id, sale_date) ON UPDATE CASCADE;
+
+-- SaleProductRepository.findDatedQuantitiesSince (ranking de más vendidos por ventana);
+-- cubre producto y cantidad
+CREATE INDEX idx_sale_product_sale_date ON sale_product (sale_date, product_id_fk, quantity);
@@ -0,0 +1,42 @@
+-- =====================================================
+-- Store Inventory Read Model
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- store_inventory copia cada fila de store_product con los datos de su
+-- producto (nombre, descripción, precio y categorías en JSON), de modo que el
+-- inventario de una tienda (GET /api/v1/stores/{id}/inventory) es una lectura
+-- de un rango de índice, sin unir store_product, product y category.
+-- La mantiene StoreInventoryRepository en la misma transacción que las
+-- escrituras de StoreProductService, ProductService y CategoryService, y los
+-- cambios de stock de StoreProductStockRepository; StoreInventoryRefresh la
+-- reconstruye tienda a tienda al arrancar (datos cargados por script).
+-- ON DELETE CASCADE elimina la fila al borrar su store_product.
+-- =====================================================
+
+CREATE TABLE store_inventory (
+    store_product_id BIGINT NOT NULL,
+    store_id_fk UUID NOT NULL,
+    product_id_fk UUID NOT NULL,
+    stock BIGINT NOT NULL,
+    address VARCHAR(255) NOT NULL,
+    version BIGINT NOT NULL,
+    product_name VARCHAR(128) NOT NULL,
+    product_description VARCHAR(255) NOT NULL,
+    price DOUBLE PRECISION NOT NULL,
+    categories VARCHAR NOT NULL,
+    CONSTRAINT store_inventory_pkey PRIMARY KEY (store_product_id),
+    CONSTRAINT fk_store_inventory_store_product FOREIGN KEY (store_product_id)
+        REFERENCES store_product (store_product_id) ON DELETE CASCADE
+);
+
+-- Cambios de stock por (tienda, producto) de las reservas y del checkout
+CREATE UNIQUE INDEX uk_store_inventory_store_product ON store_inventory (store_id_fk, product_id_fk);
+
+-- Un índice por orden del inventario: el filtro por tienda y el cursor
+-- (valor, store_product_id) son un rango del índice en ambos sentidos
+CREATE INDEX idx_store_inventory_store_name ON store_inventory (store_id_fk, product_name, store_product_id);
+CREATE INDEX idx_store_inventory_store_price ON store_inventory (store_id_fk, price, store_product_id);
+CREATE INDEX idx_store_inventory_store_stock ON store_inventory (store_id_fk, stock, store_product_id);
@@ -0,0 +1,31 @@
+-- =====================================================
+-- Sales Rollup by Department
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- sale_daily_rollup pasa a tener el departamento de la ciudad y las unidades
+-- vendidas (suma de sale_product.quantity), de modo que los totales por
+-- departamento, por ciudad de un departamento y por día de una ciudad se leen
+-- del resumen sin unir sale, users, city y department.
+-- El departamento se copia de city.department_id_fk; CityService lo actualiza
+-- si la ciudad cambia de departamento. Las unidades de los días existentes las
+-- calcula la reconstrucción del resumen al arrancar (SaleDailyRollupBackfill).
+-- =====================================================
+
+ALTER TABLE sale_daily_rollup ADD COLUMN department_id_fk BIGINT;
+
+ALTER TABLE sale_daily_rollup ADD COLUMN units BIGINT DEFAULT 0 NOT NULL;
+
+UPDATE sale_daily_rollup
+SET department_id_fk = (SELECT c.department_id_fk FROM city c WHERE c.city_id = sale_daily_rollup.city_id_fk);
+
+ALTER TABLE sale_daily_rollup ALTER COLUMN department_id_fk SET NOT NULL;
+
+ALTER TABLE sale_daily_rollup ADD CONSTRAINT fk_sale_daily_rollup_department
+    FOREIGN KEY (department_id_fk) REFERENCES department (department_id);
+
+-- SaleDailyRollupRepository.findCityTotalsByDepartmentId (ciudades de un
+-- departamento en un rango de días); sirve también la clave foránea
+CREATE INDEX idx_sale_daily_rollup_department_day ON sale_daily_rollup (department_id_fk, sale_day, city_id_fk);
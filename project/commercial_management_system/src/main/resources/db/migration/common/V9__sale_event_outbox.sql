@@ -0,0 +1,37 @@
+-- =====================================================
+-- Sale Event Outbox
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- sale_event_outbox recibe un evento por cada venta o grupo de líneas
+-- registrado o revertido, en la misma transacción que la escritura, con los
+-- datos que necesitan las proyecciones (día, ciudad, departamento y las
+-- variaciones de ventas, importe y unidades). SaleEventDispatcher lo vacía en
+-- lotes fuera de la transacción de la venta; el resumen diario
+-- (sale_daily_rollup) ya no se actualiza en el camino de escritura.
+-- La entrega es al menos una vez: sale_event_consumed registra los eventos
+-- aplicados por cada consumidor en la misma transacción que su efecto, de modo
+-- que una reentrega tras un fallo no los aplica dos veces.
+-- =====================================================
+
+CREATE TABLE sale_event_outbox (
+    event_id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    event_type VARCHAR(32) NOT NULL,
+    sale_id UUID NOT NULL,
+    sale_day DATE NOT NULL,
+    city_id_fk BIGINT NOT NULL,
+    department_id_fk BIGINT NOT NULL,
+    sale_count BIGINT NOT NULL,
+    total_amount BIGINT NOT NULL,
+    units BIGINT NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT sale_event_outbox_pkey PRIMARY KEY (event_id)
+);
+
+CREATE TABLE sale_event_consumed (
+    consumer VARCHAR(64) NOT NULL,
+    event_id BIGINT NOT NULL,
+    CONSTRAINT sale_event_consumed_pkey PRIMARY KEY (consumer, event_id)
+);
@@ -0,0 +1,55 @@
+-- =====================================================
+-- Product Search: statement-level category triggers (PostgreSQL)
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- Ajustes para la importación de productos (PUT /api/v1/products/bulk),
+-- que inserta miles de productos y sus categorías por lotes en una sola
+-- transacción:
+-- - El trigger de product_category de V6 recalculaba el search_vector del
+--   producto una vez por cada fila insertada o borrada. Pasa a ser por
+--   sentencia, con tablas de transición: cada INSERT o DELETE (un lote
+--   reescrito como INSERT multi-fila) recalcula una vez los productos que
+--   toca.
+-- - Un producto nuevo todavía no tiene categorías (product_category lo
+--   referencia), así que su documento se forma solo con el nombre y la
+--   descripción: la consulta de sus categorías recorría product_category
+--   entera por cada producto insertado.
+-- =====================================================
+
+CREATE OR REPLACE FUNCTION product_search_vector_on_product() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.search_vector := setweight(to_tsvector('product_search', coalesce(NEW.product_name, '')), 'A')
+            || setweight(to_tsvector('product_search', coalesce(NEW.description, '')), 'C');
+    ELSE
+        NEW.search_vector := product_search_vector(NEW.product_name, NEW.description, NEW.product_id);
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER trg_product_category_search_vector ON product_category;
+DROP FUNCTION product_search_vector_on_product_category();
+
+CREATE FUNCTION product_search_vector_on_product_category() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE product p
+    SET search_vector = product_search_vector(p.product_name, p.description, p.product_id)
+    WHERE p.product_id IN (SELECT DISTINCT product_id_fk FROM changed_rows);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Una tabla de transición solo admite un evento: un trigger para altas y otro para bajas
+CREATE TRIGGER trg_product_category_search_vector_insert
+    AFTER INSERT ON product_category
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION product_search_vector_on_product_category();
+
+CREATE TRIGGER trg_product_category_search_vector_delete
+    AFTER DELETE ON product_category
+    REFERENCING OLD TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION product_search_vector_on_product_category();
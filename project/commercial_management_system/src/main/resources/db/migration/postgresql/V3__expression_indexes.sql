@@ -0,0 +1,13 @@
+-- =====================================================
+-- Expression Indexes (PostgreSQL)
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- Índices sobre expresiones, que H2 no soporta; Flyway solo aplica
+-- esta carpeta en PostgreSQL (classpath:db/migration/{vendor}).
+-- =====================================================
+
+-- UserRepository.findByLastNameIgnoreCase compara upper(last_name) = upper(?)
+CREATE INDEX idx_users_last_name_upper ON users (upper(last_name));
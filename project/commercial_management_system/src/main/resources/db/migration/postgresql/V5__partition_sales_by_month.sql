@@ -0,0 +1,159 @@
+-- =====================================================
+-- Monthly Partitions of Sales (PostgreSQL)
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- sale y sale_product pasan a ser tablas particionadas por rango de
+-- sale_date, con una partición por mes (sale_y2025m06,
+-- sale_product_y2025m06, ...) y una partición DEFAULT para las filas sin
+-- mes creado. Las consultas con filtro de fecha solo leen las particiones
+-- de ese rango; los índices de V2/V4 se crean en cada partición.
+-- PostgreSQL exige que la clave primaria incluya la columna de partición:
+-- sale_pkey es (sale_id, sale_date) y sale_product_pkey es
+-- (sale_product_id, sale_date).
+-- SalePartitionMaintenance crea los meses siguientes y archiva los antiguos
+-- con las funciones create_sale_partitions y archive_sale_partitions.
+-- =====================================================
+
+-- =====================================================
+-- 1. TABLAS ACTUALES
+-- =====================================================
+ALTER TABLE sale_product DROP CONSTRAINT fk_sale_product_sale;
+ALTER TABLE sale DROP CONSTRAINT uk_sale_id_date;
+
+ALTER TABLE sale RENAME TO sale_unpartitioned;
+ALTER TABLE sale_unpartitioned RENAME CONSTRAINT sale_pkey TO sale_unpartitioned_pkey;
+ALTER TABLE sale_product RENAME TO sale_product_unpartitioned;
+ALTER TABLE sale_product_unpartitioned RENAME CONSTRAINT sale_product_pkey TO sale_product_unpartitioned_pkey;
+
+DROP INDEX idx_sale_user_date;
+DROP INDEX idx_sale_date_id;
+DROP INDEX idx_sale_total_amount;
+DROP INDEX idx_sale_product_sale;
+DROP INDEX idx_sale_product_product;
+DROP INDEX idx_sale_product_sale_date;
+
+-- =====================================================
+-- 2. TABLAS PARTICIONADAS
+-- =====================================================
+CREATE TABLE sale (
+    sale_id UUID NOT NULL,
+    sale_date TIMESTAMP(6) NOT NULL,
+    total_amount BIGINT NOT NULL,
+    user_id_fk UUID NOT NULL,
+    CONSTRAINT sale_pkey PRIMARY KEY (sale_id, sale_date),
+    CONSTRAINT fk_sale_user FOREIGN KEY (user_id_fk) REFERENCES users (user_id)
+) PARTITION BY RANGE (sale_date);
+
+CREATE TABLE sale_product (
+    sale_product_id BIGINT DEFAULT nextval('sale_product_seq') NOT NULL,
+    quantity BIGINT NOT NULL,
+    sale_id_fk UUID NOT NULL,
+    product_id_fk UUID NOT NULL,
+    sale_date TIMESTAMP(6) NOT NULL,
+    CONSTRAINT sale_product_pkey PRIMARY KEY (sale_product_id, sale_date),
+    CONSTRAINT fk_sale_product_sale FOREIGN KEY (sale_id_fk, sale_date)
+        REFERENCES sale (sale_id, sale_date) ON UPDATE CASCADE,
+    CONSTRAINT fk_sale_product_product FOREIGN KEY (product_id_fk) REFERENCES product (product_id)
+) PARTITION BY RANGE (sale_date);
+
+CREATE TABLE sale_default PARTITION OF sale DEFAULT;
+CREATE TABLE sale_product_default PARTITION OF sale_product DEFAULT;
+
+CREATE INDEX idx_sale_user_date ON sale (user_id_fk, sale_date);
+CREATE INDEX idx_sale_date_id ON sale (sale_date, sale_id);
+CREATE INDEX idx_sale_total_amount ON sale (total_amount);
+CREATE INDEX idx_sale_product_sale ON sale_product (sale_id_fk, product_id_fk, quantity);
+CREATE INDEX idx_sale_product_product ON sale_product (product_id_fk, quantity);
+CREATE INDEX idx_sale_product_sale_date ON sale_product (sale_date, product_id_fk, quantity);
+
+-- Particiones archivadas: se separan de sale/sale_product y se conservan aquí
+CREATE SCHEMA sales_archive;
+
+-- =====================================================
+-- 3. MANTENIMIENTO DE PARTICIONES
+-- =====================================================
+-- Crea las particiones mensuales de sale y sale_product entre los meses de
+-- first_day y last_day (incluidos) que aún no existen. Las filas de ese mes
+-- que hubieran caído en las particiones DEFAULT se mueven a la nueva
+-- partición antes de adjuntarla. Devuelve el número de meses creados.
+CREATE FUNCTION create_sale_partitions(first_day DATE, last_day DATE) RETURNS INTEGER AS $$
+DECLARE
+    month_start DATE := date_trunc('month', first_day);
+    month_end DATE;
+    suffix TEXT;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_start <= last_day LOOP
+        month_end := month_start + INTERVAL '1 month';
+        suffix := to_char(month_start, '"y"YYYY"m"MM');
+        IF to_regclass('sale_' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE sale INCLUDING DEFAULTS)', 'sale_' || suffix);
+            EXECUTE format('CREATE TABLE %I (LIKE sale_product INCLUDING DEFAULTS)', 'sale_product_' || suffix);
+            EXECUTE format('WITH moved AS (DELETE FROM sale_product_default WHERE sale_date >= %L AND sale_date < %L '
+                               'RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                           month_start, month_end, 'sale_product_' || suffix);
+            EXECUTE format('WITH moved AS (DELETE FROM sale_default WHERE sale_date >= %L AND sale_date < %L '
+                               'RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                           month_start, month_end, 'sale_' || suffix);
+            EXECUTE format('ALTER TABLE sale ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           'sale_' || suffix, month_start, month_end);
+            EXECUTE format('ALTER TABLE sale_product ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                           'sale_product_' || suffix, month_start, month_end);
+            created := created + 1;
+        END IF;
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Separa las particiones mensuales anteriores al mes de before_day y las
+-- mueve al esquema sales_archive, donde se pueden exportar o borrar.
+-- Las líneas se separan primero porque su clave foránea apunta a sale.
+-- Devuelve el número de meses archivados.
+CREATE FUNCTION archive_sale_partitions(before_day DATE) RETURNS INTEGER AS $$
+DECLARE
+    partition_name TEXT;
+    suffix TEXT;
+    archived INTEGER := 0;
+BEGIN
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'sale'::regclass
+          AND c.relname ~ '^sale_y[0-9]{4}m[0-9]{2}$'
+          AND to_date(substr(c.relname, 6), '"y"YYYY"m"MM') < date_trunc('month', before_day)
+        ORDER BY c.relname
+    LOOP
+        suffix := substr(partition_name, 6);
+        EXECUTE format('ALTER TABLE sale_product DETACH PARTITION %I', 'sale_product_' || suffix);
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT IF EXISTS fk_sale_product_sale', 'sale_product_' || suffix);
+        EXECUTE format('ALTER TABLE sale DETACH PARTITION %I', 'sale_' || suffix);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA sales_archive', 'sale_product_' || suffix);
+        EXECUTE format('ALTER TABLE %I SET SCHEMA sales_archive', 'sale_' || suffix);
+        archived := archived + 1;
+    END LOOP;
+    RETURN archived;
+END;
+$$ LANGUAGE plpgsql;
+
+-- =====================================================
+-- 4. DATOS EXISTENTES
+-- =====================================================
+-- Un mes por cada mes con ventas y los tres siguientes al actual
+SELECT create_sale_partitions(
+    LEAST(COALESCE((SELECT MIN(sale_date) FROM sale_unpartitioned), CURRENT_DATE), CURRENT_DATE)::DATE,
+    (CURRENT_DATE + INTERVAL '3 months')::DATE);
+
+INSERT INTO sale (sale_id, sale_date, total_amount, user_id_fk)
+SELECT sale_id, sale_date, total_amount, user_id_fk FROM sale_unpartitioned;
+
+INSERT INTO sale_product (sale_product_id, quantity, sale_id_fk, product_id_fk, sale_date)
+SELECT sale_product_id, quantity, sale_id_fk, product_id_fk, sale_date FROM sale_product_unpartitioned;
+
+DROP TABLE sale_product_unpartitioned;
+DROP TABLE sale_unpartitioned;
@@ -0,0 +1,108 @@
+-- =====================================================
+-- Product Search (PostgreSQL)
+-- Commercial Management System
+-- Author: Commercial Management System Team
+-- Version: 1.0
+-- Date: 2025-11-24
+-- =====================================================
+-- Búsqueda de productos de ProductSearchRepository:
+-- - product.search_vector guarda el tsvector del nombre (peso A), de los
+--   nombres de sus categorías (peso B) y de la descripción (peso C). Lo
+--   mantienen los triggers de product, product_category y category, así
+--   que Hibernate no lo mapea.
+-- - La configuración product_search es la de español sin tildes: "portatil"
+--   encuentra "portátil".
+-- - idx_product_name_trgm indexa los trigramas del nombre en minúsculas y
+--   sin tildes (product_search_text), para la similitud con errores de
+--   escritura y el autocompletado por palabras intermedias del nombre.
+-- - idx_product_name_prefix ordena ese mismo nombre byte a byte (COLLATE
+--   "C"): el autocompletado de los nombres que empiezan por el prefijo es
+--   un rango del índice, ya ordenado, y se detiene en el límite.
+-- =====================================================
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- =====================================================
+-- 1. NORMALIZACIÓN
+-- =====================================================
+CREATE TEXT SEARCH CONFIGURATION product_search (COPY = spanish);
+ALTER TEXT SEARCH CONFIGURATION product_search
+    ALTER MAPPING FOR hword, hword_part, word WITH unaccent, spanish_stem;
+
+-- Minúsculas y sin tildes. unaccent es STABLE porque depende del
+-- diccionario por defecto; con el diccionario explícito el resultado es
+-- fijo y la función se puede usar en un índice.
+CREATE FUNCTION product_search_text(value TEXT) RETURNS TEXT AS $$
+    SELECT lower(public.unaccent('public.unaccent'::regdictionary, value))
+$$ LANGUAGE sql IMMUTABLE STRICT PARALLEL SAFE;
+
+-- Documento de búsqueda de un producto: nombre, categorías y descripción
+CREATE FUNCTION product_search_vector(name TEXT, description TEXT, product UUID) RETURNS TSVECTOR AS $$
+    SELECT setweight(to_tsvector('product_search', coalesce(name, '')), 'A')
+        || setweight(to_tsvector('product_search', coalesce((
+               SELECT string_agg(c.category_name, ' ')
+               FROM product_category pc
+               JOIN category c ON c.category_id = pc.category_id_fk
+               WHERE pc.product_id_fk = product), '')), 'B')
+        || setweight(to_tsvector('product_search', coalesce(description, '')), 'C')
+$$ LANGUAGE sql STABLE;
+
+-- =====================================================
+-- 2. COLUMNA Y TRIGGERS
+-- =====================================================
+ALTER TABLE product ADD COLUMN search_vector TSVECTOR;
+
+CREATE FUNCTION product_search_vector_on_product() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector := product_search_vector(NEW.product_name, NEW.description, NEW.product_id);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_product_search_vector
+    BEFORE INSERT OR UPDATE OF product_name, description ON product
+    FOR EACH ROW EXECUTE FUNCTION product_search_vector_on_product();
+
+-- Alta o baja de una categoría del producto
+CREATE FUNCTION product_search_vector_on_product_category() RETURNS TRIGGER AS $$
+DECLARE
+    changed UUID := CASE WHEN TG_OP = 'DELETE' THEN OLD.product_id_fk ELSE NEW.product_id_fk END;
+BEGIN
+    UPDATE product
+    SET search_vector = product_search_vector(product_name, description, product_id)
+    WHERE product_id = changed;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_product_category_search_vector
+    AFTER INSERT OR DELETE ON product_category
+    FOR EACH ROW EXECUTE FUNCTION product_search_vector_on_product_category();
+
+-- Cambio de nombre de una categoría: se recalculan sus productos
+CREATE FUNCTION product_search_vector_on_category() RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE product p
+    SET search_vector = product_search_vector(p.product_name, p.description, p.product_id)
+    FROM product_category pc
+    WHERE pc.category_id_fk = NEW.category_id
+      AND pc.product_id_fk = p.product_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_category_search_vector
+    AFTER UPDATE OF category_name ON category
+    FOR EACH ROW WHEN (OLD.category_name IS DISTINCT FROM NEW.category_name)
+    EXECUTE FUNCTION product_search_vector_on_category();
+
+-- =====================================================
+-- 3. DATOS EXISTENTES E ÍNDICES
+-- =====================================================
+UPDATE product SET search_vector = product_search_vector(product_name, description, product_id);
+ALTER TABLE product ALTER COLUMN search_vector SET NOT NULL;
+
+CREATE INDEX idx_product_search_vector ON product USING GIN (search_vector);
+CREATE INDEX idx_product_name_trgm ON product USING GIN (product_search_text(product_name) gin_trgm_ops);
+CREATE INDEX idx_product_name_prefix ON product ((product_search_text(product_name) COLLATE "C"), product_id);
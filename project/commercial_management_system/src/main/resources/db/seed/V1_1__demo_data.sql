@@ -6,7 +6,8 @@
 -- Date: 2025-11-22
 -- =====================================================
 -- Este script puebla la base de datos con datos de prueba
--- Se ejecuta automáticamente al iniciar la aplicación
+-- Migración de Flyway que solo se aplica con la configuración principal
+-- (spring.flyway.locations incluye classpath:db/seed); las pruebas no la cargan
 -- =====================================================
 
 -- =====================================================
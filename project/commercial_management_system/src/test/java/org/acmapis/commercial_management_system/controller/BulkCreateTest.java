@@ -0,0 +1,136 @@
+package org.acmapis.commercial_management_system.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.enums.SalesWindow;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.service.BestSellerService;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the bulk-create endpoints insert their rows in JDBC batches, with identifiers
+ * allocated from pooled sequences, and keep derived data, such as the sale date copied onto each
+ * sale line, up to date.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk_create" + PersistenceTestSupport.H2_OPTIONS,
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BulkCreateTest extends PersistenceTestSupport {
+
+    private static final int LINES = 120;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BestSellerService bestSellerService;
+
+    private Statistics statistics;
+
+    private UUID saleId;
+
+    private UUID storeId;
+
+    private final List<UUID> productIds = new ArrayList<>();
+
+    @BeforeAll
+    void createFixtures() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = department("Department");
+            CityEntity city = city("City", department);
+            UserRoleEntity role = role(UserRole.USER);
+            UserEntity user = user("bulk", role, city);
+            saleId = persist(SaleEntity.builder().user(user).totalAmount(0L).build()).getSaleId();
+            storeId = store("Bulk Store", city).getStoreId();
+            for (int i = 0; i < 3; i++) {
+                productIds.add(product("Bulk Product " + i, 10.0).getProductId());
+            }
+        });
+    }
+
+    @Test
+    void saleProductsAreInsertedInBatchesAndRanked() throws Exception {
+        StringJoiner body = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < LINES; i++) {
+            body.add("{\"quantity\":" + (i % 3 + 1) + ",\"sale\":{\"saleId\":\"" + saleId + "\"},"
+                    + "\"product\":{\"productId\":\"" + productIds.get(i % 3) + "\"}}");
+        }
+
+        statistics.clear();
+        mockMvc.perform(post("/api/v1/sale-products/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content(body.toString()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(LINES)))
+                .andExpect(jsonPath("$[0].sale.saleId").value(saleId.toString()))
+                .andExpect(jsonPath("$[" + (LINES - 1) + "].saleProductId").isNumber());
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(LINES);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(LINES / 10);
+        assertThat(entityManager.createQuery("SELECT COUNT(sp) FROM SaleProductEntity sp "
+                        + "WHERE sp.sale.saleId = :saleId AND sp.saleDate = sp.sale.saleDate", Long.class)
+                .setParameter("saleId", saleId)
+                .getSingleResult()).isEqualTo(LINES);
+        assertThat(bestSellerService.getTopProductIds(SalesWindow.ALL, 1)).containsExactly(productIds.get(2));
+    }
+
+    @Test
+    void storeProductsAndCategoriesAreCreatedInBulk() throws Exception {
+        StringJoiner storeProducts = new StringJoiner(",", "[", "]");
+        for (UUID productId : productIds) {
+            storeProducts.add("{\"stock\":10,\"address\":\"Aisle\",\"store\":{\"storeId\":\"" + storeId + "\"},"
+                    + "\"product\":{\"productId\":\"" + productId + "\"}}");
+        }
+        mockMvc.perform(post("/api/v1/store-products/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content(storeProducts.toString()))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(productIds.size())))
+                .andExpect(jsonPath("$[0].version").value(0));
+
+        mockMvc.perform(post("/api/v1/categories/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"categoryName\":\"Bulk A\"},{\"categoryName\":\"Bulk B\"}]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$[1].categoryName").value("Bulk B"))
+                .andExpect(jsonPath("$[1].categoryId").isNumber());
+    }
+
+    @Test
+    void emptyOrIncompleteRequestsAreRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/categories/bulk").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/v1/sale-products/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"quantity\":1,\"sale\":{\"saleId\":\"" + saleId + "\"}}]"))
+                .andExpect(status().isBadRequest());
+    }
+}
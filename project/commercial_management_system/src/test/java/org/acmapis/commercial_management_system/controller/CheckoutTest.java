@@ -0,0 +1,165 @@
+package org.acmapis.commercial_management_system.controller;
+
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that a checkout decrements the stock of every line or of none: a short line answers
+ * 409, an invalid cart 400 and an unknown store, user or product 404, all without writing anything.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:checkout" + PersistenceTestSupport.H2_OPTIONS,
+        "sales.events.dispatcher-enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CheckoutTest extends PersistenceTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID storeId;
+
+    private UUID otherStoreId;
+
+    private UUID userId;
+
+    private UUID firstProductId;
+
+    private UUID secondProductId;
+
+    private UUID uncarriedProductId;
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = department("Checkout Department");
+            CityEntity city = city("Checkout City", department);
+            UserRoleEntity role = role(UserRole.USER);
+            UserEntity user = user("checkout", role, city);
+            StoreEntity store = store("Checkout Store", city);
+            StoreEntity otherStore = store("Other Checkout Store", city);
+            ProductEntity first = product("First", 10.0);
+            ProductEntity second = product("Second", 25.0);
+            ProductEntity uncarried = product("Uncarried", 5.0);
+            persist(new StoreProductEntity(null, 10L, "Aisle", store, first, null));
+            persist(new StoreProductEntity(null, 3L, "Aisle", store, second, null));
+            persist(new StoreProductEntity(null, 10L, "Aisle", otherStore, uncarried, null));
+            storeId = store.getStoreId();
+            otherStoreId = otherStore.getStoreId();
+            userId = user.getUserId();
+            firstProductId = first.getProductId();
+            secondProductId = second.getProductId();
+            uncarriedProductId = uncarried.getProductId();
+        });
+    }
+
+    @Test
+    void checkoutDecrementsEveryLineAndRecordsTheSale() throws Exception {
+        long sales = count("sale");
+        long firstStock = stock(firstProductId);
+        long secondStock = stock(secondProductId);
+
+        checkout(storeId, userId, line(firstProductId, 2) + "," + line(secondProductId, 1), status().isCreated())
+                .andExpect(jsonPath("$.sale.totalAmount").value(45))
+                .andExpect(jsonPath("$.lines.length()").value(2));
+
+        assertThat(stock(firstProductId)).isEqualTo(firstStock - 2);
+        assertThat(stock(secondProductId)).isEqualTo(secondStock - 1);
+        assertThat(count("sale")).isEqualTo(sales + 1);
+    }
+
+    @Test
+    void shortLineRollsBackTheWholeCheckout() throws Exception {
+        Snapshot before = snapshot();
+
+        checkout(storeId, userId, line(firstProductId, 1) + "," + line(secondProductId, 1000), status().isConflict());
+
+        assertThat(snapshot()).isEqualTo(before);
+    }
+
+    @Test
+    void invalidCartsAreRejectedWithoutWriting() throws Exception {
+        Snapshot before = snapshot();
+
+        checkout(storeId, userId, "", status().isBadRequest());
+        checkout(storeId, userId, line(firstProductId, 0), status().isBadRequest());
+        checkout(storeId, userId, "{\"quantity\":1}", status().isBadRequest());
+        mockMvc.perform(post("/api/v1/sales/checkout").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"userId\":\"" + userId + "\",\"lines\":[" + line(firstProductId, 1) + "]}"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(snapshot()).isEqualTo(before);
+    }
+
+    @Test
+    void unknownReferencesAreNotFound() throws Exception {
+        Snapshot before = snapshot();
+
+        checkout(UUID.randomUUID(), userId, line(firstProductId, 1), status().isNotFound());
+        checkout(storeId, UUID.randomUUID(), line(firstProductId, 1), status().isNotFound());
+        checkout(storeId, userId, line(firstProductId, 1) + "," + line(uncarriedProductId, 1), status().isNotFound());
+        checkout(otherStoreId, userId, line(firstProductId, 1), status().isNotFound());
+
+        assertThat(snapshot()).isEqualTo(before);
+    }
+
+    private ResultActions checkout(UUID store, UUID user, String lines, ResultMatcher expected) throws Exception {
+        return mockMvc.perform(post("/api/v1/sales/checkout").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"storeId\":\"" + store + "\",\"userId\":\"" + user + "\",\"lines\":[" + lines + "]}"))
+                .andExpect(expected);
+    }
+
+    private static String line(UUID productId, long quantity) {
+        return "{\"productId\":\"" + productId + "\",\"quantity\":" + quantity + "}";
+    }
+
+    private Snapshot snapshot() {
+        return new Snapshot(stock(firstProductId), stock(secondProductId),
+                count("sale"), count("sale_product"), count("sale_event_outbox"));
+    }
+
+    private long stock(UUID productId) {
+        return jdbcTemplate.queryForObject("SELECT stock FROM store_product WHERE store_id_fk = ? AND product_id_fk = ?",
+                Long.class, storeId, productId);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+
+    /**
+     * Stock of the two stocked products and row counts of the tables a checkout writes.
+     */
+    private record Snapshot(long firstStock, long secondStock, long sales, long saleProducts, long events) {
+    }
+}
@@ -0,0 +1,145 @@
+package org.acmapis.commercial_management_system.controller;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the catalog and reference data endpoints answer conditional requests with
+ * 304 Not Modified without loading their data, and that writes change their validators, including
+ * writes made outside this instance.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conditional_get" + PersistenceTestSupport.H2_OPTIONS,
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    private Long categoryId;
+
+    private Long departmentId;
+
+    private Long cityId;
+
+    @BeforeAll
+    void createFixtures() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = new DepartmentEntity(null, "Conditional Department");
+            entityManager.persist(department);
+            CityEntity city = new CityEntity(null, "Conditional City", department);
+            entityManager.persist(city);
+            CategoryEntity category = new CategoryEntity(null, "Conditional");
+            entityManager.persist(category);
+            categoryId = category.getCategoryId();
+            departmentId = department.getDepartmentId();
+            cityId = city.getCityId();
+        });
+    }
+
+    @Test
+    void currentValidatorsAreAnsweredWithoutLoadingTheData() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn();
+        String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+        String lastModified = result.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        assertThat(eTag).startsWith("W/\"");
+
+        statistics.clear();
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/v1/categories/" + categoryId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/v1/categories").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void writesChangeTheValidatorsOfDependentCollections() throws Exception {
+        String categoriesTag = eTag("/api/v1/categories");
+        String productsTag = eTag("/api/v1/products");
+        String citiesTag = eTag("/api/v1/cities/" + cityId);
+
+        mockMvc.perform(put("/api/v1/categories/" + categoryId).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"categoryName\":\"Conditional renamed\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/v1/departments/" + departmentId).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"departmentName\":\"Conditional Department renamed\"}"))
+                .andExpect(status().isOk());
+
+        assertThat(modifiedTag("/api/v1/categories", categoriesTag)).isNotEqualTo(categoriesTag);
+        assertThat(modifiedTag("/api/v1/products", productsTag)).isNotEqualTo(productsTag);
+        assertThat(modifiedTag("/api/v1/cities/" + cityId, citiesTag)).isNotEqualTo(citiesTag);
+    }
+
+    @Test
+    void versionsAdvancedElsewhereChangeTheValidators() throws Exception {
+        String categoriesTag = eTag("/api/v1/categories");
+
+        // Another instance, or a maintenance script, advancing the version row
+        jdbcTemplate.update("UPDATE catalog_version SET version = version + 1 WHERE resource = 'CATEGORIES'");
+
+        assertThat(modifiedTag("/api/v1/categories", categoriesTag)).isNotEqualTo(categoriesTag);
+    }
+
+    private String eTag(String path) throws Exception {
+        return mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+
+    private String modifiedTag(String path, String eTag) throws Exception {
+        return mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
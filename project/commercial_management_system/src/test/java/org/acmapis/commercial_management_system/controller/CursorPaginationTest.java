@@ -0,0 +1,134 @@
+package org.acmapis.commercial_management_system.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.acmapis.commercial_management_system.utils.pagination.CursorCodec;
+import org.acmapis.commercial_management_system.utils.pagination.CursorPages;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that walking the keyset-paginated endpoints returns every row exactly once in key order,
+ * including sales that share a sale date, that malformed cursors answer 400 and that page sizes are
+ * clamped to 1..500.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cursor_pagination" + PersistenceTestSupport.H2_OPTIONS)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CursorPaginationTest extends PersistenceTestSupport {
+
+    private static final int CATEGORIES = CursorPages.MAX_PAGE_SIZE + 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void createFixtures() {
+        List<UUID> saleIds = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = department("Cursor Department");
+            CityEntity city = city("Cursor City", department);
+            UserRoleEntity role = role(UserRole.USER);
+            UserEntity user = user("cursor", role, city);
+            for (int i = 0; i < 7; i++) {
+                saleIds.add(persist(SaleEntity.builder().user(user).totalAmount(10L + i).build()).getSaleId());
+            }
+            for (int i = 0; i < CATEGORIES; i++) {
+                persist(new CategoryEntity(null, "Category " + i));
+            }
+        });
+        // Five sales share one date, so the pages must break the tie on the sale ID
+        LocalDateTime shared = LocalDateTime.of(2025, 11, 24, 12, 0);
+        for (int i = 0; i < saleIds.size(); i++) {
+            jdbcTemplate.update("UPDATE sale SET sale_date = ? WHERE sale_id = ?",
+                    Timestamp.valueOf(i < 2 ? shared.minusDays(i + 1) : shared), saleIds.get(i));
+        }
+    }
+
+    @Test
+    void salePagesReturnEverySaleOnceInDateAndIdOrder() throws Exception {
+        List<String> expected = jdbcTemplate.queryForList(
+                "SELECT CAST(sale_id AS VARCHAR) FROM sale ORDER BY sale_date, sale_id", String.class);
+
+        assertThat(walk("/api/v1/sales/page?size=2&fetchPlan=DEFAULT", "saleId")).isEqualTo(expected);
+        assertThat(walk("/api/v1/sales/page?size=3", "saleId")).isEqualTo(expected);
+    }
+
+    @Test
+    void categoryPagesReturnEveryCategoryOnceInIdOrder() throws Exception {
+        List<String> expected = jdbcTemplate.queryForList(
+                "SELECT CAST(category_id AS VARCHAR) FROM category ORDER BY category_id", String.class);
+
+        assertThat(walk("/api/v1/categories/page?size=" + CursorPages.MAX_PAGE_SIZE, "categoryId"))
+                .isEqualTo(expected);
+    }
+
+    @Test
+    void malformedCursorsAreBadRequests() throws Exception {
+        mockMvc.perform(get("/api/v1/sales/page").param("cursor", "not base64!"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/sales/page").param("cursor", CursorCodec.encode(UUID.randomUUID())))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/sales/page").param("cursor", CursorCodec.encode("yesterday", UUID.randomUUID())))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/categories/page").param("cursor", CursorCodec.encode("first")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void pageSizesAreClampedToTheAllowedRange() throws Exception {
+        assertThat(page("/api/v1/categories/page?size=0").get("size").asInt()).isEqualTo(1);
+        assertThat(page("/api/v1/categories/page?size=-10").get("items")).hasSize(1);
+        JsonNode largest = page("/api/v1/categories/page?size=100000");
+        assertThat(largest.get("items")).hasSize(CursorPages.MAX_PAGE_SIZE);
+        assertThat(largest.get("hasNext").asBoolean()).isTrue();
+        assertThat(page("/api/v1/categories/page").get("size").asInt()).isEqualTo(CursorPages.DEFAULT_PAGE_SIZE);
+    }
+
+    private List<String> walk(String path, String idField) throws Exception {
+        List<String> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = page(cursor == null ? path : path + "&cursor=" + cursor);
+            page.get("items").forEach(item -> ids.add(item.get(idField).asText()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        return ids;
+    }
+
+    private JsonNode page(String path) throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
@@ -0,0 +1,234 @@
+package org.acmapis.commercial_management_system.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.entity.SaleProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.service.BestSellerService;
+import org.acmapis.commercial_management_system.service.StoreService;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Asserts the number of SQL statements issued by each list endpoint, so that N+1 regressions
+ * in the repository fetch plans are caught. Counts come from Hibernate statistics and do not
+ * depend on the number of rows returned. The product caches are cleared before each request,
+ * so the counts reflect the database fetch plan. The projection fetch plan must return the same
+ * responses as the graph fetch plan without loading any entity.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FetchPlanStatementCountTest extends PersistenceTestSupport {
+
+    private static final int USERS = 4;
+
+    private static final int PRODUCTS = 5;
+
+    private static final int SALES = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BestSellerService bestSellerService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private StoreService storeService;
+
+    private Statistics statistics;
+
+    private UUID userId;
+
+    private UUID storeId;
+
+    private Long cityId;
+
+    @BeforeAll
+    void createFixtures() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<CityEntity> cities = new ArrayList<>();
+            for (int d = 0; d < 2; d++) {
+                DepartmentEntity department = department("Department " + d);
+                for (int c = 0; c < 2; c++) {
+                    cities.add(city("City " + d + "-" + c, department));
+                }
+            }
+            UserRoleEntity[] roles = {
+                    role(UserRole.USER),
+                    role(UserRole.MANAGER)
+            };
+            List<UserEntity> users = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                users.add(persist(UserEntity.builder()
+                        .firstName("Ana").lastName("Last" + i).username("user" + i)
+                        .email("user" + i + "@example.com").password("secret").phone("300000000" + i)
+                        .role(roles[i % roles.length]).city(cities.get(i % cities.size()))
+                        .build()));
+            }
+            StoreEntity store = store("Store 0", cities.get(0));
+            store("Store 1", cities.get(1));
+            List<CategoryEntity> categories = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                categories.add(persist(new CategoryEntity(null, "Category " + i)));
+            }
+            List<ProductEntity> products = new ArrayList<>();
+            for (int i = 0; i < PRODUCTS; i++) {
+                ProductEntity product = product("Product " + i, 10.0 + i,
+                        categories.get(i % 3), categories.get((i + 1) % 3));
+                products.add(product);
+                persist(new StoreProductEntity(null, 100L, "Aisle " + i, store, product, null));
+            }
+            for (int i = 0; i < SALES; i++) {
+                SaleEntity sale = persist(SaleEntity.builder().user(users.get(i % USERS)).totalAmount(100L * i).build());
+                persist(new SaleProductEntity(null, 1L + i, sale, products.get(i % PRODUCTS), null));
+            }
+            userId = users.get(0).getUserId();
+            storeId = store.getStoreId();
+            cityId = cities.get(0).getCityId();
+        });
+        bestSellerService.rebuild();
+    }
+
+    Stream<Arguments> graphEndpoints() {
+        return Stream.of(
+                Arguments.of("/api/v1/sales", 1),
+                Arguments.of("/api/v1/sales/page", 1),
+                Arguments.of("/api/v1/sales/search/by-user-id?userId=" + userId, 1),
+                Arguments.of("/api/v1/sales/search/by-user-firstname?firstName=Ana", 1),
+                Arguments.of("/api/v1/sales/search/by-min-total-amount?amount=0", 1),
+                Arguments.of("/api/v1/users", 1),
+                Arguments.of("/api/v1/users/page", 1),
+                Arguments.of("/api/v1/users/search/by-lastname?lastName=last1", 1),
+                Arguments.of("/api/v1/users/search/by-city-name?cityName=City 0-0", 1),
+                Arguments.of("/api/v1/users/search/by-department?departmentName=Department 0", 1),
+                Arguments.of("/api/v1/users/search/by-firstname-pattern?pattern=an", 1),
+                Arguments.of("/api/v1/stores", 1),
+                Arguments.of("/api/v1/stores/page", 1),
+                Arguments.of("/api/v1/stores/search/by-city-name?cityName=City 0-0", 1),
+                Arguments.of("/api/v1/products", 1),
+                Arguments.of("/api/v1/products/page", 2),
+                Arguments.of("/api/v1/products/search/by-price-range?minPrice=0&maxPrice=100", 1),
+                Arguments.of("/api/v1/products/search/sorted-by-price-asc", 1),
+                Arguments.of("/api/v1/products/search/sorted-by-price-desc", 1),
+                Arguments.of("/api/v1/products/search/recent?date=2000-01-01T00:00:00", 1),
+                Arguments.of("/api/v1/products/analytics/best-sellers", 1),
+                Arguments.of("/api/v1/products/analytics/top-best-sellers?limit=3", 1),
+                Arguments.of("/api/v1/products/search/by-store-id?storeId=" + storeId, 1),
+                Arguments.of("/api/v1/products/search/by-store-name?storeName=Store 0", 1),
+                Arguments.of("/api/v1/sale-products", 2),
+                Arguments.of("/api/v1/sale-products/page", 2)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("graphEndpoints")
+    void graphFetchPlanIssuesConstantStatementCount(String url, int expectedStatements) throws Exception {
+        assertThat(countStatements(url)).as(url).isEqualTo(expectedStatements);
+    }
+
+    @Test
+    void graphFetchPlanReturnsCompleteAssociations() throws Exception {
+        mockMvc.perform(get("/api/v1/products/page"))
+                .andExpect(jsonPath("$.items", hasSize(PRODUCTS)))
+                .andExpect(jsonPath("$.items[*].categories", everyItem(hasSize(2))));
+        mockMvc.perform(get("/api/v1/products/search/by-store-id?storeId=" + storeId))
+                .andExpect(jsonPath("$[*].categories", everyItem(hasSize(2))));
+        mockMvc.perform(get("/api/v1/products/analytics/best-sellers"))
+                .andExpect(jsonPath("$", hasSize(PRODUCTS)))
+                .andExpect(jsonPath("$[*].categories", everyItem(hasSize(2))));
+        mockMvc.perform(get("/api/v1/sale-products"))
+                .andExpect(jsonPath("$", hasSize(SALES)))
+                .andExpect(jsonPath("$[*].sale.user.city.department.departmentName", everyItem(notNullValue())))
+                .andExpect(jsonPath("$[*].product.categories", everyItem(hasSize(2))));
+    }
+
+    Stream<Arguments> projectionEndpoints() {
+        return Stream.of(
+                Arguments.of("/api/v1/products/search/by-price-range?minPrice=0&maxPrice=100", 2),
+                Arguments.of("/api/v1/products/search/by-store-id?storeId=" + storeId, 2),
+                Arguments.of("/api/v1/users/search/by-city?cityId=" + cityId, 1),
+                Arguments.of("/api/v1/users/search/by-city-name?cityName=City 0-0", 1)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("projectionEndpoints")
+    void projectionFetchPlanReturnsGraphResponseWithoutEntities(String url, int expectedStatements) throws Exception {
+        String graphResponse = mockMvc.perform(get(url)).andReturn().getResponse().getContentAsString();
+
+        assertThat(countStatements(url + "&fetchPlan=PROJECTION")).as(url).isEqualTo(expectedStatements);
+        assertThat(statistics.getEntityLoadCount()).as(url).isZero();
+        mockMvc.perform(get(url + "&fetchPlan=PROJECTION")).andExpect(content().json(graphResponse));
+    }
+
+    @Test
+    void projectionFetchPlanReturnsGraphInventory() {
+        statistics.clear();
+        List<StoreProductModel> inventory = storeService.getStoreProductsByStoreId(storeId, FetchPlan.PROJECTION);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(inventory).hasSize(PRODUCTS)
+                .usingRecursiveComparison().ignoringCollectionOrder()
+                .isEqualTo(storeService.getStoreProductsByStoreId(storeId, FetchPlan.GRAPH));
+    }
+
+    @Test
+    void defaultFetchPlanLoadsAssociationsPerRow() throws Exception {
+        assertThat(countStatements("/api/v1/sales?fetchPlan=DEFAULT")).isGreaterThan(1);
+        assertThat(countStatements("/api/v1/products?fetchPlan=DEFAULT")).isEqualTo(1 + PRODUCTS);
+    }
+
+    private long countStatements(String url) throws Exception {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            cacheManager.getCache(cacheName).clear();
+        }
+        statistics.clear();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,178 @@
+package org.acmapis.commercial_management_system.controller;
+
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.repository.StoreProductRepository;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the product import upserts JSON and CSV rows by product ID, resolves categories by ID
+ * or name, reports the counts with the rejected and superseded rows and keeps the store inventory
+ * read model current.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:product_import" + PersistenceTestSupport.H2_OPTIONS)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductImportTest extends PersistenceTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreProductRepository storeProductRepository;
+
+    private Long categoryAId;
+
+    private Long categoryBId;
+
+    private UUID repricedId;
+
+    private UUID unchangedId;
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = department("Import Department");
+            CityEntity city = city("Import City", department);
+            StoreEntity store = store("Import Store", city);
+            CategoryEntity categoryA = persist(new CategoryEntity(null, "Import A"));
+            CategoryEntity categoryB = persist(new CategoryEntity(null, "Import B"));
+            ProductEntity repriced = product("Repriced", 10.0, categoryA);
+            ProductEntity unchanged = product("Unchanged", 5.0, categoryA);
+            persist(new StoreProductEntity(null, 7L, "Aisle", store, repriced, null));
+            categoryAId = categoryA.getCategoryId();
+            categoryBId = categoryB.getCategoryId();
+            repricedId = repriced.getProductId();
+            unchangedId = unchanged.getProductId();
+        });
+        transactionTemplate.executeWithoutResult(status -> storeProductRepository.refreshStoreInventoryByProductIds(
+                List.of(repricedId)));
+    }
+
+    @Test
+    void jsonRowsAreUpsertedAndReported() throws Exception {
+        UUID repeatedId = UUID.randomUUID();
+        String body = "["
+                + "{\"productId\":\"" + repricedId + "\",\"productName\":\"Repriced\","
+                + "\"productDescription\":\"Description\",\"price\":20.0,\"categories\":[{\"categoryName\":\"Import B\"}]},"
+                + "{\"productId\":\"" + unchangedId + "\",\"productName\":\"Unchanged\","
+                + "\"productDescription\":\"Description\",\"price\":5.0},"
+                + "{\"productName\":\"New\",\"productDescription\":\"Description\",\"price\":1.0,"
+                + "\"categories\":[{\"categoryId\":" + categoryAId + "}]},"
+                + "{\"productId\":\"" + repeatedId + "\",\"productName\":\"First\",\"productDescription\":\"D\",\"price\":1.0},"
+                + "{\"productId\":\"" + repeatedId + "\",\"productName\":\"Second\",\"productDescription\":\"D\",\"price\":2.0},"
+                + "{\"productName\":\"Orphan\",\"productDescription\":\"D\",\"price\":1.0,"
+                + "\"categories\":[{\"categoryName\":\"Missing\"}]},"
+                + "{\"productName\":\"Negative\",\"productDescription\":\"D\",\"price\":-1.0}"
+                + "]";
+
+        mockMvc.perform(put("/api/v1/products/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.unchanged").value(1))
+                .andExpect(jsonPath("$.superseded").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rows[*].status").value(contains("SUPERSEDED", "REJECTED", "REJECTED")))
+                .andExpect(jsonPath("$.rows[*].row").value(contains(4, 6, 7)))
+                .andExpect(jsonPath("$.rows[0].productId").value(repeatedId.toString()))
+                .andExpect(jsonPath("$.rows[1].message").value("Category not found: Missing"));
+
+        assertThat(jdbcTemplate.queryForList("SELECT category_id_fk FROM product_category WHERE product_id_fk = ?",
+                Long.class, repricedId)).containsExactly(categoryBId);
+        assertThat(jdbcTemplate.queryForObject("SELECT product_name FROM product WHERE product_id = ?",
+                String.class, repeatedId)).isEqualTo("Second");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE product_name IN ('Orphan', 'Negative')",
+                Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForMap("SELECT price, categories FROM store_inventory WHERE product_id_fk = ?",
+                repricedId))
+                .containsEntry("price", 20.0)
+                .hasEntrySatisfying("categories", categories -> assertThat(categories.toString())
+                        .contains("Import B").doesNotContain("Import A"));
+    }
+
+    @Test
+    void csvRowsAreImportedOnceAndThenUnchanged() throws Exception {
+        UUID productId = UUID.randomUUID();
+        String csv = "productId,productName,productDescription,price,categories\r\n"
+                + productId + ",\"Kettle, steel\",\"2 \"\"L\"\"\",35.5,Import A|Import B\r\n"
+                + "\r\n"
+                + ",Toaster,Description,not-a-price,\r\n";
+
+        mockMvc.perform(put("/api/v1/products/bulk").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rows[*].status").value(contains("REJECTED")))
+                .andExpect(jsonPath("$.rows[0].row").value(2));
+        mockMvc.perform(put("/api/v1/products/bulk").contentType("text/csv").content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unchanged").value(1));
+
+        assertThat(jdbcTemplate.queryForMap("SELECT product_name, description FROM product WHERE product_id = ?",
+                productId))
+                .containsEntry("product_name", "Kettle, steel")
+                .containsEntry("description", "2 \"L\"");
+        assertThat(jdbcTemplate.queryForList("SELECT category_id_fk FROM product_category WHERE product_id_fk = ?",
+                Long.class, productId)).containsExactlyInAnyOrder(categoryAId, categoryBId);
+    }
+
+    @Test
+    void rejectedLaterRowDoesNotSupersedeAValidRow() throws Exception {
+        UUID productId = UUID.randomUUID();
+        String body = "["
+                + "{\"productId\":\"" + productId + "\",\"productName\":\"Kept\",\"productDescription\":\"D\",\"price\":1.0},"
+                + "{\"productId\":\"" + productId + "\",\"productName\":\"Dropped\",\"productDescription\":\"D\",\"price\":2.0,"
+                + "\"categories\":[{\"categoryName\":\"Missing\"}]}"
+                + "]";
+
+        mockMvc.perform(put("/api/v1/products/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.superseded").value(0))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rows[*].row").value(contains(2)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT product_name FROM product WHERE product_id = ?",
+                String.class, productId)).isEqualTo("Kept");
+    }
+
+    @Test
+    void malformedOrEmptyRequestsAreRejected() throws Exception {
+        mockMvc.perform(put("/api/v1/products/bulk").contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"productName\":\"Broken\",\"productDescription\":\"D\",\"price\":1.0},{\"productName\""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/v1/products/bulk").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/v1/products/bulk").contentType("text/csv").content("productName,price\r\nA,1\r\n"))
+                .andExpect(status().isBadRequest());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product WHERE product_name = 'Broken'",
+                Long.class)).isZero();
+    }
+}
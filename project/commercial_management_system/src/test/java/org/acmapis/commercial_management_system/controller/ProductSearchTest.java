@@ -0,0 +1,150 @@
+package org.acmapis.commercial_management_system.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the ranking, filters, pagination and autocomplete of the product search on H2, where the
+ * repository falls back to substring matching with the weights of the PostgreSQL full-text search:
+ * name above category names above description.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:product_search" + PersistenceTestSupport.H2_OPTIONS)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductSearchTest extends PersistenceTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long coffeeMakersId;
+
+    private String storeId;
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            CategoryEntity kitchen = persist(new CategoryEntity(null, "Cocina"));
+            CategoryEntity coffeeMakers = persist(new CategoryEntity(null, "Cafeteras"));
+            CategoryEntity office = persist(new CategoryEntity(null, "Oficina"));
+            coffeeMakersId = coffeeMakers.getCategoryId();
+
+            // Name, category and description matches, then each one alone
+            product("Cafetera Eléctrica", "Cafetera de goteo", 120.0, coffeeMakers);
+            ProductEntity italian = product("Cafetera Italiana", "Para la estufa", 40.0, kitchen);
+            ProductEntity filter = product("Filtro de papel", "Paquete de 100", 5.0, coffeeMakers);
+            product("Molino", "Accesorio para la cafetera", 25.0, kitchen);
+            product("Silla", "Ergonómica", 90.0, office);
+
+            DepartmentEntity department = department("Search Department");
+            CityEntity city = city("Search City", department);
+            StoreEntity store = store("Search Store", city);
+            storeId = store.getStoreId().toString();
+            persist(new StoreProductEntity(null, 5L, "Aisle 1", store, filter, null));
+            persist(new StoreProductEntity(null, 0L, "Aisle 2", store, italian, null));
+        });
+    }
+
+    @Test
+    void resultsAreRankedByFieldAndPaginated() throws Exception {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            JsonNode page = search("/api/v1/products/search?q=CAFETERA&size=2"
+                    + (cursor != null ? "&cursor=" + cursor : ""));
+            page.get("items").forEach(item -> names.add(item.get("productName").asText()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(names).containsExactly("Cafetera Eléctrica", "Cafetera Italiana", "Filtro de papel", "Molino");
+        assertThat(pages).isEqualTo(2);
+    }
+
+    @Test
+    void filtersRestrictTheMatches() throws Exception {
+        mockMvc.perform(get("/api/v1/products/search").param("q", "cafetera").param("maxPrice", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].productName",
+                        contains("Cafetera Italiana", "Filtro de papel", "Molino")));
+        mockMvc.perform(get("/api/v1/products/search").param("q", "cafetera")
+                        .param("categoryId", coffeeMakersId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].productName", contains("Cafetera Eléctrica", "Filtro de papel")))
+                .andExpect(jsonPath("$.items[0].categories[0].categoryName").value("Cafeteras"));
+        mockMvc.perform(get("/api/v1/products/search").param("q", "cafetera").param("storeId", storeId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].productName", contains("Filtro de papel")))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    void autocompleteListsNamesStartingWithThePrefixFirst() throws Exception {
+        mockMvc.perform(get("/api/v1/products/search/autocomplete").param("prefix", "caf"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].productName", contains("Cafetera Eléctrica", "Cafetera Italiana")));
+        mockMvc.perform(get("/api/v1/products/search/autocomplete").param("prefix", "pap"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].productName", contains("Filtro de papel")));
+        mockMvc.perform(get("/api/v1/products/search/autocomplete").param("prefix", "caf").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)));
+        // LIKE wildcards in the prefix are matched literally
+        mockMvc.perform(get("/api/v1/products/search/autocomplete").param("prefix", "%"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    void blankTermsAndMalformedCursorsAreRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/products/search").param("q", "  "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/products/search/autocomplete").param("prefix", ""))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/products/search").param("q", "cafetera").param("cursor", "bm90LWEtY3Vyc29y"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode search(String uri) throws Exception {
+        String body = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(body);
+    }
+
+    private ProductEntity product(String name, String description, double price, CategoryEntity category) {
+        return persist(ProductEntity.builder()
+                .productName(name).productDescription(description).price(price)
+                .categories(new ArrayList<>(List.of(category)))
+                .build());
+    }
+}
@@ -0,0 +1,116 @@
+package org.acmapis.commercial_management_system.controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel;
+import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.service.SaleService;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the {@code /api/v2} read endpoints stream newline-delimited JSON read through R2DBC,
+ * without any statement going through Hibernate.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactive_read" + PersistenceTestSupport.H2_OPTIONS,
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactive_read?options=MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactiveReadApiTest extends PersistenceTestSupport {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SaleService saleService;
+
+    private UUID userId;
+
+    private UUID storeId;
+
+    private Long cityId;
+
+    private final List<UUID> saleIds = new ArrayList<>();
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = department("Department");
+            CityEntity city = city("City", department);
+            UserRoleEntity role = role(UserRole.USER);
+            UserEntity user = user("reactive", role, city);
+            StoreEntity store = store("Reactive Store", city);
+            for (int i = 0; i < 3; i++) {
+                ProductEntity product = product("Reactive Product " + i, 10.0 + i);
+                persist(new StoreProductEntity(null, 5L + i, "Aisle " + i, store, product, null));
+                saleIds.add(persist(SaleEntity.builder().user(user).totalAmount(100L * (i + 1)).build()).getSaleId());
+            }
+            userId = user.getUserId();
+            storeId = store.getStoreId();
+            cityId = city.getCityId();
+        });
+        saleService.rebuildDailySalesRollup();
+    }
+
+    @Test
+    void readEndpointsStreamRowsWithoutHibernate() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        LocalDate today = LocalDate.now();
+
+        assertThat(get("/api/v2/sales/search/by-user-id?userId=" + userId, SaleModel.class))
+                .extracting(SaleModel::getSaleId).containsExactlyInAnyOrderElementsOf(saleIds);
+        assertThat(get("/api/v2/sales/search/by-user-id?userId=" + userId + "&to=" + today.minusDays(1), SaleModel.class))
+                .isEmpty();
+        assertThat(get("/api/v2/products/search/by-price-range?minPrice=11&maxPrice=20", ProductModel.class))
+                .extracting(ProductModel::getProductName).containsExactly("Reactive Product 1", "Reactive Product 2");
+        assertThat(get("/api/v2/products/search/by-store-id?storeId=" + storeId, StoreProductModel.class))
+                .extracting(StoreProductModel::getStock).containsExactly(5L, 6L, 7L);
+        assertThat(get("/api/v2/sales/analytics/daily?from=" + today + "&to=" + today, SaleDailyTotalModel.class))
+                .containsExactly(new SaleDailyTotalModel(today, null, 3L, 600L));
+        assertThat(get("/api/v2/sales/analytics/by-city?from=" + today + "&to=" + today, SaleDailyTotalModel.class))
+                .containsExactly(new SaleDailyTotalModel(null, cityId, 3L, 600L));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private <T> List<T> get(String uri, Class<T> type) {
+        return webTestClient.get().uri(uri).accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(type)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,113 @@
+package org.acmapis.commercial_management_system.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the sales export streams one JSON document per sale, with its user graph, past the
+ * interval at which the persistence context is cleared.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sale_export" + PersistenceTestSupport.H2_OPTIONS,
+        "sales.events.dispatcher-enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SaleExportTest extends PersistenceTestSupport {
+
+    private static final int SALES = 2_500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = department("Export Department");
+            UserRoleEntity role = role(UserRole.USER);
+            List<UserEntity> users = List.of(
+                    user("north", role, city("North City", department)),
+                    user("south", role, city("South City", department)));
+            for (int i = 0; i < SALES; i++) {
+                persist(SaleEntity.builder().user(users.get(i % 2)).totalAmount((long) i).build());
+                if (i % 500 == 499) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    users = users.stream().map(entityManager::merge).toList();
+                }
+            }
+        });
+    }
+
+    @Test
+    void exportStreamsOneLinePerSaleWithItsUser() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/v1/sales/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        Map<String, String> cityByUsername = new HashMap<>();
+        Set<String> saleIds = new HashSet<>();
+        Set<Long> totals = new HashSet<>();
+        List<String> lines = body.lines().toList();
+        for (String line : lines) {
+            JsonNode sale = objectMapper.readTree(line);
+            saleIds.add(sale.get("saleId").asText());
+            totals.add(sale.get("totalAmount").asLong());
+            JsonNode user = sale.get("user");
+            assertThat(user.get("city").get("department").get("departmentName").asText())
+                    .isEqualTo("Export Department");
+            cityByUsername.merge(user.get("username").asText(), user.get("city").get("cityName").asText(),
+                    (previous, current) -> {
+                        assertThat(current).isEqualTo(previous);
+                        return current;
+                    });
+        }
+
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(SALES);
+        assertThat(saleIds).hasSize(SALES)
+                .containsExactlyInAnyOrderElementsOf(jdbcTemplate.queryForList(
+                        "SELECT CAST(sale_id AS VARCHAR) FROM sale", String.class));
+        assertThat(totals).hasSize(SALES);
+        assertThat(cityByUsername).containsOnly(Map.entry("north", "North City"), Map.entry("south", "South City"));
+    }
+}
@@ -0,0 +1,224 @@
+package org.acmapis.commercial_management_system.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.StoreModel;
+import org.acmapis.commercial_management_system.model.dto.StoreProductModel;
+import org.acmapis.commercial_management_system.repository.StoreProductRepository;
+import org.acmapis.commercial_management_system.service.CategoryService;
+import org.acmapis.commercial_management_system.service.ProductService;
+import org.acmapis.commercial_management_system.service.StoreProductService;
+import org.acmapis.commercial_management_system.service.StoreService;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the store inventory read model lists the products of a store with their stock, price
+ * and categories, in every order and across pages, and that it follows the writes of the store-product,
+ * product and category services and of the stock updates.
+ */
+@SpringBootTest(properties =
+        "spring.datasource.url=jdbc:h2:mem:store_inventory" + PersistenceTestSupport.H2_OPTIONS)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StoreInventoryTest extends PersistenceTestSupport {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StoreProductService storeProductService;
+
+    @Autowired
+    private StoreProductRepository storeProductRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private StoreService storeService;
+
+    private Long lightingId;
+
+    private UUID storeId;
+
+    private UUID updatedStoreId;
+
+    private final List<ProductEntity> products = new ArrayList<>();
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            CategoryEntity lighting = persist(new CategoryEntity(null, "Iluminación"));
+            CategoryEntity furniture = persist(new CategoryEntity(null, "Muebles"));
+            lightingId = lighting.getCategoryId();
+
+            // The separator of the cursor keys inside a name
+            products.add(product("Lámpara | Mesa", 35.0, lighting));
+            products.add(product("Escritorio", 250.0, furniture));
+            products.add(product("Bombilla", 3.5, lighting));
+            products.add(product("Silla", 90.0, furniture));
+
+            DepartmentEntity department = department("Inventory Department");
+            CityEntity city = city("Inventory City", department);
+            storeId = store("Inventory Store", city).getStoreId();
+            updatedStoreId = store("Updated Store", city).getStoreId();
+        });
+
+        long[] stocks = {4, 0, 120, 7};
+        List<StoreProductModel> storeProducts = new ArrayList<>();
+        for (int i = 0; i < products.size(); i++) {
+            storeProducts.add(storeProduct(storeId, products.get(i).getProductId(), stocks[i]));
+        }
+        storeProductService.saveStoreProducts(storeProducts);
+    }
+
+    @Test
+    void everyOrderIsPaginatedWithoutGapsOrRepeats() throws Exception {
+        assertThat(listAll("sort=NAME")).containsExactly("Bombilla", "Escritorio", "Lámpara | Mesa", "Silla");
+        assertThat(listAll("sort=NAME&direction=DESC")).containsExactly("Silla", "Lámpara | Mesa", "Escritorio", "Bombilla");
+        assertThat(listAll("sort=PRICE&direction=DESC")).containsExactly("Escritorio", "Silla", "Lámpara | Mesa", "Bombilla");
+        assertThat(listAll("sort=STOCK")).containsExactly("Escritorio", "Lámpara | Mesa", "Silla", "Bombilla");
+    }
+
+    @Test
+    void filtersRestrictTheListing() throws Exception {
+        mockMvc.perform(get("/api/v1/stores/{id}/inventory", storeId).param("inStockOnly", "true")
+                        .param("maxPrice", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].productName", contains("Bombilla", "Lámpara | Mesa", "Silla")));
+        mockMvc.perform(get("/api/v1/stores/{id}/inventory", storeId).param("categoryId", lightingId.toString())
+                        .param("sort", "PRICE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].productName", contains("Bombilla", "Lámpara | Mesa")))
+                .andExpect(jsonPath("$.items[0].stock").value(120))
+                .andExpect(jsonPath("$.items[0].categories[0].categoryName").value("Iluminación"));
+    }
+
+    @Test
+    void writesKeepTheInventoryCurrent() throws Exception {
+        CategoryEntity garden = new CategoryEntity(null, "Jardín");
+        List<ProductEntity> written = transactionTemplate.execute(status -> {
+            persist(garden);
+            return List.of(product("Farol", 35.0, garden), product("Banco", 250.0, garden));
+        });
+        ProductEntity lamp = written.get(0);
+        ProductEntity bench = written.get(1);
+        List<StoreProductModel> created = storeProductService.saveStoreProducts(Arrays.asList(
+                storeProduct(updatedStoreId, lamp.getProductId(), 10),
+                storeProduct(updatedStoreId, bench.getProductId(), 2)));
+
+        // Stock updates, including the conditional updates of checkout and reservations
+        transactionTemplate.executeWithoutResult(status ->
+                storeProductRepository.decrementStock(updatedStoreId, lamp.getProductId(), 3));
+        StoreProductModel restocked = created.get(1);
+        restocked.setStock(5L);
+        storeProductService.updateStoreProduct(restocked.getId(), restocked);
+
+        // Product and category changes
+        ProductModel renamed = productService.getProductById(lamp.getProductId()).orElseThrow();
+        renamed.setProductName("Farol solar");
+        renamed.setPrice(60.0);
+        productService.updateProduct(lamp.getProductId(), renamed);
+        categoryService.updateCategory(garden.getCategoryId(), new CategoryModel(garden.getCategoryId(), "Exterior"));
+
+        mockMvc.perform(get("/api/v1/stores/{id}/inventory", updatedStoreId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].productName", contains("Banco", "Farol solar")))
+                .andExpect(jsonPath("$.items[*].stock", contains(5, 7)))
+                .andExpect(jsonPath("$.items[1].price").value(60.0))
+                .andExpect(jsonPath("$.items[1].categories[0].categoryName").value("Exterior"));
+
+        storeProductService.deleteStoreProductById(restocked.getId());
+        mockMvc.perform(get("/api/v1/stores/{id}/inventory", updatedStoreId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].productName", contains("Farol solar")));
+    }
+
+    @Test
+    void rebuildAddsRowsWrittenOutsideTheServices() throws Exception {
+        UUID scriptStoreId = transactionTemplate.execute(status -> {
+            StoreEntity store = store("Script Store", entityManager.find(StoreEntity.class, storeId).getCity());
+            return store.getStoreId();
+        });
+        jdbcTemplate.update("INSERT INTO store_product (stock, address, store_id_fk, product_id_fk, version) " +
+                "VALUES (9, 'Aisle 9', ?, ?, 0)", scriptStoreId, products.get(3).getProductId());
+        mockMvc.perform(get("/api/v1/stores/{id}/inventory", scriptStoreId))
+                .andExpect(jsonPath("$.items").isEmpty());
+
+        storeService.rebuildStoreInventory();
+        mockMvc.perform(get("/api/v1/stores/{id}/inventory", scriptStoreId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].productName", contains("Silla")))
+                .andExpect(jsonPath("$.items[0].stock").value(9));
+    }
+
+    @Test
+    void cursorsOfAnotherOrderAreRejected() throws Exception {
+        JsonNode page = inventoryPage("sort=PRICE&size=1");
+        mockMvc.perform(get("/api/v1/stores/{id}/inventory", storeId).param("sort", "STOCK")
+                        .param("cursor", page.get("nextCursor").asText()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<String> listAll(String query) throws Exception {
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        do {
+            JsonNode page = inventoryPage(query + "&size=1" + (cursor != null ? "&cursor=" + cursor : ""));
+            page.get("items").forEach(item -> names.add(item.get("productName").asText()));
+            cursor = page.get("hasNext").asBoolean() ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        return names;
+    }
+
+    private JsonNode inventoryPage(String query) throws Exception {
+        String body = mockMvc.perform(get("/api/v1/stores/" + storeId + "/inventory?" + query))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(body);
+    }
+
+    private static StoreProductModel storeProduct(UUID storeId, UUID productId, long stock) {
+        StoreModel store = new StoreModel();
+        store.setStoreId(storeId);
+        ProductModel product = new ProductModel();
+        product.setProductId(productId);
+        return new StoreProductModel(null, stock, "Aisle 1", store, product, null);
+    }
+}
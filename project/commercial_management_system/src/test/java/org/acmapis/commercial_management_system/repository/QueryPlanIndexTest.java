@@ -0,0 +1,217 @@
+package org.acmapis.commercial_management_system.repository;
+
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.acmapis.commercial_management_system.utils.datagen.SyntheticDataGenerator;
+import org.acmapis.commercial_management_system.utils.datagen.SyntheticDataSpec;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the selective repository queries against a synthetic data set, captures the SQL that
+ * Hibernate sends and fails when the plan of any statement scans a whole table that grows with the
+ * business (sales, users, products, stores and their link tables). Small reference tables may be
+ * scanned. Queries that read a whole table by design ({@code findAll*}, exports, full aggregations)
+ * or a large share of it (users of a department), and the case-insensitive name searches, which
+ * need expression or trigram indexes that H2 lacks, are not listed.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:query_plan" + PersistenceTestSupport.H2_OPTIONS)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanIndexTest {
+
+    private static final Set<String> LARGE_TABLES = Set.of("sale", "sale_product", "users", "product",
+            "product_category", "store", "store_product", "sale_daily_rollup");
+
+    /**
+     * Table scans in an H2 plan, e.g. {@code /* public.sale.tableScan *}{@code /}.
+     */
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* \\w+\\.(\\w+)\\.tableScan");
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class StatementCaptureConfiguration {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                    (StatementInspector) sql -> {
+                        STATEMENTS.add(sql);
+                        return sql;
+                    });
+        }
+    }
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SaleRepository saleRepository;
+
+    @Autowired
+    private SaleProductRepository saleProductRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private StoreProductRepository storeProductRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SaleDailyRollupRepository saleDailyRollupRepository;
+
+    private UUID userId;
+
+    private String firstName;
+
+    private UUID saleId;
+
+    private LocalDateTime saleDate;
+
+    private Long saleProductId;
+
+    private UUID productId;
+
+    private Long categoryId;
+
+    private String categoryName;
+
+    private UUID storeId;
+
+    private String storeName;
+
+    private Long cityId;
+
+    private String cityName;
+
+    private Long departmentId;
+
+    @BeforeAll
+    void generate() {
+        generator.generate(new SyntheticDataSpec(11, 4, 5, 2000, 40, 30, 2000, 200, 10000, 4, 1.1, 90,
+                LocalDateTime.of(2025, 6, 1, 0, 0), 1000));
+        jdbcTemplate.execute("ANALYZE");
+
+        userId = jdbcTemplate.queryForObject("SELECT user_id_fk FROM sale FETCH FIRST 1 ROWS ONLY", UUID.class);
+        firstName = jdbcTemplate.queryForObject("SELECT first_name FROM users WHERE user_id = ?", String.class, userId);
+        saleId = jdbcTemplate.queryForObject("SELECT sale_id FROM sale FETCH FIRST 1 ROWS ONLY", UUID.class);
+        saleDate = jdbcTemplate.queryForObject("SELECT sale_date FROM sale WHERE sale_id = ?", LocalDateTime.class, saleId);
+        saleProductId = jdbcTemplate.queryForObject("SELECT MIN(sale_product_id) FROM sale_product", Long.class);
+        productId = jdbcTemplate.queryForObject("SELECT product_id_fk FROM store_product FETCH FIRST 1 ROWS ONLY", UUID.class);
+        categoryId = jdbcTemplate.queryForObject("SELECT MIN(category_id) FROM category", Long.class);
+        categoryName = jdbcTemplate.queryForObject("SELECT category_name FROM category WHERE category_id = ?", String.class, categoryId);
+        storeId = jdbcTemplate.queryForObject("SELECT store_id_fk FROM store_product FETCH FIRST 1 ROWS ONLY", UUID.class);
+        storeName = jdbcTemplate.queryForObject("SELECT store_name FROM store WHERE store_id = ?", String.class, storeId);
+        cityId = jdbcTemplate.queryForObject("SELECT city_id_fk FROM store WHERE store_id = ?", Long.class, storeId);
+        cityName = jdbcTemplate.queryForObject("SELECT city_name FROM city WHERE city_id = ?", String.class, cityId);
+        departmentId = jdbcTemplate.queryForObject("SELECT department_id_fk FROM city WHERE city_id = ?", Long.class, cityId);
+    }
+
+    Stream<Arguments> selectiveQueries() {
+        LocalDate day = saleDate.toLocalDate();
+        return Stream.of(
+                query("SaleRepository.findByUser_UserId", () -> saleRepository.findByUser_UserId(userId)),
+                query("SaleRepository.findByUser_FirstName", () -> saleRepository.findByUser_FirstName(firstName)),
+                query("SaleRepository.findByTotalAmountAfter", () -> saleRepository.findByTotalAmountAfter(Long.MAX_VALUE - 1)),
+                query("SaleRepository.findByOrderBySaleDateAscSaleIdAsc", () -> saleRepository.findByOrderBySaleDateAscSaleIdAsc(Limit.of(20))),
+                query("SaleRepository.findSalesAfter", () -> saleRepository.findSalesAfter(saleDate, saleId, Limit.of(20))),
+                query("SaleRepository.findDetailedByUser_UserId", () -> saleRepository.findDetailedByUser_UserId(userId)),
+                query("SaleRepository.findByUserIdAndSaleDateRange", () -> saleRepository.findByUserIdAndSaleDateRange(userId, day.atStartOfDay(), day.plusDays(1).atStartOfDay())),
+                query("SaleRepository.findDetailedByUserIdAndSaleDateRange", () -> saleRepository.findDetailedByUserIdAndSaleDateRange(userId, day.atStartOfDay(), day.plusDays(1).atStartOfDay())),
+                query("SaleRepository.findDetailedBySaleIdIn", () -> saleRepository.findDetailedBySaleIdIn(List.of(saleId))),
+                query("SaleProductRepository.findDatedQuantitiesBySaleId", () -> saleProductRepository.findDatedQuantitiesBySaleId(saleId)),
+                query("SaleProductRepository.findDatedQuantityBySaleProductId", () -> saleProductRepository.findDatedQuantityBySaleProductId(saleProductId)),
+                query("SaleProductRepository.findDatedQuantitiesBySaleProductIdIn", () -> saleProductRepository.findDatedQuantitiesBySaleProductIdIn(List.of(saleProductId))),
+                query("SaleProductRepository.findDatedQuantitiesSince", () -> saleProductRepository.findDatedQuantitiesSince(LocalDateTime.of(2025, 5, 31, 0, 0))),
+                query("SaleProductRepository.findBySaleProductIdGreaterThanOrderBySaleProductIdAsc", () -> saleProductRepository.findBySaleProductIdGreaterThanOrderBySaleProductIdAsc(saleProductId, Limit.of(20))),
+                query("ProductRepository.findByPriceBetween", () -> productRepository.findByPriceBetween(10.0, 10.5)),
+                query("ProductRepository.findByCreatedAtAfter", () -> productRepository.findByCreatedAtAfter(LocalDateTime.now())),
+                query("ProductRepository.findByCategoryId", () -> productRepository.findByCategoryId(categoryId)),
+                query("ProductRepository.findByCategoryName", () -> productRepository.findByCategoryName(categoryName)),
+                query("ProductRepository.findByStoreId", () -> productRepository.findByStoreId(storeId)),
+                query("ProductRepository.findByStoreName", () -> productRepository.findByStoreName(storeName)),
+                query("ProductRepository.findDetailedByProductId", () -> productRepository.findDetailedByProductId(productId)),
+                query("ProductRepository.findDetailedByCategoryId", () -> productRepository.findDetailedByCategoryId(categoryId)),
+                query("ProductRepository.findDetailedByStoreId", () -> productRepository.findDetailedByStoreId(storeId)),
+                query("ProductRepository.findRowsByPriceBetween", () -> productRepository.findRowsByPriceBetween(10.0, 10.5)),
+                query("ProductRepository.findCategoryRowsByPriceBetween", () -> productRepository.findCategoryRowsByPriceBetween(10.0, 10.5)),
+                query("ProductRepository.findRowsByStoreId", () -> productRepository.findRowsByStoreId(storeId)),
+                query("ProductRepository.findCategoryRowsByStoreId", () -> productRepository.findCategoryRowsByStoreId(storeId)),
+                query("ProductRepository.findDetailedByProductIdIn", () -> productRepository.findDetailedByProductIdIn(List.of(productId))),
+                query("StoreRepository.findDetailedByCity_CityId", () -> storeRepository.findDetailedByCity_CityId(cityId)),
+                query("StoreRepository.findDetailedByCity_CityName", () -> storeRepository.findDetailedByCity_CityName(cityName)),
+                query("StoreRepository.findStoreProductsByStoreId", () -> storeRepository.findStoreProductsByStoreId(storeId)),
+                query("StoreRepository.findDetailedStoreProductsByStoreId", () -> storeRepository.findDetailedStoreProductsByStoreId(storeId)),
+                query("StoreRepository.findDetailedByStoreIdIn", () -> storeRepository.findDetailedByStoreIdIn(List.of(storeId))),
+                query("StoreRepository.findStoreProductRowsByStoreId", () -> storeRepository.findStoreProductRowsByStoreId(storeId)),
+                query("StoreProductRepository.findByStoreIdAndProductIds", () -> storeProductRepository.findByStoreIdAndProductIds(storeId, List.of(productId))),
+                query("StoreProductRepository.findStoreIdsByProductId", () -> storeProductRepository.findStoreIdsByProductId(productId)),
+                query("UserRepository.findDetailedByCity_CityId", () -> userRepository.findDetailedByCity_CityId(cityId)),
+                query("UserRepository.findDetailedByCity_CityName", () -> userRepository.findDetailedByCity_CityName(cityName)),
+                query("UserRepository.findRowsByCityId", () -> userRepository.findRowsByCityId(cityId)),
+                query("UserRepository.findRowsByCityName", () -> userRepository.findRowsByCityName(cityName)),
+                query("UserRepository.findDetailedByUserIdGreaterThanOrderByUserIdAsc", () -> userRepository.findDetailedByUserIdGreaterThanOrderByUserIdAsc(userId, Limit.of(20))),
+                query("SaleDailyRollupRepository.findDailyTotalsByCityId", () -> saleDailyRollupRepository.findDailyTotalsByCityId(cityId, day, day)),
+                query("SaleDailyRollupRepository.findCityTotalsByDepartmentId", () -> saleDailyRollupRepository.findCityTotalsByDepartmentId(departmentId, day, day)),
+                query("SaleDailyRollupRepository.findRegionDailyTotalsByCityId", () -> saleDailyRollupRepository.findRegionDailyTotalsByCityId(cityId, day, day)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("selectiveQueries")
+    void queryDoesNotScanLargeTables(String name, Runnable query) {
+        STATEMENTS.clear();
+        query.run();
+        assertThat(STATEMENTS).as("SQL of %s", name).isNotEmpty();
+
+        List<String> scans = new ArrayList<>();
+        for (String sql : STATEMENTS) {
+            String plan = jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql),
+                    new SingleColumnRowMapper<>(String.class)).get(0);
+            Matcher matcher = TABLE_SCAN.matcher(plan);
+            while (matcher.find()) {
+                if (LARGE_TABLES.contains(matcher.group(1))) {
+                    scans.add(matcher.group(1) + " in plan:\n" + plan);
+                }
+            }
+        }
+        assertThat(scans).as("table scans of %s", name).isEmpty();
+    }
+
+    private static Arguments query(String name, Runnable query) {
+        return Arguments.of(name, query);
+    }
+}
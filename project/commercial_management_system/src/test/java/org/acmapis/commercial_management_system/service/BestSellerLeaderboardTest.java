@@ -0,0 +1,102 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BestSellerLeaderboardTest {
+
+    /**
+     * Clock whose current instant is moved by the test.
+     */
+    private static final class MovableClock extends Clock {
+        private Instant now = Instant.parse("2025-11-24T12:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @Test
+    void incrementalUpdatesMatchFullRanking() {
+        Random random = new Random(42);
+        List<UUID> products = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            products.add(UUID.randomUUID());
+        }
+        BestSellerLeaderboard leaderboard = new BestSellerLeaderboard();
+        Map<UUID, Long> expected = new HashMap<>();
+
+        for (int i = 0; i < 20_000; i++) {
+            UUID product = products.get(random.nextInt(products.size()));
+            long current = expected.getOrDefault(product, 0L);
+            long quantity = current > 0 && random.nextInt(3) == 0
+                    ? -1 - random.nextInt((int) Math.min(current, 10))
+                    : 1 + random.nextInt(10);
+            leaderboard.add(product, null, quantity);
+            expected.merge(product, quantity, Long::sum);
+
+            if (i % 1000 == 0) {
+                assertEquals(ranking(expected, 25), leaderboard.top(25));
+            }
+        }
+        assertEquals(ranking(expected, Integer.MAX_VALUE), leaderboard.top(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void windowedLeaderboardExpiresOldBuckets() {
+        MovableClock clock = new MovableClock();
+        BestSellerLeaderboard leaderboard = new BestSellerLeaderboard(Duration.ofHours(1), Duration.ofMinutes(1), clock);
+        UUID early = UUID.randomUUID();
+        UUID late = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.ofInstant(clock.now, ZoneOffset.UTC);
+
+        leaderboard.add(early, now.minusMinutes(50), 10);
+        leaderboard.add(late, now.minusMinutes(5), 4);
+        leaderboard.add(late, now.minusHours(3), 100);
+        assertEquals(List.of(early, late), leaderboard.top(10));
+        assertEquals(4, leaderboard.quantityOf(late));
+
+        clock.now = clock.now.plus(Duration.ofMinutes(15));
+        assertEquals(List.of(late), leaderboard.top(10));
+        assertEquals(0, leaderboard.quantityOf(early));
+
+        leaderboard.add(late, now.minusMinutes(5), -4);
+        assertEquals(List.of(), leaderboard.top(10));
+    }
+
+    private static List<UUID> ranking(Map<UUID, Long> quantities, int limit) {
+        return quantities.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<UUID, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,50 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.model.enums.SalesWindow;
+import org.acmapis.commercial_management_system.repository.SaleProductRepository;
+import org.acmapis.commercial_management_system.repository.SaleProductRepository.DatedProductQuantity;
+import org.acmapis.commercial_management_system.repository.SaleProductRepository.ProductQuantity;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BestSellerServiceTest {
+
+    private static final UUID STORED = UUID.randomUUID();
+
+    private static final UUID SOLD_DURING_REBUILD = UUID.randomUUID();
+
+    /**
+     * Line of a sale, as read by the repository or recorded by the services.
+     */
+    private record Line(UUID getProductId, Long getQuantity, LocalDateTime getSaleDate)
+            implements DatedProductQuantity {
+    }
+
+    @Test
+    void salesCommittedDuringARebuildAreKept() {
+        BestSellerService[] service = new BestSellerService[1];
+        // The second sale commits while the rebuild reads the totals, which do not include it yet
+        SaleProductRepository repository = (SaleProductRepository) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{SaleProductRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "sumQuantityByProduct" -> {
+                        service[0].recordSold(List.of(new Line(SOLD_DURING_REBUILD, 5L, LocalDateTime.now())));
+                        yield List.<ProductQuantity>of(new Line(STORED, 3L, null));
+                    }
+                    case "findDatedQuantitiesSince" -> List.of(new Line(STORED, 3L, LocalDateTime.now()));
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        service[0] = new BestSellerService(repository);
+
+        service[0].rebuild();
+
+        assertEquals(List.of(SOLD_DURING_REBUILD, STORED), service[0].getTopProductIds(SalesWindow.ALL, 10));
+        assertEquals(List.of(SOLD_DURING_REBUILD, STORED), service[0].getTopProductIds(SalesWindow.LAST_WEEK, 10));
+    }
+}
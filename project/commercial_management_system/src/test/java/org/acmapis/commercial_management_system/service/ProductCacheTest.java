@@ -0,0 +1,201 @@
+package org.acmapis.commercial_management_system.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.acmapis.commercial_management_system.config.ProductCacheConfiguration;
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.model.dto.CategoryModel;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.enums.FetchPlan;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that product lookups are served from the product caches and that product, store-product
+ * and category writes evict the affected entries.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:product_cache" + PersistenceTestSupport.H2_OPTIONS,
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductCacheTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private StoreProductService storeProductService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    private UUID storeId;
+
+    private UUID otherStoreId;
+
+    private Long categoryId;
+
+    private final List<UUID> productIds = new ArrayList<>();
+
+    private final List<Long> storeProductIds = new ArrayList<>();
+
+    @BeforeAll
+    void createFixtures() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = new DepartmentEntity(null, "Department");
+            entityManager.persist(department);
+            CityEntity city = new CityEntity(null, "City", department);
+            entityManager.persist(city);
+            StoreEntity store = new StoreEntity(null, "Store", city);
+            entityManager.persist(store);
+            StoreEntity otherStore = new StoreEntity(null, "Other store", city);
+            entityManager.persist(otherStore);
+            CategoryEntity category = new CategoryEntity(null, "Books");
+            entityManager.persist(category);
+            for (int i = 0; i < 3; i++) {
+                ProductEntity product = ProductEntity.builder()
+                        .productName("Product " + i).productDescription("Description").price(10.0 + i)
+                        .categories(new ArrayList<>(List.of(category)))
+                        .build();
+                entityManager.persist(product);
+                StoreProductEntity storeProduct = new StoreProductEntity(null, 10L, "Aisle " + i,
+                        i < 2 ? store : otherStore, product, null);
+                entityManager.persist(storeProduct);
+                productIds.add(product.getProductId());
+                storeProductIds.add(storeProduct.getId());
+            }
+            storeId = store.getStoreId();
+            otherStoreId = otherStore.getStoreId();
+            categoryId = category.getCategoryId();
+        });
+    }
+
+    @BeforeEach
+    void clearCaches() {
+        for (String cacheName : cacheManager.getCacheNames()) {
+            cacheManager.getCache(cacheName).clear();
+        }
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromTheCache() {
+        double hits = cacheGets("hit");
+
+        ProductModel product = productService.getProductById(productIds.get(0)).orElseThrow();
+        productService.getProductsByStoreId(storeId, FetchPlan.GRAPH);
+        productService.getProductsByCategoryId(categoryId, FetchPlan.GRAPH);
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(product.getCategories()).hasSize(1);
+        assertThat(productService.getProductById(productIds.get(0))).contains(product);
+        assertThat(productService.getProductsByStoreId(storeId, FetchPlan.GRAPH)).hasSize(2);
+        assertThat(productService.getProductsByCategoryId(categoryId, FetchPlan.GRAPH)).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(cacheGets("hit")).isEqualTo(hits + 3);
+    }
+
+    @Test
+    void productUpdateEvictsTheProductAndItsListings() {
+        UUID productId = productIds.get(1);
+        productService.getProductById(productId);
+        productService.getProductsByStoreId(storeId, FetchPlan.GRAPH);
+        productService.getProductsByStoreId(otherStoreId, FetchPlan.GRAPH);
+        productService.getProductsByCategoryId(categoryId, FetchPlan.GRAPH);
+
+        ProductModel changes = productService.getProductById(productId).orElseThrow();
+        changes.setProductName("Renamed");
+        productService.updateProduct(productId, changes);
+
+        assertThat(cacheManager.getCache(ProductCacheConfiguration.PRODUCTS_BY_STORE_CACHE).get(otherStoreId))
+                .isNotNull();
+        assertThat(productService.getProductById(productId).orElseThrow().getProductName()).isEqualTo("Renamed");
+        assertThat(productService.getProductsByStoreId(storeId, FetchPlan.GRAPH))
+                .extracting(ProductModel::getProductName).contains("Renamed");
+        assertThat(productService.getProductsByCategoryId(categoryId, FetchPlan.GRAPH))
+                .extracting(ProductModel::getProductName).contains("Renamed");
+    }
+
+    @Test
+    void storeProductDeletionEvictsTheStoreListing() {
+        assertThat(productService.getProductsByStoreId(otherStoreId, FetchPlan.GRAPH)).hasSize(1);
+
+        storeProductService.deleteStoreProductById(storeProductIds.get(2));
+
+        assertThat(productService.getProductsByStoreId(otherStoreId, FetchPlan.GRAPH)).isEmpty();
+    }
+
+    @Test
+    void categoryRenameEvictsTheCachedProducts() {
+        UUID productId = productIds.get(0);
+        productService.getProductById(productId);
+        productService.getProductsByStoreId(storeId, FetchPlan.GRAPH);
+        productService.getProductsByCategoryId(categoryId, FetchPlan.GRAPH);
+
+        categoryService.updateCategory(categoryId, new CategoryModel(categoryId, "Novels"));
+
+        assertThat(productService.getProductById(productId).orElseThrow().getCategories())
+                .extracting(CategoryModel::getCategoryName).containsExactly("Novels");
+        assertThat(productService.getProductsByStoreId(storeId, FetchPlan.GRAPH))
+                .flatExtracting(ProductModel::getCategories)
+                .extracting(CategoryModel::getCategoryName).containsOnly("Novels");
+        assertThat(productService.getProductsByCategoryId(categoryId, FetchPlan.GRAPH))
+                .flatExtracting(ProductModel::getCategories)
+                .extracting(CategoryModel::getCategoryName).containsOnly("Novels");
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", ProductCacheConfiguration.PRODUCT_CACHE)
+                .tag("result", result)
+                .functionCounter().count()
+                + meterRegistry.get("cache.gets")
+                .tag("cache", ProductCacheConfiguration.PRODUCTS_BY_STORE_CACHE)
+                .tag("result", result)
+                .functionCounter().count()
+                + meterRegistry.get("cache.gets")
+                .tag("cache", ProductCacheConfiguration.PRODUCTS_BY_CATEGORY_CACHE)
+                .tag("result", result)
+                .functionCounter().count();
+    }
+}
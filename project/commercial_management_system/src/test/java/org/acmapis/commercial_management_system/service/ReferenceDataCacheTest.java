@@ -0,0 +1,108 @@
+package org.acmapis.commercial_management_system.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.model.dto.CityModel;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that reference data is served from the second-level and query caches, and that
+ * service writes evict the cached copies.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reference_data_cache" + PersistenceTestSupport.H2_OPTIONS,
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private CityService cityService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    private Long cityId;
+
+    @BeforeAll
+    void createFixtures() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = new DepartmentEntity(null, "Department");
+            entityManager.persist(department);
+            CityEntity city = new CityEntity(null, "City", department);
+            entityManager.persist(city);
+            entityManager.persist(new CategoryEntity(null, "Books"));
+            cityId = city.getCityId();
+        });
+    }
+
+    @BeforeEach
+    void clearCaches() {
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromTheCache() {
+        cityService.getCityById(cityId).orElseThrow();
+        long statements = statistics.getPrepareStatementCount();
+
+        cityService.getCityById(cityId).orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+
+        categoryService.getCategoriesByName("Books").orElseThrow();
+        statements = statistics.getPrepareStatementCount();
+        categoryService.getCategoriesByName("Books").orElseThrow();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tags("region", CityEntity.class.getName(), "result", "hit").functionCounter().count())
+                .isPositive();
+        assertThat(meterRegistry.get("hibernate.cache.query.requests")
+                .tag("result", "hit").functionCounter().count())
+                .isPositive();
+    }
+
+    @Test
+    void updatesEvictTheCachedCopy() {
+        CityModel city = cityService.getCityById(cityId).orElseThrow();
+        city.setCityName("Renamed City");
+        cityService.updateCity(cityId, city);
+
+        assertThat(entityManagerFactory.getCache().contains(CityEntity.class, cityId)).isFalse();
+        assertThat(cityService.getCityById(cityId).orElseThrow().getCityName()).isEqualTo("Renamed City");
+    }
+}
@@ -0,0 +1,239 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.dto.CheckoutLineModel;
+import org.acmapis.commercial_management_system.model.dto.CheckoutModel;
+import org.acmapis.commercial_management_system.model.dto.SaleDailyTotalModel;
+import org.acmapis.commercial_management_system.model.dto.ProductModel;
+import org.acmapis.commercial_management_system.model.dto.SaleModel;
+import org.acmapis.commercial_management_system.model.dto.SaleProductModel;
+import org.acmapis.commercial_management_system.model.dto.SaleRegionTotalModel;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Verifies that checkouts, sale updates and deletes and sale line writes keep the daily sales rollup,
+ * including its department drill-down, equal to a full rebuild from the sale table once their events
+ * are dispatched, also when sales are committed while the rollup is rebuilt.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sale_daily_rollup" + PersistenceTestSupport.H2_OPTIONS
+        + ";LOCK_TIMEOUT=10000")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SaleDailyRollupTest extends PersistenceTestSupport {
+
+    @Autowired
+    private SaleService saleService;
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    @Autowired
+    private SaleProductService saleProductService;
+
+    @Autowired
+    private SaleEventDispatcher saleEventDispatcher;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID storeId;
+
+    private UUID productId;
+
+    private UUID firstUserId;
+
+    private UUID secondUserId;
+
+    private Long firstCityId;
+
+    private Long regionDepartmentId;
+
+    private Long regionCityId;
+
+    private UUID regionUserId;
+
+    private Long rebuildCityId;
+
+    private UUID rebuildUserId;
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = department("Department");
+            CityEntity firstCity = city("First City", department);
+            CityEntity secondCity = city("Second City", department);
+            UserRoleEntity role = role(UserRole.USER);
+            UserEntity firstUser = user("first", role, firstCity);
+            UserEntity secondUser = user("second", role, secondCity);
+            StoreEntity store = store("Store", firstCity);
+            ProductEntity product = product("Product", 10.0);
+            persist(new StoreProductEntity(null, 1000L, "Aisle", store, product, null));
+            storeId = store.getStoreId();
+            productId = product.getProductId();
+            firstUserId = firstUser.getUserId();
+            secondUserId = secondUser.getUserId();
+            firstCityId = firstCity.getCityId();
+
+            DepartmentEntity regionDepartment = department("Region Department");
+            CityEntity regionCity = city("Region City", regionDepartment);
+            regionUserId = user("region", role, regionCity).getUserId();
+            regionDepartmentId = regionDepartment.getDepartmentId();
+            regionCityId = regionCity.getCityId();
+
+            CityEntity rebuildCity = city("Rebuild City", department);
+            rebuildUserId = user("rebuild", role, rebuildCity).getUserId();
+            rebuildCityId = rebuildCity.getCityId();
+        });
+    }
+
+    @Test
+    void rollupFollowsSaleWritesAndMatchesRebuild() {
+        LocalDate today = LocalDate.now();
+        UUID first = checkout(firstUserId, 2);
+        checkout(firstUserId, 3);
+        UUID third = checkout(secondUserId, 5);
+        saleEventDispatcher.drain();
+
+        assertThat(saleService.getTotalSalesAmountByDate(today)).isEqualTo(100L);
+        assertThat(saleService.getDailySalesTotals(today, today, firstCityId))
+                .extracting(SaleDailyTotalModel::getSaleCount, SaleDailyTotalModel::getTotalAmount)
+                .containsExactly(tuple(2L, 50L));
+
+        SaleModel updated = saleService.getSaleById(first).orElseThrow();
+        updated.setTotalAmount(70L);
+        saleService.updateSale(first, updated);
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createQuery("DELETE FROM SaleProductEntity sp WHERE sp.sale.saleId = :saleId")
+                .setParameter("saleId", third)
+                .executeUpdate());
+        saleService.deleteSaleById(third);
+        saleEventDispatcher.drain();
+
+        assertThat(saleService.getTotalSalesAmountByDate(today)).isEqualTo(100L);
+        List<SaleDailyTotalModel> daily = saleService.getDailySalesTotals(today.minusDays(1), today.plusDays(1), null);
+        assertThat(daily).hasSize(1);
+        assertThat(daily.get(0).getSaleCount()).isEqualTo(2L);
+        List<SaleDailyTotalModel> byCity = saleService.getCitySalesTotals(today, today);
+        assertThat(byCity).extracting(SaleDailyTotalModel::getCityId).containsExactly(firstCityId);
+
+        saleService.rebuildDailySalesRollup();
+        assertThat(saleService.getDailySalesTotals(today.minusDays(1), today.plusDays(1), null)).isEqualTo(daily);
+        assertThat(saleService.getCitySalesTotals(today, today)).isEqualTo(byCity);
+    }
+
+    @Test
+    void drillDownCountsUnitsOfEveryLine() {
+        UUID saleId = checkout(regionUserId, 4);
+        SaleModel sale = new SaleModel();
+        sale.setSaleId(saleId);
+        ProductModel product = new ProductModel();
+        product.setProductId(productId);
+        List<SaleProductModel> added = saleProductService.saveSaleProducts(Arrays.asList(
+                new SaleProductModel(null, 6L, sale, product), new SaleProductModel(null, 2L, sale, product)));
+        saleProductService.deleteSaleProductById(added.get(1).getSaleProductId());
+
+        // Moved to a day of its own, away from the sales of the other test
+        LocalDate day = LocalDate.of(2020, 3, 10);
+        SaleModel moved = saleService.getSaleById(saleId).orElseThrow();
+        moved.setSaleDate(day.atTime(12, 0));
+        saleService.updateSale(saleId, moved);
+        saleEventDispatcher.drain();
+
+        List<SaleRegionTotalModel> departments = saleService.getDepartmentSalesTotals(day, day);
+        assertThat(departments)
+                .extracting(SaleRegionTotalModel::getDepartmentId, SaleRegionTotalModel::getSaleCount,
+                        SaleRegionTotalModel::getTotalAmount, SaleRegionTotalModel::getUnits)
+                .containsExactly(tuple(regionDepartmentId, 1L, 40L, 10L));
+        List<SaleRegionTotalModel> cities = saleService.getDepartmentCitySalesTotals(regionDepartmentId, day, day);
+        assertThat(cities)
+                .extracting(SaleRegionTotalModel::getCityId, SaleRegionTotalModel::getUnits)
+                .containsExactly(tuple(regionCityId, 10L));
+        List<SaleRegionTotalModel> days = saleService.getCityDailySalesTotals(regionCityId, day.minusDays(1), LocalDate.now());
+        assertThat(days)
+                .extracting(SaleRegionTotalModel::getSaleDate, SaleRegionTotalModel::getUnits)
+                .containsExactly(tuple(day, 10L));
+
+        saleService.rebuildDailySalesRollup();
+        assertThat(saleService.getDepartmentSalesTotals(day, day)).isEqualTo(departments);
+        assertThat(saleService.getDepartmentCitySalesTotals(regionDepartmentId, day, day)).isEqualTo(cities);
+        assertThat(saleService.getCityDailySalesTotals(regionCityId, day.minusDays(1), LocalDate.now())).isEqualTo(days);
+    }
+
+    @Test
+    void salesCommittedDuringRebuildAreCountedOnce() throws Exception {
+        LocalDate today = LocalDate.now();
+        checkout(rebuildUserId, 1);
+        saleEventDispatcher.drain();
+
+        CountDownLatch rowLocked = new CountDownLatch(1);
+        CountDownLatch releaseRow = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            // Holds a lock on a rollup row, so the rebuild stops at its delete, after reading the first sale day
+            Future<?> holder = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("UPDATE sale_daily_rollup SET units = units WHERE city_id_fk = ?", rebuildCityId);
+                rowLocked.countDown();
+                awaitQuietly(releaseRow);
+                status.setRollbackOnly();
+            }));
+            rowLocked.await();
+            Future<Integer> rebuild = executor.submit(() -> saleService.rebuildDailySalesRollup());
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.sessions "
+                    + "WHERE blocker_id IS NOT NULL", Long.class) == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            checkout(rebuildUserId, 2);
+            releaseRow.countDown();
+            holder.get();
+            rebuild.get();
+        }
+        saleEventDispatcher.drain();
+
+        List<SaleRegionTotalModel> totals = saleService.getCityDailySalesTotals(rebuildCityId, today, today);
+        assertThat(totals)
+                .extracting(SaleRegionTotalModel::getSaleCount, SaleRegionTotalModel::getTotalAmount,
+                        SaleRegionTotalModel::getUnits)
+                .containsExactly(tuple(2L, 30L, 3L));
+        saleService.rebuildDailySalesRollup();
+        assertThat(saleService.getCityDailySalesTotals(rebuildCityId, today, today)).isEqualTo(totals);
+    }
+
+    private UUID checkout(UUID userId, long quantity) {
+        CheckoutModel checkout = new CheckoutModel(storeId, userId,
+                List.of(CheckoutLineModel.builder().productId(productId).quantity(quantity).build()));
+        return checkoutService.checkout(checkout).getSale().getSaleId();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
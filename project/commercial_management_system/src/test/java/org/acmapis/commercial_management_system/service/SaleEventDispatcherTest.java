@@ -0,0 +1,129 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.dto.CheckoutLineModel;
+import org.acmapis.commercial_management_system.model.dto.CheckoutModel;
+import org.acmapis.commercial_management_system.model.dto.SaleRegionTotalModel;
+import org.acmapis.commercial_management_system.model.enums.SaleEventType;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.repository.SaleEventOutboxRepository;
+import org.acmapis.commercial_management_system.repository.projection.SaleEventRow;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Verifies that the background dispatcher applies committed sale events without being drained, and
+ * that redelivered events are applied once. The flush interval is long, so the background thread only
+ * wakes up when the publisher signals a full batch of one event.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sale_event_outbox" + PersistenceTestSupport.H2_OPTIONS,
+        "sales.events.batch-size=1",
+        "sales.events.flush-interval=1h"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SaleEventDispatcherTest extends PersistenceTestSupport {
+
+    @Autowired
+    private SaleEventDispatcher saleEventDispatcher;
+
+    @Autowired
+    private SaleEventOutboxRepository saleEventOutboxRepository;
+
+    @Autowired
+    private CheckoutService checkoutService;
+
+    @Autowired
+    private SaleService saleService;
+
+    private UUID storeId;
+
+    private UUID productId;
+
+    private UUID checkoutUserId;
+
+    private Long checkoutCityId;
+
+    private Long scriptCityId;
+
+    private UUID scriptSaleId;
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = department("Outbox Department");
+            CityEntity checkoutCity = city("Checkout City", department);
+            CityEntity scriptCity = city("Script City", department);
+            UserRoleEntity role = role(UserRole.USER);
+            UserEntity checkoutUser = user("checkout", role, checkoutCity);
+            UserEntity scriptUser = user("script", role, scriptCity);
+            StoreEntity store = store("Outbox Store", checkoutCity);
+            ProductEntity product = product("Product", 10.0);
+            persist(new StoreProductEntity(null, 100L, "Aisle", store, product, null));
+            SaleEntity scriptSale = persist(SaleEntity.builder()
+                    .user(scriptUser).totalAmount(25L)
+                    .build());
+            storeId = store.getStoreId();
+            productId = product.getProductId();
+            checkoutUserId = checkoutUser.getUserId();
+            checkoutCityId = checkoutCity.getCityId();
+            scriptCityId = scriptCity.getCityId();
+            scriptSaleId = scriptSale.getSaleId();
+        });
+    }
+
+    @Test
+    void committedSalesReachTheRollupInTheBackground() throws InterruptedException {
+        LocalDate today = LocalDate.now();
+        checkoutService.checkout(new CheckoutModel(storeId, checkoutUserId,
+                List.of(CheckoutLineModel.builder().productId(productId).quantity(3L).build())));
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while ((saleService.getCityDailySalesTotals(checkoutCityId, today, today).isEmpty()
+                || saleEventOutboxRepository.countPending() > 0) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(saleService.getCityDailySalesTotals(checkoutCityId, today, today))
+                .extracting(SaleRegionTotalModel::getSaleCount, SaleRegionTotalModel::getTotalAmount,
+                        SaleRegionTotalModel::getUnits)
+                .containsExactly(tuple(1L, 30L, 3L));
+        assertThat(saleEventOutboxRepository.countPending()).isZero();
+    }
+
+    @Test
+    void redeliveredEventsAreAppliedOnce() {
+        LocalDate today = LocalDate.now();
+        // Written without the publisher, so the background thread is not woken up
+        transactionTemplate.executeWithoutResult(status ->
+                saleEventOutboxRepository.insertSaleEvent(SaleEventType.SALE_RECORDED, scriptSaleId));
+        List<SaleEventRow> batch = saleEventOutboxRepository.findBatch(10);
+        assertThat(batch).extracting(SaleEventRow::saleId).containsExactly(scriptSaleId);
+
+        // A dispatcher stopping between delivery and acknowledgement delivers the batch again
+        saleEventDispatcher.deliver(batch);
+        saleEventDispatcher.deliver(batch);
+        assertThat(saleEventDispatcher.drain()).isEqualTo(1);
+
+        assertThat(saleService.getCityDailySalesTotals(scriptCityId, today, today))
+                .extracting(SaleRegionTotalModel::getSaleCount, SaleRegionTotalModel::getTotalAmount)
+                .containsExactly(tuple(1L, 25L));
+        assertThat(saleEventOutboxRepository.countPending()).isZero();
+    }
+}
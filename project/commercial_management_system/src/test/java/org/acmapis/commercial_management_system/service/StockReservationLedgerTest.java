@@ -0,0 +1,182 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.service.StockReservationLedger.StockKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockReservationLedgerTest {
+
+    private static final int THREADS = 64;
+
+    private static final int RESERVATIONS_PER_THREAD = 200;
+
+    private static final long WRITE_LATENCY_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * In-memory stand-in for the conditional SQL update {@code stock = stock - ? WHERE stock >= ?},
+     * with a short pause simulating the database round trip.
+     */
+    private static final class InMemoryStock {
+        private final ConcurrentHashMap<StockKey, AtomicLong> stock = new ConcurrentHashMap<>();
+        private final AtomicInteger writes = new AtomicInteger();
+
+        boolean tryDecrement(StockKey key, long quantity) {
+            writes.incrementAndGet();
+            LockSupport.parkNanos(WRITE_LATENCY_NANOS);
+            AtomicLong available = stock.get(key);
+            while (true) {
+                long current = available.get();
+                if (current < quantity) {
+                    return false;
+                }
+                if (available.compareAndSet(current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        StockKey hot = new StockKey(UUID.randomUUID(), UUID.randomUUID());
+        long initialStock = 5_000;
+        InMemoryStock stock = new InMemoryStock();
+        stock.stock.put(hot, new AtomicLong(initialStock));
+        StockReservationLedger ledger = new StockReservationLedger(THREADS, stock::tryDecrement);
+
+        AtomicLong reserved = new AtomicLong();
+        runConcurrently(thread -> {
+            for (int i = 0; i < RESERVATIONS_PER_THREAD; i++) {
+                long quantity = 1 + (thread + i) % 3;
+                if (ledger.reserve(hot, quantity)) {
+                    reserved.addAndGet(quantity);
+                }
+            }
+        });
+
+        long remaining = stock.stock.get(hot).get();
+        assertTrue(remaining >= 0, "stock went negative: " + remaining);
+        assertEquals(initialStock, reserved.get() + remaining);
+        assertTrue(remaining < 3, "reservations were rejected while stock was available: " + remaining);
+        assertTrue(stock.writes.get() < THREADS * RESERVATIONS_PER_THREAD,
+                "concurrent reservations were not coalesced");
+    }
+
+    @Test
+    void reservationsOnDifferentKeysAreIndependent() throws Exception {
+        List<StockKey> keys = new ArrayList<>();
+        InMemoryStock stock = new InMemoryStock();
+        for (int i = 0; i < 8; i++) {
+            StockKey key = new StockKey(UUID.randomUUID(), UUID.randomUUID());
+            keys.add(key);
+            stock.stock.put(key, new AtomicLong(100));
+        }
+        StockReservationLedger ledger = new StockReservationLedger(4, stock::tryDecrement);
+
+        ConcurrentHashMap<StockKey, AtomicLong> reserved = new ConcurrentHashMap<>();
+        runConcurrently(thread -> {
+            StockKey key = keys.get(thread % keys.size());
+            for (int i = 0; i < RESERVATIONS_PER_THREAD; i++) {
+                if (ledger.reserve(key, 1)) {
+                    reserved.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+                }
+            }
+        });
+
+        for (StockKey key : keys) {
+            assertEquals(0, stock.stock.get(key).get());
+            assertEquals(100, reserved.get(key).get());
+        }
+    }
+
+    @Test
+    void slowWriteDoesNotBlockOtherKeysOfItsStripe() throws Exception {
+        StockKey slow = new StockKey(UUID.randomUUID(), UUID.randomUUID());
+        StockKey fast = new StockKey(UUID.randomUUID(), UUID.randomUUID());
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StockReservationLedger ledger = new StockReservationLedger(1, (key, quantity) -> {
+            if (key.equals(slow)) {
+                writing.countDown();
+                awaitQuietly(release);
+            }
+            return true;
+        });
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> slowReservation = executor.submit(() -> ledger.reserve(slow, 1));
+            assertTrue(writing.await(10, TimeUnit.SECONDS));
+
+            assertTrue(ledger.reserve(fast, 1));
+            assertFalse(slowReservation.isDone());
+            release.countDown();
+            assertTrue(slowReservation.get(10, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void writerFailureIsPropagatedToTheCaller() {
+        StockKey key = new StockKey(UUID.randomUUID(), UUID.randomUUID());
+        StockReservationLedger ledger = new StockReservationLedger(1, (k, quantity) -> {
+            throw new IllegalStateException("database unavailable");
+        });
+
+        assertThrows(IllegalStateException.class, () -> ledger.reserve(key, 1));
+        assertThrows(IllegalArgumentException.class, () -> ledger.reserve(key, 0));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface Worker {
+        void run(int thread) throws Exception;
+    }
+
+    private static void runConcurrently(Worker worker) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    worker.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package org.acmapis.commercial_management_system.service;
+
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.StoreProductEntity;
+import org.acmapis.commercial_management_system.exception.InsufficientStockException;
+import org.acmapis.commercial_management_system.exception.InvalidReservationException;
+import org.acmapis.commercial_management_system.exception.ReservationNotFoundException;
+import org.acmapis.commercial_management_system.model.dto.StockReservationModel;
+import org.acmapis.commercial_management_system.model.enums.StockReservationStatus;
+import org.acmapis.commercial_management_system.repository.StoreProductRepository;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies the stock reservations against the conditional stock updates of the database: concurrent
+ * reservations never oversell, and a reservation gives its stock back at most once.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:stock_reservation" + PersistenceTestSupport.H2_OPTIONS)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class StockReservationServiceTest extends PersistenceTestSupport {
+
+    private static final int THREADS = 16;
+
+    private static final int RESERVATIONS_PER_THREAD = 20;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StoreProductRepository storeProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID storeId;
+
+    private UUID hotProductId;
+
+    private UUID releasedProductId;
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = department("Reservation Department");
+            CityEntity city = city("Reservation City", department);
+            StoreEntity store = store("Reservation Store", city);
+            ProductEntity hot = product("Hot", 1.0);
+            ProductEntity released = product("Released", 1.0);
+            persist(new StoreProductEntity(null, 100L, "Aisle", store, hot, null));
+            persist(new StoreProductEntity(null, 10L, "Aisle", store, released, null));
+            storeId = store.getStoreId();
+            hotProductId = hot.getProductId();
+            releasedProductId = released.getProductId();
+        });
+        transactionTemplate.executeWithoutResult(status -> storeProductRepository.refreshStoreInventoryByProductIds(
+                List.of(hotProductId, releasedProductId)));
+    }
+
+    @Test
+    void concurrentReservationsNeverOversell() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int j = 0; j < RESERVATIONS_PER_THREAD; j++) {
+                        try {
+                            stockReservationService.reserve(reservation(hotProductId, 1L));
+                            granted++;
+                        } catch (InsufficientStockException e) {
+                            // Expected once the stock is exhausted
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+        }
+        int granted = 0;
+        for (Future<Integer> result : results) {
+            granted += result.get();
+        }
+
+        assertThat(granted).isEqualTo(100);
+        assertThat(stock("store_product", hotProductId)).isZero();
+        assertThat(stock("store_inventory", hotProductId)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COALESCE(SUM(quantity), 0) FROM stock_reservation "
+                + "WHERE product_id_fk = ? AND status = 'RESERVED'", Long.class, hotProductId)).isEqualTo(100L);
+    }
+
+    @Test
+    void releaseGivesStockBackOnce() throws Exception {
+        StockReservationModel reservation = stockReservationService.reserve(reservation(releasedProductId, 4L));
+        assertThat(reservation.getReservationId()).isNotNull();
+        assertThat(reservation.getStatus()).isEqualTo(StockReservationStatus.RESERVED);
+        assertThat(stock("store_product", releasedProductId)).isEqualTo(6L);
+
+        List<Future<StockReservationModel>> releases = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            for (int i = 0; i < 4; i++) {
+                releases.add(executor.submit(() -> stockReservationService.release(reservation.getReservationId())));
+            }
+        }
+        for (Future<StockReservationModel> release : releases) {
+            assertThat(release.get().getStatus()).isEqualTo(StockReservationStatus.RELEASED);
+        }
+        stockReservationService.release(reservation.getReservationId());
+
+        assertThat(stock("store_product", releasedProductId)).isEqualTo(10L);
+        assertThat(stock("store_inventory", releasedProductId)).isEqualTo(10L);
+        assertThatThrownBy(() -> stockReservationService.release(UUID.randomUUID()))
+                .isInstanceOf(ReservationNotFoundException.class);
+        assertThatThrownBy(() -> stockReservationService.reserve(reservation(releasedProductId, 0L)))
+                .isInstanceOf(InvalidReservationException.class);
+        assertThatThrownBy(() -> stockReservationService.reserve(reservation(releasedProductId, 11L)))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(stock("store_product", releasedProductId)).isEqualTo(10L);
+    }
+
+    private StockReservationModel reservation(UUID productId, Long quantity) {
+        return StockReservationModel.builder().storeId(storeId).productId(productId).quantity(quantity).build();
+    }
+
+    private Long stock(String table, UUID productId) {
+        return jdbcTemplate.queryForObject("SELECT stock FROM " + table + " WHERE store_id_fk = ? AND product_id_fk = ?",
+                Long.class, storeId, productId);
+    }
+}
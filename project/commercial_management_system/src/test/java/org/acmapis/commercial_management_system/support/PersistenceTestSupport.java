@@ -0,0 +1,92 @@
+package org.acmapis.commercial_management_system.support;
+
+import jakarta.persistence.EntityManager;
+import org.acmapis.commercial_management_system.entity.CategoryEntity;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.ProductEntity;
+import org.acmapis.commercial_management_system.entity.StoreEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base class of the tests that create their fixtures through JPA.
+ * Each test class runs against its own in-memory database, named in its {@code spring.datasource.url}
+ * and followed by {@link #H2_OPTIONS}, so the fixtures of one class never show up in another.
+ * The factory methods persist their entity and must run inside {@link #transactionTemplate}.
+ *
+ * @author Commercial Management System
+ * @version 1.0
+ * @since 2025-11-24
+ */
+public abstract class PersistenceTestSupport {
+
+    /**
+     * Options appended to the H2 URL of a test database, matching the PostgreSQL behavior the queries rely on.
+     */
+    public static final String H2_OPTIONS = ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    @Autowired
+    protected TransactionTemplate transactionTemplate;
+
+    protected <T> T persist(T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    protected DepartmentEntity department(String name) {
+        return persist(new DepartmentEntity(null, name));
+    }
+
+    protected CityEntity city(String name, DepartmentEntity department) {
+        return persist(new CityEntity(null, name, department));
+    }
+
+    protected StoreEntity store(String name, CityEntity city) {
+        return persist(new StoreEntity(null, name, city));
+    }
+
+    protected UserRoleEntity role(UserRole role) {
+        return persist(new UserRoleEntity(null, role));
+    }
+
+    /**
+     * Persists a user whose email is derived from the username.
+     *
+     * @param username The unique username
+     * @param role     The role of the user
+     * @param city     The city of the user
+     * @return The persisted user
+     */
+    protected UserEntity user(String username, UserRoleEntity role, CityEntity city) {
+        return persist(UserEntity.builder()
+                .firstName("Ana").lastName("Last").username(username)
+                .email(username + "@example.com").password("secret").phone("3000000000")
+                .role(role).city(city)
+                .build());
+    }
+
+    /**
+     * Persists a product with a placeholder description.
+     *
+     * @param name       The product name
+     * @param price      The product price
+     * @param categories The categories of the product
+     * @return The persisted product
+     */
+    protected ProductEntity product(String name, double price, CategoryEntity... categories) {
+        return persist(ProductEntity.builder()
+                .productName(name).productDescription("Description").price(price)
+                .categories(new ArrayList<>(List.of(categories)))
+                .build());
+    }
+}
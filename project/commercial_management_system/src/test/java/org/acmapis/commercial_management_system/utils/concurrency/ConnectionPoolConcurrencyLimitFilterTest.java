@@ -0,0 +1,103 @@
+package org.acmapis.commercial_management_system.utils.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the concurrency limit rejects requests that find no free permit in time, that
+ * asynchronous requests keep their permit until their response completes and that streaming
+ * requests cannot take more than their own share of the permits.
+ */
+class ConnectionPoolConcurrencyLimitFilterTest {
+
+    private static final String EXPORT_PATH = "/api/v1/sales/export";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ConnectionPoolConcurrencyLimitFilter filter =
+            new ConnectionPoolConcurrencyLimitFilter(1, 1, Set.of(EXPORT_PATH), Duration.ofMillis(50), meterRegistry);
+
+    @Test
+    void requestsBeyondTheLimitAreRejectedAfterTheTimeout() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = Thread.ofVirtual().start(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/sales"), new MockHttpServletResponse(),
+                        (request, response) -> {
+                            entered.countDown();
+                            awaitQuietly(release);
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/sales"), rejected, (request, response) -> {
+        });
+        assertThat(rejected.getStatus()).isEqualTo(503);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(meterRegistry.get("api.concurrency.rejected").counter().count()).isEqualTo(1);
+        assertThat(filter.activeRequests()).isEqualTo(1);
+
+        release.countDown();
+        holder.join();
+        assertThat(filter.activeRequests()).isZero();
+    }
+
+    @Test
+    void asynchronousRequestsHoldTheirPermitUntilCompletion() throws Exception {
+        MockHttpServletRequest streaming = new MockHttpServletRequest("GET", EXPORT_PATH);
+        streaming.setAsyncSupported(true);
+        FilterChain startAsync = (request, response) -> request.startAsync();
+        filter.doFilter(streaming, new MockHttpServletResponse(), startAsync);
+        assertThat(filter.activeRequests()).isEqualTo(1);
+
+        ((MockAsyncContext) streaming.getAsyncContext()).complete();
+        assertThat(filter.activeRequests()).isZero();
+    }
+
+    @Test
+    void streamingRequestsAreCappedSeparately() throws Exception {
+        ConnectionPoolConcurrencyLimitFilter limited = new ConnectionPoolConcurrencyLimitFilter(3, 1,
+                Set.of(EXPORT_PATH), Duration.ofMillis(50), new SimpleMeterRegistry());
+        MockHttpServletRequest streaming = new MockHttpServletRequest("GET", EXPORT_PATH);
+        streaming.setAsyncSupported(true);
+        limited.doFilter(streaming, new MockHttpServletResponse(), (request, response) -> request.startAsync());
+        assertThat(limited.activeStreams()).isEqualTo(1);
+
+        MockHttpServletResponse secondStream = new MockHttpServletResponse();
+        limited.doFilter(new MockHttpServletRequest("GET", EXPORT_PATH), secondStream, (request, response) -> {
+        });
+        assertThat(secondStream.getStatus()).isEqualTo(503);
+        MockHttpServletResponse regular = new MockHttpServletResponse();
+        limited.doFilter(new MockHttpServletRequest("GET", "/api/v1/sales"), regular, (request, response) ->
+                assertThat(limited.activeRequests()).isEqualTo(2));
+        assertThat(regular.getStatus()).isEqualTo(200);
+
+        ((MockAsyncContext) streaming.getAsyncContext()).complete();
+        assertThat(limited.activeStreams()).isZero();
+        assertThat(limited.activeRequests()).isZero();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
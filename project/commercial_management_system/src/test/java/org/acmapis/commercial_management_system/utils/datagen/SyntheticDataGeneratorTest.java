@@ -0,0 +1,83 @@
+package org.acmapis.commercial_management_system.utils.datagen;
+
+import org.acmapis.commercial_management_system.model.enums.SalesWindow;
+import org.acmapis.commercial_management_system.service.BestSellerService;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the synthetic data generator writes the requested rows, keeps sale totals and
+ * derived data consistent, and skews product popularity.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:synthetic_data" + PersistenceTestSupport.H2_OPTIONS)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SyntheticDataGeneratorTest {
+
+    private static final int PRODUCTS = 200;
+
+    private static final int SALES = 2000;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Autowired
+    private BestSellerService bestSellerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private SyntheticDataSummary summary;
+
+    @BeforeAll
+    void generate() {
+        summary = generator.generate(new SyntheticDataSpec(7, 2, 3, 50, 3, 10, PRODUCTS, 50, SALES, 4, 1.1, 30,
+                LocalDateTime.of(2025, 6, 1, 0, 0), 256));
+    }
+
+    @Test
+    void writesTheRequestedRows() {
+        assertThat(count("users")).isEqualTo(50);
+        assertThat(count("city")).isEqualTo(6);
+        assertThat(count("product")).isEqualTo(PRODUCTS);
+        assertThat(count("store_product")).isEqualTo(150).isEqualTo(summary.storeProducts());
+        assertThat(count("sale")).isEqualTo(SALES);
+        assertThat(count("sale_product")).isEqualTo(summary.saleLines()).isBetween((long) SALES, 4L * SALES);
+    }
+
+    @Test
+    void saleTotalsMatchTheirLinesAndTheRollup() {
+        Long mismatches = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sale s WHERE s.total_amount <> (SELECT SUM(sp.quantity * p.price) " +
+                "FROM sale_product sp JOIN product p ON p.product_id = sp.product_id_fk WHERE sp.sale_id_fk = s.sale_id)",
+                Long.class);
+        assertThat(mismatches).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(total_amount) FROM sale_daily_rollup", Long.class))
+                .isEqualTo(jdbcTemplate.queryForObject("SELECT SUM(total_amount) FROM sale", Long.class));
+    }
+
+    @Test
+    void productPopularityIsSkewedAndRanked() {
+        UUID topProduct = jdbcTemplate.queryForObject(
+                "SELECT product_id_fk FROM sale_product GROUP BY product_id_fk " +
+                "ORDER BY SUM(quantity) DESC, product_id_fk LIMIT 1", UUID.class);
+        Long topLines = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM sale_product WHERE product_id_fk = ?", Long.class, topProduct);
+
+        assertThat(topLines).isGreaterThan(10 * summary.saleLines() / PRODUCTS);
+        assertThat(bestSellerService.getTopProductIds(SalesWindow.ALL, 1)).containsExactly(topProduct);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
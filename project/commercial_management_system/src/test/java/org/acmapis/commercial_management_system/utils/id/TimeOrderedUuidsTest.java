@@ -0,0 +1,62 @@
+package org.acmapis.commercial_management_system.utils.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedUuidsTest {
+
+    @Test
+    void identifiersAreVersion7WithTheCurrentTime() {
+        long before = System.currentTimeMillis();
+        UUID uuid = TimeOrderedUuids.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(TimeOrderedUuids.epochMillis(uuid) >= before);
+        assertTrue(TimeOrderedUuids.epochMillis(uuid) <= System.currentTimeMillis() + 1);
+    }
+
+    /**
+     * PostgreSQL and H2 compare uuid values as unsigned bytes; the ordering must hold in that order,
+     * which for the leading timestamp bits coincides with comparing the string form.
+     */
+    @Test
+    void identifiersIncreaseWithinAMillisecondAndAcrossThreads() throws Exception {
+        List<UUID> sequential = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            sequential.add(TimeOrderedUuids.next());
+        }
+        for (int i = 1; i < sequential.size(); i++) {
+            assertTrue(sequential.get(i - 1).toString().compareTo(sequential.get(i).toString()) < 0);
+        }
+
+        ConcurrentLinkedQueue<UUID> concurrent = new ConcurrentLinkedQueue<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        concurrent.add(TimeOrderedUuids.next());
+                    }
+                });
+            }
+        }
+        assertEquals(80_000, concurrent.stream().distinct().count());
+    }
+
+    @Test
+    void explicitComponentsAreEncoded() {
+        UUID uuid = TimeOrderedUuids.create(0x0123456789ABL, 0xFFF, -1L);
+
+        assertEquals("01234567-89ab-7fff-bfff-ffffffffffff", uuid.toString());
+        assertEquals(0x0123456789ABL, TimeOrderedUuids.epochMillis(uuid));
+    }
+}
@@ -0,0 +1,107 @@
+package org.acmapis.commercial_management_system.utils.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.acmapis.commercial_management_system.entity.CityEntity;
+import org.acmapis.commercial_management_system.entity.DepartmentEntity;
+import org.acmapis.commercial_management_system.entity.SaleEntity;
+import org.acmapis.commercial_management_system.entity.UserEntity;
+import org.acmapis.commercial_management_system.entity.UserRoleEntity;
+import org.acmapis.commercial_management_system.model.enums.UserRole;
+import org.acmapis.commercial_management_system.support.PersistenceTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that a request publishes its persistence meters tagged by route, and that repository
+ * methods publish the statements they cause.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:persistence_metrics" + PersistenceTestSupport.H2_OPTIONS)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PersistenceMetricsTest {
+
+    private static final int SALES = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeAll
+    void createFixtures() {
+        transactionTemplate.executeWithoutResult(status -> {
+            DepartmentEntity department = new DepartmentEntity(null, "Department");
+            entityManager.persist(department);
+            CityEntity city = new CityEntity(null, "City", department);
+            entityManager.persist(city);
+            UserRoleEntity role = new UserRoleEntity(null, UserRole.USER);
+            entityManager.persist(role);
+            UserEntity user = UserEntity.builder()
+                    .firstName("Ana").lastName("Last").username("user")
+                    .email("user@example.com").password("secret").phone("3000000000")
+                    .role(role).city(city)
+                    .build();
+            entityManager.persist(user);
+            for (int i = 0; i < SALES; i++) {
+                entityManager.persist(SaleEntity.builder().user(user).totalAmount(100L * i).build());
+            }
+        });
+    }
+
+    @Test
+    void requestMetersAreTaggedByRoute() throws Exception {
+        mockMvc.perform(get("/api/v1/sales")).andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("persistence.request.statements")
+                .tags("uri", "/api/v1/sales", "method", "GET").summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+
+        DistributionSummary entities = meterRegistry.get("persistence.request.entities.loaded")
+                .tags("uri", "/api/v1/sales").summary();
+        assertThat(entities.totalAmount()).isGreaterThanOrEqualTo(SALES);
+
+        for (String phase : new String[]{"connection", "jdbc", "application", "serialization"}) {
+            Timer timer = meterRegistry.get("persistence.request.time")
+                    .tags("uri", "/api/v1/sales", "phase", phase).timer();
+            assertThat(timer.count()).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("persistence.request.time")
+                .tags("uri", "/api/v1/sales", "phase", "jdbc").timer().totalTime(TimeUnit.NANOSECONDS))
+                .isPositive();
+    }
+
+    @Test
+    void repositoryMethodsPublishStatementCounts() throws Exception {
+        mockMvc.perform(get("/api/v1/sales/search/by-min-total-amount").param("amount", "0"))
+                .andExpect(status().isOk());
+
+        DistributionSummary statements = meterRegistry.get("persistence.repository.statements")
+                .tags("repository", "SaleRepository", "method", "findDetailedByTotalAmountAfter")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+    }
+}
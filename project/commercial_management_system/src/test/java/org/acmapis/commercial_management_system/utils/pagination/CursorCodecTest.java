@@ -0,0 +1,79 @@
+package org.acmapis.commercial_management_system.utils.pagination;
+
+import org.acmapis.commercial_management_system.exception.InvalidCursorException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that cursors round-trip their key values, that malformed cursors are rejected with
+ * {@link InvalidCursorException} and that page sizes are clamped to the allowed range.
+ */
+class CursorCodecTest {
+
+    @Test
+    void compositeKeysRoundTrip() {
+        LocalDateTime saleDate = LocalDateTime.of(2025, 11, 24, 10, 15, 30, 123_456_000);
+        UUID saleId = UUID.randomUUID();
+
+        String[] keys = CursorCodec.decode(CursorCodec.encode(saleDate, saleId), 2);
+        LocalDateTime decodedDate = CursorCodec.parseKey(keys[0], LocalDateTime::parse);
+        UUID decodedId = CursorCodec.parseKey(keys[1], UUID::fromString);
+        Long decodedKey = CursorCodec.decodeKey(CursorCodec.encode(42L), Long::valueOf);
+
+        assertThat(decodedDate).isEqualTo(saleDate);
+        assertThat(decodedId).isEqualTo(saleId);
+        assertThat(decodedKey).isEqualTo(42L);
+        assertThat(CursorCodec.decode(CursorCodec.encode(10.5, "Name | with | bars"), 2))
+                .containsExactly("10.5", "Name | with | bars");
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertThatThrownBy(() -> CursorCodec.decode("not base64!", 1)).isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decode(CursorCodec.encode(42L), 2))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.decodeKey(raw("abc"), Long::valueOf))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> CursorCodec.parseKey("yesterday", LocalDateTime::parse))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void pageSizesAreClampedToTheAllowedRange() {
+        assertThat(CursorPages.pageSize(null)).isEqualTo(CursorPages.DEFAULT_PAGE_SIZE);
+        assertThat(CursorPages.pageSize(0)).isEqualTo(1);
+        assertThat(CursorPages.pageSize(-5)).isEqualTo(1);
+        assertThat(CursorPages.pageSize(20)).isEqualTo(20);
+        assertThat(CursorPages.pageSize(CursorPages.MAX_PAGE_SIZE + 1)).isEqualTo(CursorPages.MAX_PAGE_SIZE);
+        assertThat(CursorPages.lookAhead(20).max()).isEqualTo(21);
+    }
+
+    @Test
+    void pagesEndOnTheLastRowOfTheLookAhead() {
+        assertThat(CursorPages.toPage(List.of(1, 2, 3), 2, rows -> rows, row -> CursorCodec.encode(row)))
+                .satisfies(page -> {
+                    assertThat(page.getItems()).containsExactly(1, 2);
+                    assertThat(page.isHasNext()).isTrue();
+                    Integer lastKey = CursorCodec.decodeKey(page.getNextCursor(), Integer::valueOf);
+                    assertThat(lastKey).isEqualTo(2);
+                });
+        assertThat(CursorPages.toPage(List.of(1, 2), 2, rows -> rows, row -> CursorCodec.encode(row)))
+                .satisfies(page -> {
+                    assertThat(page.getItems()).containsExactly(1, 2);
+                    assertThat(page.isHasNext()).isFalse();
+                    assertThat(page.getNextCursor()).isNull();
+                });
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}